@@ -0,0 +1,192 @@
+/*
+ * InboxCacheTest.java
+ * Mobile Messaging SDK
+ *
+ * Copyright (c) 2016-2025 Infobip Limited
+ * Licensed under the Apache License, Version 2.0
+ */
+package org.infobip.mobile.messaging.inbox;
+
+import org.infobip.mobile.messaging.MobileMessaging;
+import org.infobip.mobile.messaging.api.inbox.FetchInboxResponse;
+import org.infobip.mobile.messaging.api.inbox.MobileApiInbox;
+import org.infobip.mobile.messaging.api.messages.MessageResponse;
+import org.infobip.mobile.messaging.mobileapi.MobileMessagingError;
+import org.infobip.mobile.messaging.mobileapi.Result;
+import org.infobip.mobile.messaging.platform.AndroidBroadcaster;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public class InboxCacheTest extends MobileMessagingTestCase {
+
+    private static final String EXTERNAL_USER_ID = "someExtUID";
+
+    private InboxCache inboxCache;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+
+        inboxCache = new InboxCache(context);
+        inboxCache.clear();
+    }
+
+    @Test
+    public void test_shouldMergeNewerMessagesAndMoveWatermark() {
+        inboxCache.replace(EXTERNAL_USER_ID, new FetchInboxResponse(2, 2, null, null, Arrays.asList(
+                messageResponse("id1", "topic1", 1000), messageResponse("id2", "topic1", 2000))));
+        assertEquals(2000, inboxCache.getState(EXTERNAL_USER_ID).watermark);
+
+        inboxCache.merge(EXTERNAL_USER_ID, new FetchInboxResponse(3, 3, null, null, Arrays.asList(
+                messageResponse("id2", "topic1", 2000), messageResponse("id3", "topic2", 3000))));
+
+        Inbox inbox = inboxCache.read(EXTERNAL_USER_ID, null);
+        assertEquals(3000, inboxCache.getState(EXTERNAL_USER_ID).watermark);
+        assertEquals(3, inbox.getCountTotal());
+        assertEquals(3, inbox.getMessages().size());
+        assertEquals("id3", inbox.getMessages().get(0).getMessageId());
+        assertEquals("id1", inbox.getMessages().get(2).getMessageId());
+    }
+
+    @Test
+    public void test_shouldKeepLocallySeenMessagesSeenAfterSync() {
+        inboxCache.replace(EXTERNAL_USER_ID, new FetchInboxResponse(2, 2, null, null, Arrays.asList(
+                messageResponse("id1", "topic1", 1000), messageResponse("id2", "topic1", 2000))));
+
+        inboxCache.markSeen(EXTERNAL_USER_ID, "id1");
+        assertEquals(1, inboxCache.read(EXTERNAL_USER_ID, null).getCountUnread());
+
+        inboxCache.merge(EXTERNAL_USER_ID, new FetchInboxResponse(2, 2, null, null, Collections.singletonList(
+                messageResponse("id1", "topic1", 1000))));
+
+        Inbox inbox = inboxCache.read(EXTERNAL_USER_ID, null);
+        assertEquals(1, inbox.getCountUnread());
+        assertTrue(inbox.getMessages().get(1).isSeen());
+        assertFalse(inbox.getMessages().get(0).isSeen());
+    }
+
+    @Test
+    public void test_shouldFilterCachedMessagesByTopicsAndDate() {
+        inboxCache.replace(EXTERNAL_USER_ID, new FetchInboxResponse(4, 4, null, null, Arrays.asList(
+                messageResponse("id1", "topic1", 1000), messageResponse("id2", "topic2", 2000),
+                messageResponse("id3", "topic3", 3000), messageResponse("id4", "topic1", 4000))));
+        inboxCache.markSeen(EXTERNAL_USER_ID, "id4");
+
+        MobileInboxFilterOptions filterOptions = new MobileInboxFilterOptions(new Date(1500), null, Arrays.asList("topic1", "topic2"), null);
+        Inbox inbox = inboxCache.read(EXTERNAL_USER_ID, filterOptions);
+
+        assertEquals(2, inbox.getMessages().size());
+        assertEquals("id4", inbox.getMessages().get(0).getMessageId());
+        assertEquals("id2", inbox.getMessages().get(1).getMessageId());
+        assertEquals(2, inbox.getCountTotalFiltered().intValue());
+        assertEquals(1, inbox.getCountUnreadFiltered().intValue());
+        assertEquals(4, inbox.getCountTotal());
+        assertEquals(3, inbox.getCountUnread());
+    }
+
+    @Test
+    public void test_shouldSeparateUsersAndClear() {
+        inboxCache.replace(EXTERNAL_USER_ID, new FetchInboxResponse(1, 1, null, null, Collections.singletonList(
+                messageResponse("id1", "topic1", 1000))));
+        inboxCache.replace("otherExtUID", new FetchInboxResponse(0, 0, null, null, null));
+
+        assertEquals(1, inboxCache.read(EXTERNAL_USER_ID, null).getMessages().size());
+        assertEquals(0, inboxCache.read("otherExtUID", null).getMessages().size());
+
+        inboxCache.clear();
+
+        assertNull(inboxCache.read(EXTERNAL_USER_ID, null));
+        assertNull(inboxCache.getState(EXTERNAL_USER_ID));
+    }
+
+    @Test
+    public void test_shouldRequireFullSyncPeriodically() {
+        inboxCache.replace(EXTERNAL_USER_ID, new FetchInboxResponse(0, 0, null, null, null));
+        assertFalse(inboxCache.getState(EXTERNAL_USER_ID).isFullSyncRequired());
+
+        time.forward(InboxCache.FULL_SYNC_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+
+        assertTrue(inboxCache.getState(EXTERNAL_USER_ID).isFullSyncRequired());
+    }
+
+    @Test
+    public void test_synchronizerShouldFetchOnlyMessagesNewerThanCached() {
+        MobileApiInbox mobileApiInbox = mock(MobileApiInbox.class);
+        MobileInboxSynchronizer synchronizer = new MobileInboxSynchronizer(context, mobileMessagingCore, mock(AndroidBroadcaster.class),
+                inboxBroadcaster, mobileApiInbox, inboxCache);
+        inboxCache.replace(EXTERNAL_USER_ID, new FetchInboxResponse(1, 1, null, null, Collections.singletonList(
+                messageResponse("id1", "topic1", 1000))));
+        given(mobileApiInbox.fetchInbox(any(), any(), any(), any(), any(), any()))
+                .willReturn(new FetchInboxResponse(2, 2, null, null, Collections.singletonList(messageResponse("id2", "topic2", 2000))));
+        MobileMessaging.ResultListener<Inbox> listener = mock(MobileMessaging.ResultListener.class);
+
+        synchronizer.fetchInbox(null, EXTERNAL_USER_ID, new MobileInboxFilterOptions(null, null, "topic2", null), listener);
+
+        verify(mobileApiInbox, after(300).times(1)).fetchInbox(eq(EXTERNAL_USER_ID), any(), eq("1000"), isNull(), isNull(), eq(1000));
+        verify(listener, after(300).times(1)).onResult(any());
+        Inbox inbox = inboxCache.read(EXTERNAL_USER_ID, new MobileInboxFilterOptions(null, null, "topic2", null));
+        assertEquals(1, inbox.getMessages().size());
+        assertEquals("id2", inbox.getMessages().get(0).getMessageId());
+        assertEquals(2, inbox.getCountTotal());
+    }
+
+    @Test
+    public void test_shouldCoverOnlyCachedRangeOfIncompleteInbox() {
+        inboxCache.replace(EXTERNAL_USER_ID, new FetchInboxResponse(5, 5, null, null, Arrays.asList(
+                messageResponse("id2", "topic1", 2000),
+                messageResponse("id1", "topic2", 1000))));
+
+        assertTrue(inboxCache.covers(EXTERNAL_USER_ID, new MobileInboxFilterOptions(new Date(1500), null, "topic1", null)));
+        assertTrue(inboxCache.covers(EXTERNAL_USER_ID, new MobileInboxFilterOptions(null, null, (String) null, 2)));
+        assertFalse(inboxCache.covers(EXTERNAL_USER_ID, null));
+        assertFalse(inboxCache.covers(EXTERNAL_USER_ID, new MobileInboxFilterOptions(new Date(500), null, (String) null, null)));
+        assertFalse(inboxCache.covers(EXTERNAL_USER_ID, new MobileInboxFilterOptions(null, null, "topic1", 1)));
+        assertFalse(inboxCache.covers("otherExtUID", null));
+    }
+
+    @Test
+    public void test_synchronizerShouldFetchFilteredMessagesPastIncompleteCache() {
+        MobileApiInbox mobileApiInbox = mock(MobileApiInbox.class);
+        MobileInboxSynchronizer synchronizer = new MobileInboxSynchronizer(context, mobileMessagingCore, mock(AndroidBroadcaster.class),
+                inboxBroadcaster, mobileApiInbox, inboxCache);
+        inboxCache.replace(EXTERNAL_USER_ID, new FetchInboxResponse(5, 5, null, null, Collections.singletonList(
+                messageResponse("id5", "topic1", 5000))));
+        given(mobileApiInbox.fetchInbox(any(), any(), eq("5000"), any(), any(), any()))
+                .willReturn(new FetchInboxResponse(5, 5, null, null, null));
+        given(mobileApiInbox.fetchInbox(any(), any(), eq("500"), any(), any(), any()))
+                .willReturn(new FetchInboxResponse(5, 5, 2, 2, Arrays.asList(
+                        messageResponse("id2", "topic1", 2000),
+                        messageResponse("id1", "topic1", 1000))));
+        MobileMessaging.ResultListener<Inbox> listener = mock(MobileMessaging.ResultListener.class);
+
+        synchronizer.fetchInbox(null, EXTERNAL_USER_ID, new MobileInboxFilterOptions(new Date(500), null, "topic1", null), listener);
+
+        verify(mobileApiInbox, after(300).times(1)).fetchInbox(eq(EXTERNAL_USER_ID), any(), eq("5000"), isNull(), isNull(), eq(1000));
+        verify(mobileApiInbox, after(300).times(1)).fetchInbox(eq(EXTERNAL_USER_ID), any(), eq("500"), isNull(), eq("topic1"), isNull());
+        ArgumentCaptor<Result<Inbox, MobileMessagingError>> captor = ArgumentCaptor.forClass(Result.class);
+        verify(listener, after(300).times(1)).onResult(captor.capture());
+        assertEquals(2, captor.getValue().getData().getMessages().size());
+    }
+
+    private static MessageResponse messageResponse(String messageId, String topic, long sentTimestamp) {
+        String internalData = "{\"sendDateTime\":" + sentTimestamp + ",\"inbox\":{\"topic\":\"" + topic + "\",\"seen\":false}}";
+        return new MessageResponse(messageId, "Test Title", "Test Body", null, null, null, null, null, internalData);
+    }
+}
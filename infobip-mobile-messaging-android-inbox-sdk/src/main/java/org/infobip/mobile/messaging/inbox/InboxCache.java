@@ -0,0 +1,465 @@
+/*
+ * InboxCache.java
+ * Mobile Messaging SDK
+ *
+ * Copyright (c) 2016-2025 Infobip Limited
+ * Licensed under the Apache License, Version 2.0
+ */
+package org.infobip.mobile.messaging.inbox;
+
+import android.content.ContentValues;
+import android.content.Context;
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteOpenHelper;
+import android.database.sqlite.SQLiteStatement;
+
+import org.infobip.mobile.messaging.api.inbox.FetchInboxResponse;
+import org.infobip.mobile.messaging.api.messages.MessageResponse;
+import org.infobip.mobile.messaging.platform.Time;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * Persistent SQLite cache of fetched inbox messages, kept per external user id.
+ * <br>
+ * Messages are stored as received from the backend together with indexed topic, seen and sent timestamp columns,
+ * so filtered reads are answered locally as long as the cache {@link #covers(String, MobileInboxFilterOptions) covers} them. The newest sent timestamp is kept as a watermark for fetching only newer messages.
+ * Seen status set locally is never overwritten by older backend data.
+ */
+public class InboxCache {
+
+    static final long FULL_SYNC_INTERVAL_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+    private static final String DATABASE_NAME = "mm_infobip_inbox.db";
+    private static final int DATABASE_VERSION = 1;
+
+    private static final String TABLE_MESSAGES = "inbox_messages";
+    private static final String TABLE_STATE = "inbox_state";
+
+    private static final String EXTERNAL_USER_ID = "external_user_id";
+    private static final String MESSAGE_ID = "id";
+    private static final String TOPIC = "topic";
+    private static final String SEEN = "seen";
+    private static final String SENT_TIMESTAMP = "sent_timestamp";
+    private static final String TITLE = "title";
+    private static final String BODY = "body";
+    private static final String SOUND = "sound";
+    private static final String VIBRATE = "vibrate";
+    private static final String SILENT = "silent";
+    private static final String CATEGORY = "category";
+    private static final String CUSTOM_PAYLOAD = "custom_payload";
+    private static final String INTERNAL_DATA = "internal_data";
+    private static final String WATERMARK = "watermark";
+    private static final String COUNT_TOTAL = "count_total";
+    private static final String COUNT_UNREAD = "count_unread";
+    private static final String LAST_FULL_SYNC = "last_full_sync";
+
+    private static final String[] MESSAGE_COLUMNS = {MESSAGE_ID, TITLE, BODY, SOUND, VIBRATE, SILENT, CATEGORY, CUSTOM_PAYLOAD, INTERNAL_DATA, SEEN};
+
+    /**
+     * Sync state of cached inbox of a single user
+     */
+    static class State {
+        final long watermark;
+        final int countTotal;
+        final int countUnread;
+        final long lastFullSync;
+
+        State(long watermark, int countTotal, int countUnread, long lastFullSync) {
+            this.watermark = watermark;
+            this.countTotal = countTotal;
+            this.countUnread = countUnread;
+            this.lastFullSync = lastFullSync;
+        }
+
+        boolean isFullSyncRequired() {
+            return Time.now() - lastFullSync >= FULL_SYNC_INTERVAL_MILLIS;
+        }
+    }
+
+    private static class OpenHelper extends SQLiteOpenHelper {
+
+        OpenHelper(Context context) {
+            super(context, DATABASE_NAME, null, DATABASE_VERSION);
+        }
+
+        @Override
+        public void onCreate(SQLiteDatabase db) {
+            db.execSQL("CREATE TABLE " + TABLE_MESSAGES + " (" +
+                    EXTERNAL_USER_ID + " TEXT NOT NULL, " +
+                    MESSAGE_ID + " TEXT NOT NULL, " +
+                    TOPIC + " TEXT, " +
+                    SEEN + " INTEGER NOT NULL DEFAULT 0, " +
+                    SENT_TIMESTAMP + " INTEGER NOT NULL DEFAULT 0, " +
+                    TITLE + " TEXT, " +
+                    BODY + " TEXT, " +
+                    SOUND + " TEXT, " +
+                    VIBRATE + " TEXT, " +
+                    SILENT + " TEXT, " +
+                    CATEGORY + " TEXT, " +
+                    CUSTOM_PAYLOAD + " TEXT, " +
+                    INTERNAL_DATA + " TEXT, " +
+                    "PRIMARY KEY (" + EXTERNAL_USER_ID + ", " + MESSAGE_ID + "))");
+            db.execSQL("CREATE INDEX idx_inbox_messages_topic ON " + TABLE_MESSAGES +
+                    " (" + EXTERNAL_USER_ID + ", " + TOPIC + ", " + SENT_TIMESTAMP + ")");
+            db.execSQL("CREATE INDEX idx_inbox_messages_sent_timestamp ON " + TABLE_MESSAGES +
+                    " (" + EXTERNAL_USER_ID + ", " + SENT_TIMESTAMP + ")");
+            db.execSQL("CREATE TABLE " + TABLE_STATE + " (" +
+                    EXTERNAL_USER_ID + " TEXT PRIMARY KEY NOT NULL, " +
+                    WATERMARK + " INTEGER NOT NULL DEFAULT 0, " +
+                    COUNT_TOTAL + " INTEGER NOT NULL DEFAULT 0, " +
+                    COUNT_UNREAD + " INTEGER NOT NULL DEFAULT 0, " +
+                    LAST_FULL_SYNC + " INTEGER NOT NULL DEFAULT 0)");
+        }
+
+        @Override
+        public void onUpgrade(SQLiteDatabase db, int oldVersion, int newVersion) {
+            db.execSQL("DROP TABLE IF EXISTS " + TABLE_MESSAGES);
+            db.execSQL("DROP TABLE IF EXISTS " + TABLE_STATE);
+            onCreate(db);
+        }
+    }
+
+    private final SQLiteOpenHelper openHelper;
+
+    public InboxCache(Context context) {
+        this.openHelper = new OpenHelper(context);
+    }
+
+    /**
+     * Returns sync state of cached inbox
+     *
+     * @param externalUserId external user id
+     * @return state or null if inbox of the user was never cached
+     */
+    @Nullable
+    synchronized State getState(String externalUserId) {
+        Cursor cursor = openHelper.getReadableDatabase().query(TABLE_STATE,
+                new String[]{WATERMARK, COUNT_TOTAL, COUNT_UNREAD, LAST_FULL_SYNC},
+                EXTERNAL_USER_ID + " = ?", new String[]{externalUserId}, null, null, null);
+        try {
+            if (!cursor.moveToFirst()) {
+                return null;
+            }
+            return new State(cursor.getLong(0), cursor.getInt(1), cursor.getInt(2), cursor.getLong(3));
+        } finally {
+            cursor.close();
+        }
+    }
+
+    /**
+     * Replaces all cached messages of the user with the fetched ones. Messages marked as seen locally stay seen.
+     *
+     * @param externalUserId external user id
+     * @param response       full inbox fetched from the backend
+     */
+    synchronized void replace(String externalUserId, FetchInboxResponse response) {
+        SQLiteDatabase db = openHelper.getWritableDatabase();
+        db.beginTransaction();
+        try {
+            List<String> seenIds = findSeenIds(db, externalUserId);
+            db.delete(TABLE_MESSAGES, EXTERNAL_USER_ID + " = ?", new String[]{externalUserId});
+            upsert(db, externalUserId, response.getMessages());
+            int locallySeen = markSeen(db, externalUserId, seenIds);
+            saveState(db, externalUserId, response, Time.now(), locallySeen);
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
+        }
+    }
+
+    /**
+     * Merges newly fetched messages into the cache. Messages marked as seen locally stay seen.
+     *
+     * @param externalUserId external user id
+     * @param response       messages newer than the watermark
+     */
+    synchronized void merge(String externalUserId, FetchInboxResponse response) {
+        SQLiteDatabase db = openHelper.getWritableDatabase();
+        db.beginTransaction();
+        try {
+            State state = getState(externalUserId);
+            List<String> seenIds = findSeenIds(db, externalUserId);
+            upsert(db, externalUserId, response.getMessages());
+            int locallySeen = markSeen(db, externalUserId, seenIds);
+            saveState(db, externalUserId, response, state != null ? state.lastFullSync : 0, locallySeen);
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
+        }
+    }
+
+    /**
+     * Marks cached messages as seen and updates the unread counter accordingly
+     *
+     * @param externalUserId external user id
+     * @param messageIds     ids of seen messages
+     */
+    public synchronized void markSeen(String externalUserId, String... messageIds) {
+        if (messageIds == null || messageIds.length == 0) {
+            return;
+        }
+
+        SQLiteDatabase db = openHelper.getWritableDatabase();
+        db.beginTransaction();
+        try {
+            List<String> ids = new ArrayList<>(messageIds.length);
+            for (String messageId : messageIds) {
+                if (messageId != null) {
+                    ids.add(messageId);
+                }
+            }
+            int newlySeen = markSeen(db, externalUserId, ids);
+            if (newlySeen > 0) {
+                db.execSQL("UPDATE " + TABLE_STATE + " SET " + COUNT_UNREAD + " = MAX(0, " + COUNT_UNREAD + " - ?) WHERE " + EXTERNAL_USER_ID + " = ?",
+                        new Object[]{newlySeen, externalUserId});
+            }
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
+        }
+    }
+
+    /**
+     * Reads cached inbox of the user, filtered with the provided options
+     *
+     * @param externalUserId external user id
+     * @param filterOptions  filter options, may be null
+     * @return cached inbox or null if inbox of the user was never cached
+     */
+    @Nullable
+    public synchronized Inbox read(String externalUserId, @Nullable MobileInboxFilterOptions filterOptions) {
+        State state = getState(externalUserId);
+        if (state == null) {
+            return null;
+        }
+
+        List<String> args = new ArrayList<>();
+        String selection = selection(externalUserId, filterOptions, args);
+        String[] selectionArgs = args.toArray(new String[0]);
+        Integer limit = filterOptions != null ? filterOptions.getLimit() : null;
+
+        SQLiteDatabase db = openHelper.getReadableDatabase();
+        List<InboxMessage> messages = new ArrayList<>();
+        Cursor cursor = db.query(TABLE_MESSAGES, MESSAGE_COLUMNS, selection, selectionArgs, null, null,
+                SENT_TIMESTAMP + " DESC, rowid", limit != null && limit > 0 ? String.valueOf(limit) : null);
+        try {
+            while (cursor.moveToNext()) {
+                InboxMessage message = InboxMapper.fromResponse(new MessageResponse(cursor.getString(0), cursor.getString(1), cursor.getString(2),
+                        cursor.getString(3), cursor.getString(4), cursor.getString(5), cursor.getString(6), cursor.getString(7), cursor.getString(8)));
+                if (cursor.getInt(9) != 0) {
+                    message.setSeen();
+                }
+                messages.add(message);
+            }
+        } finally {
+            cursor.close();
+        }
+
+        Inbox inbox = new Inbox();
+        inbox.setCountTotal(state.countTotal);
+        inbox.setCountUnread(state.countUnread);
+        inbox.setMessages(messages);
+        if (isFiltered(filterOptions)) {
+            Cursor counts = db.rawQuery("SELECT COUNT(*), TOTAL(" + SEEN + " = 0) FROM " + TABLE_MESSAGES + " WHERE " + selection, selectionArgs);
+            try {
+                if (counts.moveToFirst()) {
+                    inbox.setCountTotalFiltered(counts.getInt(0));
+                    inbox.setCountUnreadFiltered(counts.getInt(1));
+                }
+            } finally {
+                counts.close();
+            }
+        }
+        return inbox;
+    }
+
+    /**
+     * Tells whether all messages matching the filter are cached. Inbox bigger than one fetch is cached only partially,
+     * its newest messages, so reads which reach past the oldest cached message have to be answered by the backend.
+     *
+     * @param externalUserId external user id
+     * @param filterOptions  filter options, may be null
+     * @return true if the read can be answered from the cache
+     */
+    synchronized boolean covers(String externalUserId, @Nullable MobileInboxFilterOptions filterOptions) {
+        State state = getState(externalUserId);
+        if (state == null) {
+            return false;
+        }
+
+        int cachedCount = 0;
+        long oldestSentTimestamp = 0;
+        Cursor cursor = openHelper.getReadableDatabase().rawQuery("SELECT COUNT(*), MIN(" + SENT_TIMESTAMP + ") FROM " + TABLE_MESSAGES +
+                " WHERE " + EXTERNAL_USER_ID + " = ?", new String[]{externalUserId});
+        try {
+            if (cursor.moveToFirst()) {
+                cachedCount = cursor.getInt(0);
+                oldestSentTimestamp = cursor.getLong(1);
+            }
+        } finally {
+            cursor.close();
+        }
+
+        if (cachedCount >= state.countTotal) {
+            return true;
+        }
+        if (filterOptions != null && filterOptions.getFromDateTime() != null && filterOptions.getFromDateTime().getTime() > oldestSentTimestamp) {
+            return true;
+        }
+        Integer limit = filterOptions != null ? filterOptions.getLimit() : null;
+        return !isFiltered(filterOptions) && limit != null && limit > 0 && limit <= cachedCount;
+    }
+
+    /**
+     * Removes cached inbox of all users
+     */
+    public synchronized void clear() {
+        SQLiteDatabase db = openHelper.getWritableDatabase();
+        db.delete(TABLE_MESSAGES, null, null);
+        db.delete(TABLE_STATE, null, null);
+    }
+
+    private static boolean isFiltered(@Nullable MobileInboxFilterOptions filterOptions) {
+        return filterOptions != null && (filterOptions.getFromDateTime() != null || filterOptions.getToDateTime() != null ||
+                filterOptions.getTopic() != null || (filterOptions.getTopics() != null && !filterOptions.getTopics().isEmpty()));
+    }
+
+    private static String selection(String externalUserId, @Nullable MobileInboxFilterOptions filterOptions, List<String> args) {
+        StringBuilder selection = new StringBuilder(EXTERNAL_USER_ID + " = ?");
+        args.add(externalUserId);
+        if (filterOptions == null) {
+            return selection.toString();
+        }
+
+        if (filterOptions.getFromDateTime() != null) {
+            selection.append(" AND ").append(SENT_TIMESTAMP).append(" >= ?");
+            args.add(String.valueOf(filterOptions.getFromDateTime().getTime()));
+        }
+        if (filterOptions.getToDateTime() != null) {
+            selection.append(" AND ").append(SENT_TIMESTAMP).append(" <= ?");
+            args.add(String.valueOf(filterOptions.getToDateTime().getTime()));
+        }
+
+        List<String> topics = filterOptions.getTopics();
+        if (topics != null && !topics.isEmpty()) {
+            selection.append(" AND ").append(TOPIC).append(" IN (");
+            for (int i = 0; i < topics.size(); i++) {
+                selection.append(i == 0 ? "?" : ",?");
+                args.add(topics.get(i));
+            }
+            selection.append(")");
+        } else if (filterOptions.getTopic() != null) {
+            selection.append(" AND ").append(TOPIC).append(" = ?");
+            args.add(filterOptions.getTopic());
+        }
+        return selection.toString();
+    }
+
+    private static void upsert(SQLiteDatabase db, String externalUserId, @Nullable List<MessageResponse> responses) {
+        if (responses == null || responses.isEmpty()) {
+            return;
+        }
+
+        SQLiteStatement statement = db.compileStatement("INSERT OR REPLACE INTO " + TABLE_MESSAGES + " (" +
+                EXTERNAL_USER_ID + "," + MESSAGE_ID + "," + TOPIC + "," + SEEN + "," + SENT_TIMESTAMP + "," + TITLE + "," + BODY + "," +
+                SOUND + "," + VIBRATE + "," + SILENT + "," + CATEGORY + "," + CUSTOM_PAYLOAD + "," + INTERNAL_DATA +
+                ") VALUES (?,?,?,?,?,?,?,?,?,?,?,?,?)");
+        try {
+            for (MessageResponse response : responses) {
+                if (response == null || response.getMessageId() == null) {
+                    continue;
+                }
+                InboxMessage message = InboxMapper.fromResponse(response);
+                statement.clearBindings();
+                statement.bindString(1, externalUserId);
+                statement.bindString(2, response.getMessageId());
+                bindNullable(statement, 3, message.getTopic());
+                statement.bindLong(4, message.isSeen() ? 1 : 0);
+                statement.bindLong(5, message.getSentTimestamp());
+                bindNullable(statement, 6, response.getTitle());
+                bindNullable(statement, 7, response.getBody());
+                bindNullable(statement, 8, response.getSound());
+                bindNullable(statement, 9, response.getVibrate());
+                bindNullable(statement, 10, response.getSilent());
+                bindNullable(statement, 11, response.getCategory());
+                bindNullable(statement, 12, response.getCustomPayload());
+                bindNullable(statement, 13, response.getInternalData());
+                statement.executeInsert();
+            }
+        } finally {
+            statement.close();
+        }
+    }
+
+    private static void bindNullable(SQLiteStatement statement, int index, @Nullable String value) {
+        if (value == null) {
+            statement.bindNull(index);
+        } else {
+            statement.bindString(index, value);
+        }
+    }
+
+    @NonNull
+    private static List<String> findSeenIds(SQLiteDatabase db, String externalUserId) {
+        Cursor cursor = db.query(TABLE_MESSAGES, new String[]{MESSAGE_ID},
+                EXTERNAL_USER_ID + " = ? AND " + SEEN + " != 0", new String[]{externalUserId}, null, null, null);
+        try {
+            List<String> ids = new ArrayList<>(cursor.getCount());
+            while (cursor.moveToNext()) {
+                ids.add(cursor.getString(0));
+            }
+            return ids;
+        } finally {
+            cursor.close();
+        }
+    }
+
+    private static int markSeen(SQLiteDatabase db, String externalUserId, List<String> messageIds) {
+        if (messageIds.isEmpty()) {
+            return 0;
+        }
+
+        int updated = 0;
+        SQLiteStatement statement = db.compileStatement("UPDATE " + TABLE_MESSAGES + " SET " + SEEN + " = 1 WHERE " +
+                EXTERNAL_USER_ID + " = ? AND " + MESSAGE_ID + " = ? AND " + SEEN + " = 0");
+        try {
+            for (String messageId : messageIds) {
+                statement.bindString(1, externalUserId);
+                statement.bindString(2, messageId);
+                updated += statement.executeUpdateDelete();
+            }
+        } finally {
+            statement.close();
+        }
+        return updated;
+    }
+
+    private static void saveState(SQLiteDatabase db, String externalUserId, FetchInboxResponse response, long lastFullSync, int locallySeen) {
+        long watermark = 0;
+        Cursor cursor = db.rawQuery("SELECT MAX(" + SENT_TIMESTAMP + ") FROM " + TABLE_MESSAGES + " WHERE " + EXTERNAL_USER_ID + " = ?",
+                new String[]{externalUserId});
+        try {
+            if (cursor.moveToFirst()) {
+                watermark = cursor.getLong(0);
+            }
+        } finally {
+            cursor.close();
+        }
+
+        ContentValues values = new ContentValues();
+        values.put(EXTERNAL_USER_ID, externalUserId);
+        values.put(WATERMARK, watermark);
+        values.put(COUNT_TOTAL, response.getCountTotal());
+        // seen reports of locally seen messages may not have reached the backend yet
+        values.put(COUNT_UNREAD, Math.max(0, response.getCountUnread() - locallySeen));
+        values.put(LAST_FULL_SYNC, lastFullSync);
+        db.insertWithOnConflict(TABLE_STATE, null, values, SQLiteDatabase.CONFLICT_REPLACE);
+    }
+}
@@ -90,6 +90,18 @@ public final class InboxDataMapper {
         }
     }
 
+    /**
+     * Returns inbox topic from already parsed internal data
+     *
+     * @param internalData internal data parsed as {@link InboxData}
+     * @return topic string
+     */
+    @Nullable
+    public static String inboxTopicFromInternalData(InternalDataMapper.ParsedInternalData internalData) {
+        InboxData inboxData = internalData.getData(InboxData.class);
+        return inboxData != null ? inboxData.getTopic() : null;
+    }
+
     /**
      * Returns inbox seen from internal data
      *
@@ -103,4 +115,15 @@ public final class InboxDataMapper {
             return false;
         }
     }
+
+    /**
+     * Returns inbox seen from already parsed internal data
+     *
+     * @param internalData internal data parsed as {@link InboxData}
+     * @return seen boolean
+     */
+    public static boolean inboxSeenFromInternalData(InternalDataMapper.ParsedInternalData internalData) {
+        InboxData inboxData = internalData.getData(InboxData.class);
+        return inboxData != null && inboxData.isSeen();
+    }
 }
@@ -32,14 +32,14 @@ public class InboxMapper {
         if (fetchInboxResponse.getMessages() != null) {
             List<InboxMessage> inboxMessages = new ArrayList<>(fetchInboxResponse.getMessages().size());
             for (MessageResponse messageResponse : fetchInboxResponse.getMessages()) {
-                inboxMessages.add(responseToMessage(messageResponse));
+                inboxMessages.add(fromResponse(messageResponse));
             }
             inbox.setMessages(inboxMessages);
         }
         return inbox;
     }
 
-    private static InboxMessage responseToMessage(MessageResponse response) {
+    static InboxMessage fromResponse(MessageResponse response) {
         JSONObject customPayload = null;
         try {
             customPayload = response.getCustomPayload() != null ? new JSONObject(response.getCustomPayload()) : null;
@@ -48,6 +48,7 @@ public class InboxMapper {
         }
 
         final String internalData = response.getInternalData();
+        final InternalDataMapper.ParsedInternalData parsedInternalData = InternalDataMapper.parse(internalData, InboxDataMapper.InboxData.class);
         InboxMessage message = InboxMessage.createFrom(new Message(
                         response.getMessageId(),
                         response.getTitle(),
@@ -60,26 +61,27 @@ public class InboxMapper {
                         null,
                         Time.now(),
                         0,
-                        InternalDataMapper.getInternalDataSendDateTime(internalData),
+                        parsedInternalData.getSendDateTime(),
                         customPayload,
                         internalData,
                         null,
                         Message.Status.UNKNOWN,
                         null,
-                        InternalDataMapper.getInternalDataContentUrl(internalData),
-                        InternalDataMapper.getInternalDataInAppStyle(internalData),
-                        InternalDataMapper.getInternalDataInAppExpiryDateTime(internalData),
-                        InternalDataMapper.getInternalDataWebViewUrl(internalData),
-                        InternalDataMapper.getInternalDataBrowserUrl(internalData),
-                        InternalDataMapper.getInternalDataMessageType(internalData),
-                        InternalDataMapper.getInternalDataDeeplinkUri(internalData),
-                        InternalDataMapper.getInternalDataInAppOpenTitle(internalData),
-                        InternalDataMapper.getInternalDataInAppDismissTitle(internalData)),
-                InboxDataMapper.inboxTopicFromInternalData(internalData),
-                InboxDataMapper.inboxSeenFromInternalData(internalData)
+                        parsedInternalData.getContentUrl(),
+                        parsedInternalData.getInAppStyle(),
+                        parsedInternalData.getInAppExpiryDateTime(),
+                        parsedInternalData.getWebViewUrl(),
+                        parsedInternalData.getBrowserUrl(),
+                        parsedInternalData.getMessageType(),
+                        parsedInternalData.getDeeplinkUri(),
+                        parsedInternalData.getInAppOpenTitle(),
+                        parsedInternalData.getInAppDismissTitle()),
+                InboxDataMapper.inboxTopicFromInternalData(parsedInternalData),
+                InboxDataMapper.inboxSeenFromInternalData(parsedInternalData)
         );
 
-        InternalDataMapper.updateMessageWithInternalData(message, internalData);
+        message.setInternalData(internalData, parsedInternalData);
+        InternalDataMapper.updateMessageWithInternalData(message, parsedInternalData);
         return message;
     }
 
@@ -10,6 +10,7 @@ package org.infobip.mobile.messaging.inbox;
 import android.content.Context;
 
 import org.infobip.mobile.messaging.MobileMessaging;
+import org.infobip.mobile.messaging.mobileapi.Result;
 
 import androidx.annotation.NonNull;
 
@@ -52,6 +53,34 @@ public abstract class MobileInbox {
 
     public abstract void fetchInbox(@NonNull String externalUserId, MobileInboxFilterOptions filterOptions, MobileMessaging.ResultListener<Inbox> messageResultListener);
 
+    /**
+     * Asynchronously reads inbox data cached by the last `fetchInbox` call, without contacting the backend.
+     * <br>
+     * Can be used to show inbox immediately, while `fetchInbox` brings in messages received in the meantime.
+     * Requires cache to be enabled with {@link #setCacheEnabled(boolean)}.
+     *
+     * @param externalUserId External User ID is meant to be an ID of a user in an external (non-Infobip) service.
+     * @param filterOptions filtering options applied to cached messages. Nullable, will return all cached messages
+     * @param messageResultListener listener to report the result on, receives empty inbox if nothing was cached yet or cache is disabled
+     * @see MobileMessaging.ResultListener
+     */
+    public void fetchCachedInbox(@NonNull String externalUserId, MobileInboxFilterOptions filterOptions, MobileMessaging.ResultListener<Inbox> messageResultListener) {
+        if (messageResultListener != null) {
+            messageResultListener.onResult(new Result<>(new Inbox()));
+        }
+    }
+
+    /**
+     * Enables caching of fetched inbox on the device. Disabled by default.
+     * <br>
+     * With cache enabled, `fetchInbox` fetches only messages received since the previous fetch and answers filtered requests
+     * from the cache where possible. Disabling the cache removes cached messages.
+     *
+     * @param enabled true to cache inbox on the device
+     */
+    public void setCacheEnabled(boolean enabled) {
+    }
+
     /**
      * Asynchronously marks inbox messages as seen
      *
@@ -14,9 +14,11 @@ import org.infobip.mobile.messaging.Message;
 import org.infobip.mobile.messaging.MessageHandlerModule;
 import org.infobip.mobile.messaging.MobileMessaging;
 import org.infobip.mobile.messaging.MobileMessagingCore;
+import org.infobip.mobile.messaging.MobileMessagingProperty;
 import org.infobip.mobile.messaging.logging.MobileMessagingLogger;
 import org.infobip.mobile.messaging.mobileapi.MobileApiResourceProvider;
 import org.infobip.mobile.messaging.platform.AndroidBroadcaster;
+import org.infobip.mobile.messaging.util.PreferenceHelper;
 import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
@@ -39,6 +41,7 @@ public class MobileInboxImpl extends MobileInbox implements MessageHandlerModule
     private MobileApiResourceProvider mobileApiResourceProvider;
     private MobileInboxSynchronizer mobileInboxSynchronizer;
     private InboxSeenStatusReporter inboxSeenStatusReporter;
+    private InboxCache inboxCache;
     private final Set<String> seenMessageIds = Collections.synchronizedSet(new HashSet<>());
 
     public static MobileInboxImpl getInstance(Context context) {
@@ -82,6 +85,24 @@ public class MobileInboxImpl extends MobileInbox implements MessageHandlerModule
         mobileInboxSynchronizer().fetchInbox(null, externalUserId, filterOptions, messageResultListener);
     }
 
+    @Override
+    public void fetchCachedInbox(@NonNull String externalUserId, MobileInboxFilterOptions filterOptions, MobileMessaging.ResultListener<Inbox> messageResultListener) {
+        if (isBlank(externalUserId)) {
+            MobileMessagingLogger.w("[Inbox] externalUserId was empty");
+            return;
+        }
+        mobileInboxSynchronizer().fetchCachedInbox(externalUserId, filterOptions, messageResultListener);
+    }
+
+    @Override
+    public synchronized void setCacheEnabled(boolean enabled) {
+        PreferenceHelper.saveBoolean(context, MobileMessagingProperty.INBOX_CACHE_ENABLED, enabled);
+        mobileInboxSynchronizer = null;
+        if (!enabled) {
+            inboxCache().clear();
+        }
+    }
+
     @Override
     public void setSeen(@NonNull String externalUserId, @NonNull String[] messageIDs, MobileMessaging.ResultListener<String[]> listener) {
         if (isBlank(externalUserId)) {
@@ -108,6 +129,9 @@ public class MobileInboxImpl extends MobileInbox implements MessageHandlerModule
         seenMessageIds.addAll(newMessageIds);
 
         String[] newMessageIdsArray = newMessageIds.toArray(new String[0]);
+        if (isCacheEnabled()) {
+            inboxCache().markSeen(externalUserId, newMessageIdsArray);
+        }
 
         inboxSeenStatusReporter().reportSeen(listener, externalUserId, MobileMessagingCore.getInstance(context).enrichMessageIdsWithTimestamp(newMessageIdsArray));
     }
@@ -167,6 +191,9 @@ public class MobileInboxImpl extends MobileInbox implements MessageHandlerModule
         mobileApiResourceProvider = null;
         mobileInboxSynchronizer = null;
         inboxSeenStatusReporter = null;
+        if (context != null && isCacheEnabled()) {
+            inboxCache().clear();
+        }
     }
 
     @Override
@@ -201,12 +228,24 @@ public class MobileInboxImpl extends MobileInbox implements MessageHandlerModule
                     MobileMessagingCore.getInstance(context),
                     coreBroadcaster(),
                     mobileInboxBroadcaster(),
-                    mobileApiResourceProvider().getMobileApiInbox(context)
+                    mobileApiResourceProvider().getMobileApiInbox(context),
+                    isCacheEnabled() ? inboxCache() : null
             );
         }
         return mobileInboxSynchronizer;
     }
 
+    private boolean isCacheEnabled() {
+        return PreferenceHelper.findBoolean(context, MobileMessagingProperty.INBOX_CACHE_ENABLED);
+    }
+
+    synchronized private InboxCache inboxCache() {
+        if (inboxCache == null) {
+            inboxCache = new InboxCache(context);
+        }
+        return inboxCache;
+    }
+
     synchronized private InboxSeenStatusReporter inboxSeenStatusReporter() {
         if (inboxSeenStatusReporter == null) {
             inboxSeenStatusReporter = new InboxSeenStatusReporter(
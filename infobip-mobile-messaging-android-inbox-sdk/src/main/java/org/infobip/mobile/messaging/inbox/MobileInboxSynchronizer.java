@@ -17,15 +17,19 @@ import org.infobip.mobile.messaging.logging.MobileMessagingLogger;
 import org.infobip.mobile.messaging.mobileapi.InternalSdkError;
 import org.infobip.mobile.messaging.mobileapi.MobileMessagingError;
 import org.infobip.mobile.messaging.mobileapi.Result;
+import org.infobip.mobile.messaging.mobileapi.common.MAsyncTask;
 import org.infobip.mobile.messaging.mobileapi.common.MRetryPolicy;
 import org.infobip.mobile.messaging.mobileapi.common.MRetryableTask;
 import org.infobip.mobile.messaging.mobileapi.common.RetryPolicyProvider;
 import org.infobip.mobile.messaging.mobileapi.common.exceptions.BackendInvalidParameterException;
 import org.infobip.mobile.messaging.platform.AndroidBroadcaster;
+import org.infobip.mobile.messaging.platform.SdkExecutor;
 
 import java.util.ArrayList;
 import java.util.List;
 
+import androidx.annotation.Nullable;
+
 import static org.infobip.mobile.messaging.util.StringUtils.isBlank;
 
 public class MobileInboxSynchronizer {
@@ -36,6 +40,7 @@ public class MobileInboxSynchronizer {
     private final MobileInboxBroadcaster mobileInboxBroadcaster;
     private final MobileApiInbox mobileApiInbox;
     private final MRetryPolicy retryPolicy;
+    private final InboxCache inboxCache;
 
     private static final Integer MULTIPLE_TOPICS_FETCH_LIMIT = 1000;
 
@@ -44,12 +49,25 @@ public class MobileInboxSynchronizer {
                                    AndroidBroadcaster coreBroadcaster,
                                    MobileInboxBroadcaster mobileInboxBroadcaster,
                                    MobileApiInbox mobileApiInbox) {
+        this(context, mobileMessagingCore, coreBroadcaster, mobileInboxBroadcaster, mobileApiInbox, null);
+    }
+
+    /**
+     * @param inboxCache cache to fetch only messages newer than cached ones and to answer filtered reads from, fetches whole inbox every time if null
+     */
+    public MobileInboxSynchronizer(Context context,
+                                   MobileMessagingCore mobileMessagingCore,
+                                   AndroidBroadcaster coreBroadcaster,
+                                   MobileInboxBroadcaster mobileInboxBroadcaster,
+                                   MobileApiInbox mobileApiInbox,
+                                   @Nullable InboxCache inboxCache) {
         this.context = context;
         this.mobileMessagingCore = mobileMessagingCore;
         this.coreBroadcaster = coreBroadcaster;
         this.mobileApiInbox = mobileApiInbox;
         this.mobileInboxBroadcaster = mobileInboxBroadcaster;
         this.retryPolicy = new RetryPolicyProvider(context).DEFAULT();
+        this.inboxCache = inboxCache;
     }
 
     public void fetchInbox(String token, String externalUserId, MobileInboxFilterOptions filterOptions, MobileMessaging.ResultListener<Inbox> listener) {
@@ -60,20 +78,17 @@ public class MobileInboxSynchronizer {
             return;
         }
 
+        if (inboxCache != null) {
+            syncCachedInbox(token, externalUserId, filterOptions, listener);
+            return;
+        }
+
         new MRetryableTask<Void, FetchInboxResponse>() {
 
             @Override
             public FetchInboxResponse run(Void[] voids) {
                 MobileMessagingLogger.v("FETCHING INBOX >>>");
-                String header = token != null ? "Bearer " + token : "App " + mobileMessagingCore.getApplicationCode();
-                if (filterOptions == null) {
-                    return mobileApiInbox.fetchInbox(externalUserId, header, null, null, null, null);
-                }
-                String from = filterOptions.getFromDateTime() == null ? null : String.valueOf(filterOptions.getFromDateTime().getTime());
-                String to = filterOptions.getToDateTime() == null ? null : String.valueOf(filterOptions.getToDateTime().getTime());
-                String topic = isBlank(filterOptions.getTopic()) ? null : filterOptions.getTopic();
-                Integer limit = filterOptions.getTopics() == null ? filterOptions.getLimit() : MULTIPLE_TOPICS_FETCH_LIMIT;
-                return mobileApiInbox.fetchInbox(externalUserId, header, from, to, topic, limit);
+                return fetchFilteredInbox(header(token), externalUserId, filterOptions);
             }
 
             @Override
@@ -84,8 +99,7 @@ public class MobileInboxSynchronizer {
                     return;
                 }
                 MobileMessagingLogger.v("FETCHING INBOX DONE <<<");
-                Inbox inbox = InboxMapper.fromBackend(fetchInboxResponse);
-                inbox = filterMessagesByTopics(inbox, filterOptions);
+                Inbox inbox = filterMessagesByTopics(InboxMapper.fromBackend(fetchInboxResponse), filterOptions);
                 mobileInboxBroadcaster.inboxFetched(inbox);
 
                 if (listener != null) {
@@ -95,23 +109,131 @@ public class MobileInboxSynchronizer {
 
             @Override
             public void error(Throwable error) {
-                MobileMessagingLogger.e("FETCHING INBOX ERROR <<<", error);
-                MobileMessagingError mobileMessagingError = MobileMessagingError.createFrom(error);
+                handleFetchError(error, listener);
+            }
+        }
+                .retryWith(retryPolicy)
+                .withPriority(SdkExecutor.Priority.USER_INITIATED)
+                .execute();
+    }
+
+    /**
+     * Reads inbox from the cache only, without contacting the backend
+     *
+     * @param externalUserId external user id
+     * @param filterOptions  filter options, may be null
+     * @param listener       receives cached inbox, empty inbox if nothing was cached yet or cache is disabled
+     */
+    public void fetchCachedInbox(String externalUserId, MobileInboxFilterOptions filterOptions, MobileMessaging.ResultListener<Inbox> listener) {
+        if (listener == null) {
+            return;
+        }
+        if (inboxCache == null) {
+            listener.onResult(new Result<>(new Inbox()));
+            return;
+        }
 
-                if (error instanceof BackendInvalidParameterException) {
-                    mobileMessagingCore.handleNoRegistrationError(mobileMessagingError);
+        new MAsyncTask<Void, Inbox>() {
+            @Override
+            public Inbox run(Void[] voids) {
+                return inboxCache.read(externalUserId, filterOptions);
+            }
+
+            @Override
+            public void after(Inbox inbox) {
+                listener.onResult(new Result<>(inbox != null ? inbox : new Inbox()));
+            }
+
+            @Override
+            public void error(Throwable error) {
+                MobileMessagingLogger.e("READING CACHED INBOX ERROR <<<", error);
+                listener.onResult(new Result<>(MobileMessagingError.createFrom(error)));
+            }
+        }
+                .withPriority(SdkExecutor.Priority.USER_INITIATED)
+                .execute();
+    }
+
+    private void syncCachedInbox(String token, String externalUserId, MobileInboxFilterOptions filterOptions, MobileMessaging.ResultListener<Inbox> listener) {
+        new MRetryableTask<Void, Inbox>() {
+
+            @Override
+            public Inbox run(Void[] voids) {
+                String header = header(token);
+                InboxCache.State state = inboxCache.getState(externalUserId);
+                if (state == null || state.isFullSyncRequired()) {
+                    MobileMessagingLogger.v("FETCHING INBOX >>>");
+                    FetchInboxResponse response = mobileApiInbox.fetchInbox(externalUserId, header, null, null, null, MULTIPLE_TOPICS_FETCH_LIMIT);
+                    inboxCache.replace(externalUserId, response != null ? response : new FetchInboxResponse());
+                } else {
+                    MobileMessagingLogger.v("FETCHING INBOX DELTA >>>", state.watermark);
+                    FetchInboxResponse response = mobileApiInbox.fetchInbox(externalUserId, header, String.valueOf(state.watermark), null, null, MULTIPLE_TOPICS_FETCH_LIMIT);
+                    if (response != null && response.getMessages() != null && response.getMessages().size() >= MULTIPLE_TOPICS_FETCH_LIMIT) {
+                        // delta didn't fit into one page, cached inbox may have gaps
+                        inboxCache.replace(externalUserId, response);
+                    } else if (response != null) {
+                        inboxCache.merge(externalUserId, response);
+                    }
                 }
+                MobileMessagingLogger.v("FETCHING INBOX DONE <<<");
 
-                coreBroadcaster.error(mobileMessagingError);
+                if (!inboxCache.covers(externalUserId, filterOptions)) {
+                    // inbox is bigger than the cache, messages past the oldest cached one are filtered by the backend
+                    MobileMessagingLogger.v("FETCHING INBOX PAST CACHE >>>");
+                    FetchInboxResponse response = fetchFilteredInbox(header, externalUserId, filterOptions);
+                    return response != null ? filterMessagesByTopics(InboxMapper.fromBackend(response), filterOptions) : new Inbox();
+                }
+                Inbox inbox = inboxCache.read(externalUserId, filterOptions);
+                return inbox != null ? inbox : new Inbox();
+            }
+
+            @Override
+            public void after(Inbox inbox) {
+                mobileInboxBroadcaster.inboxFetched(inbox);
                 if (listener != null) {
-                    listener.onResult(new Result<>(mobileMessagingError));
+                    listener.onResult(new Result<>(inbox));
                 }
             }
+
+            @Override
+            public void error(Throwable error) {
+                handleFetchError(error, listener);
+            }
         }
                 .retryWith(retryPolicy)
+                .withPriority(SdkExecutor.Priority.USER_INITIATED)
                 .execute();
     }
 
+    private String header(String token) {
+        return token != null ? "Bearer " + token : "App " + mobileMessagingCore.getApplicationCode();
+    }
+
+    private FetchInboxResponse fetchFilteredInbox(String header, String externalUserId, MobileInboxFilterOptions filterOptions) {
+        if (filterOptions == null) {
+            return mobileApiInbox.fetchInbox(externalUserId, header, null, null, null, null);
+        }
+        String from = filterOptions.getFromDateTime() == null ? null : String.valueOf(filterOptions.getFromDateTime().getTime());
+        String to = filterOptions.getToDateTime() == null ? null : String.valueOf(filterOptions.getToDateTime().getTime());
+        String topic = isBlank(filterOptions.getTopic()) ? null : filterOptions.getTopic();
+        Integer limit = filterOptions.getTopics() == null ? filterOptions.getLimit() : MULTIPLE_TOPICS_FETCH_LIMIT;
+        return mobileApiInbox.fetchInbox(externalUserId, header, from, to, topic, limit);
+    }
+
+    private void handleFetchError(Throwable error, MobileMessaging.ResultListener<Inbox> listener) {
+        MobileMessagingLogger.e("FETCHING INBOX ERROR <<<", error);
+        MobileMessagingError mobileMessagingError = MobileMessagingError.createFrom(error);
+
+        if (error instanceof BackendInvalidParameterException) {
+            mobileMessagingCore.handleNoRegistrationError(mobileMessagingError);
+        }
+
+        coreBroadcaster.error(mobileMessagingError);
+        if (listener != null) {
+            listener.onResult(new Result<>(mobileMessagingError));
+        }
+    }
+
     private Inbox filterMessagesByTopics(Inbox inbox, MobileInboxFilterOptions filterOptions) {
         if (filterOptions != null) {
             List<String> topics = filterOptions.getTopics();
@@ -77,7 +77,7 @@ public class RetryableSynchronizersTest extends MobileMessagingTestCase {
 
         MobileMessagingTestable spy = Mockito.spy(mobileMessagingCore);
         when(spy.getSyncMessagesIds()).thenReturn(new String[]{"id1"});
-        when(spy.getAndRemoveUnreportedMessageIds()).thenReturn(new String[]{"id2"});
+        when(spy.getUnreportedMessageIds()).thenReturn(new String[]{"id2"});
 
         RetryPolicyProvider retryPolicyProvider = new RetryPolicyProvider(context);
         retryPolicy = retryPolicyProvider.DEFAULT();
@@ -0,0 +1,91 @@
+/*
+ * StartupBenchmarkTest.java
+ * Mobile Messaging SDK
+ *
+ * Copyright (c) 2016-2025 Infobip Limited
+ * Licensed under the Apache License, Version 2.0
+ */
+package org.infobip.mobile.messaging;
+
+import android.util.Log;
+
+import org.infobip.mobile.messaging.interactive.MobileInteractiveImpl;
+import org.infobip.mobile.messaging.platform.Platform;
+import org.infobip.mobile.messaging.tools.MobileMessagingTestCase;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertSame;
+import static junit.framework.Assert.assertTrue;
+
+/**
+ * Measures how long {@link MobileMessagingCore#getInstance(android.content.Context)} takes to return on cold start,
+ * with the whole startup on the calling thread and with {@link MobileMessaging.Builder#withStagedStartup() staged startup}.
+ * Timings are reported to logcat under the "StartupBenchmark" tag.
+ */
+public class StartupBenchmarkTest extends MobileMessagingTestCase {
+
+    private static final String TAG = "StartupBenchmark";
+    private static final int ITERATIONS = 20;
+
+    @Test
+    public void test_benchmark_coldStart() {
+        try {
+            long[] inline = benchmark(false);
+            long[] staged = benchmark(true);
+
+            Log.i(TAG, String.format("getInstance() over %d cold starts: inline median %d us, p90 %d us; staged median %d us, p90 %d us",
+                    ITERATIONS, percentile(inline, 50), percentile(inline, 90), percentile(staged, 50), percentile(staged, 90)));
+            assertTrue("staged startup should not be slower to return than inline startup",
+                    percentile(staged, 50) <= percentile(inline, 50));
+        } finally {
+            MobileMessagingCore.setStagedStartupEnabled(context, false);
+            Platform.reset(mobileMessagingCore);
+        }
+    }
+
+    @Test
+    public void test_shouldProvideModulesAfterStagedStartup() {
+        try {
+            MobileMessagingCore.setStagedStartupEnabled(context, true);
+            Platform.mobileMessagingCore = Platform.createForConstructorAcceptingContext(MobileMessagingCore.class);
+
+            MobileMessagingCore core = MobileMessagingCore.getInstance(context);
+            MobileInteractiveImpl created = core.getMessageHandlerModule(MobileInteractiveImpl.class);
+
+            assertFalse(core.getMessageHandlerModules().isEmpty());
+            assertSame(created, core.findMessageHandlerModule(MobileInteractiveImpl.class.getName()));
+            assertSame(created, core.getMessageHandlerModule(MobileInteractiveImpl.class));
+        } finally {
+            MobileMessagingCore.setStagedStartupEnabled(context, false);
+            Platform.reset(mobileMessagingCore);
+        }
+    }
+
+    private long[] benchmark(boolean stagedStartup) {
+        MobileMessagingCore.setStagedStartupEnabled(context, stagedStartup);
+
+        long[] micros = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            Platform.mobileMessagingCore = Platform.createForConstructorAcceptingContext(MobileMessagingCore.class);
+
+            long start = System.nanoTime();
+            MobileMessagingCore core = MobileMessagingCore.getInstance(context);
+            micros[i] = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+
+            core.awaitStartup();
+            assertTrue(core.isStartupCompleted());
+            assertFalse(core.getMessageHandlerModules().isEmpty());
+        }
+        Arrays.sort(micros);
+        return micros;
+    }
+
+    private static long percentile(long[] sorted, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(index, 0)];
+    }
+}
@@ -7,6 +7,8 @@
  */
 package org.infobip.mobile.messaging.cloud;
 
+import android.os.SystemClock;
+
 import org.infobip.mobile.messaging.Message;
 import org.infobip.mobile.messaging.MobileMessaging;
 import org.infobip.mobile.messaging.storage.MessageStore;
@@ -15,11 +17,15 @@ import org.junit.Test;
 import org.mockito.ArgumentMatcher;
 import org.mockito.Mockito;
 
+import java.util.Arrays;
 import java.util.List;
 
 import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.after;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -105,6 +111,65 @@ public class MobileMessageHandlerTest extends MobileMessagingTestCase {
         verify(notificationHandler, times(1)).displayNotification(messageWith("messageId2"));
     }
 
+    @Test
+    public void test_shouldScheduleDeliveryReportAndRecordLatency() throws Exception {
+        // Given
+        Message m = createMessage(context, "messageId1", false);
+        mobileMessagingCore.getPushLatencyStats().reset();
+
+        // When
+        handler.handleMessage(m, SystemClock.elapsedRealtime() - 100);
+
+        // Then
+        assertTrue(Arrays.asList(mobileMessagingCore.getSyncMessagesIds()).contains("messageId1"));
+        verify(notificationHandler, times(1)).displayNotification(messageWith("messageId1"));
+        assertEquals(1, mobileMessagingCore.getPushLatencyStats().getSampleCount());
+        assertTrue(mobileMessagingCore.getPushLatencyStats().getPercentileMillis(50) >= 100);
+    }
+
+    @Test
+    public void test_shouldSaveBatchOfMessagesWithoutDuplicates() throws Exception {
+        // Given
+        handler.handleMessage(createMessage(context, "messageId1", false));
+
+        // When
+        handler.handleMessages(Arrays.asList(
+                createMessage(context, "messageId1", false),
+                createMessage(context, "messageId2", false),
+                createMessage(context, "messageId2", false),
+                createMessage(context, "messageId3", false)));
+
+        // Then
+        assertEquals(3, commonStore.findAll(context).size());
+        verify(notificationHandler, times(1)).displayNotifications(argThat(new ArgumentMatcher<List<Message>>() {
+            @Override
+            public boolean matches(List<Message> messages) {
+                return messages.size() == 2
+                        && "messageId2".equals(messages.get(0).getMessageId())
+                        && "messageId3".equals(messages.get(1).getMessageId());
+            }
+        }));
+        verify(broadcaster, after(1000).times(1)).messageReceived(messageWith("messageId2"));
+        verify(broadcaster, after(1000).times(1)).messageReceived(messageWith("messageId3"));
+        verify(broadcaster, times(1)).messageReceived(messageWith("messageId1"));
+    }
+
+    @Test
+    public void test_shouldNotHandleBatchOfAlreadyProcessedMessages() throws Exception {
+        // Given
+        mobileMessagingCore.addSyncMessagesIds("messageId1", "messageId2");
+
+        // When
+        handler.handleMessages(Arrays.asList(
+                createMessage(context, "messageId1", false),
+                createMessage(context, "messageId2", false)));
+
+        // Then
+        assertEquals(0, commonStore.findAll(context).size());
+        verify(notificationHandler, never()).displayNotifications(Mockito.<List<Message>>any());
+        verify(broadcaster, after(500).never()).messageReceived(Mockito.any(Message.class));
+    }
+
     private Message messageWith(final String messageId) {
         return argThat(new ArgumentMatcher<Message>() {
             @Override
@@ -50,11 +50,20 @@ public class MobileMessagingCloudHandlerTest extends TestCase {
 
         handler.handleWork(context, intent);
 
-        Mockito.verify(mobileMessageHandler, Mockito.times(1)).handleMessage(messageArgumentCaptor.capture());
+        Mockito.verify(mobileMessageHandler, Mockito.times(1)).handleMessage(messageArgumentCaptor.capture(), Mockito.anyLong());
         assertEquals("messageId", messageArgumentCaptor.getValue().getMessageId());
         assertEquals("body", messageArgumentCaptor.getValue().getBody());
     }
 
+    @Test
+    public void test_shouldReportDelivery() {
+        Intent intent = new Intent("org.infobip.mobile.messaging.cloud.DELIVERY_REPORT");
+
+        handler.handleWork(context, intent);
+
+        Mockito.verify(mobileMessageHandler, Mockito.times(1)).reportDelivery();
+    }
+
     @Test
     public void test_shouldHandleNewToken() {
         Intent intent = new Intent("org.infobip.mobile.messaging.cloud.NEW_TOKEN")
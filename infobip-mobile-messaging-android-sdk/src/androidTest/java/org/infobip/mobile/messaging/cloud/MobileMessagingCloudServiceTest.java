@@ -71,6 +71,37 @@ public class MobileMessagingCloudServiceTest extends PlatformTestCase {
         Mockito.verify(handler, Mockito.times(1)).handleWork(Mockito.any(Context.class), intentWith(message));
     }
 
+    @Test
+    public void test_shouldHandleNewMessageWithoutEnqueueing() {
+        Message message = new Message();
+        message.setBody("body");
+        message.setMessageId("messageId");
+
+        MobileMessagingCloudService.handleNewMessage(context, message);
+
+        Mockito.verify(handler, Mockito.times(1)).handleMessage(Mockito.any(Context.class), Mockito.eq(message), Mockito.anyLong());
+        Mockito.verify(handler, Mockito.never()).handleWork(Mockito.any(Context.class), Mockito.any(Intent.class));
+    }
+
+    @Test
+    public void test_shouldEnqueueNewMessageWhenHandlingFails() {
+        Message message = new Message();
+        message.setBody("body");
+        message.setMessageId("messageId");
+        Mockito.doThrow(new RuntimeException("failed")).when(handler).handleMessage(Mockito.any(Context.class), Mockito.any(Message.class), Mockito.anyLong());
+
+        MobileMessagingCloudService.handleNewMessage(context, message);
+
+        Mockito.verify(handler, Mockito.times(1)).handleWork(Mockito.any(Context.class), intentWith(message));
+    }
+
+    @Test
+    public void test_shouldHandleDeliveryReport() {
+        MobileMessagingCloudService.enqueueDeliveryReport(context);
+        Mockito.verify(handler, Mockito.times(1)).handleWork(Mockito.any(Context.class), Mockito.argThat((Intent intent) ->
+                MobileMessagingCloudHandler.ACTION_DELIVERY_REPORT.equals(intent.getAction())));
+    }
+
     @Test
     public void test_shouldHandleNewToken() {
         MobileMessagingCloudService.enqueueNewToken(context, "token");
@@ -0,0 +1,78 @@
+/*
+ * BulkInsertBenchmarkTest.java
+ * Mobile Messaging SDK
+ *
+ * Copyright (c) 2016-2025 Infobip Limited
+ * Licensed under the Apache License, Version 2.0
+ */
+package org.infobip.mobile.messaging.dal.sqlite;
+
+import android.util.Log;
+
+import org.infobip.mobile.messaging.Message;
+import org.infobip.mobile.messaging.tools.MobileMessagingTestCase;
+import org.json.JSONObject;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static junit.framework.Assert.assertEquals;
+
+/**
+ * Compares per-row {@link DatabaseHelper#save} with batched {@link DatabaseHelper#saveAll}
+ * for 1k and 10k messages. Timings are reported to logcat under the "BulkInsertBenchmark" tag.
+ */
+public class BulkInsertBenchmarkTest extends MobileMessagingTestCase {
+
+    private static final String TAG = "BulkInsertBenchmark";
+
+    @Test
+    public void test_benchmark_1k() throws Exception {
+        benchmark(1_000);
+    }
+
+    @Test
+    public void test_benchmark_10k() throws Exception {
+        benchmark(10_000);
+    }
+
+    private void benchmark(int count) throws Exception {
+        List<SqliteMessage> messages = createMessages(count);
+
+        databaseHelper.deleteAll(SqliteMessage.class);
+        long start = System.nanoTime();
+        for (SqliteMessage message : messages) {
+            databaseHelper.save(message);
+        }
+        long perRowMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertEquals(count, databaseHelper.countAll(SqliteMessage.class));
+
+        databaseHelper.deleteAll(SqliteMessage.class);
+        start = System.nanoTime();
+        databaseHelper.saveAll(messages);
+        long batchedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertEquals(count, databaseHelper.countAll(SqliteMessage.class));
+
+        Log.i(TAG, String.format("%d messages: save() %d ms, saveAll() %d ms", count, perRowMillis, batchedMillis));
+    }
+
+    private static List<SqliteMessage> createMessages(int count) throws Exception {
+        JSONObject customPayload = new JSONObject();
+        customPayload.put("key", "value");
+
+        List<SqliteMessage> messages = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Message message = new Message();
+            message.setMessageId("message-" + i);
+            message.setTitle("Title " + i);
+            message.setBody("Some message body " + i);
+            message.setCategory("category");
+            message.setReceivedTimestamp(1_600_000_000_000L + i);
+            message.setCustomPayload(customPayload);
+            messages.add(new SqliteMessage(message));
+        }
+        return messages;
+    }
+}
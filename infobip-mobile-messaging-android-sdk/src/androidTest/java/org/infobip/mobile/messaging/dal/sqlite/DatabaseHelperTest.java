@@ -13,12 +13,15 @@ import android.database.sqlite.SQLiteDatabase;
 import org.infobip.mobile.messaging.tools.MobileMessagingTestCase;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
 
 import static junit.framework.Assert.assertEquals;
 import static junit.framework.Assert.assertFalse;
 import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.fail;
 import static org.junit.Assert.assertNotEquals;
 
 /**
@@ -167,4 +170,51 @@ public class DatabaseHelperTest extends MobileMessagingTestCase {
 
         assertEquals(100, databaseHelper.countAll(SomethingInDatabase.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void test_shouldSaveAllObjectsInOneBatch() {
+        List<SomethingInDatabase> somethings = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            somethings.add(new SomethingInDatabase("Something" + i, i, i + 0.5));
+        }
+
+        databaseHelper.saveAll(somethings);
+
+        assertEquals(100, databaseHelper.countAll(SomethingInDatabase.class));
+        SomethingInDatabase found = databaseHelper.find(SomethingInDatabase.class, "Something42");
+        assertEquals(42, found.longValue);
+        assertEquals(42.5, found.doubleValue, 0.001);
+    }
+
+    @Test
+    public void test_shouldReplaceExistingObjectsOnSaveAll() {
+        databaseHelper.save(new SomethingInDatabase("Something1", 1, 2));
+
+        databaseHelper.saveAll(Arrays.asList(
+                new SomethingInDatabase("Something1", 3, 4),
+                new SomethingInDatabase("Something2", 5, 6)));
+
+        assertEquals(2, databaseHelper.countAll(SomethingInDatabase.class));
+        SomethingInDatabase found = databaseHelper.find(SomethingInDatabase.class, "Something1");
+        assertEquals(3, found.longValue);
+        assertEquals(4, found.doubleValue, 0.001);
+    }
+
+    @Test
+    public void test_shouldRollbackInsertAllOnPrimaryKeyViolation() {
+        databaseHelper.save(new SomethingInDatabase("Something2", 1, 2));
+
+        try {
+            databaseHelper.insertAll(Arrays.asList(
+                    new SomethingInDatabase("Something1", 3, 4),
+                    new SomethingInDatabase("Something2", 5, 6),
+                    new SomethingInDatabase("Something3", 7, 8)));
+            fail("Expected primary key violation");
+        } catch (PrimaryKeyViolationException ignored) {
+        }
+
+        assertEquals(1, databaseHelper.countAll(SomethingInDatabase.class));
+        assertNull(databaseHelper.find(SomethingInDatabase.class, "Something1"));
+        assertNull(databaseHelper.find(SomethingInDatabase.class, "Something3"));
+    }
+}
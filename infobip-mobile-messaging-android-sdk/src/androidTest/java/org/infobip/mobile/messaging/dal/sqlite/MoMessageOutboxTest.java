@@ -0,0 +1,123 @@
+/*
+ * MoMessageOutboxTest.java
+ * Mobile Messaging SDK
+ *
+ * Copyright (c) 2016-2025 Infobip Limited
+ * Licensed under the Apache License, Version 2.0
+ */
+package org.infobip.mobile.messaging.dal.sqlite;
+
+import org.infobip.mobile.messaging.Message;
+import org.infobip.mobile.messaging.MobileMessagingProperty;
+import org.infobip.mobile.messaging.tools.MobileMessagingTestCase;
+import org.infobip.mobile.messaging.util.PreferenceHelper;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+public class MoMessageOutboxTest extends MobileMessagingTestCase {
+
+    private MoMessageOutbox outbox;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+
+        outbox = new MoMessageOutbox(databaseProvider);
+        outbox.clear();
+    }
+
+    @Test
+    public void test_shouldClaimDueMessagesInBatchesOldestFirst() {
+        for (int i = 0; i < 25; i++) {
+            outbox.enqueue(message("id" + i, i + 1));
+        }
+
+        List<MoMessageOutbox.Entry> first = outbox.claim(10);
+        List<MoMessageOutbox.Entry> second = outbox.claim(10);
+        List<MoMessageOutbox.Entry> third = outbox.claim(10);
+
+        assertEquals(10, first.size());
+        assertEquals("id0", first.get(0).getMessageId());
+        assertEquals("id10", second.get(0).getMessageId());
+        assertEquals(5, third.size());
+        assertEquals("id24", third.get(4).getMessageId());
+        assertTrue(outbox.claim(10).isEmpty());
+        assertEquals(25, outbox.count());
+    }
+
+    @Test
+    public void test_shouldRemoveOnlyAcknowledgedMessages() {
+        outbox.enqueue(message("id1", 1), message("id2", 2), message("id3", 3));
+        outbox.claim(10);
+
+        outbox.ack(Arrays.asList("id1", "id3"));
+
+        List<MoMessageOutbox.Entry> entries = outbox.findAll();
+        assertEquals(1, entries.size());
+        assertEquals("id2", entries.get(0).getMessageId());
+    }
+
+    @Test
+    public void test_shouldRetryReleasedMessagesWithBackoff() {
+        outbox.enqueue(message("id1", 1));
+        List<MoMessageOutbox.Entry> entries = outbox.claim(10);
+
+        outbox.release(entries);
+
+        assertTrue(outbox.claim(10).isEmpty());
+        time.forward(MoMessageOutbox.retryDelayMillis(1), TimeUnit.MILLISECONDS);
+        List<MoMessageOutbox.Entry> retried = outbox.claim(10);
+        assertEquals(1, retried.size());
+        assertEquals(1, retried.get(0).getAttempts());
+        assertEquals(2 * MoMessageOutbox.retryDelayMillis(1), MoMessageOutbox.retryDelayMillis(2));
+        assertEquals(MoMessageOutbox.MAX_RETRY_DELAY_MILLIS, MoMessageOutbox.retryDelayMillis(100));
+    }
+
+    @Test
+    public void test_shouldReclaimMessagesWhenSendingDidNotFinish() {
+        outbox.enqueue(message("id1", 1));
+        outbox.claim(10);
+
+        time.forward(MoMessageOutbox.SEND_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+
+        assertEquals(1, outbox.claim(10).size());
+    }
+
+    @Test
+    public void test_shouldRemoveOutdatedMessages() {
+        outbox.enqueue(message("old", 1000), message("new", 3000));
+
+        outbox.removeCreatedBefore(2000);
+
+        assertEquals(1, outbox.count());
+        assertEquals("new", outbox.findAll().get(0).getMessageId());
+    }
+
+    @Test
+    public void test_shouldMigrateUnsentMessagesFromSharedPreferences() {
+        PreferenceHelper.saveStringArray(context, MobileMessagingProperty.UNSENT_MO_MESSAGES,
+                "{\"messageId\":\"id1\",\"body\":\"text1\",\"receivedTimestamp\":1}",
+                "{\"messageId\":\"id2\",\"body\":\"text2\",\"receivedTimestamp\":2}");
+
+        SharedPreferencesMigrator.migrateUnsentMoMessages(context, databaseProvider.getDatabase());
+
+        List<MoMessageOutbox.Entry> entries = outbox.findAll();
+        assertEquals(2, entries.size());
+        assertEquals("text1", entries.get(0).getMessage().getBody());
+        assertEquals(0, PreferenceHelper.findStringArray(context, MobileMessagingProperty.UNSENT_MO_MESSAGES).length);
+    }
+
+    private Message message(String messageId, long createdTimestamp) {
+        Message message = new Message();
+        message.setMessageId(messageId);
+        message.setBody("some text");
+        message.setReceivedTimestamp(createdTimestamp);
+        return message;
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * ReportOutboxTest.java
+ * Mobile Messaging SDK
+ *
+ * Copyright (c) 2016-2025 Infobip Limited
+ * Licensed under the Apache License, Version 2.0
+ */
+package org.infobip.mobile.messaging.dal.sqlite;
+
+import org.infobip.mobile.messaging.MobileMessagingProperty;
+import org.infobip.mobile.messaging.tools.MobileMessagingTestCase;
+import org.infobip.mobile.messaging.util.PreferenceHelper;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+
+public class ReportOutboxTest extends MobileMessagingTestCase {
+
+    private ReportOutbox outbox;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+
+        outbox = new ReportOutbox(databaseProvider);
+        for (ReportOutbox.Type type : ReportOutbox.Type.values()) {
+            outbox.clear(type);
+        }
+    }
+
+    @Test
+    public void test_shouldDrainInBatchesOldestFirst() {
+        for (int i = 0; i < 25; i++) {
+            outbox.append(ReportOutbox.Type.DELIVERY, "id" + i);
+        }
+
+        List<ReportOutbox.Entry> first = outbox.take(ReportOutbox.Type.DELIVERY, 10);
+        List<ReportOutbox.Entry> second = outbox.take(ReportOutbox.Type.DELIVERY, 10);
+        List<ReportOutbox.Entry> third = outbox.take(ReportOutbox.Type.DELIVERY, 10);
+
+        assertEquals(10, first.size());
+        assertEquals("id0", first.get(0).getPayload());
+        assertEquals("id10", second.get(0).getPayload());
+        assertEquals(5, third.size());
+        assertEquals("id24", third.get(4).getPayload());
+        assertEquals(0, outbox.count(ReportOutbox.Type.DELIVERY));
+    }
+
+    @Test
+    public void test_shouldKeepEntriesUntilAcknowledged() {
+        outbox.append(ReportOutbox.Type.SEEN, 1234L, "id1", null, "id2");
+
+        List<ReportOutbox.Entry> entries = outbox.peek(ReportOutbox.Type.SEEN, 10);
+        assertEquals(2, entries.size());
+        assertEquals(1234L, entries.get(0).getTimestamp());
+        assertEquals(2, outbox.count(ReportOutbox.Type.SEEN));
+
+        outbox.ack(Collections.singletonList(entries.get(0)));
+        assertEquals(1, outbox.count(ReportOutbox.Type.SEEN));
+
+        outbox.ack(ReportOutbox.Type.SEEN, "id2");
+        assertEquals(0, outbox.count(ReportOutbox.Type.SEEN));
+    }
+
+    @Test
+    public void test_shouldSeparateReportTypes() {
+        outbox.append(ReportOutbox.Type.DELIVERY, "id1");
+        outbox.append(ReportOutbox.Type.SEEN, "id1");
+        outbox.append(ReportOutbox.Type.IN_APP_CLICK, "url, banner, ua, 0");
+
+        outbox.ack(ReportOutbox.Type.SEEN, "id1");
+
+        assertEquals(1, outbox.count(ReportOutbox.Type.DELIVERY));
+        assertEquals(0, outbox.count(ReportOutbox.Type.SEEN));
+        assertEquals(1, outbox.count(ReportOutbox.Type.IN_APP_CLICK));
+    }
+
+    @Test
+    public void test_shouldDropOldestEntriesOverLimit() {
+        String[] payloads = new String[ReportOutbox.MAX_ENTRIES_PER_TYPE + 10];
+        for (int i = 0; i < payloads.length; i++) {
+            payloads[i] = "id" + i;
+        }
+
+        outbox.append(ReportOutbox.Type.DELIVERY, payloads);
+
+        assertEquals(ReportOutbox.MAX_ENTRIES_PER_TYPE, outbox.count(ReportOutbox.Type.DELIVERY));
+        assertEquals("id10", outbox.peek(ReportOutbox.Type.DELIVERY, 1).get(0).getPayload());
+    }
+
+    @Test
+    public void test_shouldReplacePayloads() {
+        outbox.append(ReportOutbox.Type.SEEN, "generatedId");
+
+        outbox.replacePayloads(ReportOutbox.Type.SEEN, Collections.singletonMap("generatedId", "realId"));
+
+        assertEquals("realId", outbox.peek(ReportOutbox.Type.SEEN, 1).get(0).getPayload());
+    }
+
+    @Test
+    public void test_shouldMigrateReportsFromPreferences() {
+        PreferenceHelper.saveStringArray(context, MobileMessagingProperty.INFOBIP_UNREPORTED_MESSAGE_IDS, "dlr1", "dlr2");
+        PreferenceHelper.saveStringArray(context, MobileMessagingProperty.INFOBIP_UNREPORTED_SEEN_MESSAGE_IDS, "seen1, 5678");
+        PreferenceHelper.saveStringArray(context, MobileMessagingProperty.INFOBIP_UNREPORTED_IN_APP_CLICK_URLS, "url, banner, ua, 0");
+
+        SharedPreferencesMigrator.migrateUnreportedReports(context, databaseProvider.getDatabase());
+
+        assertEquals(2, outbox.count(ReportOutbox.Type.DELIVERY));
+        ReportOutbox.Entry seen = outbox.peek(ReportOutbox.Type.SEEN, 1).get(0);
+        assertEquals("seen1", seen.getPayload());
+        assertEquals(5678L, seen.getTimestamp());
+        assertEquals("url, banner, ua, 0", outbox.peek(ReportOutbox.Type.IN_APP_CLICK, 1).get(0).getPayload());
+        assertEquals(0, PreferenceHelper.findStringArray(context, MobileMessagingProperty.INFOBIP_UNREPORTED_SEEN_MESSAGE_IDS).length);
+    }
+}
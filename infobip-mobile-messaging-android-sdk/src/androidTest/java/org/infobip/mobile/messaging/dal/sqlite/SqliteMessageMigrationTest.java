@@ -18,9 +18,11 @@ import org.infobip.mobile.messaging.tools.MobileMessagingTestCase;
 import org.junit.Test;
 import org.skyscreamer.jsonassert.JSONAssert;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
 import static org.junit.Assert.assertNotEquals;
 
 /**
@@ -159,4 +161,38 @@ public class SqliteMessageMigrationTest extends MobileMessagingTestCase {
         assertEquals("SomeMessageStatusMessage", messages.get(0).getStatusMessage());
         assertEquals("SomeMessageContentUrl", messages.get(0).getContentUrl());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void test_shouldAddMessageIndexesDuringMigration() throws Exception {
+        // Create SQLiteOpenHelper directly to perform raw operations on database
+        context.deleteDatabase(PushDatabaseHelperImpl.DATABASE_NAME);
+        SQLiteOpenHelper sqLiteOpenHelper = new SQLiteOpenHelper(context, PushDatabaseHelperImpl.DATABASE_NAME, null, PushDatabaseHelperImpl.VER_2019_JAN_21) {
+            @Override
+            public void onCreate(SQLiteDatabase db) {
+                db.execSQL(SQL_CREATE_MAY_MESSAGES_TABLE);
+                db.execSQL("ALTER TABLE " + DatabaseContract.Tables.MESSAGES + " ADD COLUMN " + DatabaseContract.MessageColumns.IN_APP_STYLE + " TEXT;");
+            }
+
+            @Override
+            public void onUpgrade(SQLiteDatabase db, int oldVersion, int newVersion) {
+
+            }
+        };
+
+        SQLiteDatabase db = sqLiteOpenHelper.getWritableDatabase();
+        db.close();
+        sqLiteOpenHelper.close();
+
+        // Check that indexes exist
+        SQLiteDatabase database = databaseProvider.getDatabase();
+        Cursor cursor = database.rawQuery("SELECT name FROM sqlite_master WHERE type = 'index' AND tbl_name = 'messages'", null);
+        List<String> indexes = new ArrayList<>();
+        while (cursor.moveToNext()) {
+            indexes.add(cursor.getString(0));
+        }
+        cursor.close();
+        assertTrue(indexes.contains("idx_messages_received_timestamp"));
+        assertTrue(indexes.contains("idx_messages_seen_timestamp"));
+        assertTrue(indexes.contains("idx_messages_category"));
+    }
+}
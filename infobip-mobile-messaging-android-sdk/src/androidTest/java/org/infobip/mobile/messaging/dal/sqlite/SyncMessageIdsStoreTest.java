@@ -0,0 +1,95 @@
+/*
+ * SyncMessageIdsStoreTest.java
+ * Mobile Messaging SDK
+ *
+ * Copyright (c) 2016-2025 Infobip Limited
+ * Licensed under the Apache License, Version 2.0
+ */
+package org.infobip.mobile.messaging.dal.sqlite;
+
+import org.infobip.mobile.messaging.MobileMessagingProperty;
+import org.infobip.mobile.messaging.platform.Time;
+import org.infobip.mobile.messaging.tools.MobileMessagingTestCase;
+import org.infobip.mobile.messaging.util.PreferenceHelper;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+
+public class SyncMessageIdsStoreTest extends MobileMessagingTestCase {
+
+    private SyncMessageIdsStore store;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+
+        store = new SyncMessageIdsStore(databaseProvider);
+        store.clear();
+    }
+
+    @Test
+    public void test_shouldFindAddedIds() {
+        store.add("id1", null, "id2");
+
+        assertTrue(store.contains("id1"));
+        assertTrue(store.contains("id2"));
+        assertFalse(store.contains("id3"));
+        assertFalse(store.contains(null));
+    }
+
+    @Test
+    public void test_shouldFindIdsStoredByAnotherInstance() {
+        store.add("id1");
+
+        SyncMessageIdsStore anotherStore = new SyncMessageIdsStore(databaseProvider);
+
+        assertTrue(anotherStore.contains("id1"));
+    }
+
+    @Test
+    public void test_shouldNotFindExpiredIds() {
+        store.add("id1");
+
+        time.forward(8, TimeUnit.DAYS);
+
+        assertFalse(store.contains("id1"));
+        assertFalse(new SyncMessageIdsStore(databaseProvider).contains("id1"));
+        assertEquals(0, store.findRecent(100).length);
+    }
+
+    @Test
+    public void test_shouldReturnRecentIdsWithoutDuplicates() {
+        store.add("id1", "id2");
+        time.forward(1, TimeUnit.MINUTES);
+        store.add("id3", "id1");
+
+        List<String> ids = Arrays.asList(store.findRecent(100));
+
+        assertEquals(3, ids.size());
+        assertTrue(ids.containsAll(Arrays.asList("id1", "id2", "id3")));
+        assertEquals("id2", ids.get(2));
+        assertEquals(1, store.findRecent(1).length);
+    }
+
+    @Test
+    public void test_shouldMigrateIdsFromPreferences() {
+        long now = Time.now();
+        PreferenceHelper.saveStringArray(context, MobileMessagingProperty.INFOBIP_SYNC_MESSAGES_IDS,
+                "fresh, " + now,
+                "expired, " + (now - TimeUnit.DAYS.toMillis(8)),
+                "malformed");
+
+        SharedPreferencesMigrator.migrateSyncMessageIds(context, databaseProvider.getDatabase());
+
+        assertTrue(store.contains("fresh"));
+        assertFalse(store.contains("expired"));
+        assertFalse(store.contains("malformed"));
+        assertEquals(0, PreferenceHelper.findStringArray(context, MobileMessagingProperty.INFOBIP_SYNC_MESSAGES_IDS).length);
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * ImageLoaderTest.java
+ * Mobile Messaging SDK
+ *
+ * Copyright (c) 2016-2025 Infobip Limited
+ * Licensed under the Apache License, Version 2.0
+ */
+package org.infobip.mobile.messaging.image;
+
+import android.graphics.Bitmap;
+
+import org.infobip.mobile.messaging.tools.MobileMessagingTestCase;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNotNull;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertSame;
+import static junit.framework.Assert.assertTrue;
+
+public class ImageLoaderTest extends MobileMessagingTestCase {
+
+    private static class FakeDownloader implements ImageDownloader {
+        final AtomicInteger downloads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(0);
+        IOException failure;
+
+        @Override
+        public void download(String url, File target, long maxBytes) throws IOException {
+            downloads.incrementAndGet();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            Bitmap bitmap = Bitmap.createBitmap(2000, 1000, Bitmap.Config.ARGB_8888);
+            OutputStream output = new FileOutputStream(target);
+            bitmap.compress(Bitmap.CompressFormat.PNG, 100, output);
+            output.close();
+        }
+    }
+
+    private File directory;
+    private DiskImageCache diskCache;
+    private FakeDownloader downloader;
+    private ImageLoader imageLoader;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+
+        directory = new File(context.getCacheDir(), "mm_images_test");
+        deleteDirectory();
+        diskCache = new DiskImageCache(directory, 1024 * 1024);
+        downloader = new FakeDownloader();
+        imageLoader = new ImageLoader(diskCache, downloader, 16 * 1024);
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        deleteDirectory();
+        super.tearDown();
+    }
+
+    @Test
+    public void test_shouldDecodeDownsampledToRequestedSize() {
+        Bitmap bitmap = imageLoader.load("https://www.infobip.com/image.png", 450, 225);
+
+        assertNotNull(bitmap);
+        assertEquals(500, bitmap.getWidth());
+        assertEquals(250, bitmap.getHeight());
+    }
+
+    @Test
+    public void test_shouldDownloadOnceAndReuseCaches() {
+        Bitmap first = imageLoader.load("https://www.infobip.com/image.png", 500, 250);
+        Bitmap second = imageLoader.load("https://www.infobip.com/image.png", 500, 250);
+        Bitmap smaller = new ImageLoader(diskCache, downloader, 16 * 1024).load("https://www.infobip.com/image.png", 250, 125);
+
+        assertSame(first, second);
+        assertEquals(250, smaller.getWidth());
+        assertEquals(1, downloader.downloads.get());
+    }
+
+    @Test
+    public void test_shouldCoalesceConcurrentLoadsOfSameUrl() throws Exception {
+        downloader.release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(5);
+        List<Future<Bitmap>> results = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            results.add(executor.submit(() -> imageLoader.load("https://www.infobip.com/image.png", 500, 250)));
+        }
+
+        Thread.sleep(300);
+        downloader.release.countDown();
+
+        for (Future<Bitmap> result : results) {
+            assertNotNull(result.get(5, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+        assertEquals(1, downloader.downloads.get());
+    }
+
+    @Test
+    public void test_shouldNotRetryPermanentFailures() {
+        downloader.failure = new ImageDownloader.PermanentFailureException("HTTP 404");
+
+        assertNull(imageLoader.load("https://www.infobip.com/missing.png", 500, 250));
+        assertEquals(1, downloader.downloads.get());
+        assertNull(diskCache.get("https://www.infobip.com/missing.png"));
+    }
+
+    @Test
+    public void test_shouldRetryTemporaryFailures() {
+        downloader.failure = new IOException("timeout");
+
+        assertNull(imageLoader.load("https://www.infobip.com/image.png", 500, 250));
+        assertEquals(3, downloader.downloads.get());
+    }
+
+    @Test
+    public void test_shouldStopWaitingAfterTimeoutAndKeepDownloading() throws Exception {
+        downloader.release = new CountDownLatch(1);
+
+        assertNull(imageLoader.load("https://www.infobip.com/image.png", 500, 250, 100));
+
+        downloader.release.countDown();
+        for (int i = 0; i < 50 && diskCache.get("https://www.infobip.com/image.png") == null; i++) {
+            Thread.sleep(100);
+        }
+        assertNotNull(imageLoader.load("https://www.infobip.com/image.png", 500, 250, 100));
+        assertEquals(1, downloader.downloads.get());
+    }
+
+    @Test
+    public void test_shouldEvictLeastRecentlyUsedImagesOverLimit() throws Exception {
+        DiskImageCache cache = new DiskImageCache(directory, 250);
+        commit(cache, "url1");
+        time.forward(1, TimeUnit.MINUTES);
+        commit(cache, "url2");
+        time.forward(1, TimeUnit.MINUTES);
+        assertNotNull(cache.get("url1"));
+        time.forward(1, TimeUnit.MINUTES);
+
+        commit(cache, "url3");
+
+        assertNotNull(cache.get("url1"));
+        assertNull(cache.get("url2"));
+        assertNotNull(cache.get("url3"));
+        assertTrue(cache.size() <= 250);
+    }
+
+    @Test
+    public void test_shouldCalculateSampleSize() {
+        assertEquals(1, ImageLoader.calculateInSampleSize(1000, 500, 1000, 500));
+        assertEquals(2, ImageLoader.calculateInSampleSize(2000, 1000, 900, 400));
+        assertEquals(4, ImageLoader.calculateInSampleSize(4000, 2000, 1000, 500));
+        assertEquals(1, ImageLoader.calculateInSampleSize(4000, 300, 1000, 500));
+        assertEquals(1, ImageLoader.calculateInSampleSize(4000, 2000, 0, 0));
+    }
+
+    private static void commit(DiskImageCache cache, String url) throws IOException {
+        File temp = cache.createTempFile();
+        OutputStream output = new FileOutputStream(temp);
+        output.write(new byte[100]);
+        output.close();
+        cache.commit(url, temp);
+    }
+
+    private void deleteDirectory() {
+        File[] files = directory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                //noinspection ResultOfMethodCallIgnored
+                file.delete();
+            }
+        }
+        //noinspection ResultOfMethodCallIgnored
+        directory.delete();
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * ImagePrefetcherTest.java
+ * Mobile Messaging SDK
+ *
+ * Copyright (c) 2016-2025 Infobip Limited
+ * Licensed under the Apache License, Version 2.0
+ */
+package org.infobip.mobile.messaging.image;
+
+import org.infobip.mobile.messaging.Message;
+import org.infobip.mobile.messaging.MobileMessagingProperty;
+import org.infobip.mobile.messaging.tools.MobileMessagingTestCase;
+import org.infobip.mobile.messaging.util.PreferenceHelper;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertNotNull;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertTrue;
+
+public class ImagePrefetcherTest extends MobileMessagingTestCase {
+
+    private final List<String> downloadedUrls = new ArrayList<>();
+    private final List<Long> maxBytes = new ArrayList<>();
+    private File directory;
+    private DiskImageCache diskCache;
+    private ImagePrefetcher imagePrefetcher;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+
+        directory = new File(context.getCacheDir(), "mm_images_prefetch_test");
+        diskCache = new DiskImageCache(directory, 1024 * 1024);
+        ImageLoader imageLoader = new ImageLoader(diskCache, (url, target, limit) -> {
+            downloadedUrls.add(url);
+            maxBytes.add(limit);
+            OutputStream output = new FileOutputStream(target);
+            output.write(new byte[100]);
+            output.close();
+        }, 1024);
+        imagePrefetcher = new ImagePrefetcher(context, imageLoader);
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        File[] files = directory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                //noinspection ResultOfMethodCallIgnored
+                file.delete();
+            }
+        }
+        super.tearDown();
+    }
+
+    @Test
+    public void test_shouldPrefetchOnlyImagesOfValidInAppMessages() {
+        assertTrue(ImagePrefetcher.shouldPrefetch(inAppMessage("https://www.infobip.com/image.png", 0)));
+        assertTrue(ImagePrefetcher.shouldPrefetch(inAppMessage("https://www.infobip.com/image.png", time.now() + 1000)));
+        assertFalse(ImagePrefetcher.shouldPrefetch(inAppMessage("https://www.infobip.com/image.png", time.now() - 1000)));
+        assertFalse(ImagePrefetcher.shouldPrefetch(inAppMessage(null, 0)));
+
+        Message notInApp = inAppMessage("https://www.infobip.com/image.png", 0);
+        notInApp.setInAppStyle(null);
+        assertFalse(ImagePrefetcher.shouldPrefetch(notInApp));
+    }
+
+    @Test
+    public void test_shouldDownloadPendingImagesWithSizeCap() {
+        long expiry = time.now() + TimeUnit.HOURS.toMillis(1);
+        PreferenceHelper.saveStringArray(context, MobileMessagingProperty.PENDING_RICH_MEDIA_PREFETCH,
+                expiry + ",https://www.infobip.com/image1.png",
+                (time.now() - 1) + ",https://www.infobip.com/expired.png");
+
+        imagePrefetcher.prefetchPending();
+
+        assertEquals(1, downloadedUrls.size());
+        assertEquals("https://www.infobip.com/image1.png", downloadedUrls.get(0));
+        assertEquals(ImagePrefetcher.MAX_PREFETCH_BYTES, maxBytes.get(0).longValue());
+        assertNotNull(diskCache.get("https://www.infobip.com/image1.png"));
+        assertEquals(0, PreferenceHelper.findStringArray(context, MobileMessagingProperty.PENDING_RICH_MEDIA_PREFETCH).length);
+    }
+
+    @Test
+    public void test_shouldEvictImagesOfExpiredInAppMessages() {
+        long expiry = time.now() + TimeUnit.MINUTES.toMillis(1);
+        PreferenceHelper.saveStringArray(context, MobileMessagingProperty.PENDING_RICH_MEDIA_PREFETCH, expiry + ",https://www.infobip.com/image1.png");
+        imagePrefetcher.prefetchPending();
+        assertNotNull(diskCache.get("https://www.infobip.com/image1.png"));
+
+        time.forward(2, TimeUnit.MINUTES);
+        imagePrefetcher.prefetchPending();
+
+        assertNull(diskCache.get("https://www.infobip.com/image1.png"));
+        assertEquals(0, PreferenceHelper.findStringArray(context, MobileMessagingProperty.PREFETCHED_RICH_MEDIA).length);
+    }
+
+    @Test
+    public void test_shouldDownloadPendingImageOnceWhenInstancesRunConcurrently() throws Exception {
+        long expiry = time.now() + TimeUnit.HOURS.toMillis(1);
+        PreferenceHelper.saveStringArray(context, MobileMessagingProperty.PENDING_RICH_MEDIA_PREFETCH, expiry + ",https://www.infobip.com/image1.png");
+        final List<String> concurrentDownloads = Collections.synchronizedList(new ArrayList<String>());
+        ImageDownloader slowDownloader = (url, target, limit) -> {
+            concurrentDownloads.add(url);
+            try {
+                Thread.sleep(200);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            OutputStream output = new FileOutputStream(target);
+            output.write(new byte[100]);
+            output.close();
+        };
+        File otherDirectory = new File(context.getCacheDir(), "mm_images_prefetch_test_other");
+        ImagePrefetcher first = new ImagePrefetcher(context, new ImageLoader(new DiskImageCache(directory, 1024 * 1024), slowDownloader, 1024));
+        ImagePrefetcher second = new ImagePrefetcher(context, new ImageLoader(new DiskImageCache(otherDirectory, 1024 * 1024), slowDownloader, 1024));
+
+        try {
+            Thread firstRun = new Thread(first::prefetchPending);
+            Thread secondRun = new Thread(second::prefetchPending);
+            firstRun.start();
+            secondRun.start();
+            firstRun.join(5000);
+            secondRun.join(5000);
+
+            assertEquals(1, concurrentDownloads.size());
+            assertEquals(0, PreferenceHelper.findStringArray(context, MobileMessagingProperty.PENDING_RICH_MEDIA_PREFETCH).length);
+        } finally {
+            File[] files = otherDirectory.listFiles();
+            if (files != null) {
+                for (File file : files) {
+                    //noinspection ResultOfMethodCallIgnored
+                    file.delete();
+                }
+            }
+        }
+    }
+
+    private static Message inAppMessage(String contentUrl, long inAppExpiryTimestamp) {
+        Message message = new Message();
+        message.setMessageId("messageId");
+        message.setBody("body");
+        message.setContentUrl(contentUrl);
+        message.setInAppStyle(Message.InAppStyle.MODAL);
+        message.setInAppExpiryTimestamp(inAppExpiryTimestamp);
+        return message;
+    }
+}
@@ -7,6 +7,8 @@
  */
 package org.infobip.mobile.messaging.interactive.inapp.view;
 
+import android.content.Context;
+
 import org.infobip.mobile.messaging.Message;
 import org.infobip.mobile.messaging.interactive.NotificationAction;
 import org.infobip.mobile.messaging.interactive.NotificationCategory;
@@ -31,7 +33,7 @@ public class QueuedDialogStackTest {
 
     @Before
     public void before() {
-        queuedDialogStack = new QueuedDialogStack();
+        queuedDialogStack = new QueuedDialogStack(mock(Context.class));
     }
 
     @Test
@@ -0,0 +1,131 @@
+/*
+ * SingleFlightTest.java
+ * Mobile Messaging SDK
+ *
+ * Copyright (c) 2016-2025 Infobip Limited
+ * Licensed under the Apache License, Version 2.0
+ */
+package org.infobip.mobile.messaging.mobileapi;
+
+import static org.infobip.mobile.messaging.mobileapi.SingleFlight.Operation.installationSync;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import org.infobip.mobile.messaging.MobileMessaging;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class SingleFlightTest {
+
+    private SingleFlight singleFlight;
+    private List<MobileMessaging.ResultListener<String>> pendingCompletions;
+    private List<String> startedCalls;
+    private List<Result<String, MobileMessagingError>> results;
+
+    @Before
+    public void setUp() {
+        singleFlight = new SingleFlight();
+        pendingCompletions = new ArrayList<>();
+        startedCalls = new ArrayList<>();
+        results = new ArrayList<>();
+    }
+
+    @Test
+    public void test_shouldJoinCallInFlightWithSamePayload() {
+        assertTrue(singleFlight.execute(installationSync, payload("a"), call("first"), listener()));
+        assertFalse(singleFlight.execute(installationSync, payload("a"), call("second"), listener()));
+
+        assertEquals(1, startedCalls.size());
+        assertTrue(singleFlight.isInFlight(installationSync));
+
+        complete(0, "done");
+
+        assertEquals(2, results.size());
+        assertEquals("done", results.get(0).getData());
+        assertEquals("done", results.get(1).getData());
+        assertFalse(singleFlight.isInFlight(installationSync));
+    }
+
+    @Test
+    public void test_shouldNotJoinCallInFlightWithDifferentPayloadOfSameHash() {
+        assertEquals(DebouncingGuard.computeDataHash(payload("Aa")), DebouncingGuard.computeDataHash(payload("BB")));
+
+        singleFlight.execute(installationSync, payload("Aa"), call("first"), listener());
+        assertFalse(singleFlight.execute(installationSync, payload("BB"), call("second"), listener()));
+
+        complete(0, "first result");
+
+        assertEquals(2, startedCalls.size());
+        assertEquals("second", startedCalls.get(1));
+        assertEquals(1, results.size());
+
+        complete(1, "second result");
+
+        assertEquals("second result", results.get(1).getData());
+    }
+
+    @Test
+    public void test_shouldQueueSingleFollowUpWithLatestPayload() {
+        singleFlight.execute(installationSync, payload("a"), call("first"), listener());
+        singleFlight.execute(installationSync, payload("b"), call("second"), listener());
+        singleFlight.execute(installationSync, payload("c"), call("third"), listener());
+
+        complete(0, "first result");
+
+        assertEquals(2, startedCalls.size());
+        assertEquals("third", startedCalls.get(1));
+        assertEquals(1, results.size());
+        assertTrue(singleFlight.isInFlight(installationSync));
+
+        complete(1, "third result");
+
+        assertEquals(3, results.size());
+        assertEquals("third result", results.get(1).getData());
+        assertEquals("third result", results.get(2).getData());
+        assertFalse(singleFlight.isInFlight(installationSync));
+    }
+
+    @Test
+    public void test_shouldDeliverErrorWhenCallThrows() {
+        singleFlight.execute(installationSync, null, completion -> {
+            throw new IllegalStateException("failed");
+        }, listener());
+
+        assertEquals(1, results.size());
+        assertNotNull(results.get(0).getError());
+        assertFalse(singleFlight.isInFlight(installationSync));
+    }
+
+    private SingleFlight.Call<String> call(final String name) {
+        return completion -> {
+            startedCalls.add(name);
+            pendingCompletions.add(completion);
+        };
+    }
+
+    private MobileMessaging.ResultListener<String> listener() {
+        return new MobileMessaging.ResultListener<String>() {
+            @Override
+            public void onResult(Result<String, MobileMessagingError> result) {
+                results.add(result);
+            }
+        };
+    }
+
+    private void complete(int call, String data) {
+        pendingCompletions.get(call).onResult(new Result<String, MobileMessagingError>(data));
+    }
+
+    private static Map<String, Object> payload(String value) {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("value", value);
+        return payload;
+    }
+}
@@ -15,11 +15,13 @@ import org.infobip.mobile.messaging.api.appinstance.AppInstance;
 import org.infobip.mobile.messaging.api.appinstance.MobileApiAppInstance;
 import org.infobip.mobile.messaging.api.support.ApiErrorCode;
 import org.infobip.mobile.messaging.api.support.ApiIOException;
+import org.infobip.mobile.messaging.api.support.Generator;
 import org.infobip.mobile.messaging.mobileapi.MobileMessagingError;
 import org.infobip.mobile.messaging.mobileapi.Result;
 import org.infobip.mobile.messaging.mobileapi.common.RetryPolicyProvider;
 import org.infobip.mobile.messaging.platform.Broadcaster;
 import org.infobip.mobile.messaging.stats.MobileMessagingStats;
+import org.infobip.mobile.messaging.tools.LocalApiServer;
 import org.infobip.mobile.messaging.tools.MobileMessagingTestCase;
 import org.infobip.mobile.messaging.util.PreferenceHelper;
 import org.json.JSONException;
@@ -28,11 +30,20 @@ import org.junit.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Properties;
+import java.util.TimeZone;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 
 import androidx.annotation.NonNull;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
@@ -43,6 +54,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.after;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -219,6 +231,90 @@ public class InstallationSynchronizerTest extends MobileMessagingTestCase {
         verifyError();
     }
 
+    @Test
+    public void shouldSendLessBytesOverTypicalSessions() throws Exception {
+        final List<String> bodies = new CopyOnWriteArrayList<>();
+        LocalApiServer server = new LocalApiServer((path, body) -> {
+            assertTrue(path.startsWith("/mobile/1/appinstance/" + myDeviceRegId));
+            bodies.add(body);
+            return null;
+        });
+        server.start();
+
+        Locale defaultLocale = Locale.getDefault();
+        TimeZone defaultTimeZone = TimeZone.getDefault();
+        try {
+            Properties properties = new Properties();
+            properties.put("api.key", "TestApplicationCode");
+            MobileApiAppInstance mobileApiAppInstance = new Generator.Builder()
+                    .withBaseUrl(server.getUrl())
+                    .withProperties(properties)
+                    .build()
+                    .create(MobileApiAppInstance.class);
+            InstallationSynchronizer installationSynchronizer = new InstallationSynchronizer(context, mobileMessagingCore,
+                    mobileMessagingCore.getStats(), executor, broadcaster, new RetryPolicyProvider(context), mobileApiAppInstance);
+
+            syncOverTypicalSessions(installationSynchronizer, false);
+            List<String> fullBodies = new ArrayList<>(bodies);
+            bodies.clear();
+            syncOverTypicalSessions(installationSynchronizer, true);
+            List<String> changedBodies = new ArrayList<>(bodies);
+
+            // system data of the device is in the first body, every following one holds only what changed since
+            assertEquals(3, fullBodies.size());
+            assertEquals(3, changedBodies.size());
+            assertEquals(bytes(fullBodies.get(0)), bytes(changedBodies.get(0)));
+            assertEquals("{\"deviceTimezoneOffset\":\"GMT+09:00\"}", changedBodies.get(1));
+            assertEquals("{\"language\":\"de\"}", changedBodies.get(2));
+            assertTrue(bytes(fullBodies.get(1)) > bytes(changedBodies.get(1)));
+            assertTrue(bytes(fullBodies.get(2)) > bytes(changedBodies.get(2)));
+        } finally {
+            Locale.setDefault(defaultLocale);
+            TimeZone.setDefault(defaultTimeZone);
+            server.stop();
+        }
+    }
+
+    /**
+     * Syncs installation on a few app starts, first one after install, then with and without changes of system data
+     *
+     * @param acknowledge false to forget acknowledged fields before every sync, so that every sync sends all collected fields
+     */
+    private void syncOverTypicalSessions(InstallationSynchronizer installationSynchronizer, boolean acknowledge) {
+        mobileMessagingCore.removeReportedSystemData();
+        Locale.setDefault(Locale.ENGLISH);
+        TimeZone.setDefault(TimeZone.getTimeZone("Asia/Kolkata"));
+        syncAndWait(installationSynchronizer, acknowledge, true);
+        syncAndWait(installationSynchronizer, acknowledge, false);
+
+        TimeZone.setDefault(TimeZone.getTimeZone("Asia/Tokyo"));
+        syncAndWait(installationSynchronizer, acknowledge, true);
+        syncAndWait(installationSynchronizer, acknowledge, false);
+
+        Locale.setDefault(Locale.GERMAN);
+        syncAndWait(installationSynchronizer, acknowledge, true);
+    }
+
+    private void syncAndWait(InstallationSynchronizer installationSynchronizer, boolean acknowledge, boolean systemDataChanged) {
+        time.forward(1, TimeUnit.MINUTES);
+        if (!acknowledge) {
+            PreferenceHelper.remove(context, MobileMessagingProperty.ACKNOWLEDGED_INSTALLATION_FIELDS);
+        }
+        if (!systemDataChanged) {
+            // nothing to report, sync completes without a request and without calling back
+            installationSynchronizer.sync(null);
+            return;
+        }
+
+        MobileMessaging.ResultListener<Installation> listener = mock(MobileMessaging.ResultListener.class);
+        installationSynchronizer.sync(listener);
+        verify(listener, timeout(2000)).onResult(any(Result.class));
+    }
+
+    private static int bytes(String body) {
+        return body.getBytes(StandardCharsets.UTF_8).length;
+    }
+
     private void verifySuccess() {
         verifySuccess(1);
     }
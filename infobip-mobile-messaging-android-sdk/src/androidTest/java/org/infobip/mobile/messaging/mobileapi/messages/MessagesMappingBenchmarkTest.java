@@ -0,0 +1,113 @@
+/*
+ * MessagesMappingBenchmarkTest.java
+ * Mobile Messaging SDK
+ *
+ * Copyright (c) 2016-2025 Infobip Limited
+ * Licensed under the Apache License, Version 2.0
+ */
+package org.infobip.mobile.messaging.mobileapi.messages;
+
+import android.util.Log;
+
+import org.infobip.mobile.messaging.Message;
+import org.infobip.mobile.messaging.api.messages.MessageResponse;
+import org.infobip.mobile.messaging.dal.json.InternalDataMapper;
+import org.infobip.mobile.messaging.platform.Time;
+import org.infobip.mobile.messaging.tools.MobileMessagingTestCase;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static junit.framework.Assert.assertEquals;
+
+/**
+ * Compares {@link MessagesMapper}, which parses internal data once per message, with mapping through
+ * the per-field {@link InternalDataMapper} string accessors, where every accessor parses the json again.
+ * Timings are reported to logcat under the "MessagesMappingBenchmark" tag.
+ */
+public class MessagesMappingBenchmarkTest extends MobileMessagingTestCase {
+
+    private static final String TAG = "MessagesMappingBenchmark";
+    private static final int ROUNDS = 5;
+
+    @Test
+    public void test_benchmark_1k() {
+        benchmark(1_000);
+    }
+
+    private void benchmark(int count) {
+        List<MessageResponse> responses = createResponses(count);
+
+        long perFieldNanos = Long.MAX_VALUE;
+        long parsedOnceNanos = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            List<Message> perField = mapWithFieldAccessors(responses);
+            perFieldNanos = Math.min(perFieldNanos, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            List<Message> parsedOnce = MessagesMapper.mapResponseToMessages(responses);
+            parsedOnceNanos = Math.min(parsedOnceNanos, System.nanoTime() - start);
+
+            assertEquals(count, parsedOnce.size());
+            assertEquals(perField.get(count - 1).getContentUrl(), parsedOnce.get(count - 1).getContentUrl());
+            assertEquals(perField.get(count - 1).getDeeplink(), parsedOnce.get(count - 1).getDeeplink());
+        }
+
+        Log.i(TAG, String.format("%d messages: field accessors %d us/message, MessagesMapper %d us/message", count,
+                TimeUnit.NANOSECONDS.toMicros(perFieldNanos) / count, TimeUnit.NANOSECONDS.toMicros(parsedOnceNanos) / count));
+    }
+
+    private static List<Message> mapWithFieldAccessors(List<MessageResponse> responses) {
+        List<Message> messages = new ArrayList<>(responses.size());
+        for (MessageResponse response : responses) {
+            String internalData = response.getInternalData();
+            Message message = new Message(
+                    response.getMessageId(),
+                    response.getTitle(),
+                    response.getBody(),
+                    response.getSound(),
+                    !"false".equals(response.getVibrate()),
+                    null,
+                    "true".equals(response.getSilent()),
+                    response.getCategory(),
+                    null,
+                    Time.now(),
+                    0,
+                    InternalDataMapper.getInternalDataSendDateTime(internalData),
+                    null,
+                    internalData,
+                    null,
+                    Message.Status.UNKNOWN,
+                    null,
+                    InternalDataMapper.getInternalDataContentUrl(internalData),
+                    InternalDataMapper.getInternalDataInAppStyle(internalData),
+                    InternalDataMapper.getInternalDataInAppExpiryDateTime(internalData),
+                    InternalDataMapper.getInternalDataWebViewUrl(internalData),
+                    InternalDataMapper.getInternalDataBrowserUrl(internalData),
+                    InternalDataMapper.getInternalDataMessageType(internalData),
+                    InternalDataMapper.getInternalDataDeeplinkUri(internalData),
+                    InternalDataMapper.getInternalDataInAppOpenTitle(internalData),
+                    InternalDataMapper.getInternalDataInAppDismissTitle(internalData)
+            );
+            InternalDataMapper.updateMessageWithInternalData(message, internalData);
+            messages.add(message);
+        }
+        return messages;
+    }
+
+    private static List<MessageResponse> createResponses(int count) {
+        List<MessageResponse> responses = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            responses.add(new MessageResponse("messageId" + i, "Title " + i, "Body of the message number " + i, "default", "true", "false", "category",
+                    null,
+                    "{\"sendDateTime\":1500000000000,\"bulkId\":\"bulk\",\"inAppStyle\":\"BANNER\",\"inAppExpiryDateTime\":1500000600000," +
+                            "\"webViewUrl\":\"https://www.infobip.com/" + i + "\",\"deeplink\":\"app://deeplink/" + i + "\"," +
+                            "\"atts\":[{\"url\":\"https://www.infobip.com/image.png\"}]," +
+                            "\"inbox\":{\"topic\":\"topic" + (i % 5) + "\",\"seen\":" + (i % 2 == 0) + "}}"));
+        }
+        return responses;
+    }
+}
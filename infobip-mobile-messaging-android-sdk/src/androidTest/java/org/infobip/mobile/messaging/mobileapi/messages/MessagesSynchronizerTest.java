@@ -35,6 +35,7 @@ import static org.mockito.ArgumentCaptor.forClass;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -47,7 +48,7 @@ public class MessagesSynchronizerTest extends MobileMessagingTestCase {
 
     private static final int MESSAGE_ID_PARAMETER_LIMIT = 100;
 
-    private ArgumentCaptor<Message> messageArgumentCaptor;
+    private ArgumentCaptor<List<Message>> messagesArgumentCaptor;
     private ArgumentCaptor<SyncMessagesBody> syncBodyCaptor;
     private MessagesSynchronizer messagesSynchronizer;
     private MRetryPolicy retryPolicy;
@@ -58,14 +59,14 @@ public class MessagesSynchronizerTest extends MobileMessagingTestCase {
         super.setUp();
 
         mobileMessageHandler = mock(MobileMessageHandler.class);
-        messageArgumentCaptor = forClass(Message.class);
+        messagesArgumentCaptor = ArgumentCaptor.forClass((Class) List.class);
         syncBodyCaptor = forClass(SyncMessagesBody.class);
 
         retryPolicy = new RetryPolicyProvider(context).DEFAULT();
 
         MobileMessagingTestable spy = Mockito.spy(mobileMessagingCore);
         when(spy.getSyncMessagesIds()).thenReturn(new String[]{"id1"});
-        when(spy.getAndRemoveUnreportedMessageIds()).thenReturn(new String[]{"id2"});
+        when(spy.getUnreportedMessageIds()).thenReturn(new String[]{"id2"});
 
         Executor executor = Executors.newSingleThreadExecutor();
         messagesSynchronizer = new MessagesSynchronizer(spy, mobileMessagingCore.getStats(), executor, broadcaster, retryPolicy, mobileMessageHandler, mobileApiMessages);
@@ -173,8 +174,9 @@ public class MessagesSynchronizerTest extends MobileMessagingTestCase {
         messagesSynchronizer.sync();
 
         // Then
-        verify(mobileMessageHandler, after(1000).times(3)).handleMessage(messageArgumentCaptor.capture());
-        List<Message> actualMessages = messageArgumentCaptor.getAllValues();
+        verify(mobileMessageHandler, after(1000).times(1)).handleMessages(messagesArgumentCaptor.capture());
+        List<Message> actualMessages = messagesArgumentCaptor.getValue();
+        assertEquals(3, actualMessages.size());
         assertEquals("someMessageId1", actualMessages.get(0).getMessageId());
         assertEquals("someBody1", actualMessages.get(0).getBody());
         assertTrue(actualMessages.get(0).isVibrate());
@@ -186,6 +188,46 @@ public class MessagesSynchronizerTest extends MobileMessagingTestCase {
         assertFalse(actualMessages.get(2).isVibrate());
     }
 
+    @Test
+    public void should_report_delivery_even_if_handling_synced_messages_fails() {
+        // Given
+        mobileMessagingCore.getAndRemoveUnreportedMessageIds();
+        given(mobileApiMessages.sync(any(SyncMessagesBody.class))).willReturn(new SyncMessagesResponse());
+        doThrow(new RuntimeException("Failed")).when(mobileMessageHandler).handleMessages(any());
+
+        // When
+        messagesSynchronizer.sync();
+
+        // Then
+        verify(broadcaster, after(1000).atLeastOnce()).deliveryReported(any(String[].class));
+        verify(broadcaster, Mockito.never()).error(any());
+    }
+
+    @Test
+    public void should_keep_delivery_reports_in_outbox_until_sync_succeeds() {
+        // Given
+        mobileMessagingCore.getAndRemoveUnreportedMessageIds();
+        mobileMessagingCore.addUnreportedMessageIds("messageId");
+        given(mobileApiMessages.sync(any(SyncMessagesBody.class))).willThrow(new RuntimeException("Failed"));
+        MessagesSynchronizer synchronizer = new MessagesSynchronizer(mobileMessagingCore, mobileMessagingCore.getStats(), Executors.newSingleThreadExecutor(),
+                broadcaster, new RetryPolicyProvider(context).NO_RETRY(), mobileMessageHandler, mobileApiMessages);
+
+        // When
+        synchronizer.sync();
+
+        // Then
+        verify(broadcaster, after(1000).times(1)).error(any());
+        assertEquals(asList("messageId"), asList(mobileMessagingCore.getUnreportedMessageIds()));
+
+        // When
+        given(mobileApiMessages.sync(any(SyncMessagesBody.class))).willReturn(new SyncMessagesResponse());
+        synchronizer.sync();
+
+        // Then
+        verify(broadcaster, after(1000).times(1)).deliveryReported(any(String[].class));
+        assertFalse(mobileMessagingCore.hasUnreportedMessageIds());
+    }
+
     private static List<String> getReportedDLRs(List<SyncMessagesBody> bodies) {
         List<String> ids = new ArrayList<>();
         for (SyncMessagesBody body : bodies) {
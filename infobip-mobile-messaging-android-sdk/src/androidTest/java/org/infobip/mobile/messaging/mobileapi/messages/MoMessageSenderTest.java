@@ -9,27 +9,34 @@ package org.infobip.mobile.messaging.mobileapi.messages;
 
 import org.infobip.mobile.messaging.Message;
 import org.infobip.mobile.messaging.MobileMessagingCore;
-import org.infobip.mobile.messaging.MobileMessagingProperty;
-import org.infobip.mobile.messaging.api.messages.MoMessage;
 import org.infobip.mobile.messaging.api.messages.MoMessageDelivery;
 import org.infobip.mobile.messaging.api.messages.MoMessagesBody;
 import org.infobip.mobile.messaging.api.messages.MoMessagesResponse;
 import org.infobip.mobile.messaging.api.messages.MobileApiMessages;
-import org.infobip.mobile.messaging.api.support.http.serialization.JsonSerializer;
+import org.infobip.mobile.messaging.api.support.Generator;
+import org.infobip.mobile.messaging.dal.sqlite.MoMessageOutbox;
+import org.infobip.mobile.messaging.logging.MobileMessagingLogger;
 import org.infobip.mobile.messaging.mobileapi.common.MRetryPolicy;
 import org.infobip.mobile.messaging.platform.Time;
 import org.infobip.mobile.messaging.storage.MessageStoreWrapper;
 import org.infobip.mobile.messaging.storage.SQLiteMessageStore;
+import org.infobip.mobile.messaging.tools.LocalApiServer;
 import org.infobip.mobile.messaging.tools.MobileMessagingTestCase;
-import org.infobip.mobile.messaging.util.PreferenceHelper;
+import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
 import org.junit.Test;
 import org.mockito.ArgumentCaptor;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
@@ -37,6 +44,7 @@ import androidx.annotation.NonNull;
 
 import static java.util.Arrays.asList;
 import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
 import static org.mockito.ArgumentCaptor.forClass;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
@@ -57,7 +65,7 @@ public class MoMessageSenderTest extends MobileMessagingTestCase {
     private ArgumentCaptor<MoMessagesBody> bodyCaptor;
     private MobileApiMessages apiMock;
     private MessageStoreWrapper messageStoreWrapperMock;
-    private final JsonSerializer jsonSerializer = new JsonSerializer();
+    private MoMessageOutbox outbox;
 
     @Override
     public void setUp() throws Exception {
@@ -69,6 +77,8 @@ public class MoMessageSenderTest extends MobileMessagingTestCase {
         messageCaptor = forClass(Message[].class);
         messageStoreWrapperMock = mock(MessageStoreWrapper.class);
         apiMock = mock(MobileApiMessages.class);
+        outbox = new MoMessageOutbox(databaseProvider);
+        outbox.clear();
 
         moMessageSender = new MoMessageSender(
                 context,
@@ -78,7 +88,8 @@ public class MoMessageSenderTest extends MobileMessagingTestCase {
                 mobileMessagingCore.getStats(),
                 policy,
                 apiMock,
-                messageStoreWrapperMock);
+                messageStoreWrapperMock,
+                outbox);
     }
 
     @Test
@@ -237,6 +248,90 @@ public class MoMessageSenderTest extends MobileMessagingTestCase {
         assertEquals(givenMessage1.getMessageId(), storedMessages.get(0).getMessageId());
     }
 
+    @Test
+    public void shouldSendLargeOutboxInBatchesAndKeepOnlyUnconfirmedMessages() throws Exception {
+
+        // Given
+        int numberOfMessages = 3000;
+        final Set<String> givenUnconfirmedIds = new HashSet<>();
+        Message[] givenMessages = new Message[numberOfMessages];
+        for (int i = 0; i < numberOfMessages; i++) {
+            givenMessages[i] = givenMessage("moMessageId" + i);
+            if (i % 100 == 0) {
+                givenUnconfirmedIds.add(givenMessages[i].getMessageId());
+            }
+        }
+        final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        final Set<String> sentIds = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+        LocalApiServer server = new LocalApiServer((path, body) -> {
+            // stands in for the backend, confirms all messages but the unconfirmed ones
+            assertTrue(path.startsWith("/mobile/1/messages/mo"));
+            JSONArray messages = new JSONObject(body).getJSONArray("messages");
+            batchSizes.add(messages.length());
+            JSONArray deliveries = new JSONArray();
+            for (int i = 0; i < messages.length(); i++) {
+                String messageId = messages.getJSONObject(i).getString("messageId");
+                sentIds.add(messageId);
+                if (!givenUnconfirmedIds.contains(messageId)) {
+                    deliveries.put(new JSONObject()
+                            .put("messageId", messageId)
+                            .put("status", "Message sent")
+                            .put("statusCode", 0));
+                }
+            }
+            return new JSONObject().put("messages", deliveries).toString();
+        });
+        server.start();
+
+        try {
+            Properties properties = new Properties();
+            properties.put("api.key", "TestApplicationCode");
+            MobileApiMessages mobileApiMessages = new Generator.Builder()
+                    .withBaseUrl(server.getUrl())
+                    .withProperties(properties)
+                    .build()
+                    .create(MobileApiMessages.class);
+            MoMessageSender sender = new MoMessageSender(
+                    context,
+                    mobileMessagingCore,
+                    broadcaster,
+                    Executors.newSingleThreadExecutor(),
+                    mobileMessagingCore.getStats(),
+                    new MRetryPolicy.Builder().withMaxRetries(0).build(),
+                    mobileApiMessages,
+                    messageStoreWrapperMock,
+                    outbox);
+
+            // When
+            long start = System.currentTimeMillis();
+            sender.sendWithRetry(givenMessages);
+
+            // Then
+            long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(60);
+            while (outbox.count() > givenUnconfirmedIds.size() && System.currentTimeMillis() < deadline) {
+                Thread.sleep(50);
+            }
+            MobileMessagingLogger.d("Sent " + numberOfMessages + " MO messages in " + batchSizes.size() + " batches in " + (System.currentTimeMillis() - start) + " ms");
+        } finally {
+            server.stop();
+        }
+
+        assertEquals(numberOfMessages, sentIds.size());
+        assertEquals(batchSizes.size(), server.getRequestCount());
+        int totalSent = 0;
+        for (int batchSize : batchSizes) {
+            assertTrue(batchSize <= MoMessageSender.MO_BATCH_SIZE);
+            totalSent += batchSize;
+        }
+        assertEquals(numberOfMessages, totalSent);
+
+        Set<String> remainingIds = new HashSet<>();
+        for (MoMessageOutbox.Entry entry : outbox.findAll()) {
+            remainingIds.add(entry.getMessageId());
+        }
+        assertEquals(givenUnconfirmedIds, remainingIds);
+    }
+
     private List<Message> getAllMessages(List<Message[]> messagesLists) {
         List<Message> messages = new ArrayList<>();
         for (Message[] arr : messagesLists) {
@@ -255,10 +350,9 @@ public class MoMessageSenderTest extends MobileMessagingTestCase {
     }
 
     private Message[] getSavedMessages() {
-        String[] jsons = PreferenceHelper.findStringArray(context, MobileMessagingProperty.UNSENT_MO_MESSAGES);
-        List<Message> messages = new ArrayList<>(jsons.length);
-        for (String json : jsons) {
-            messages.add(jsonSerializer.deserialize(json, Message.class));
+        List<Message> messages = new ArrayList<>();
+        for (MoMessageOutbox.Entry entry : outbox.findAll()) {
+            messages.add(entry.getMessage());
         }
         return messages.toArray(new Message[0]);
     }
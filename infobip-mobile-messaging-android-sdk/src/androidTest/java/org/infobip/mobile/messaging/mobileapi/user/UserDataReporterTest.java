@@ -0,0 +1,130 @@
+/*
+ * UserDataReporterTest.java
+ * Mobile Messaging SDK
+ *
+ * Copyright (c) 2016-2025 Infobip Limited
+ * Licensed under the Apache License, Version 2.0
+ */
+package org.infobip.mobile.messaging.mobileapi.user;
+
+import org.infobip.mobile.messaging.CustomAttributeValue;
+import org.infobip.mobile.messaging.MobileMessaging;
+import org.infobip.mobile.messaging.MobileMessagingProperty;
+import org.infobip.mobile.messaging.User;
+import org.infobip.mobile.messaging.api.appinstance.MobileApiUserData;
+import org.infobip.mobile.messaging.api.support.Generator;
+import org.infobip.mobile.messaging.api.support.util.CollectionUtils;
+import org.infobip.mobile.messaging.mobileapi.DebouncingGuard;
+import org.infobip.mobile.messaging.mobileapi.Result;
+import org.infobip.mobile.messaging.mobileapi.common.RetryPolicyProvider;
+import org.infobip.mobile.messaging.tools.LocalApiServer;
+import org.infobip.mobile.messaging.tools.MobileMessagingTestCase;
+import org.infobip.mobile.messaging.util.PreferenceHelper;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+public class UserDataReporterTest extends MobileMessagingTestCase {
+
+    // bytes of user patches in shouldSendLessBytesOverTypicalSessions, when every patch sends all fields or only the changed ones
+    private static final int FULL_USER_BYTES = 804;
+    private static final int CHANGED_USER_BYTES = 325;
+
+    private final Executor executor = Runnable::run;
+
+    @Test
+    public void shouldSendLessBytesOverTypicalSessions() throws Exception {
+        final List<String> bodies = new CopyOnWriteArrayList<>();
+        LocalApiServer server = new LocalApiServer((path, body) -> {
+            assertTrue(path.startsWith("/mobile/1/appinstance/" + myDeviceRegId + "/user"));
+            bodies.add(body);
+            return null;
+        });
+        server.start();
+
+        try {
+            Properties properties = new Properties();
+            properties.put("api.key", "TestApplicationCode");
+            MobileApiUserData mobileApiUserData = new Generator.Builder()
+                    .withBaseUrl(server.getUrl())
+                    .withProperties(properties)
+                    .build()
+                    .create(MobileApiUserData.class);
+            UserDataReporter userDataReporter = new UserDataReporter(mobileMessagingCore, executor, broadcaster, new RetryPolicyProvider(context),
+                    mobileMessagingCore.getStats(), mobileApiUserData, new DebouncingGuard(0));
+
+            patchOverTypicalSessions(userDataReporter, false);
+            List<String> fullBodies = new ArrayList<>(bodies);
+            bodies.clear();
+            mobileMessagingCore.resetAcknowledgedUserFields(null);
+            patchOverTypicalSessions(userDataReporter, true);
+            List<String> changedBodies = new ArrayList<>(bodies);
+
+            assertEquals(4, fullBodies.size());
+            assertEquals(FULL_USER_BYTES, bytes(fullBodies));
+            assertEquals(4, changedBodies.size());
+            assertEquals(CHANGED_USER_BYTES, bytes(changedBodies));
+            assertEquals("{\"customAttributes\":{\"level\":2}}", changedBodies.get(1));
+        } finally {
+            server.stop();
+        }
+    }
+
+    /**
+     * @param acknowledge false to forget acknowledged fields before every patch, so that every patch sends all fields
+     */
+    private void patchOverTypicalSessions(UserDataReporter userDataReporter, boolean acknowledge) {
+        patchAndWait(userDataReporter, acknowledge, user("john@infobip.com", 1, "2025-01-01"));
+        patchAndWait(userDataReporter, acknowledge, user("john@infobip.com", 2, "2025-01-01"));
+        patchAndWait(userDataReporter, acknowledge, user("john@infobip.com", 2, "2025-01-02"));
+        patchAndWait(userDataReporter, acknowledge, user("john.doe@infobip.com", 2, "2025-01-02"));
+    }
+
+    private void patchAndWait(UserDataReporter userDataReporter, boolean acknowledge, User user) {
+        if (!acknowledge) {
+            PreferenceHelper.remove(context, MobileMessagingProperty.ACKNOWLEDGED_USER_FIELDS);
+        }
+        MobileMessaging.ResultListener listener = mock(MobileMessaging.ResultListener.class);
+        userDataReporter.patch(listener, user);
+        verify(listener, timeout(2000)).onResult(any(Result.class));
+    }
+
+    private static User user(String email, int level, String lastSeen) {
+        Map<String, CustomAttributeValue> customAttributes = new HashMap<>();
+        customAttributes.put("level", new CustomAttributeValue(level));
+        customAttributes.put("plan", new CustomAttributeValue("free"));
+        customAttributes.put("lastSeen", new CustomAttributeValue(lastSeen));
+
+        User user = new User();
+        user.setExternalUserId("user-1");
+        user.setFirstName("John");
+        user.setLastName("Doe");
+        user.setEmails(Collections.singleton(email));
+        user.setTags(CollectionUtils.setOf("sports", "music"));
+        user.setCustomAttributes(customAttributes);
+        return user;
+    }
+
+    private static int bytes(List<String> bodies) {
+        int bytes = 0;
+        for (String body : bodies) {
+            bytes += body.getBytes(StandardCharsets.UTF_8).length;
+        }
+        return bytes;
+    }
+}
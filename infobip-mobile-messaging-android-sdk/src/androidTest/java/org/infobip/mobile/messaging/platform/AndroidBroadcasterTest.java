@@ -7,13 +7,18 @@
  */
 package org.infobip.mobile.messaging.platform;
 
+import android.content.BroadcastReceiver;
+import android.content.Context;
 import android.content.Intent;
+import android.content.IntentFilter;
 import android.os.Bundle;
 
 import org.infobip.mobile.messaging.BroadcastParameter;
 import org.infobip.mobile.messaging.Event;
 import org.infobip.mobile.messaging.Installation;
 import org.infobip.mobile.messaging.Message;
+import org.infobip.mobile.messaging.MobileMessagingCore;
+import org.infobip.mobile.messaging.MobileMessagingEventListener;
 import org.infobip.mobile.messaging.User;
 import org.infobip.mobile.messaging.mobileapi.MobileMessagingError;
 import org.infobip.mobile.messaging.tools.MobileMessagingTestCase;
@@ -21,11 +26,18 @@ import org.junit.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import androidx.localbroadcastmanager.content.LocalBroadcastManager;
 
 import static junit.framework.Assert.assertEquals;
 import static junit.framework.Assert.assertNotSame;
+import static junit.framework.Assert.assertSame;
+import static junit.framework.Assert.assertTrue;
 
 /**
  * @author sslavin
@@ -314,4 +326,106 @@ public class AndroidBroadcasterTest extends MobileMessagingTestCase {
         Intent intent = intentArgumentCaptor.getValue();
         assertEquals(Event.CUSTOM_EVENTS_SENT.getKey(), intent.getAction());
     }
+
+    @Test
+    public void test_should_deliver_typed_event_to_listener() {
+        // Given
+        final List<Message> receivedMessages = new ArrayList<>();
+        MobileMessagingEventListener listener = new MobileMessagingEventListener() {
+            @Override
+            public void onMessageReceived(Message message) {
+                receivedMessages.add(message);
+            }
+        };
+        EventListeners.add(listener, Runnable::run);
+        Message expectedMessage = createMessage(context, "SomeMessageId", false);
+
+        // When
+        broadcastSender.messageReceived(expectedMessage);
+        EventListeners.remove(listener);
+        broadcastSender.messageReceived(expectedMessage);
+
+        // Then
+        assertEquals(1, receivedMessages.size());
+        assertSame(expectedMessage, receivedMessages.get(0));
+    }
+
+    @Test
+    public void test_should_send_global_broadcasts_only_for_enabled_events() {
+        // Given
+        MobileMessagingCore.setGlobalBroadcastEvents(context, new Event[]{Event.TOKEN_RECEIVED});
+
+        try {
+            // When
+            broadcastSender.messageReceived(createMessage(context, "SomeMessageId", false));
+            broadcastSender.tokenReceived("SomeCloudToken");
+
+            // Then
+            Mockito.verify(contextMock, Mockito.times(1)).sendBroadcast(intentArgumentCaptor.capture());
+            assertEquals(Event.TOKEN_RECEIVED.getKey(), intentArgumentCaptor.getValue().getAction());
+        } finally {
+            MobileMessagingCore.setGlobalBroadcastEvents(context, null);
+        }
+    }
+
+    @Test
+    public void test_should_send_local_broadcasts_only_for_enabled_events() throws Exception {
+        // Given
+        MobileMessagingCore.setLocalBroadcastEvents(context, new Event[]{Event.TOKEN_RECEIVED});
+        final List<String> receivedActions = new ArrayList<>();
+        final CountDownLatch received = new CountDownLatch(1);
+        BroadcastReceiver receiver = new BroadcastReceiver() {
+            @Override
+            public void onReceive(Context context, Intent intent) {
+                receivedActions.add(intent.getAction());
+                received.countDown();
+            }
+        };
+        IntentFilter intentFilter = new IntentFilter(Event.MESSAGE_RECEIVED.getKey());
+        intentFilter.addAction(Event.TOKEN_RECEIVED.getKey());
+        LocalBroadcastManager.getInstance(context).registerReceiver(receiver, intentFilter);
+
+        try {
+            // When
+            broadcastSender.messageReceived(createMessage(context, "SomeMessageId", false));
+            broadcastSender.tokenReceived("SomeCloudToken");
+
+            // Then
+            assertTrue(received.await(5, TimeUnit.SECONDS));
+            assertEquals(Event.TOKEN_RECEIVED.getKey(), receivedActions.get(0));
+            Mockito.verify(contextMock, Mockito.times(2)).sendBroadcast(Mockito.any(Intent.class));
+        } finally {
+            LocalBroadcastManager.getInstance(context).unregisterReceiver(receiver);
+            MobileMessagingCore.setLocalBroadcastEvents(context, null);
+        }
+    }
+
+    @Test
+    public void test_should_not_create_intent_for_event_which_is_not_broadcast() {
+        // Given
+        MobileMessagingCore.setGlobalBroadcastEvents(context, new Event[0]);
+        MobileMessagingCore.setLocalBroadcastEvents(context, new Event[0]);
+        final List<Message> receivedMessages = new ArrayList<>();
+        MobileMessagingEventListener listener = new MobileMessagingEventListener() {
+            @Override
+            public void onMessageReceived(Message message) {
+                receivedMessages.add(message);
+            }
+        };
+        EventListeners.add(listener, Runnable::run);
+
+        try {
+            // When
+            broadcastSender.messageReceived(createMessage(context, "SomeMessageId", false));
+
+            // Then
+            assertEquals(1, receivedMessages.size());
+            Mockito.verify(contextMock, Mockito.never()).getPackageName();
+            Mockito.verify(contextMock, Mockito.never()).sendBroadcast(Mockito.any(Intent.class));
+        } finally {
+            EventListeners.remove(listener);
+            MobileMessagingCore.setGlobalBroadcastEvents(context, null);
+            MobileMessagingCore.setLocalBroadcastEvents(context, null);
+        }
+    }
 }
@@ -0,0 +1,143 @@
+/*
+ * SdkExecutorTest.java
+ * Mobile Messaging SDK
+ *
+ * Copyright (c) 2016-2025 Infobip Limited
+ * Licensed under the Apache License, Version 2.0
+ */
+package org.infobip.mobile.messaging.platform;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+import static junit.framework.Assert.fail;
+
+public class SdkExecutorTest {
+
+    private final List<String> executed = new CopyOnWriteArrayList<>();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private SdkExecutor sdkExecutor;
+
+    @Before
+    public void setUp() {
+        sdkExecutor = new SdkExecutor(1, 3, 2);
+    }
+
+    @Test
+    public void test_shouldRunUserInitiatedTasksBeforeBackgroundTasks() throws Exception {
+        CountDownLatch done = new CountDownLatch(3);
+        sdkExecutor.execute(this::awaitRelease);
+        sdkExecutor.execute(task("background1", SdkExecutor.Priority.BACKGROUND, done));
+        sdkExecutor.execute(task("background2", SdkExecutor.Priority.BACKGROUND, done));
+        sdkExecutor.execute(task("user", SdkExecutor.Priority.USER_INITIATED, done));
+
+        release.countDown();
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(Arrays.asList("user", "background1", "background2"), executed);
+    }
+
+    @Test
+    public void test_shouldRejectBackgroundTasksBeforeUserInitiatedWhenQueueIsFull() {
+        sdkExecutor.execute(this::awaitRelease);
+        sdkExecutor.execute(task("background1", SdkExecutor.Priority.BACKGROUND, null));
+        sdkExecutor.execute(task("background2", SdkExecutor.Priority.BACKGROUND, null));
+
+        try {
+            sdkExecutor.execute(task("background3", SdkExecutor.Priority.BACKGROUND, null));
+            fail();
+        } catch (RejectedExecutionException ignored) {
+        }
+        sdkExecutor.execute(task("user", SdkExecutor.Priority.USER_INITIATED, null));
+        release.countDown();
+
+        assertEquals(1, sdkExecutor.getStats().get("background3").getRejected());
+        assertEquals(0, sdkExecutor.getStats().get("user").getRejected());
+    }
+
+    @Test
+    public void test_shouldRunSerialTasksInOrder() throws Exception {
+        sdkExecutor = new SdkExecutor(3, 10, 10);
+        CountDownLatch done = new CountDownLatch(3);
+        Executor serial = sdkExecutor.serial("serial");
+        serial.execute(() -> {
+            awaitRelease();
+            executed.add("first");
+            done.countDown();
+        });
+        serial.execute(task("second", SdkExecutor.Priority.USER_INITIATED, done));
+        serial.execute(task("third", SdkExecutor.Priority.BACKGROUND, done));
+
+        release.countDown();
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(Arrays.asList("first", "second", "third"), executed);
+    }
+
+    @Test
+    public void test_shouldMeasureQueueDepthAndTimes() throws Exception {
+        CountDownLatch done = new CountDownLatch(2);
+        sdkExecutor.execute(task("blocking", SdkExecutor.Priority.BACKGROUND, null, true));
+        sdkExecutor.execute(task("measured", SdkExecutor.Priority.BACKGROUND, done));
+        sdkExecutor.execute(task("measured", SdkExecutor.Priority.BACKGROUND, done));
+        Thread.sleep(200);
+
+        assertEquals(2, sdkExecutor.getStats().get("measured").getQueueDepth());
+        assertEquals(2, sdkExecutor.getQueueDepth());
+
+        release.countDown();
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        Thread.sleep(100);
+
+        SdkExecutor.TaskStats stats = sdkExecutor.getStats().get("measured");
+        assertEquals(0, stats.getQueueDepth());
+        assertEquals(2, stats.getSubmitted());
+        assertEquals(2, stats.getCompleted());
+        assertTrue(stats.getMaxWaitMillis() >= 200);
+        assertTrue(sdkExecutor.getStats().get("blocking").getAverageExecutionMillis() >= 200);
+    }
+
+    @Test
+    public void test_shouldRunScheduledCommandAfterDelay() throws Exception {
+        CountDownLatch done = new CountDownLatch(1);
+        long start = System.nanoTime();
+
+        sdkExecutor.schedule(done::countDown, 200, TimeUnit.MILLISECONDS);
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 200);
+    }
+
+    private SdkExecutor.Task task(String name, SdkExecutor.Priority priority, CountDownLatch done) {
+        return task(name, priority, done, false);
+    }
+
+    private SdkExecutor.Task task(final String name, SdkExecutor.Priority priority, final CountDownLatch done, final boolean block) {
+        return new SdkExecutor.Task(() -> {
+            if (block) {
+                awaitRelease();
+            }
+            executed.add(name);
+            if (done != null) {
+                done.countDown();
+            }
+        }, priority, name);
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ignored) {
+        }
+    }
+}
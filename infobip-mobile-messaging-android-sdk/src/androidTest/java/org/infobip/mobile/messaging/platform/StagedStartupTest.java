@@ -0,0 +1,81 @@
+/*
+ * StagedStartupTest.java
+ * Mobile Messaging SDK
+ *
+ * Copyright (c) 2016-2025 Infobip Limited
+ * Licensed under the Apache License, Version 2.0
+ */
+package org.infobip.mobile.messaging.platform;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+
+public class StagedStartupTest {
+
+    private final StagedStartup startup = new StagedStartup();
+    private final AtomicInteger runs = new AtomicInteger();
+
+    @Test
+    public void test_shouldRunStageOnAwaitIfExecutorDidNotStartIt() {
+        List<Runnable> queued = new ArrayList<>();
+        startup.start(queued::add, runs::incrementAndGet);
+
+        startup.await();
+
+        assertTrue(startup.isCompleted());
+        assertEquals(1, runs.get());
+
+        queued.get(0).run();
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    public void test_shouldWaitForStageRunningInBackground() throws Exception {
+        CountDownLatch stageStarted = new CountDownLatch(1);
+        CountDownLatch releaseStage = new CountDownLatch(1);
+        startup.start(command -> new Thread(command).start(), () -> {
+            stageStarted.countDown();
+            try {
+                releaseStage.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            runs.incrementAndGet();
+        });
+        assertTrue(stageStarted.await(5, TimeUnit.SECONDS));
+
+        CountDownLatch awaited = new CountDownLatch(1);
+        new Thread(() -> {
+            startup.await();
+            awaited.countDown();
+        }).start();
+
+        assertFalse(awaited.await(200, TimeUnit.MILLISECONDS));
+        assertFalse(startup.isCompleted());
+
+        releaseStage.countDown();
+        assertTrue(awaited.await(5, TimeUnit.SECONDS));
+        assertTrue(startup.isCompleted());
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    public void test_shouldNotWaitWhenCalledFromStage() {
+        startup.run(() -> {
+            startup.await();
+            runs.incrementAndGet();
+        });
+
+        assertTrue(startup.isCompleted());
+        assertEquals(1, runs.get());
+    }
+}
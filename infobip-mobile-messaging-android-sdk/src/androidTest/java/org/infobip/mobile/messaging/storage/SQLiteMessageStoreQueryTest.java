@@ -0,0 +1,153 @@
+/*
+ * SQLiteMessageStoreQueryTest.java
+ * Mobile Messaging SDK
+ *
+ * Copyright (c) 2016-2025 Infobip Limited
+ * Licensed under the Apache License, Version 2.0
+ */
+package org.infobip.mobile.messaging.storage;
+
+import android.database.Cursor;
+
+import org.infobip.mobile.messaging.Message;
+import org.infobip.mobile.messaging.tools.MobileMessagingTestCase;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNotNull;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertTrue;
+
+public class SQLiteMessageStoreQueryTest extends MobileMessagingTestCase {
+
+    private SQLiteMessageStore messageStore;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+
+        messageStore = new SQLiteMessageStore();
+        messageStore.deleteAll(context);
+    }
+
+    @Test
+    public void test_shouldPageThroughMessagesNewestFirst() {
+        saveMessages(25, null, 0);
+
+        List<String> ids = new ArrayList<>();
+        MessageQuery query = new MessageQuery.Builder().withLimit(10).build();
+        int pages = 0;
+        while (query != null) {
+            MessageCursor page = messageStore.query(context, query);
+            for (Message message : page) {
+                ids.add(message.getMessageId());
+            }
+            query = page.getNextPageQuery();
+            page.close();
+            pages++;
+        }
+
+        assertEquals(3, pages);
+        assertEquals(25, ids.size());
+        assertEquals("message-24", ids.get(0));
+        assertEquals("message-0", ids.get(24));
+    }
+
+    @Test
+    public void test_shouldPageThroughMessagesWithSameTimestamp() {
+        for (int i = 0; i < 5; i++) {
+            Message message = createMessage(context, "same-" + i, false);
+            message.setReceivedTimestamp(1000L);
+            messageStore.save(context, message);
+        }
+
+        MessageQuery query = new MessageQuery.Builder().withLimit(2).build();
+        List<Message> firstPage = messageStore.find(context, query);
+        List<Message> secondPage = messageStore.find(context, query.after(firstPage.get(1)));
+        List<Message> thirdPage = messageStore.find(context, query.after(secondPage.get(1)));
+
+        assertEquals("same-4", firstPage.get(0).getMessageId());
+        assertEquals("same-3", firstPage.get(1).getMessageId());
+        assertEquals("same-2", secondPage.get(0).getMessageId());
+        assertEquals("same-1", secondPage.get(1).getMessageId());
+        assertEquals(1, thirdPage.size());
+        assertEquals("same-0", thirdPage.get(0).getMessageId());
+    }
+
+    @Test
+    public void test_shouldFilterUnseenMessagesOfCategory() {
+        saveMessages(10, "news", 0);
+        saveMessages(5, "promo", 0);
+        Message seen = messageStore.findById(context, "news-3");
+        seen.setSeenTimestamp(5000L);
+        messageStore.save(context, seen);
+
+        List<Message> messages = messageStore.find(context, new MessageQuery.Builder()
+                .withUnseenOnly()
+                .withCategory("news")
+                .build());
+
+        assertEquals(9, messages.size());
+        for (Message message : messages) {
+            assertEquals("news", message.getCategory());
+            assertTrue(message.getSeenTimestamp() == 0);
+        }
+    }
+
+    @Test
+    public void test_shouldFilterByReceivedTimeRange() {
+        saveMessages(10, null, 0);
+
+        List<Message> messages = messageStore.find(context, new MessageQuery.Builder()
+                .withReceivedBetween(1003L, 1006L)
+                .build());
+
+        assertEquals(3, messages.size());
+        assertEquals("message-5", messages.get(0).getMessageId());
+        assertEquals("message-3", messages.get(2).getMessageId());
+    }
+
+    @Test
+    public void test_shouldReturnNoNextPageForLastPage() {
+        saveMessages(3, null, 0);
+
+        MessageCursor page = messageStore.query(context, new MessageQuery.Builder().withLimit(5).build());
+
+        assertEquals(3, page.getCount());
+        assertNotNull(page.get(0));
+        assertNull(page.getNextPageQuery());
+        page.close();
+        assertTrue(page.isClosed());
+    }
+
+    @Test
+    public void test_shouldCreateIndexesForQueries() {
+        Cursor cursor = databaseProvider.getDatabase().rawQuery(
+                "SELECT name FROM sqlite_master WHERE type = 'index' AND tbl_name = 'messages'", null);
+        List<String> indexes = new ArrayList<>();
+        while (cursor.moveToNext()) {
+            indexes.add(cursor.getString(0));
+        }
+        cursor.close();
+
+        assertTrue(indexes.contains("idx_messages_received_timestamp"));
+        assertTrue(indexes.contains("idx_messages_seen_timestamp"));
+        assertTrue(indexes.contains("idx_messages_category"));
+    }
+
+    private void saveMessages(int count, String category, long seenTimestamp) {
+        Message[] messages = new Message[count];
+        String prefix = category != null ? category : "message";
+        for (int i = 0; i < count; i++) {
+            Message message = createMessage(context, prefix + "-" + i, false);
+            message.setCategory(category);
+            message.setReceivedTimestamp(1000L + i);
+            message.setSeenTimestamp(seenTimestamp);
+            messages[i] = message;
+        }
+        messageStore.save(context, messages);
+    }
+}
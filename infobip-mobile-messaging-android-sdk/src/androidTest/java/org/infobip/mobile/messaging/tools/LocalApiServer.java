@@ -0,0 +1,176 @@
+/*
+ * LocalApiServer.java
+ * Mobile Messaging SDK
+ *
+ * Copyright (c) 2016-2025 Infobip Limited
+ * Licensed under the Apache License, Version 2.0
+ */
+package org.infobip.mobile.messaging.tools;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Minimal HTTP/1.1 server with keep-alive support on a raw socket, which answers every request with the json from its {@link Handler}.
+ * Lets tests drive real API clients end to end, including serialization of requests and parsing of responses.
+ */
+public class LocalApiServer {
+
+    public interface Handler {
+        /**
+         * @param path path of the request, with query
+         * @param body request body, decompressed if it was gzipped
+         * @return json response body, sent with status 200
+         */
+        String respond(String path, String body) throws Exception;
+    }
+
+    private final Handler handler;
+    private final AtomicInteger requestCount = new AtomicInteger(0);
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private ServerSocket serverSocket;
+
+    public LocalApiServer(Handler handler) {
+        this.handler = handler;
+    }
+
+    public void start() throws IOException {
+        serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        executor.execute(() -> {
+            while (!serverSocket.isClosed()) {
+                try {
+                    final Socket socket = serverSocket.accept();
+                    executor.execute(() -> serve(socket));
+                } catch (IOException ignored) {
+                }
+            }
+        });
+    }
+
+    public void stop() {
+        try {
+            serverSocket.close();
+        } catch (IOException ignored) {
+        }
+        executor.shutdownNow();
+    }
+
+    public String getUrl() {
+        return "http://127.0.0.1:" + serverSocket.getLocalPort() + "/";
+    }
+
+    public int getRequestCount() {
+        return requestCount.get();
+    }
+
+    private void serve(Socket socket) {
+        try {
+            socket.setTcpNoDelay(true);
+            InputStream in = new BufferedInputStream(socket.getInputStream());
+            OutputStream out = socket.getOutputStream();
+            while (true) {
+                String requestLine = readLine(in);
+                if (requestLine == null || requestLine.isEmpty()) {
+                    break;
+                }
+
+                Map<String, String> headers = new HashMap<>();
+                String line;
+                while ((line = readLine(in)) != null && !line.isEmpty()) {
+                    int idx = line.indexOf(':');
+                    if (idx > 0) {
+                        headers.put(line.substring(0, idx).trim().toLowerCase(Locale.ROOT), line.substring(idx + 1).trim());
+                    }
+                }
+
+                int contentLength = headers.containsKey("content-length") ? Integer.parseInt(headers.get("content-length")) : 0;
+                byte[] body = new byte[contentLength];
+                int read = 0;
+                while (read < contentLength) {
+                    int r = in.read(body, read, contentLength - read);
+                    if (r == -1) {
+                        break;
+                    }
+                    read += r;
+                }
+                if ("gzip".equalsIgnoreCase(headers.get("content-encoding"))) {
+                    body = gunzip(body);
+                }
+                requestCount.incrementAndGet();
+
+                int status = 200;
+                byte[] responseBody;
+                try {
+                    String path = requestLine.split(" ")[1];
+                    String json = handler.respond(path, new String(body, StandardCharsets.UTF_8));
+                    responseBody = json == null ? new byte[0] : json.getBytes(StandardCharsets.UTF_8);
+                } catch (Exception e) {
+                    status = 500;
+                    responseBody = new byte[0];
+                }
+
+                String responseHead = "HTTP/1.1 " + status + " Status\r\n" +
+                        "Content-Type: application/json\r\n" +
+                        "Content-Length: " + responseBody.length + "\r\n" +
+                        "\r\n";
+                out.write(responseHead.getBytes(StandardCharsets.US_ASCII));
+                out.write(responseBody);
+                out.flush();
+
+                if ("close".equalsIgnoreCase(headers.get("connection"))) {
+                    break;
+                }
+            }
+        } catch (IOException ignored) {
+        } finally {
+            try {
+                socket.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    private static byte[] gunzip(byte[] body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            byte[] buffer = new byte[4096];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        ByteArrayOutputStream buf = new ByteArrayOutputStream();
+        int b;
+        while ((b = in.read()) != -1) {
+            if (b == '\n') {
+                break;
+            }
+            if (b != '\r') {
+                buf.write(b);
+            }
+        }
+        if (b == -1 && buf.size() == 0) {
+            return null;
+        }
+        return buf.toString("US-ASCII");
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * PreferenceHelperBenchmarkTest.java
+ * Mobile Messaging SDK
+ *
+ * Copyright (c) 2016-2025 Infobip Limited
+ * Licensed under the Apache License, Version 2.0
+ */
+package org.infobip.mobile.messaging.util;
+
+import android.util.Log;
+
+import org.infobip.mobile.messaging.MobileMessagingProperty;
+import org.infobip.mobile.messaging.tools.MobileMessagingTestCase;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static junit.framework.Assert.assertEquals;
+
+/**
+ * Measures {@link PreferenceHelper#findString(android.content.Context, MobileMessagingProperty)} throughput
+ * for an encrypted and a plain property. Results are reported to logcat under the "PreferenceHelperBenchmark" tag.
+ */
+public class PreferenceHelperBenchmarkTest extends MobileMessagingTestCase {
+
+    private static final String TAG = "PreferenceHelperBenchmark";
+    private static final int WARMUP_ITERATIONS = 1_000;
+    private static final int ITERATIONS = 20_000;
+
+    @Test
+    public void test_benchmark_findString() {
+        PreferenceHelper.saveString(context, MobileMessagingProperty.INFOBIP_REGISTRATION_ID, "SomePushRegistrationId");
+        PreferenceHelper.saveString(context, MobileMessagingProperty.APP_USER_ID, "SomePushRegistrationId");
+
+        double encrypted = opsPerMilli(MobileMessagingProperty.INFOBIP_REGISTRATION_ID);
+        double plain = opsPerMilli(MobileMessagingProperty.APP_USER_ID);
+
+        Log.i(TAG, String.format("findString: encrypted %.1f ops/ms, plain %.1f ops/ms", encrypted, plain));
+    }
+
+    @Test
+    public void test_benchmark_cryptor() {
+        Cryptor cryptor = new CryptorImpl(DeviceInformation.getDeviceID(context));
+        String encrypted = cryptor.encrypt("SomePushRegistrationId");
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            cryptor.decrypt(encrypted);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            cryptor.decrypt(encrypted);
+        }
+        long elapsed = System.nanoTime() - start;
+
+        Log.i(TAG, String.format("CryptorImpl.decrypt: %.1f ops/ms", ITERATIONS / (double) TimeUnit.NANOSECONDS.toMicros(elapsed) * 1000));
+    }
+
+    private double opsPerMilli(MobileMessagingProperty property) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            PreferenceHelper.findString(context, property);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            assertEquals("SomePushRegistrationId", PreferenceHelper.findString(context, property));
+        }
+        long elapsed = System.nanoTime() - start;
+        return ITERATIONS / (double) TimeUnit.NANOSECONDS.toMicros(elapsed) * 1000;
+    }
+}
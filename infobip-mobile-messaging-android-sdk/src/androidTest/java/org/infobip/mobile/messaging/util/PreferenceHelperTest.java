@@ -156,4 +156,22 @@ public class PreferenceHelperTest extends MobileMessagingTestCase {
         assertFalse(PreferenceHelper.contains(context, MobileMessagingProperty.INFOBIP_REGISTRATION_ID));
         assertNull(PreferenceHelper.findString(context, MobileMessagingProperty.INFOBIP_REGISTRATION_ID));
     }
+
+    @Test
+    public void test_shouldNotReturnCachedValueAfterDirectPreferenceEdit() throws Exception {
+        PreferenceHelper.saveString(context, MobileMessagingProperty.INFOBIP_REGISTRATION_ID, "FirstRegId");
+        assertEquals("FirstRegId", PreferenceHelper.findString(context, MobileMessagingProperty.INFOBIP_REGISTRATION_ID));
+
+        Cryptor cryptor = new CryptorImpl(DeviceInformation.getDeviceID(context));
+        String encryptedKey = cryptor.encrypt(MobileMessagingProperty.INFOBIP_REGISTRATION_ID.getKey());
+        PreferenceHelper.getDefaultMMSharedPreferences(context).edit()
+                .putString(encryptedKey, cryptor.encrypt("SecondRegId"))
+                .commit();
+
+        assertEquals("SecondRegId", PreferenceHelper.findString(context, MobileMessagingProperty.INFOBIP_REGISTRATION_ID));
+
+        PreferenceHelper.getDefaultMMSharedPreferences(context).edit().clear().commit();
+
+        assertNull(PreferenceHelper.findString(context, MobileMessagingProperty.INFOBIP_REGISTRATION_ID));
+    }
 }
@@ -12,6 +12,7 @@ import android.os.Bundle;
 import com.google.gson.annotations.SerializedName;
 
 import org.infobip.mobile.messaging.dal.bundle.MessageBundleMapper;
+import org.infobip.mobile.messaging.dal.json.InternalDataMapper;
 import org.infobip.mobile.messaging.platform.Time;
 import org.infobip.mobile.messaging.util.StringUtils;
 import org.json.JSONObject;
@@ -56,6 +57,7 @@ public class Message implements Comparable<Message> {
     private String deeplink;
     private String inAppOpenTitle;
     private String inAppDismissTitle;
+    private transient InternalDataMapper.ParsedInternalData parsedInternalData;
 
     public enum Status {
         SUCCESS,
@@ -146,6 +148,33 @@ public class Message implements Comparable<Message> {
 
     public void setInternalData(String internalData) {
         this.internalData = internalData;
+        this.parsedInternalData = null;
+    }
+
+    /**
+     * Sets internal data together with its already parsed view, so that it's not parsed again.
+     *
+     * @param internalData       internal data json
+     * @param parsedInternalData view parsed from the same json
+     */
+    public void setInternalData(String internalData, InternalDataMapper.ParsedInternalData parsedInternalData) {
+        this.internalData = internalData;
+        this.parsedInternalData = parsedInternalData != null && parsedInternalData.isFor(internalData) ? parsedInternalData : null;
+    }
+
+    /**
+     * Returns internal data parsed once and kept until internal data changes. Used internally in the library.
+     *
+     * @return parsed internal data
+     */
+    @NonNull
+    public InternalDataMapper.ParsedInternalData getParsedInternalData() {
+        InternalDataMapper.ParsedInternalData parsed = parsedInternalData;
+        if (parsed == null || !parsed.isFor(internalData)) {
+            parsed = InternalDataMapper.parse(internalData);
+            parsedInternalData = parsed;
+        }
+        return parsed;
     }
 
     public String getMessageId() {
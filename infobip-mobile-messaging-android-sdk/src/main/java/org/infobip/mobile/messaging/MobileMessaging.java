@@ -27,6 +27,7 @@ import org.infobip.mobile.messaging.util.StringUtils;
 
 import java.util.HashSet;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
@@ -530,6 +531,33 @@ public abstract class MobileMessaging {
      */
     public abstract void setJwtSupplier(JwtSupplier jwtSupplier);
 
+    /**
+     * Registers in-process listener of library events, delivered on the main thread.
+     * <p>
+     * Listener receives events as typed objects, without the Intent and Bundle serialization of {@link Event} broadcasts.
+     * Registering the same listener again replaces the previous registration.
+     *
+     * @param listener listener to register
+     * @see MobileMessagingEventListener
+     */
+    public abstract void addEventListener(@NonNull MobileMessagingEventListener listener);
+
+    /**
+     * Registers in-process listener of library events, delivered on the provided executor.
+     *
+     * @param listener listener to register
+     * @param executor executor to deliver events on
+     * @see #addEventListener(MobileMessagingEventListener)
+     */
+    public abstract void addEventListener(@NonNull MobileMessagingEventListener listener, @NonNull Executor executor);
+
+    /**
+     * Unregisters in-process listener of library events
+     *
+     * @param listener listener to unregister
+     */
+    public abstract void removeEventListener(@NonNull MobileMessagingEventListener listener);
+
     /**
      * Default result listener interface for asynchronous operations.
      *
@@ -617,6 +645,9 @@ public abstract class MobileMessaging {
         private JwtSupplier jwtSupplier = null;
         private boolean bannerForegroundNotifications = false;
         private HashSet<String> trustedDomains = null;
+        private Event[] globalBroadcastEvents = null;
+        private Event[] localBroadcastEvents = null;
+        private boolean stagedStartup = false;
 
         @SuppressWarnings("unchecked")
         private Class<? extends MessageStore> messageStoreClass = (Class<? extends MessageStore>) MobileMessagingProperty.MESSAGE_STORE_CLASS.getDefaultValue();
@@ -1058,6 +1089,50 @@ public abstract class MobileMessaging {
             return this;
         }
 
+        /**
+         * Limits global broadcasts ({@code context.sendBroadcast}) to the provided events.
+         * By default all events are broadcast both globally and through {@code LocalBroadcastManager}.
+         * <p>
+         * Global broadcasts are only needed for receivers registered in AndroidManifest.xml or with {@code context.registerReceiver}.
+         * Local broadcasts and {@link MobileMessagingEventListener}s receive all events regardless of this setting.
+         *
+         * @param events events to broadcast globally, none to disable global broadcasts
+         * @return {@link Builder}
+         */
+        public Builder withGlobalBroadcasts(Event... events) {
+            this.globalBroadcastEvents = events != null ? events : new Event[0];
+            return this;
+        }
+
+        /**
+         * Limits local broadcasts ({@code LocalBroadcastManager}) to the provided events.
+         * By default all events are broadcast both globally and through {@code LocalBroadcastManager}.
+         * <p>
+         * Local broadcasts are only needed for receivers registered with {@code LocalBroadcastManager}.
+         * Global broadcasts and {@link MobileMessagingEventListener}s receive all events regardless of this setting.
+         *
+         * @param events events to broadcast locally, none to disable local broadcasts
+         * @return {@link Builder}
+         */
+        public Builder withLocalBroadcasts(Event... events) {
+            this.localBroadcastEvents = events != null ? events : new Event[0];
+            return this;
+        }
+
+        /**
+         * Moves the part of library startup which is not needed to receive pushes to background:
+         * loading of modules, creation of notification channels and data migrations.
+         * <p>
+         * Library calls which depend on this part wait for it to complete, or run it on the calling thread if it did not start yet.
+         * Configuration errors of notification channels are logged instead of thrown.
+         *
+         * @return {@link Builder}
+         */
+        public Builder withStagedStartup() {
+            this.stagedStartup = true;
+            return this;
+        }
+
         /**
          * Builds the <i>MobileMessaging</i> configuration. Registration token patch is started by default.
          * Any messages received in the past will be reported as delivered!
@@ -1091,6 +1166,9 @@ public abstract class MobileMessaging {
             MobileMessagingCore.setSharedPrefsStorage(application, usePrivateSharedPrefs);
             MobileMessagingCore.setCustomNotificationChannel(application, channelId, channelName, notificationAudio);
             MobileMessagingCore.setBannerForegroundNotifications(application, bannerForegroundNotifications);
+            MobileMessagingCore.setGlobalBroadcastEvents(application, globalBroadcastEvents);
+            MobileMessagingCore.setLocalBroadcastEvents(application, localBroadcastEvents);
+            MobileMessagingCore.setStagedStartupEnabled(application, stagedStartup);
 
             MobileMessagingCore.Builder mobileMessagingCoreBuilder = new MobileMessagingCore.Builder(application)
                     .withDisplayNotification(notificationSettings)
@@ -24,6 +24,7 @@ import android.util.Pair;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.core.content.ContextCompat;
 
 import com.google.firebase.FirebaseApp;
 import com.google.firebase.FirebaseOptions;
@@ -41,17 +42,24 @@ import org.infobip.mobile.messaging.cloud.MobileMessagingCloudService;
 import org.infobip.mobile.messaging.cloud.PlayServicesSupport;
 import org.infobip.mobile.messaging.cloud.firebase.FirebaseAppProvider;
 import org.infobip.mobile.messaging.dal.sqlite.DatabaseHelper;
+import org.infobip.mobile.messaging.dal.sqlite.MoMessageOutbox;
 import org.infobip.mobile.messaging.dal.sqlite.PushDatabaseHelperImpl;
+import org.infobip.mobile.messaging.dal.sqlite.ReportOutbox;
 import org.infobip.mobile.messaging.dal.sqlite.SqliteDatabaseProvider;
+import org.infobip.mobile.messaging.dal.sqlite.SyncMessageIdsStore;
+import org.infobip.mobile.messaging.image.ImagePrefetcher;
 import org.infobip.mobile.messaging.interactive.MobileInteractiveImpl;
 import org.infobip.mobile.messaging.interactive.notification.InteractiveNotificationHandler;
 import org.infobip.mobile.messaging.logging.MobileMessagingLogger;
+import org.infobip.mobile.messaging.mobileapi.AcknowledgedFields;
 import org.infobip.mobile.messaging.mobileapi.BatchReporter;
+import org.infobip.mobile.messaging.mobileapi.Batcher;
 import org.infobip.mobile.messaging.mobileapi.DebouncingGuard;
 import org.infobip.mobile.messaging.mobileapi.InternalSdkError;
 import org.infobip.mobile.messaging.mobileapi.MobileApiResourceProvider;
 import org.infobip.mobile.messaging.mobileapi.MobileMessagingError;
 import org.infobip.mobile.messaging.mobileapi.Result;
+import org.infobip.mobile.messaging.mobileapi.SingleFlight;
 import org.infobip.mobile.messaging.mobileapi.appinstance.InstallationSynchronizer;
 import org.infobip.mobile.messaging.mobileapi.baseurl.BaseUrlChecker;
 import org.infobip.mobile.messaging.mobileapi.common.MAsyncTask;
@@ -71,10 +79,14 @@ import org.infobip.mobile.messaging.notification.NotificationHandler;
 import org.infobip.mobile.messaging.permissions.PostNotificationsPermissionRequester;
 import org.infobip.mobile.messaging.platform.AndroidBroadcaster;
 import org.infobip.mobile.messaging.platform.Broadcaster;
+import org.infobip.mobile.messaging.platform.EventListeners;
 import org.infobip.mobile.messaging.platform.MobileMessagingJobService;
 import org.infobip.mobile.messaging.platform.Platform;
+import org.infobip.mobile.messaging.platform.SdkExecutor;
+import org.infobip.mobile.messaging.platform.StagedStartup;
 import org.infobip.mobile.messaging.platform.Time;
 import org.infobip.mobile.messaging.stats.MobileMessagingStats;
+import org.infobip.mobile.messaging.stats.PushLatencyStats;
 import org.infobip.mobile.messaging.storage.MessageStore;
 import org.infobip.mobile.messaging.storage.MessageStoreWrapper;
 import org.infobip.mobile.messaging.storage.MessageStoreWrapperImpl;
@@ -104,11 +116,13 @@ import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 
@@ -121,7 +135,8 @@ public class MobileMessagingCore
         implements DepersonalizeServerListener {
 
     private static final int MESSAGE_ID_PARAMETER_LIMIT = 100;
-    private static final long MESSAGE_EXPIRY_TIME = TimeUnit.DAYS.toMillis(7);
+    public static final int REPORT_BATCH_SIZE = MESSAGE_ID_PARAMETER_LIMIT;
+    private static final Pattern UUID_PATTERN = Pattern.compile("[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}$");
     private static final long LAZY_SYNC_THROTTLE_INTERVAL_MILLIS = TimeUnit.SECONDS.toMillis(5);
     private static final long FOREGROUND_SYNC_THROTTLE_INTERVAL_MILLIS = TimeUnit.SECONDS.toMillis(10);
     private static final JsonSerializer nullSerializer = new JsonSerializer(true);
@@ -152,9 +167,10 @@ public class MobileMessagingCore
     private static Map<String, String> applicationCodeHashMap;
     static ApplicationCodeProvider applicationCodeProvider;
     private static DatabaseHelper databaseHelper;
-    private static MobileMessagingSynchronizationReceiver mobileMessagingSynchronizationReceiver;
+    private static volatile boolean foregroundSyncEnabled;
     private final MobileMessagingStats stats;
-    private final ExecutorService registrationAlignedExecutor;
+    private final PushLatencyStats pushLatencyStats = new PushLatencyStats();
+    private final Executor registrationAlignedExecutor;
     private final RetryPolicyProvider retryPolicyProvider;
     private final Broadcaster broadcaster;
     private final ModuleLoader moduleLoader;
@@ -179,7 +195,8 @@ public class MobileMessagingCore
     private MessageStore messageStore;
     private MessageStoreWrapper messageStoreWrapper;
     private final Context context;
-    private final Map<String, MessageHandlerModule> messageHandlerModules;
+    private final Map<String, MessageHandlerModule> messageHandlerModules = new ConcurrentHashMap<>();
+    private final StagedStartup startup = new StagedStartup();
     private volatile boolean didSyncAtLeastOnce;
     private volatile Long lastSyncTimeMillis;
     private volatile Long lastForegroundSyncMillis;
@@ -188,13 +205,17 @@ public class MobileMessagingCore
     private InAppClickReporter inAppClickReporter;
     private volatile JwtSupplier jwtSupplier;
     private HashSet<String> trustedDomains;
+    private volatile SyncMessageIdsStore syncMessageIdsStore;
+    private volatile ReportOutbox reportOutbox;
+    private volatile MoMessageOutbox moMessageOutbox;
     private volatile DebouncingGuard debouncingGuard;
+    private volatile SingleFlight singleFlight;
 
     protected MobileMessagingCore(Context context) {
-        this(context, new AndroidBroadcaster(context), Executors.newSingleThreadExecutor(), new ModuleLoader(context), new FirebaseAppProvider(context));
+        this(context, new AndroidBroadcaster(context), SdkExecutor.getInstance().serial("registration"), new ModuleLoader(context), new FirebaseAppProvider(context));
     }
 
-    protected MobileMessagingCore(Context context, Broadcaster broadcaster, ExecutorService registrationAlignedExecutor, ModuleLoader moduleLoader, FirebaseAppProvider firebaseAppProvider) {
+    protected MobileMessagingCore(Context context, Broadcaster broadcaster, Executor registrationAlignedExecutor, ModuleLoader moduleLoader, FirebaseAppProvider firebaseAppProvider) {
         MobileMessagingLogger.init(context);
 
         this.context = context;
@@ -204,19 +225,36 @@ public class MobileMessagingCore
         this.retryPolicyProvider = new RetryPolicyProvider(context);
         this.moduleLoader = moduleLoader;
         this.notificationHandler = new InteractiveNotificationHandler(context);
-        this.messageHandlerModules = loadMessageHandlerModules();
         this.postNotificationsPermissionRequester = new PostNotificationsPermissionRequester(PreferenceHelper.findBoolean(context, MobileMessagingProperty.POST_NOTIFICATIONS_REQUEST_ENABLED));
 
-        if (mobileMessagingSynchronizationReceiver == null) {
-            mobileMessagingSynchronizationReceiver = new MobileMessagingSynchronizationReceiver();
-        }
-
         Application application = new ContextHelper(context).getApplication();
         if (application != null) {
             this.activityLifecycleMonitor = new ActivityLifecycleMonitor(application);
         }
 
-        ComponentUtil.setSynchronizationReceiverStateEnabled(context, mobileMessagingSynchronizationReceiver, true);
+        foregroundSyncEnabled = true;
+
+        if (PreferenceHelper.shouldMigrateToPrivatePrefs(context)) {
+            PreferenceHelper.migrateToPrivatePrefs(context);
+        }
+
+        this.installationId = getUniversalInstallationId();
+        this.firebaseAppProvider = firebaseAppProvider;
+
+        if (isStagedStartupEnabled(context)) {
+            startup.start(SdkExecutor.getInstance(), this::runDeferredStartup);
+        } else {
+            startup.run(this::runDeferredStartup);
+        }
+    }
+
+    /**
+     * Startup work which is not needed to receive pushes: loading of modules, notification channels and data migrations.
+     * Runs in background with {@link MobileMessaging.Builder#withStagedStartup()}, callers which depend on it wait with {@link #awaitStartup()}.
+     */
+    private void runDeferredStartup() {
+        loadMessageHandlerModules();
+
         ComponentUtil.setConnectivityComponentsStateEnabled(context, true);
 
         initDefaultChannels();
@@ -225,20 +263,22 @@ public class MobileMessagingCore
             initCustomChannels();
         }
 
-        migratePrefsIfNecessary(context);
+        migrateUserDataIfNecessary();
         encryptUserDataIfNecessary();
+    }
 
-        this.installationId = getUniversalInstallationId();
-        this.firebaseAppProvider = firebaseAppProvider;
+    void awaitStartup() {
+        startup.await();
+    }
+
+    boolean isStartupCompleted() {
+        return startup.isCompleted();
     }
 
     /**
      * There is no need to migrate system data fields - they'll be newly fetched/synced on the first call of patch method
      */
-    private void migratePrefsIfNecessary(Context context) {
-        if (PreferenceHelper.shouldMigrateToPrivatePrefs(context)) {
-            PreferenceHelper.migrateToPrivatePrefs(context);
-        }
+    private void migrateUserDataIfNecessary() {
         if (PreferenceHelper.contains(context, MobileMessagingProperty.PERFORMED_USER_DATA_MIGRATION)) {
             return;
         }
@@ -407,10 +447,12 @@ public class MobileMessagingCore
     }
 
     public Collection<MessageHandlerModule> getMessageHandlerModules() {
+        awaitStartup();
         return messageHandlerModules.values();
     }
 
     public MessageHandlerModule findMessageHandlerModule(String moduleName) {
+        awaitStartup();
         if (messageHandlerModules.containsKey(moduleName)) {
             return messageHandlerModules.get(moduleName);
         }
@@ -418,27 +460,38 @@ public class MobileMessagingCore
     }
 
     public <T extends MessageHandlerModule> T getMessageHandlerModule(Class<? extends MessageHandlerModule> cls) {
-        if (messageHandlerModules.containsKey(cls.getName())) {
-            //noinspection unchecked
-            return (T) messageHandlerModules.get(cls.getName());
-        }
+        awaitStartup();
+        synchronized (messageHandlerModules) {
+            if (messageHandlerModules.containsKey(cls.getName())) {
+                //noinspection unchecked
+                return (T) messageHandlerModules.get(cls.getName());
+            }
 
-        //noinspection unchecked
-        T module = (T) moduleLoader.createModule(cls);
-        if (module != null) {
-            module.init(context);
-            messageHandlerModules.put(cls.getName(), module);
+            //noinspection unchecked
+            T module = (T) moduleLoader.createModule(cls);
+            if (module != null) {
+                module.init(context);
+                messageHandlerModules.put(cls.getName(), module);
+            }
+            return module;
         }
-        return module;
     }
 
-    private Map<String, MessageHandlerModule> loadMessageHandlerModules() {
+    /**
+     * Adds modules from the manifest to the ones already created with {@link #getMessageHandlerModule(Class)}, so every module is initialized only once
+     */
+    private void loadMessageHandlerModules() {
         Map<String, MessageHandlerModule> modules = moduleLoader.loadModulesFromManifest(MessageHandlerModule.class);
         modules.put(MobileInteractiveImpl.class.getName(), new MobileInteractiveImpl());
-        for (MessageHandlerModule module : modules.values()) {
-            module.init(context);
+        synchronized (messageHandlerModules) {
+            for (Map.Entry<String, MessageHandlerModule> entry : modules.entrySet()) {
+                if (messageHandlerModules.containsKey(entry.getKey())) {
+                    continue;
+                }
+                entry.getValue().init(context);
+                messageHandlerModules.put(entry.getKey(), entry.getValue());
+            }
         }
-        return modules;
     }
 
     public static DatabaseHelper getDatabaseHelper(Context context) {
@@ -473,6 +526,15 @@ public class MobileMessagingCore
         sync(false, true);
     }
 
+    /**
+     * Syncs when the application comes to foreground, unless the library was cleaned up since it was created
+     */
+    public void applicationInForeground() {
+        if (foregroundSyncEnabled) {
+            foregroundSync();
+        }
+    }
+
     private void sync(boolean required, boolean foreground) {
         didSyncAtLeastOnce = true;
 
@@ -535,7 +597,7 @@ public class MobileMessagingCore
             return;
         }
 
-        for (MessageHandlerModule module : messageHandlerModules.values()) {
+        for (MessageHandlerModule module : getMessageHandlerModules()) {
             module.performSyncActions();
         }
 
@@ -627,11 +689,16 @@ public class MobileMessagingCore
     private void depersonalizeCurrentInstallation(boolean forceDepersonalize) {
         PreferenceHelper.remove(context, MobileMessagingProperty.UNREPORTED_USER_DATA);
         PreferenceHelper.remove(context, MobileMessagingProperty.USER_DATA);
+        PreferenceHelper.remove(context, MobileMessagingProperty.ACKNOWLEDGED_USER_FIELDS);
         PreferenceHelper.remove(context, MobileMessagingProperty.INFOBIP_UNREPORTED_MESSAGE_IDS);
         PreferenceHelper.remove(context, MobileMessagingProperty.INFOBIP_UNREPORTED_SEEN_MESSAGE_IDS);
+        getReportOutbox().clear(ReportOutbox.Type.DELIVERY);
+        getReportOutbox().clear(ReportOutbox.Type.SEEN);
         PreferenceHelper.remove(context, MobileMessagingProperty.INFOBIP_SYNC_MESSAGES_IDS);
+        getSyncMessageIdsStore().clear();
         PreferenceHelper.remove(context, MobileMessagingProperty.IS_PRIMARY_UNREPORTED);
         PreferenceHelper.remove(context, MobileMessagingProperty.UNSENT_MO_MESSAGES);
+        getMoMessageOutbox().clear();
         PreferenceHelper.remove(context, MobileMessagingProperty.CUSTOM_ATTRIBUTES);
         PreferenceHelper.remove(context, MobileMessagingProperty.UNREPORTED_CUSTOM_ATTRIBUTES);
         PreferenceHelper.remove(context, MobileMessagingProperty.APP_USER_ID);
@@ -644,7 +711,7 @@ public class MobileMessagingCore
             messageStore.deleteAll(context);
         }
         getNotificationHandler().cancelAllNotifications();
-        for (MessageHandlerModule module : messageHandlerModules.values()) {
+        for (MessageHandlerModule module : getMessageHandlerModules()) {
             module.depersonalize();
         }
     }
@@ -728,6 +795,7 @@ public class MobileMessagingCore
     }
 
     public String getCustomAttributes() {
+        awaitStartup();
         return PreferenceHelper.findString(context, MobileMessagingProperty.CUSTOM_ATTRIBUTES);
     }
 
@@ -740,6 +808,7 @@ public class MobileMessagingCore
     }
 
     private String getUnreportedCustomAttributes() {
+        awaitStartup();
         if (PreferenceHelper.contains(context, MobileMessagingProperty.UNREPORTED_CUSTOM_ATTRIBUTES)) {
             return PreferenceHelper.findString(context, MobileMessagingProperty.UNREPORTED_CUSTOM_ATTRIBUTES);
         }
@@ -836,61 +905,102 @@ public class MobileMessagingCore
         setCloudTokenReported(false);
     }
 
+    /**
+     * Removes and returns the oldest batch of unreported delivery ids, at most {@link #REPORT_BATCH_SIZE}
+     */
     @NonNull
     public String[] getAndRemoveUnreportedMessageIds() {
-        return PreferenceHelper.findAndRemoveStringArray(context, MobileMessagingProperty.INFOBIP_UNREPORTED_MESSAGE_IDS);
+        List<ReportOutbox.Entry> entries = getReportOutbox().take(ReportOutbox.Type.DELIVERY, REPORT_BATCH_SIZE);
+        Set<String> messageIds = new LinkedHashSet<>(entries.size());
+        for (ReportOutbox.Entry entry : entries) {
+            messageIds.add(entry.getPayload());
+        }
+        return messageIds.toArray(new String[0]);
+    }
+
+    /**
+     * @return oldest batch of delivery reports, they stay in the outbox until {@link #removeUnreportedMessageIds(String...)}
+     */
+    public String[] getUnreportedMessageIds() {
+        List<ReportOutbox.Entry> entries = getReportOutbox().peek(ReportOutbox.Type.DELIVERY, REPORT_BATCH_SIZE);
+        Set<String> messageIds = new LinkedHashSet<>(entries.size());
+        for (ReportOutbox.Entry entry : entries) {
+            messageIds.add(entry.getPayload());
+        }
+        return messageIds.toArray(new String[0]);
+    }
+
+    public void removeUnreportedMessageIds(String... messageIds) {
+        getReportOutbox().ack(ReportOutbox.Type.DELIVERY, messageIds);
     }
 
     public void addUnreportedMessageIds(String... messageIDs) {
-        PreferenceHelper.appendToStringArray(context, MobileMessagingProperty.INFOBIP_UNREPORTED_MESSAGE_IDS, messageIDs);
+        getReportOutbox().append(ReportOutbox.Type.DELIVERY, messageIDs);
+    }
+
+    public boolean hasUnreportedMessageIds() {
+        return getReportOutbox().count(ReportOutbox.Type.DELIVERY) > 0;
     }
 
     public void addSyncMessagesIds(String... messageIDs) {
-        String[] timestampMessageIdPair = enrichMessageIdsWithTimestamp(messageIDs);
-        PreferenceHelper.appendToStringArray(context, MobileMessagingProperty.INFOBIP_SYNC_MESSAGES_IDS, timestampMessageIdPair);
+        getSyncMessageIdsStore().add(messageIDs);
     }
 
     public String[] getSyncMessagesIds() {
-        String[] messageIds = PreferenceHelper.findStringArray(context, MobileMessagingProperty.INFOBIP_SYNC_MESSAGES_IDS);
-        ArrayList<String> messageIdsArrayList = new ArrayList<>(Arrays.asList(messageIds));
-        Set<String> messageIdsToSync = new HashSet<>(Math.min(messageIdsArrayList.size(), MESSAGE_ID_PARAMETER_LIMIT));
-        boolean shouldUpdateMessageIds = false;
-
-        for (int i = 0; i < messageIdsArrayList.size(); i++) {
-            String syncMessage = messageIdsArrayList.get(i);
-            String[] messageIdWithTimestamp = syncMessage.split(StringUtils.COMMA_WITH_SPACE);
+        return getSyncMessageIdsStore().findRecent(MESSAGE_ID_PARAMETER_LIMIT);
+    }
 
-            String strTimeMessageReceived = messageIdWithTimestamp[1];
+    public boolean isMessageAlreadyProcessed(String messageId) {
+        return getSyncMessageIdsStore().contains(messageId);
+    }
 
-            long timeMessageReceived = Long.parseLong(strTimeMessageReceived);
-            long timeInterval = Time.now() - timeMessageReceived;
+    @NonNull
+    public Set<String> findAlreadyProcessedMessageIds(Collection<String> messageIds) {
+        return new HashSet<>(getSyncMessageIdsStore().findStored(messageIds));
+    }
 
-            if (timeInterval > MESSAGE_EXPIRY_TIME || i >= MESSAGE_ID_PARAMETER_LIMIT) {
-                messageIdsArrayList.remove(i);
-                shouldUpdateMessageIds = true;
-                i--;
-            } else {
-                messageIdsToSync.add(messageIdWithTimestamp[0]);
-            }
+    private ReportOutbox getReportOutbox() {
+        if (reportOutbox == null) {
+            reportOutbox = new ReportOutbox(getDatabaseProvider(context));
         }
+        return reportOutbox;
+    }
 
-        if (shouldUpdateMessageIds) {
-            String[] messageIdsToUpdate = new String[messageIdsArrayList.size()];
-            messageIdsToUpdate = messageIdsArrayList.toArray(messageIdsToUpdate);
-            PreferenceHelper.remove(context, MobileMessagingProperty.INFOBIP_SYNC_MESSAGES_IDS);
-            PreferenceHelper.appendToStringArray(context, MobileMessagingProperty.INFOBIP_SYNC_MESSAGES_IDS, messageIdsToUpdate);
+    private MoMessageOutbox getMoMessageOutbox() {
+        if (moMessageOutbox == null) {
+            moMessageOutbox = new MoMessageOutbox(getDatabaseProvider(context));
         }
-
-        return messageIdsToSync.toArray(new String[0]);
+        return moMessageOutbox;
     }
 
-    public boolean isMessageAlreadyProcessed(String messageId) {
-        return Arrays.asList(getSyncMessagesIds()).contains(messageId);
+    private SyncMessageIdsStore getSyncMessageIdsStore() {
+        if (syncMessageIdsStore == null) {
+            syncMessageIdsStore = new SyncMessageIdsStore(getDatabaseProvider(context));
+        }
+        return syncMessageIdsStore;
     }
 
+    /**
+     * Returns the oldest batch of unreported seen reports, at most {@link #REPORT_BATCH_SIZE}.
+     * Reports for messages with generated ids are skipped until ids are updated.
+     *
+     * @return seen reports as concatenated message id and seen timestamp
+     */
     public String[] getUnreportedSeenMessageIds() {
-        String[] ids = PreferenceHelper.findStringArray(context, MobileMessagingProperty.INFOBIP_UNREPORTED_SEEN_MESSAGE_IDS);
-        return filterOutGeneratedMessageIds(ids);
+        List<ReportOutbox.Entry> entries = getReportOutbox().peek(ReportOutbox.Type.SEEN, ReportOutbox.MAX_ENTRIES_PER_TYPE);
+        Set<String> generatedMessageIds = new HashSet<>(Arrays.asList(getGeneratedMessageIds()));
+        List<String> reports = new ArrayList<>(Math.min(entries.size(), REPORT_BATCH_SIZE));
+        for (ReportOutbox.Entry entry : entries) {
+            String messageId = entry.getPayload();
+            if (generatedMessageIds.contains(messageId) || isInUuidFormat(messageId)) {
+                continue;
+            }
+            reports.add(StringUtils.concat(messageId, String.valueOf(entry.getTimestamp()), StringUtils.COMMA_WITH_SPACE));
+            if (reports.size() == REPORT_BATCH_SIZE) {
+                break;
+            }
+        }
+        return reports.toArray(new String[0]);
     }
 
     /**
@@ -903,26 +1013,7 @@ public class MobileMessagingCore
             return;
         }
 
-        PreferenceHelper.runTransaction(new PreferenceHelper.Transaction<Void>() {
-            @Override
-            public Void run() {
-                String[] reports = PreferenceHelper.findStringArray(context, MobileMessagingProperty.INFOBIP_UNREPORTED_SEEN_MESSAGE_IDS);
-                if (reports.length == 0) {
-                    return null;
-                }
-
-                for (int i = 0; i < reports.length; i++) {
-                    String[] messageIdAndTimestamp = reports[i].split(StringUtils.COMMA_WITH_SPACE);
-                    String newMessageId = messageIdMap.get(messageIdAndTimestamp[0]);
-                    if (newMessageId != null) {
-                        reports[i] = StringUtils.concat(newMessageId, messageIdAndTimestamp[1], StringUtils.COMMA_WITH_SPACE);
-                    }
-                }
-
-                PreferenceHelper.saveStringArray(context, MobileMessagingProperty.INFOBIP_UNREPORTED_SEEN_MESSAGE_IDS, reports);
-                return null;
-            }
-        });
+        getReportOutbox().replacePayloads(ReportOutbox.Type.SEEN, messageIdMap);
     }
 
     public void updateGeneratedMessageIds(final Map<String, String> messageIdMap) {
@@ -957,8 +1048,7 @@ public class MobileMessagingCore
     }
 
     private void addUnreportedSeenMessageIds(final String... messageIDs) {
-        String[] seenMessages = enrichMessageIdsWithTimestamp(messageIDs);
-        PreferenceHelper.appendToStringArray(context, MobileMessagingProperty.INFOBIP_UNREPORTED_SEEN_MESSAGE_IDS, seenMessages);
+        getReportOutbox().append(ReportOutbox.Type.SEEN, messageIDs);
     }
 
     public String[] enrichMessageIdsWithTimestamp(String[] messageIDs) {
@@ -1001,8 +1091,7 @@ public class MobileMessagingCore
     }
 
     private boolean isInUuidFormat(String msgIdToReport) {
-        Pattern p = Pattern.compile("[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}$");
-        return p.matcher(msgIdToReport).matches();
+        return UUID_PATTERN.matcher(msgIdToReport).matches();
     }
 
     /**
@@ -1030,8 +1119,14 @@ public class MobileMessagingCore
         return reportContents.length > 0 ? reportContents[0] : null;
     }
 
-    public void removeUnreportedSeenMessageIds(final String... messageIDs) {
-        PreferenceHelper.deleteFromStringArray(context, MobileMessagingProperty.INFOBIP_UNREPORTED_SEEN_MESSAGE_IDS, messageIDs);
+    /**
+     * Removes reported seen reports
+     *
+     * @param reports concatenated message id and timestamp
+     */
+    public void removeUnreportedSeenMessageIds(final String... reports) {
+        List<String> messageIds = getSeenMessageIdsFromReports(reports);
+        getReportOutbox().ack(ReportOutbox.Type.SEEN, messageIds.toArray(new String[0]));
     }
 
     public void setMessagesDelivered(String... messageIds) {
@@ -1042,6 +1137,39 @@ public class MobileMessagingCore
         }
     }
 
+    /**
+     * Records delivery of messages received by push, the report is sent once network is available.
+     * Reports of messages received in the meantime are sent together.
+     *
+     * @param messageIds ids of delivered messages
+     */
+    public void scheduleDeliveryReport(String... messageIds) {
+        if (messageIds == null) {
+            return;
+        }
+
+        addUnreportedMessageIds(messageIds);
+        addSyncMessagesIds(messageIds);
+        try {
+            MobileMessagingCloudService.enqueueDeliveryReport(context);
+        } catch (Exception e) {
+            MobileMessagingLogger.e("Cannot enqueue delivery report, sending it now", e);
+            sync();
+        }
+    }
+
+    /**
+     * Sends all reports which are still being collected, without waiting for the end of reporting windows.
+     * Called when the application goes to background, flushers store the reports so they run on the IO pool.
+     */
+    public void flushBatchedReports() {
+        try {
+            SdkExecutor.getInstance().io().execute(new SdkExecutor.Task(Batcher::flushAll, SdkExecutor.Priority.BACKGROUND, "BatchedReports"));
+        } catch (RejectedExecutionException e) {
+            MobileMessagingLogger.w("Cannot flush batched reports now, they will be sent at the end of their window");
+        }
+    }
+
     public void setMessagesSeen(String... messageIds) {
         if (messageIds != null) {
             addUnreportedSeenMessageIds(messageIds);
@@ -1080,15 +1208,23 @@ public class MobileMessagingCore
     }
 
     public void addUnreportedInAppClicks(final String... clickUrls) {
-        PreferenceHelper.appendToStringArray(context, MobileMessagingProperty.INFOBIP_UNREPORTED_IN_APP_CLICK_URLS, clickUrls);
+        getReportOutbox().append(ReportOutbox.Type.IN_APP_CLICK, clickUrls);
     }
 
+    /**
+     * Returns the oldest batch of unreported in-app click actions, at most {@link #REPORT_BATCH_SIZE}
+     */
     public String[] getUnreportedInAppClickActions() {
-        return PreferenceHelper.findStringArray(context, MobileMessagingProperty.INFOBIP_UNREPORTED_IN_APP_CLICK_URLS);
+        List<ReportOutbox.Entry> entries = getReportOutbox().peek(ReportOutbox.Type.IN_APP_CLICK, REPORT_BATCH_SIZE);
+        String[] clickActions = new String[entries.size()];
+        for (int i = 0; i < entries.size(); i++) {
+            clickActions[i] = entries.get(i).getPayload();
+        }
+        return clickActions;
     }
 
     public void removeReportedInAppClickActions(final String... clickUrls) {
-        PreferenceHelper.deleteFromStringArray(context, MobileMessagingProperty.INFOBIP_UNREPORTED_IN_APP_CLICK_URLS, clickUrls);
+        getReportOutbox().ack(ReportOutbox.Type.IN_APP_CLICK, clickUrls);
     }
 
     /**
@@ -1135,6 +1271,21 @@ public class MobileMessagingCore
         this.notificationSettings = notificationSettings;
     }
 
+    @Override
+    public void addEventListener(@NonNull MobileMessagingEventListener listener) {
+        addEventListener(listener, ContextCompat.getMainExecutor(context));
+    }
+
+    @Override
+    public void addEventListener(@NonNull MobileMessagingEventListener listener, @NonNull Executor executor) {
+        EventListeners.add(listener, executor);
+    }
+
+    @Override
+    public void removeEventListener(@NonNull MobileMessagingEventListener listener) {
+        EventListeners.remove(listener);
+    }
+
     public void setJwtSupplier(JwtSupplier jwtSupplier) {
         this.jwtSupplier = jwtSupplier;
     }
@@ -1303,6 +1454,10 @@ public class MobileMessagingCore
         return stats;
     }
 
+    public PushLatencyStats getPushLatencyStats() {
+        return pushLatencyStats;
+    }
+
     private void setApplicationCode(String applicationCode) {
         if (shouldSaveApplicationCode(context)) {
             if (StringUtils.isBlank(applicationCode)) {
@@ -1499,6 +1654,35 @@ public class MobileMessagingCore
         PreferenceHelper.saveBoolean(context, MobileMessagingProperty.BANNER_FOREGROUND_NOTIFICATIONS, bannerForegroundNotifications);
     }
 
+    public static void setStagedStartupEnabled(Context context, boolean stagedStartupEnabled) {
+        PreferenceHelper.saveBoolean(context, MobileMessagingProperty.STAGED_STARTUP_ENABLED, stagedStartupEnabled);
+    }
+
+    static boolean isStagedStartupEnabled(Context context) {
+        return PreferenceHelper.findBoolean(context, MobileMessagingProperty.STAGED_STARTUP_ENABLED);
+    }
+
+    public static void setGlobalBroadcastEvents(Context context, @Nullable Event[] events) {
+        saveBroadcastEvents(context, MobileMessagingProperty.GLOBAL_BROADCAST_EVENTS, events);
+    }
+
+    public static void setLocalBroadcastEvents(Context context, @Nullable Event[] events) {
+        saveBroadcastEvents(context, MobileMessagingProperty.LOCAL_BROADCAST_EVENTS, events);
+    }
+
+    private static void saveBroadcastEvents(Context context, MobileMessagingProperty property, @Nullable Event[] events) {
+        if (events == null) {
+            PreferenceHelper.remove(context, property);
+        } else {
+            String[] keys = new String[events.length];
+            for (int i = 0; i < events.length; i++) {
+                keys[i] = events[i].getKey();
+            }
+            PreferenceHelper.saveStringArray(context, property, keys);
+        }
+        AndroidBroadcaster.broadcastEventsChanged();
+    }
+
     static boolean shouldSaveApplicationCode(Context context) {
         return PreferenceHelper.findBoolean(context, MobileMessagingProperty.SAVE_APP_CODE_ON_DISK.getKey(), true);
     }
@@ -1509,7 +1693,7 @@ public class MobileMessagingCore
     }
 
     private static void cleanup(Context context) {
-        for (MessageHandlerModule module : Platform.mobileMessagingCore.get(context).messageHandlerModules.values()) {
+        for (MessageHandlerModule module : Platform.mobileMessagingCore.get(context).getMessageHandlerModules()) {
             module.cleanup();
         }
 
@@ -1517,10 +1701,7 @@ public class MobileMessagingCore
         PreferenceHelper.remove(context, MobileMessagingProperty.APPLICATION_CODE);
         PreferenceHelper.remove(context, MobileMessagingProperty.APPLICATION_CODE_HASH);
 
-        if (mobileMessagingSynchronizationReceiver != null) {
-            ComponentUtil.setSynchronizationReceiverStateEnabled(context, mobileMessagingSynchronizationReceiver, false);
-            mobileMessagingSynchronizationReceiver = null;
-        }
+        foregroundSyncEnabled = false;
         ComponentUtil.setConnectivityComponentsStateEnabled(context, false);
         resetMobileApi();
 
@@ -1536,10 +1717,16 @@ public class MobileMessagingCore
         PreferenceHelper.remove(context, MobileMessagingProperty.INFOBIP_UNREPORTED_SEEN_MESSAGE_IDS);
         PreferenceHelper.remove(context, MobileMessagingProperty.UNREPORTED_SYSTEM_DATA);
         PreferenceHelper.remove(context, MobileMessagingProperty.REPORTED_SYSTEM_DATA_HASH);
+        PreferenceHelper.remove(context, MobileMessagingProperty.ACKNOWLEDGED_INSTALLATION_FIELDS);
+        PreferenceHelper.remove(context, MobileMessagingProperty.ACKNOWLEDGED_USER_FIELDS);
         PreferenceHelper.remove(context, MobileMessagingProperty.IS_PRIMARY_UNREPORTED);
         PreferenceHelper.remove(context, MobileMessagingProperty.UNSENT_MO_MESSAGES);
 
         PreferenceHelper.remove(context, MobileMessagingProperty.INFOBIP_SYNC_MESSAGES_IDS);
+        Platform.mobileMessagingCore.get(context).getSyncMessageIdsStore().clear();
+        Platform.mobileMessagingCore.get(context).getReportOutbox().clear(ReportOutbox.Type.DELIVERY);
+        Platform.mobileMessagingCore.get(context).getReportOutbox().clear(ReportOutbox.Type.SEEN);
+        Platform.mobileMessagingCore.get(context).getMoMessageOutbox().clear();
         PreferenceHelper.remove(context, MobileMessagingProperty.CUSTOM_ATTRIBUTES);
         PreferenceHelper.remove(context, MobileMessagingProperty.UNREPORTED_CUSTOM_ATTRIBUTES);
         PreferenceHelper.remove(context, MobileMessagingProperty.APP_USER_ID);
@@ -1571,7 +1758,7 @@ public class MobileMessagingCore
         mmCore.lastForegroundSyncMillis = null;
         mmCore.lastSyncTimeMillis = null;
 
-        ComponentUtil.setSynchronizationReceiverStateEnabled(context, mobileMessagingSynchronizationReceiver, false);
+        foregroundSyncEnabled = false;
         ComponentUtil.setConnectivityComponentsStateEnabled(context, false);
 
         //it's needed for MobileMessagingCore.Build, when user uses different appCode
@@ -1627,6 +1814,7 @@ public class MobileMessagingCore
 
     @Nullable
     public User getUser() {
+        awaitStartup();
         User existing = null;
         if (PreferenceHelper.contains(context, MobileMessagingProperty.USER_DATA)) {
             existing = UserMapper.fromJson(PreferenceHelper.findString(context, MobileMessagingProperty.USER_DATA));
@@ -1928,6 +2116,7 @@ public class MobileMessagingCore
 
     @Nullable
     public User getUnreportedUserData() {
+        awaitStartup();
         if (PreferenceHelper.contains(context, MobileMessagingProperty.UNREPORTED_USER_DATA)) {
             return UserMapper.fromJson(PreferenceHelper.findString(context, MobileMessagingProperty.UNREPORTED_USER_DATA));
         }
@@ -2037,6 +2226,62 @@ public class MobileMessagingCore
 
     public void removeReportedSystemData() {
         PreferenceHelper.remove(context, MobileMessagingProperty.REPORTED_SYSTEM_DATA_HASH);
+        PreferenceHelper.remove(context, MobileMessagingProperty.ACKNOWLEDGED_INSTALLATION_FIELDS);
+    }
+
+    /**
+     * @return fields of this installation last acknowledged by the backend, only changed fields need to be patched
+     */
+    @NonNull
+    public AcknowledgedFields getAcknowledgedInstallationFields() {
+        return AcknowledgedFields.fromJson(PreferenceHelper.findString(context, MobileMessagingProperty.ACKNOWLEDGED_INSTALLATION_FIELDS));
+    }
+
+    public synchronized void acknowledgeInstallationFields(Map<String, Object> reportedFields) {
+        AcknowledgedFields acknowledgedFields = getAcknowledgedInstallationFields();
+        acknowledgedFields.acknowledge(reportedFields);
+        PreferenceHelper.saveString(context, MobileMessagingProperty.ACKNOWLEDGED_INSTALLATION_FIELDS, acknowledgedFields.toJson());
+    }
+
+    /**
+     * Replaces acknowledged installation fields with the ones received from the backend
+     *
+     * @param installationFields fields of this installation as known to the backend
+     */
+    public synchronized void resetAcknowledgedInstallationFields(@NonNull Map<String, Object> installationFields) {
+        PreferenceHelper.remove(context, MobileMessagingProperty.ACKNOWLEDGED_INSTALLATION_FIELDS);
+        acknowledgeInstallationFields(installationFields);
+    }
+
+    /**
+     * @return fields of the user last acknowledged by the backend, only changed fields need to be patched.
+     * Empty if user data is not saved on disk, so all fields are patched then.
+     */
+    @NonNull
+    public AcknowledgedFields getAcknowledgedUserFields() {
+        return AcknowledgedFields.fromJson(PreferenceHelper.findString(context, MobileMessagingProperty.ACKNOWLEDGED_USER_FIELDS));
+    }
+
+    public synchronized void acknowledgeUserFields(Map<String, Object> reportedFields) {
+        if (!shouldSaveUserData()) {
+            return;
+        }
+
+        AcknowledgedFields acknowledgedFields = getAcknowledgedUserFields();
+        acknowledgedFields.acknowledge(reportedFields);
+        PreferenceHelper.saveString(context, MobileMessagingProperty.ACKNOWLEDGED_USER_FIELDS, acknowledgedFields.toJson());
+    }
+
+    /**
+     * Replaces acknowledged user fields with the ones received from the backend
+     *
+     * @param userFields fields of the user as known to the backend, null if unknown
+     */
+    public synchronized void resetAcknowledgedUserFields(@Nullable Map<String, Object> userFields) {
+        PreferenceHelper.remove(context, MobileMessagingProperty.ACKNOWLEDGED_USER_FIELDS);
+        if (userFields != null) {
+            acknowledgeUserFields(userFields);
+        }
     }
 
     public void setSystemDataReported() {
@@ -2077,6 +2322,7 @@ public class MobileMessagingCore
             setUnreportedCustomAttributes(getMergedUnreportedAndReportedCustomAtts());
             setShouldRepersonalize(true);
             removeReportedSystemData();
+            resetAcknowledgedUserFields(null);
             setUnreportedPrimarySetting();
             setPushRegistrationEnabledReported(false);
         }
@@ -2109,7 +2355,8 @@ public class MobileMessagingCore
     private MoMessageSender moMessageSender() {
         if (moMessageSender == null) {
             moMessageSender = new MoMessageSender(context, this, broadcaster,
-                    registrationAlignedExecutor, stats, retryPolicyProvider.DEFAULT(), mobileApiResourceProvider().getMobileApiMessages(context), getMessageStoreWrapper());
+                    registrationAlignedExecutor, stats, retryPolicyProvider.DEFAULT(), mobileApiResourceProvider().getMobileApiMessages(context), getMessageStoreWrapper(),
+                    getMoMessageOutbox());
         }
         return moMessageSender;
     }
@@ -2119,7 +2366,7 @@ public class MobileMessagingCore
         if (userDataReporter == null) {
             userDataReporter = new UserDataReporter(this, registrationAlignedExecutor,
                     broadcaster, retryPolicyProvider, stats, mobileApiResourceProvider().getMobileApiUserData(context),
-                    debouncingGuard());
+                    debouncingGuard(), singleFlight());
         }
         return userDataReporter;
     }
@@ -2144,9 +2391,9 @@ public class MobileMessagingCore
     @NonNull
     private MessagesSynchronizer messagesSynchronizer() {
         if (messagesSynchronizer == null) {
-            MobileMessageHandler mobileMessageHandler = new MobileMessageHandler(this, broadcaster, getNotificationHandler(), getMessageStoreWrapper());
+            MobileMessageHandler mobileMessageHandler = new MobileMessageHandler(this, broadcaster, getNotificationHandler(), getMessageStoreWrapper(), new ImagePrefetcher(context));
             messagesSynchronizer = new MessagesSynchronizer(this, stats, registrationAlignedExecutor,
-                    broadcaster, retryPolicyProvider.DEFAULT(), mobileMessageHandler, mobileApiResourceProvider().getMobileApiMessages(context));
+                    broadcaster, retryPolicyProvider.DEFAULT(), mobileMessageHandler, mobileApiResourceProvider().getMobileApiMessages(context), singleFlight());
         }
         return messagesSynchronizer;
     }
@@ -2179,7 +2426,7 @@ public class MobileMessagingCore
     @NonNull
     private BaseUrlChecker baseUrlChecker() {
         if (baseUrlChecker == null) {
-            baseUrlChecker = new BaseUrlChecker(context, registrationAlignedExecutor, mobileApiResourceProvider().getMobileApiBaseUrl(context));
+            baseUrlChecker = new BaseUrlChecker(context, registrationAlignedExecutor, mobileApiResourceProvider().getMobileApiBaseUrl(context), singleFlight());
         }
         return baseUrlChecker;
     }
@@ -2194,7 +2441,8 @@ public class MobileMessagingCore
                     registrationAlignedExecutor,
                     broadcaster,
                     retryPolicyProvider,
-                    mobileApiResourceProvider().getMobileApiAppInstance(context));
+                    mobileApiResourceProvider().getMobileApiAppInstance(context),
+                    singleFlight());
         }
         return installationSynchronizer;
     }
@@ -2227,6 +2475,13 @@ public class MobileMessagingCore
         return debouncingGuard;
     }
 
+    private SingleFlight singleFlight() {
+        if (singleFlight == null) {
+            singleFlight = new SingleFlight();
+        }
+        return singleFlight;
+    }
+
     /**
      * The {@link MobileMessagingCore} builder class.
      *
@@ -2461,6 +2716,7 @@ public class MobileMessagingCore
         PreferenceHelper.remove(context, MobileMessagingProperty.SIM_NETWORK_CODE);
         PreferenceHelper.remove(context, MobileMessagingProperty.UNREPORTED_SYSTEM_DATA);
         PreferenceHelper.remove(context, MobileMessagingProperty.REPORTED_SYSTEM_DATA_HASH);
+        PreferenceHelper.remove(context, MobileMessagingProperty.ACKNOWLEDGED_INSTALLATION_FIELDS);
         PreferenceHelper.remove(context, MobileMessagingProperty.SYSTEM_DATA_VERSION_POSTFIX);
 
         reflagPreservedState(context);
@@ -0,0 +1,142 @@
+/*
+ * MobileMessagingEventListener.java
+ * Mobile Messaging SDK
+ *
+ * Copyright (c) 2016-2025 Infobip Limited
+ * Licensed under the Apache License, Version 2.0
+ */
+package org.infobip.mobile.messaging;
+
+import org.infobip.mobile.messaging.mobileapi.MobileMessagingError;
+
+import java.util.List;
+
+/**
+ * In-process listener of library events, an alternative to receiving {@link Event} broadcasts.
+ * <p>
+ * Listener receives the same events as broadcast receivers, but as typed objects, without the Intent and Bundle serialization.
+ * Override only the methods you need and register the listener with {@link MobileMessaging#addEventListener(MobileMessagingEventListener, java.util.concurrent.Executor)}.
+ * <pre>
+ * {@code
+ * MobileMessaging.getInstance(context).addEventListener(new MobileMessagingEventListener() {
+ *     public void onMessageReceived(Message message) {
+ *         ... process your message here
+ *     }
+ * });}
+ * </pre>
+ *
+ * @see Event
+ */
+public abstract class MobileMessagingEventListener {
+
+    /**
+     * @param message received message
+     * @see Event#MESSAGE_RECEIVED
+     */
+    public void onMessageReceived(Message message) {
+    }
+
+    /**
+     * @param message        displayed message
+     * @param notificationId notification ID, -1 if notification wasn't displayed
+     * @see Event#NOTIFICATION_DISPLAYED
+     */
+    public void onNotificationDisplayed(Message message, int notificationId) {
+    }
+
+    /**
+     * @param message message of the tapped notification
+     * @see Event#NOTIFICATION_TAPPED
+     */
+    public void onNotificationTapped(Message message) {
+    }
+
+    /**
+     * @param error error which occurred
+     * @see Event#API_COMMUNICATION_ERROR
+     */
+    public void onError(MobileMessagingError error) {
+    }
+
+    /**
+     * @param cloudToken registration token received from the cloud
+     * @see Event#TOKEN_RECEIVED
+     */
+    public void onTokenReceived(String cloudToken) {
+    }
+
+    /**
+     * @param cloudToken         registration token received from the cloud
+     * @param pushRegistrationId push registration ID of the installation
+     * @see Event#REGISTRATION_CREATED
+     */
+    public void onRegistrationCreated(String cloudToken, String pushRegistrationId) {
+    }
+
+    /**
+     * @param messageIds ids of messages reported as delivered
+     * @see Event#DELIVERY_REPORTS_SENT
+     */
+    public void onDeliveryReported(String[] messageIds) {
+    }
+
+    /**
+     * @param messageIds ids of messages reported as seen
+     * @see Event#SEEN_REPORTS_SENT
+     */
+    public void onSeenReported(String[] messageIds) {
+    }
+
+    /**
+     * @param messages sent messages
+     * @see Event#MESSAGES_SENT
+     */
+    public void onMessagesSent(List<Message> messages) {
+    }
+
+    /**
+     * @param user updated user
+     * @see Event#USER_UPDATED
+     */
+    public void onUserUpdated(User user) {
+    }
+
+    /**
+     * @param installation updated installation
+     * @see Event#INSTALLATION_UPDATED
+     */
+    public void onInstallationUpdated(Installation installation) {
+    }
+
+    /**
+     * @param user personalized user
+     * @see Event#PERSONALIZED
+     */
+    public void onPersonalized(User user) {
+    }
+
+    /**
+     * @see Event#DEPERSONALIZED
+     */
+    public void onDepersonalized() {
+    }
+
+    /**
+     * @see Event#USER_SESSIONS_SENT
+     */
+    public void onUserSessionsReported() {
+    }
+
+    /**
+     * @see Event#CUSTOM_EVENTS_SENT
+     */
+    public void onCustomEventsReported() {
+    }
+
+    /**
+     * @param clickUrls reported in-app click urls
+     * @see Event#IN_APP_CLICKS_REPORTED
+     */
+    public void onInAppClicksReported(String[] clickUrls) {
+    }
+}
@@ -56,6 +56,8 @@ public enum MobileMessagingProperty {
     INFOBIP_SYNC_MESSAGES_IDS("org.infobip.mobile.messaging.infobip.INFOBIP_SYNC_MESSAGES_IDS", new String[0]),
     MESSAGE_STORE_CLASS("org.infobip.mobile.messaging.infobip.MESSAGE_STORE_CLASS"),
     UNSENT_MO_MESSAGES("org.infobip.mobile.messaging.infobip.UNSENT_MO_MESSAGES", new String[0]),
+    PENDING_RICH_MEDIA_PREFETCH("org.infobip.mobile.messaging.infobip.PENDING_RICH_MEDIA_PREFETCH", new String[0]),
+    PREFETCHED_RICH_MEDIA("org.infobip.mobile.messaging.infobip.PREFETCHED_RICH_MEDIA", new String[0]),
     // END
 
     // START: notifications config
@@ -81,6 +83,10 @@ public enum MobileMessagingProperty {
     NOTIFICATION_CHANNEL_NAME("org.infobip.mobile.messaging.infobip.NOTIFICATION_CHANNEL_NAME", null),
     NOTIFICATION_CHANNEL_AUDIO("org.infobip.mobile.messaging.infobip.NOTIFICATION_CHANNEL_AUDIO", null),
     BANNER_FOREGROUND_NOTIFICATIONS("org.infobip.mobile.messaging.infobip.BANNER_FOREGROUND_NOTIFICATIONS", false),
+    GLOBAL_BROADCAST_EVENTS("org.infobip.mobile.messaging.infobip.GLOBAL_BROADCAST_EVENTS"),
+    LOCAL_BROADCAST_EVENTS("org.infobip.mobile.messaging.infobip.LOCAL_BROADCAST_EVENTS"),
+    STAGED_STARTUP_ENABLED("org.infobip.mobile.messaging.infobip.STAGED_STARTUP_ENABLED", false),
+    INBOX_CACHE_ENABLED("org.infobip.mobile.messaging.infobip.INBOX_CACHE_ENABLED", false),
     // END
 
     // START: privacy settings prefs
@@ -106,6 +112,7 @@ public enum MobileMessagingProperty {
 
     UNREPORTED_SYSTEM_DATA("org.infobip.mobile.messaging.infobip.UNREPORTED_SYSTEM_DATA"),
     REPORTED_SYSTEM_DATA_HASH("org.infobip.mobile.messaging.infobip.REPORTED_SYSTEM_DATA_HASH", 0),
+    ACKNOWLEDGED_INSTALLATION_FIELDS("org.infobip.mobile.messaging.infobip.ACKNOWLEDGED_INSTALLATION_FIELDS"),
     SYSTEM_DATA_VERSION_POSTFIX("org.infobip.mobile.messaging.SYSTEM_DATA_VERSION_POSTFIX"),
 
     IS_PRIMARY("org.infobip.mobile.messaging.infobip.IS_PRIMARY", false),
@@ -122,6 +129,7 @@ public enum MobileMessagingProperty {
 
     UNREPORTED_USER_DATA("org.infobip.mobile.messaging.infobip.UNREPORTED_USER_DATA"),
     USER_DATA("org.infobip.mobile.messaging.infobip.USER_DATA", "", true),
+    ACKNOWLEDGED_USER_FIELDS("org.infobip.mobile.messaging.infobip.ACKNOWLEDGED_USER_FIELDS", null, true),
     USER_INSTALLATIONS_EXPIRE_AT("org.infobip.mobile.messaging.infobip.USER_INSTALLATIONS_EXPIRE_AT"),
 
     USER_CUSTOM_EVENTS("org.infobip.mobile.messaging.infobip.USER_CUSTOM_EVENTS"),
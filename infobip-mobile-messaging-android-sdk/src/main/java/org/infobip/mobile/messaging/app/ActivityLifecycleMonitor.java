@@ -11,10 +11,8 @@ import android.annotation.SuppressLint;
 import android.app.Activity;
 import android.app.Application;
 import android.content.Context;
-import android.content.Intent;
 import android.os.Bundle;
 
-import org.infobip.mobile.messaging.LocalEvent;
 import org.infobip.mobile.messaging.MessageHandlerModule;
 import org.infobip.mobile.messaging.MobileMessagingCore;
 import org.infobip.mobile.messaging.logging.MobileMessagingLogger;
@@ -26,7 +24,6 @@ import java.util.Collection;
 import androidx.activity.ComponentActivity;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
-import androidx.localbroadcastmanager.content.LocalBroadcastManager;
 
 /**
  * @author sslavin
@@ -79,7 +76,7 @@ public class ActivityLifecycleMonitor implements Application.ActivityLifecycleCa
     }
 
     private static void dispatchEventToCore(Context context) {
-        LocalBroadcastManager.getInstance(context).sendBroadcast(new Intent(LocalEvent.APPLICATION_FOREGROUND.getKey()));
+        MobileMessagingCore.getInstance(context.getApplicationContext()).applicationInForeground();
     }
 
     @Override
@@ -113,6 +110,10 @@ public class ActivityLifecycleMonitor implements Application.ActivityLifecycleCa
     public void onActivityStopped(Activity activity) {
         if (activityListener != null)
             activityListener.onActivityStopped(activity);
+        if (isBackground() && activity != null) {
+            // no other activity was resumed, application went to background
+            MobileMessagingCore.getInstance(activity).flushBatchedReports();
+        }
     }
 
     @Override
@@ -7,9 +7,14 @@
  */
 package org.infobip.mobile.messaging.cloud;
 
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+
 import org.infobip.mobile.messaging.Message;
 import org.infobip.mobile.messaging.MessageHandlerModule;
 import org.infobip.mobile.messaging.MobileMessagingCore;
+import org.infobip.mobile.messaging.image.ImagePrefetcher;
 import org.infobip.mobile.messaging.logging.MobileMessagingLogger;
 import org.infobip.mobile.messaging.mobileapi.InternalSdkError;
 import org.infobip.mobile.messaging.notification.NotificationHandler;
@@ -18,6 +23,16 @@ import org.infobip.mobile.messaging.platform.Time;
 import org.infobip.mobile.messaging.storage.MessageStoreWrapper;
 import org.infobip.mobile.messaging.util.StringUtils;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import androidx.annotation.Nullable;
+
+import static org.infobip.mobile.messaging.BroadcastParameter.NOTIFICATION_NOT_DISPLAYED_ID;
+
 /**
  * @author mstipanov
  * @since 14.04.2016.
@@ -28,12 +43,20 @@ public class MobileMessageHandler {
     private final NotificationHandler notificationHandler;
     private final MessageStoreWrapper messageStoreWrapper;
     private final MobileMessagingCore mobileMessagingCore;
+    private final ImagePrefetcher imagePrefetcher;
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
 
     public MobileMessageHandler(MobileMessagingCore mobileMessagingCore, Broadcaster broadcaster, NotificationHandler notificationHandler, MessageStoreWrapper messageStoreWrapper) {
+        this(mobileMessagingCore, broadcaster, notificationHandler, messageStoreWrapper, null);
+    }
+
+    public MobileMessageHandler(MobileMessagingCore mobileMessagingCore, Broadcaster broadcaster, NotificationHandler notificationHandler, MessageStoreWrapper messageStoreWrapper,
+                                @Nullable ImagePrefetcher imagePrefetcher) {
         this.broadcaster = broadcaster;
         this.notificationHandler = notificationHandler;
         this.messageStoreWrapper = messageStoreWrapper;
         this.mobileMessagingCore = mobileMessagingCore;
+        this.imagePrefetcher = imagePrefetcher;
     }
 
     /**
@@ -42,6 +65,16 @@ public class MobileMessageHandler {
      * @param message new message
      */
     public void handleMessage(Message message) {
+        handleMessage(message, SystemClock.elapsedRealtime());
+    }
+
+    /**
+     * Handles new push message: stores it and displays notification right away, delivery report is sent once network is available.
+     *
+     * @param message    new message
+     * @param receivedAt time when the message was received, in {@link SystemClock#elapsedRealtime()} base
+     */
+    public void handleMessage(Message message, long receivedAt) {
         if (!mobileMessagingCore.isPushRegistrationEnabled() || mobileMessagingCore.isDepersonalizeInProgress()) {
             return;
         }
@@ -63,12 +96,10 @@ public class MobileMessageHandler {
 
         message.setReceivedTimestamp(Time.now());
         sendDeliveryReport(message);
+        prefetchRichMedia(Collections.singletonList(message));
 
-        for (MessageHandlerModule handler : mobileMessagingCore.getMessageHandlerModules()) {
-            MobileMessagingLogger.d("Dispatching message to " + handler.getClass().getName());
-            if (handler.handleMessage(message)) {
-                return;
-            }
+        if (dispatchToModules(message)) {
+            return;
         }
 
         saveMessage(message);
@@ -77,10 +108,161 @@ public class MobileMessageHandler {
         MobileMessagingLogger.d("Message is silent: " + message.isSilent());
         if (!message.isSilent()) {
             int notificationId = notificationHandler.displayNotification(message);
+            recordLatency(message, receivedAt);
             broadcaster.notificationDisplayed(message, notificationId);
         }
     }
 
+    /**
+     * Sends delivery reports recorded by {@link #handleMessage(Message, long)}
+     */
+    public void reportDelivery() {
+        if (mobileMessagingCore.hasUnreportedMessageIds()) {
+            mobileMessagingCore.sync();
+        }
+    }
+
+    private void recordLatency(Message message, long receivedAt) {
+        long latencyMillis = SystemClock.elapsedRealtime() - receivedAt;
+        mobileMessagingCore.getPushLatencyStats().record(latencyMillis);
+        MobileMessagingLogger.d("Notification for " + message.getMessageId() + " posted " + latencyMillis + " ms after receive");
+    }
+
+    /**
+     * Handles messages received together, e.g. as a result of message sync.
+     * <br>
+     * Should be called from a background thread: duplicates are filtered out with one lookup, delivery is recorded once
+     * and messages are saved in one store transaction. Notifications of a burst of messages are grouped under a summary.
+     * Only broadcasts are posted to the main thread.
+     *
+     * @param messages new messages, ordered from the oldest to the newest
+     */
+    public void handleMessages(List<Message> messages) {
+        if (messages == null || messages.isEmpty()) {
+            return;
+        }
+
+        if (!mobileMessagingCore.isPushRegistrationEnabled() || mobileMessagingCore.isDepersonalizeInProgress()) {
+            return;
+        }
+
+        final List<Message> newMessages = filterNewMessages(messages);
+        if (newMessages.isEmpty()) {
+            return;
+        }
+
+        long now = Time.now();
+        String[] messageIds = new String[newMessages.size()];
+        for (int i = 0; i < newMessages.size(); i++) {
+            newMessages.get(i).setReceivedTimestamp(now);
+            messageIds[i] = newMessages.get(i).getMessageId();
+        }
+        MobileMessagingLogger.d("Sending DR for " + messageIds.length + " messages");
+        mobileMessagingCore.setMessagesDelivered(messageIds);
+        prefetchRichMedia(newMessages);
+
+        final List<Message> unhandledMessages = new ArrayList<>(newMessages.size());
+        for (Message message : newMessages) {
+            if (!dispatchToModules(message)) {
+                unhandledMessages.add(message);
+            }
+        }
+        if (unhandledMessages.isEmpty()) {
+            return;
+        }
+
+        saveMessages(unhandledMessages);
+
+        final List<Message> notifiedMessages = new ArrayList<>(unhandledMessages.size());
+        for (Message message : unhandledMessages) {
+            if (!message.isSilent()) {
+                notifiedMessages.add(message);
+            }
+        }
+        final int[] notificationIds = notifiedMessages.isEmpty() ? new int[0] : notificationHandler.displayNotifications(notifiedMessages);
+
+        mainHandler.post(new Runnable() {
+            @Override
+            public void run() {
+                for (Message message : unhandledMessages) {
+                    broadcaster.messageReceived(message);
+                }
+                for (int i = 0; i < notifiedMessages.size(); i++) {
+                    int notificationId = notificationIds != null && i < notificationIds.length ? notificationIds[i] : NOTIFICATION_NOT_DISPLAYED_ID;
+                    broadcaster.notificationDisplayed(notifiedMessages.get(i), notificationId);
+                }
+            }
+        });
+    }
+
+    private void prefetchRichMedia(List<Message> messages) {
+        if (imagePrefetcher == null) {
+            return;
+        }
+
+        try {
+            imagePrefetcher.prefetch(messages);
+        } catch (Exception e) {
+            MobileMessagingLogger.e("Failed to prefetch rich media", e);
+        }
+    }
+
+    private List<Message> filterNewMessages(List<Message> messages) {
+        List<Message> validMessages = new ArrayList<>(messages.size());
+        Set<String> batchIds = new HashSet<>();
+        for (Message message : messages) {
+            if (StringUtils.isBlank(message.getMessageId())) {
+                MobileMessagingLogger.w("Ignoring message without messageId");
+                continue;
+            }
+
+            if (StringUtils.isBlank(message.getBody())) {
+                MobileMessagingLogger.w("Ignoring message without text");
+                continue;
+            }
+
+            if (!batchIds.add(message.getMessageId())) {
+                MobileMessagingLogger.w("Skipping message " + message.getMessageId() + " as duplicate in batch");
+                continue;
+            }
+            validMessages.add(message);
+        }
+
+        Set<String> processedIds = mobileMessagingCore.findAlreadyProcessedMessageIds(batchIds);
+        if (processedIds.isEmpty()) {
+            return validMessages;
+        }
+
+        List<Message> newMessages = new ArrayList<>(validMessages.size());
+        for (Message message : validMessages) {
+            if (processedIds.contains(message.getMessageId())) {
+                MobileMessagingLogger.w("Skipping message " + message.getMessageId() + " as already processed");
+                continue;
+            }
+            newMessages.add(message);
+        }
+        return newMessages;
+    }
+
+    private boolean dispatchToModules(Message message) {
+        for (MessageHandlerModule handler : mobileMessagingCore.getMessageHandlerModules()) {
+            MobileMessagingLogger.d("Dispatching message to " + handler.getClass().getName());
+            if (handler.handleMessage(message)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void saveMessages(List<Message> messages) {
+        MobileMessagingLogger.d("Saving " + messages.size() + " messages");
+        try {
+            messageStoreWrapper.upsert(messages.toArray(new Message[0]));
+        } catch (Exception e) {
+            MobileMessagingLogger.e(InternalSdkError.ERROR_SAVING_MESSAGE.get(), e);
+        }
+    }
+
     private void saveMessage(Message message) {
         MobileMessagingLogger.d("Saving message: " + message.getMessageId());
         try {
@@ -95,7 +277,7 @@ public class MobileMessageHandler {
             MobileMessagingLogger.w("No ID received for message: " + message);
             return;
         }
-        MobileMessagingLogger.d("Sending DR: " + message.getMessageId());
-        mobileMessagingCore.setMessagesDelivered(message.getMessageId());
+        MobileMessagingLogger.d("Scheduling DR: " + message.getMessageId());
+        mobileMessagingCore.scheduleDeliveryReport(message.getMessageId());
     }
 }
\ No newline at end of file
@@ -10,6 +10,7 @@ package org.infobip.mobile.messaging.cloud;
 import android.content.Context;
 import android.content.Intent;
 import android.os.Bundle;
+import android.os.SystemClock;
 
 import org.infobip.mobile.messaging.Message;
 import org.infobip.mobile.messaging.dal.bundle.MessageBundleMapper;
@@ -26,12 +27,14 @@ public class MobileMessagingCloudHandler {
     private static final String PREFIX = "org.infobip.mobile.messaging.cloud.";
 
     static final String EXTRA_TOKEN = PREFIX + "TOKEN";
+    static final String EXTRA_RECEIVED_AT = PREFIX + "RECEIVED_AT";
 
     static final String ACTION_CLOUD_MESSAGE_RECEIVE = PREFIX + "MESSAGE_RECEIVE";
     static final String ACTION_TOKEN_ACQUIRE = PREFIX + "TOKEN_ACQUIRE";
     static final String ACTION_TOKEN_CLEANUP = PREFIX + "TOKEN_CLEANUP";
     static final String ACTION_TOKEN_RESET = PREFIX + "TOKEN_RESET";
     static final String ACTION_NEW_TOKEN = PREFIX + "NEW_TOKEN";
+    static final String ACTION_DELIVERY_REPORT = PREFIX + "DELIVERY_REPORT";
     static final String MM_ACTION = PREFIX + "ACTION";
 
     private final Lazy<RegistrationTokenHandler, Context> registrationTokenHandler;
@@ -68,9 +71,24 @@ public class MobileMessagingCloudHandler {
             case ACTION_TOKEN_ACQUIRE:
                 handleTokenAcquire(context);
                 break;
+
+            case ACTION_DELIVERY_REPORT:
+                handleDeliveryReport(context);
+                break;
         }
     }
 
+    /**
+     * Handles new message on the calling thread
+     *
+     * @param context    context
+     * @param message    new message
+     * @param receivedAt time when the message was received, in {@link SystemClock#elapsedRealtime()} base
+     */
+    public void handleMessage(Context context, Message message, long receivedAt) {
+        mobileMessageHandler.get(context).handleMessage(message, receivedAt);
+    }
+
     private void handleNewToken(Context context, Data data) {
         String token = data.getString(EXTRA_TOKEN);
         registrationTokenHandler.get(context).handleNewToken(token);
@@ -88,6 +106,10 @@ public class MobileMessagingCloudHandler {
         registrationTokenHandler.get(context).reissueToken();
     }
 
+    private void handleDeliveryReport(Context context) {
+        mobileMessageHandler.get(context).reportDelivery();
+    }
+
     private void handleMessage(Context context, Data data) {
         String extra = data.getString(ACTION_CLOUD_MESSAGE_RECEIVE);
         if (extra == null) {
@@ -95,7 +117,7 @@ public class MobileMessagingCloudHandler {
             return;
         }
         Message message = MessageDataMapper.messageFromString(extra);
-        mobileMessageHandler.get(context).handleMessage(message);
+        mobileMessageHandler.get(context).handleMessage(message, data.getLong(EXTRA_RECEIVED_AT, SystemClock.elapsedRealtime()));
     }
 
     // Used for pre-Oreo versions
@@ -127,6 +149,10 @@ public class MobileMessagingCloudHandler {
             case ACTION_TOKEN_ACQUIRE:
                 handleTokenAcquire(context);
                 break;
+
+            case ACTION_DELIVERY_REPORT:
+                handleDeliveryReport(context);
+                break;
         }
     }
 
@@ -143,6 +169,6 @@ public class MobileMessagingCloudHandler {
         }
 
         Message message = MessageBundleMapper.messageFromBundle(extras);
-        mobileMessageHandler.get(context).handleMessage(message);
+        mobileMessageHandler.get(context).handleMessage(message, intent.getLongExtra(EXTRA_RECEIVED_AT, SystemClock.elapsedRealtime()));
     }
 }
@@ -13,6 +13,7 @@ import android.content.Intent;
 import android.content.pm.PackageManager;
 import android.os.Build;
 import android.os.Bundle;
+import android.os.SystemClock;
 import android.text.TextUtils;
 
 import org.infobip.mobile.messaging.Message;
@@ -26,6 +27,7 @@ import androidx.annotation.NonNull;
 import androidx.core.app.ActivityCompat;
 import androidx.work.Constraints;
 import androidx.work.Data;
+import androidx.work.ExistingWorkPolicy;
 import androidx.work.NetworkType;
 import androidx.work.OneTimeWorkRequest;
 import androidx.work.WorkManager;
@@ -33,10 +35,12 @@ import androidx.work.Worker;
 import androidx.work.WorkerParameters;
 
 import static org.infobip.mobile.messaging.cloud.MobileMessagingCloudHandler.ACTION_CLOUD_MESSAGE_RECEIVE;
+import static org.infobip.mobile.messaging.cloud.MobileMessagingCloudHandler.ACTION_DELIVERY_REPORT;
 import static org.infobip.mobile.messaging.cloud.MobileMessagingCloudHandler.ACTION_NEW_TOKEN;
 import static org.infobip.mobile.messaging.cloud.MobileMessagingCloudHandler.ACTION_TOKEN_ACQUIRE;
 import static org.infobip.mobile.messaging.cloud.MobileMessagingCloudHandler.ACTION_TOKEN_CLEANUP;
 import static org.infobip.mobile.messaging.cloud.MobileMessagingCloudHandler.ACTION_TOKEN_RESET;
+import static org.infobip.mobile.messaging.cloud.MobileMessagingCloudHandler.EXTRA_RECEIVED_AT;
 import static org.infobip.mobile.messaging.cloud.MobileMessagingCloudHandler.EXTRA_TOKEN;
 import static org.infobip.mobile.messaging.cloud.MobileMessagingCloudHandler.MM_ACTION;
 import static org.infobip.mobile.messaging.platform.Platform.mobileMessagingCloudHandler;
@@ -47,6 +51,8 @@ import static org.infobip.mobile.messaging.platform.Platform.mobileMessagingClou
  */
 public class MobileMessagingCloudService extends Worker {
 
+    static final String DELIVERY_REPORT_WORK_NAME = "org.infobip.mobile.messaging.cloud.DELIVERY_REPORT";
+
     public MobileMessagingCloudService(@NonNull Context context, @NonNull WorkerParameters workerParams) {
         super(context, workerParams);
     }
@@ -80,16 +86,59 @@ public class MobileMessagingCloudService extends Worker {
         }
     }
 
+    /**
+     * Stores the message and displays its notification on the calling thread, without waiting for WorkManager and network.
+     * Delivery report is sent later with {@link #enqueueDeliveryReport(Context)}. Falls back to {@link #enqueueNewMessage(Context, Message)}
+     * if the message cannot be handled right away.
+     *
+     * @param context context
+     * @param message new message
+     */
+    public static void handleNewMessage(Context context, @NonNull Message message) {
+        long receivedAt = SystemClock.elapsedRealtime();
+        try {
+            mobileMessagingCloudHandler.get(context).handleMessage(context, message, receivedAt);
+        } catch (Exception e) {
+            MobileMessagingLogger.e("Failed to handle message " + message.getMessageId() + ", will retry in background", e);
+            enqueueNewMessage(context, message, receivedAt);
+        }
+    }
+
     public static void enqueueNewMessage(Context context, @NonNull Message message) {
+        enqueueNewMessage(context, message, SystemClock.elapsedRealtime());
+    }
+
+    private static void enqueueNewMessage(Context context, @NonNull Message message, long receivedAt) {
         if (shouldEnqueueViaWorker(context)) {
-            enqueueWork(context, messageData(message));
+            enqueueWork(context, messageData(message, receivedAt));
         } else {
             Bundle messageBundle = MessageBundleMapper.messageToBundle(message);
             enqueueInBackground(context, new Intent(ACTION_CLOUD_MESSAGE_RECEIVE)
-                    .putExtras(messageBundle));
+                    .putExtras(messageBundle)
+                    .putExtra(EXTRA_RECEIVED_AT, receivedAt));
         }
     }
 
+    /**
+     * Enqueues sending of delivery reports once network is available. Requests made while one is already pending are
+     * coalesced into it, so a burst of pushes is reported with a single work request.
+     *
+     * @param context context
+     */
+    public static void enqueueDeliveryReport(Context context) {
+        if (!shouldEnqueueViaWorker(context)) {
+            enqueueInBackground(context, new Intent(ACTION_DELIVERY_REPORT));
+            return;
+        }
+
+        OneTimeWorkRequest workRequest = new OneTimeWorkRequest.Builder(MobileMessagingCloudService.class)
+                .setInputData(inputData(ACTION_DELIVERY_REPORT))
+                .setConstraints(setConstraints())
+                .build();
+
+        WorkManager.getInstance(context).enqueueUniqueWork(DELIVERY_REPORT_WORK_NAME, ExistingWorkPolicy.KEEP, workRequest);
+    }
+
     private static void enqueueWorkOrBackground(Context context, String action) {
         if (shouldEnqueueViaWorker(context)) {
             enqueueWork(context, inputData(action));
@@ -113,12 +162,13 @@ public class MobileMessagingCloudService extends Worker {
                 .build();
     }
 
-    static Data messageData(Message message) {
+    static Data messageData(Message message, long receivedAt) {
         String str = MessageDataMapper.messageToString(message);
 
         return new Data.Builder()
                 .putString(MM_ACTION, ACTION_CLOUD_MESSAGE_RECEIVE)
                 .putString(ACTION_CLOUD_MESSAGE_RECEIVE, str)
+                .putLong(EXTRA_RECEIVED_AT, receivedAt)
                 .build();
     }
 
@@ -47,7 +47,7 @@ public class MobileMessagingFirebaseService extends FirebaseMessagingService {
         Message message = getMessageMapper().createMessage(remoteMessage);
         MobileMessagingLogger.v(TAG, "RECEIVED MESSAGE FROM FCM", message);
         if (message != null) {
-            MobileMessagingCloudService.enqueueNewMessage(context, message);
+            MobileMessagingCloudService.handleNewMessage(context, message);
             return true;
         } else {
             MobileMessagingLogger.w("Cannot process message");
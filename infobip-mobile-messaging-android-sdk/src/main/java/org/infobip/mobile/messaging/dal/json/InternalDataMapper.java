@@ -69,6 +69,163 @@ public class InternalDataMapper {
         String url;
     }
 
+    /**
+     * Immutable view of internal data parsed once from json.
+     * <br>
+     * Mappers should parse internal data of a message once and read all the fields from this view
+     * instead of calling separate accessors that each deserialize the whole json again.
+     */
+    public static final class ParsedInternalData {
+
+        private final String json;
+        private final InternalData data;
+
+        private ParsedInternalData(String json, InternalData data) {
+            this.json = json;
+            this.data = data;
+        }
+
+        /**
+         * @param json internal data json
+         * @return true if this view was parsed from the provided json instance
+         */
+        public boolean isFor(String json) {
+            return this.json == json;
+        }
+
+        /**
+         * Returns parsed data as the provided subtype of {@link InternalData}, when it was parsed as such
+         *
+         * @param cls internal data class used for parsing
+         * @return parsed data or null if not parsed as the provided class
+         */
+        @Nullable
+        public <T extends InternalData> T getData(Class<T> cls) {
+            return cls.isInstance(data) ? cls.cast(data) : null;
+        }
+
+        public boolean hasSilent() {
+            return data != null && data.silent != null;
+        }
+
+        public String getTitle() {
+            return hasSilent() ? data.silent.title : null;
+        }
+
+        public String getBody() {
+            return hasSilent() ? data.silent.body : null;
+        }
+
+        public String getSound() {
+            return hasSilent() ? data.silent.sound : null;
+        }
+
+        public boolean isVibrate(boolean defaultVibrate) {
+            if (!hasSilent() || data.silent.vibrate == null) {
+                return defaultVibrate;
+            }
+            return Boolean.valueOf(data.silent.vibrate.toString());
+        }
+
+        public String getCategory() {
+            return hasSilent() ? data.silent.category : null;
+        }
+
+        public String getContentUrl() {
+            if (data == null || data.atts == null || data.atts.length == 0 || data.atts[0] == null) {
+                return null;
+            }
+            return data.atts[0].url;
+        }
+
+        public long getSendDateTime() {
+            return data != null ? data.sendDateTime : 0;
+        }
+
+        public long getInAppExpiryDateTime() {
+            return data != null ? data.inAppExpiryDateTime : 0;
+        }
+
+        public String getWebViewUrl() {
+            return data != null ? data.webViewUrl : null;
+        }
+
+        public String getBrowserUrl() {
+            return data != null ? data.browserUrl : null;
+        }
+
+        public String getMessageType() {
+            return data != null ? data.messageType : null;
+        }
+
+        public String getBulkId() {
+            return data != null ? data.bulkId : null;
+        }
+
+        public String getInitialMessageId() {
+            return data != null ? data.initialMessageId : null;
+        }
+
+        public Message.InAppStyle getInAppStyle() {
+            if (data == null) {
+                return null;
+            }
+
+            if (data.inAppStyle != null) {
+                return data.inAppStyle;
+            }
+
+            if (Boolean.TRUE.equals(data.inApp)) {
+                return Message.InAppStyle.MODAL;
+            }
+
+            return null;
+        }
+
+        public String getDeeplinkUri() {
+            return data != null ? data.deeplink : null;
+        }
+
+        public String getInAppOpenTitle() {
+            return data != null ? data.inAppOpenTitle : null;
+        }
+
+        public String getInAppDismissTitle() {
+            return data != null ? data.inAppDismissTitle : null;
+        }
+    }
+
+    /**
+     * Parses internal data json once
+     *
+     * @param json internal data json
+     * @return parsed view, empty if json is missing or malformed
+     */
+    @NonNull
+    public static ParsedInternalData parse(@Nullable String json) {
+        return parse(json, InternalData.class);
+    }
+
+    /**
+     * Parses internal data json once into the provided subtype of {@link InternalData}
+     *
+     * @param json internal data json
+     * @param cls  class to parse json into
+     * @return parsed view, empty if json is missing or malformed
+     */
+    @NonNull
+    public static ParsedInternalData parse(@Nullable String json, Class<? extends InternalData> cls) {
+        if (json == null) {
+            return new ParsedInternalData(null, null);
+        }
+
+        try {
+            return new ParsedInternalData(json, serializer.deserialize(json, cls));
+        } catch (Exception e) {
+            return new ParsedInternalData(json, null);
+        }
+    }
+
     /**
      * Creates internal data json based on message contents
      * <br> Note that boolean fields will be saved as String for FCM.
@@ -97,18 +254,24 @@ public class InternalDataMapper {
      * @param internalDataJson json object with internal data
      */
     public static void updateMessageWithInternalData(@NonNull Message message, String internalDataJson) {
-        InternalData internalData = serializer.deserialize(internalDataJson, InternalData.class);
+        updateMessageWithInternalData(message, parse(internalDataJson));
+    }
 
-        if (internalData == null || internalData.silent == null) {
+    /**
+     * Updates message fields based on what is set in already parsed internal data (such as silent data)
+     *
+     * @param message      message to update
+     * @param internalData parsed internal data
+     */
+    public static void updateMessageWithInternalData(@NonNull Message message, @NonNull ParsedInternalData internalData) {
+        if (!internalData.hasSilent()) {
             return;
         }
 
-        message.setTitle(internalData.silent.title);
-        message.setBody(internalData.silent.body);
-        message.setSound(internalData.silent.sound);
-        if (internalData.silent.vibrate != null) {
-            message.setVibrate(Boolean.valueOf(internalData.silent.vibrate.toString()));
-        }
+        message.setTitle(internalData.getTitle());
+        message.setBody(internalData.getBody());
+        message.setSound(internalData.getSound());
+        message.setVibrate(internalData.isVibrate(message.isVibrate()));
     }
 
 
@@ -119,11 +282,7 @@ public class InternalDataMapper {
      * @return title if present or null otherwise
      */
     public static String getInternalDataTitle(String json) {
-        try {
-            return serializer.deserialize(json, InternalData.class).silent.title;
-        } catch (Exception e) {
-            return null;
-        }
+        return parse(json).getTitle();
     }
 
     /**
@@ -133,11 +292,7 @@ public class InternalDataMapper {
      * @return body if present or null otherwise
      */
     public static String getInternalDataBody(String json) {
-        try {
-            return serializer.deserialize(json, InternalData.class).silent.body;
-        } catch (Exception e) {
-            return null;
-        }
+        return parse(json).getBody();
     }
 
     /**
@@ -147,11 +302,7 @@ public class InternalDataMapper {
      * @return sound if present or null otherwise
      */
     public static String getInternalDataSound(String json) {
-        try {
-            return serializer.deserialize(json, InternalData.class).silent.sound;
-        } catch (Exception e) {
-            return null;
-        }
+        return parse(json).getSound();
     }
 
     /**
@@ -162,12 +313,7 @@ public class InternalDataMapper {
      * @return vibrate if present or defaultVibrate otherwise
      */
     public static boolean getInternalDataVibrate(String json, boolean defaultVibrate) {
-        try {
-            Object vibrate = serializer.deserialize(json, InternalData.class).silent.vibrate;
-            return Boolean.valueOf(vibrate.toString());
-        } catch (Exception e) {
-            return defaultVibrate;
-        }
+        return parse(json).isVibrate(defaultVibrate);
     }
 
     /**
@@ -177,11 +323,7 @@ public class InternalDataMapper {
      * @return category if present or null otherwise
      */
     public static String getInternalDataCategory(String json) {
-        try {
-            return serializer.deserialize(json, InternalData.class).silent.category;
-        } catch (Exception e) {
-            return null;
-        }
+        return parse(json).getCategory();
     }
 
     /**
@@ -191,11 +333,7 @@ public class InternalDataMapper {
      * @return content url if present or null otherwise
      */
     public static String getInternalDataContentUrl(String json) {
-        try {
-            return serializer.deserialize(json, InternalData.class).atts[0].url;
-        } catch (Exception e) {
-            return null;
-        }
+        return parse(json).getContentUrl();
     }
 
     /**
@@ -205,11 +343,7 @@ public class InternalDataMapper {
      * @return timestamp if present or 0 otherwise
      */
     public static long getInternalDataSendDateTime(String json) {
-        try {
-            return serializer.deserialize(json, InternalData.class).sendDateTime;
-        } catch (Exception e) {
-            return 0;
-        }
+        return parse(json).getSendDateTime();
     }
 
     /**
@@ -219,11 +353,7 @@ public class InternalDataMapper {
      * @return timestamp if present or 0 otherwise
      */
     public static long getInternalDataInAppExpiryDateTime(String json) {
-        try {
-            return serializer.deserialize(json, InternalData.class).inAppExpiryDateTime;
-        } catch (Exception e) {
-            return 0;
-        }
+        return parse(json).getInAppExpiryDateTime();
     }
 
     /**
@@ -233,11 +363,7 @@ public class InternalDataMapper {
      * @return web view URL if present or null otherwise
      */
     public static String getInternalDataWebViewUrl(String json) {
-        try {
-            return serializer.deserialize(json, InternalData.class).webViewUrl;
-        } catch (Exception e) {
-            return null;
-        }
+        return parse(json).getWebViewUrl();
     }
 
     /**
@@ -247,11 +373,7 @@ public class InternalDataMapper {
      * @return browser URL if present or null otherwise
      */
     public static String getInternalDataBrowserUrl(String json) {
-        try {
-            return serializer.deserialize(json, InternalData.class).browserUrl;
-        } catch (Exception e) {
-            return null;
-        }
+        return parse(json).getBrowserUrl();
     }
 
     /**
@@ -261,11 +383,7 @@ public class InternalDataMapper {
      * @return message type if present or null otherwise
      */
     public static String getInternalDataMessageType(String json) {
-        try {
-            return serializer.deserialize(json, InternalData.class).messageType;
-        } catch (Exception e) {
-            return null;
-        }
+        return parse(json).getMessageType();
     }
 
     /**
@@ -275,11 +393,7 @@ public class InternalDataMapper {
      * @return bulkId if present or null otherwise
      */
     public static String getInternalDataBulkId(String json) {
-        try {
-            return serializer.deserialize(json, InternalData.class).bulkId;
-        } catch (Exception e) {
-            return null;
-        }
+        return parse(json).getBulkId();
     }
 
     /**
@@ -289,28 +403,11 @@ public class InternalDataMapper {
      * @return initialMessageId if present or null otherwise
      */
     public static String getInternalDataInitialMessageId(String json) {
-        try {
-            return serializer.deserialize(json, InternalData.class).initialMessageId;
-        } catch (Exception e) {
-            return null;
-        }
+        return parse(json).getInitialMessageId();
     }
 
     public static Message.InAppStyle getInternalDataInAppStyle(String json) {
-        try {
-            InternalData internalData = serializer.deserialize(json, InternalData.class);
-            if (internalData.inAppStyle != null) {
-                return internalData.inAppStyle;
-            }
-
-            if (internalData.inApp) {
-                return Message.InAppStyle.MODAL;
-            }
-
-            return null;
-        } catch (Exception e) {
-            return null;
-        }
+        return parse(json).getInAppStyle();
     }
 
     /**
@@ -320,11 +417,7 @@ public class InternalDataMapper {
      * @return Deeplink URI if present or null otherwise
      */
     public static String getInternalDataDeeplinkUri(String json) {
-        try {
-            return serializer.deserialize(json, InternalData.class).deeplink;
-        } catch (Exception e) {
-            return null;
-        }
+        return parse(json).getDeeplinkUri();
     }
 
     /**
@@ -334,11 +427,7 @@ public class InternalDataMapper {
      * @return Title for in-app open button if present or null otherwise
      */
     public static String getInternalDataInAppOpenTitle(String json) {
-        try {
-            return serializer.deserialize(json, InternalData.class).inAppOpenTitle;
-        } catch (Exception e) {
-            return null;
-        }
+        return parse(json).getInAppOpenTitle();
     }
 
     /**
@@ -348,11 +437,7 @@ public class InternalDataMapper {
      * @return Title for in-app dismiss button if present or null otherwise
      */
     public static String getInternalDataInAppDismissTitle(String json) {
-        try {
-            return serializer.deserialize(json, InternalData.class).inAppDismissTitle;
-        } catch (Exception e) {
-            return null;
-        }
+        return parse(json).getInAppDismissTitle();
     }
 
     @SuppressWarnings("unchecked")
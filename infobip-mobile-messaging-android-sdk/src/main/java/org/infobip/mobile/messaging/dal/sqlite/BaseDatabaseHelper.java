@@ -7,16 +7,19 @@
  */
 package org.infobip.mobile.messaging.dal.sqlite;
 
+import android.content.ContentValues;
 import android.content.Context;
 import android.database.Cursor;
 import android.database.DatabaseUtils;
 import android.database.SQLException;
 import android.database.sqlite.SQLiteDatabase;
 import android.database.sqlite.SQLiteOpenHelper;
+import android.database.sqlite.SQLiteStatement;
 
 import org.infobip.mobile.messaging.logging.MobileMessagingLogger;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -67,6 +70,12 @@ public abstract class BaseDatabaseHelper extends SQLiteOpenHelper implements Dat
         return !objects.isEmpty() ? objects.get(0) : null;
     }
 
+    @Override
+    public <T extends DatabaseContract.DatabaseObject> Cursor query(Class<T> cls, String selection, String[] selectionArgs, String orderBy, Integer limit) {
+        String tableName = requireValidIdentifier(getTableName(cls));
+        return db().query(tableName, null, selection, selectionArgs, null, null, orderBy, limit != null ? String.valueOf(limit) : null);
+    }
+
     @Override
     public <T extends DatabaseContract.DatabaseObject> long countAll(Class<T> cls) {
         String tableName = requireValidIdentifier(getTableName(cls));
@@ -95,6 +104,79 @@ public abstract class BaseDatabaseHelper extends SQLiteOpenHelper implements Dat
         }
     }
 
+    @Override
+    public void saveAll(Collection<? extends DatabaseContract.DatabaseObject> objects) {
+        if (objects == null || objects.isEmpty()) {
+            return;
+        }
+        try {
+            insertInTransaction(objects, "INSERT OR REPLACE INTO ");
+        } catch (SQLException e) {
+            MobileMessagingLogger.e("Could not save objects", e);
+        }
+    }
+
+    @Override
+    public void insertAll(Collection<? extends DatabaseContract.DatabaseObject> objects) throws PrimaryKeyViolationException {
+        if (objects == null || objects.isEmpty()) {
+            return;
+        }
+        try {
+            insertInTransaction(objects, "INSERT INTO ");
+        } catch (SQLException ignored) {
+            throw new PrimaryKeyViolationException();
+        }
+    }
+
+    /**
+     * Inserts all objects within one transaction, compiling the insert statement once per table and column set
+     * and re-binding it for every row instead of going through {@link SQLiteDatabase#insert} for each object.
+     * The transaction is rolled back if any row fails.
+     */
+    private void insertInTransaction(Collection<? extends DatabaseContract.DatabaseObject> objects, String insertVerb) {
+        SQLiteDatabase database = db();
+        Map<String, SQLiteStatement> statements = new HashMap<>();
+        database.beginTransaction();
+        try {
+            for (DatabaseContract.DatabaseObject object : objects) {
+                String tableName = requireValidIdentifier(object.getTableName());
+                ContentValues values = object.getContentValues();
+                List<String> columns = new ArrayList<>(values.keySet());
+                String sql = insertSql(insertVerb, tableName, columns);
+
+                SQLiteStatement statement = statements.get(sql);
+                if (statement == null) {
+                    statement = database.compileStatement(sql);
+                    statements.put(sql, statement);
+                }
+
+                statement.clearBindings();
+                for (int i = 0; i < columns.size(); i++) {
+                    DatabaseUtils.bindObjectToProgram(statement, i + 1, values.get(columns.get(i)));
+                }
+                statement.executeInsert();
+            }
+            database.setTransactionSuccessful();
+        } finally {
+            database.endTransaction();
+            for (SQLiteStatement statement : statements.values()) {
+                statement.close();
+            }
+        }
+    }
+
+    private String insertSql(String insertVerb, String tableName, List<String> columns) {
+        StringBuilder sql = new StringBuilder(insertVerb).append(tableName).append(" (");
+        for (int i = 0; i < columns.size(); i++) {
+            sql.append(i > 0 ? "," : "").append(requireValidIdentifier(columns.get(i)));
+        }
+        sql.append(") VALUES (");
+        for (int i = 0; i < columns.size(); i++) {
+            sql.append(i > 0 ? ",?" : "?");
+        }
+        return sql.append(")").toString();
+    }
+
     @Override
     public <T extends DatabaseContract.DatabaseObject> void deleteAll(Class<T> cls) {
         String tableName = requireValidIdentifier(getTableName(cls));
@@ -22,6 +22,21 @@ public interface DatabaseContract {
          * Table for messages
          */
         String MESSAGES = "messages";
+
+        /**
+         * Table for ids of already processed messages, used for deduplication and message sync
+         */
+        String SYNC_MESSAGE_IDS = "sync_message_ids";
+
+        /**
+         * Journal of delivery, seen and click reports that are not yet sent
+         */
+        String REPORT_OUTBOX = "report_outbox";
+
+        /**
+         * Outbox of MO messages that are not yet sent
+         */
+        String MO_MESSAGE_OUTBOX = "mo_message_outbox";
     }
 
     interface MessageColumns {
@@ -134,6 +149,84 @@ public interface DatabaseContract {
         String IN_APP_STYLE = "in_app_style";
     }
 
+    interface SyncMessageIdColumns {
+        /**
+         * Message id, primary key
+         *  [TEXT]
+         */
+        String MESSAGE_ID = "id";
+
+        /**
+         * Timestamp after which message id is no longer kept
+         *  [INTEGER]
+         */
+        String EXPIRY_TIMESTAMP = "expiry_timestamp";
+    }
+
+    interface ReportOutboxColumns {
+        /**
+         * Auto-incremented id, defines order of reports
+         *  [INTEGER]
+         */
+        String ID = "id";
+
+        /**
+         * Report type, one of {@link ReportOutbox.Type}
+         *  [TEXT]
+         */
+        String TYPE = "type";
+
+        /**
+         * Report contents, message id or click action
+         *  [TEXT]
+         */
+        String PAYLOAD = "payload";
+
+        /**
+         * Timestamp when report was created
+         *  [INTEGER]
+         */
+        String TIMESTAMP = "timestamp";
+    }
+
+    interface MoMessageOutboxColumns {
+        /**
+         * Message id, primary key
+         *  [TEXT]
+         */
+        String MESSAGE_ID = "id";
+
+        /**
+         * Message json
+         *  [TEXT]
+         */
+        String MESSAGE = "message";
+
+        /**
+         * Sending state, one of {@link MoMessageOutbox.State}
+         *  [TEXT]
+         */
+        String STATE = "state";
+
+        /**
+         * Number of failed attempts to send the message
+         *  [INTEGER]
+         */
+        String ATTEMPTS = "attempts";
+
+        /**
+         * Timestamp after which message can be (re)sent
+         *  [INTEGER]
+         */
+        String NEXT_ATTEMPT_TIMESTAMP = "next_attempt_timestamp";
+
+        /**
+         * Timestamp when message was created, used to drop outdated messages
+         *  [INTEGER]
+         */
+        String CREATED_TIMESTAMP = "created_timestamp";
+    }
+
     interface DatabaseObject {
 
         /**
@@ -7,6 +7,9 @@
  */
 package org.infobip.mobile.messaging.dal.sqlite;
 
+import android.database.Cursor;
+
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -32,6 +35,18 @@ public interface DatabaseHelper {
      */
     <T extends DatabaseContract.DatabaseObject> T find(Class<T> cls, String primaryKey);
 
+    /**
+     * Opens cursor over instances of specified type in database, caller is responsible for closing it
+     * @param cls object class
+     * @param selection custom condition with '?' placeholders or null to select all objects
+     * @param selectionArgs values for placeholders in selection
+     * @param orderBy ORDER BY clause or null for default order
+     * @param limit maximum number of rows or null for no limit
+     * @param <T> object type
+     * @return cursor over selected rows
+     */
+    <T extends DatabaseContract.DatabaseObject> Cursor query(Class<T> cls, String selection, String[] selectionArgs, String orderBy, Integer limit);
+
     /**
      * Counts all instances of specified type in database
      * @param cls object class
@@ -61,6 +76,19 @@ public interface DatabaseHelper {
      */
     void insert(DatabaseContract.DatabaseObject object) throws PrimaryKeyViolationException;
 
+    /**
+     * Saves objects to database in a single transaction, replaces on conflict
+     * @param objects objects to save
+     */
+    void saveAll(Collection<? extends DatabaseContract.DatabaseObject> objects);
+
+    /**
+     * Inserts objects to database in a single transaction, fails on conflict.
+     * None of the objects are inserted if any of them fails.
+     * @param objects objects to insert
+     */
+    void insertAll(Collection<? extends DatabaseContract.DatabaseObject> objects) throws PrimaryKeyViolationException;
+
     /**
      * Deletes all objects of the specified type from the database
      * @param cls object class
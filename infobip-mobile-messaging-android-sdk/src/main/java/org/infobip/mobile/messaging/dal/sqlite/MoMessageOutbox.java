@@ -0,0 +1,277 @@
+/*
+ * MoMessageOutbox.java
+ * Mobile Messaging SDK
+ *
+ * Copyright (c) 2016-2025 Infobip Limited
+ * Licensed under the Apache License, Version 2.0
+ */
+package org.infobip.mobile.messaging.dal.sqlite;
+
+import android.content.ContentValues;
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteStatement;
+
+import org.infobip.mobile.messaging.Message;
+import org.infobip.mobile.messaging.api.support.http.serialization.JsonSerializer;
+import org.infobip.mobile.messaging.dal.sqlite.DatabaseContract.MoMessageOutboxColumns;
+import org.infobip.mobile.messaging.dal.sqlite.DatabaseContract.Tables;
+import org.infobip.mobile.messaging.logging.MobileMessagingLogger;
+import org.infobip.mobile.messaging.platform.Time;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Outbox of MO messages that are waiting to be sent to the backend.
+ * <br>
+ * Each message is a row with its sending {@link State}, number of failed attempts and time of the next attempt.
+ * Senders {@link #claim(int) claim} bounded batches of due messages, oldest first, which marks them as {@link State#SENDING}
+ * for {@link #SEND_TIMEOUT_MILLIS}, so concurrent senders don't pick up the same messages and messages of a sender that
+ * didn't finish (i.e. crashed) become due again. Confirmed messages are {@link #ack(Collection) acknowledged} and removed,
+ * the rest are {@link #release(Collection) released} for a later attempt with exponential backoff.
+ */
+public class MoMessageOutbox {
+
+    static final long SEND_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(5);
+    static final long MIN_RETRY_DELAY_MILLIS = TimeUnit.SECONDS.toMillis(30);
+    static final long MAX_RETRY_DELAY_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+    public enum State {
+        PENDING,
+        SENDING
+    }
+
+    public static class Entry {
+        private final Message message;
+        private final int attempts;
+
+        Entry(Message message, int attempts) {
+            this.message = message;
+            this.attempts = attempts;
+        }
+
+        public String getMessageId() {
+            return message.getMessageId();
+        }
+
+        public Message getMessage() {
+            return message;
+        }
+
+        public int getAttempts() {
+            return attempts;
+        }
+    }
+
+    private static final JsonSerializer serializer = new JsonSerializer(false);
+
+    private final SqliteDatabaseProvider databaseProvider;
+
+    public MoMessageOutbox(SqliteDatabaseProvider databaseProvider) {
+        this.databaseProvider = databaseProvider;
+    }
+
+    /**
+     * Adds messages to the outbox, replacing messages with the same id. Messages without id are ignored.
+     *
+     * @param messages messages to send
+     */
+    public void enqueue(Message... messages) {
+        if (messages == null || messages.length == 0) {
+            return;
+        }
+
+        long now = Time.now();
+        SQLiteDatabase db = databaseProvider.getDatabase();
+        db.beginTransaction();
+        try {
+            for (Message message : messages) {
+                if (message == null || message.getMessageId() == null) {
+                    continue;
+                }
+                db.insertWithOnConflict(Tables.MO_MESSAGE_OUTBOX, null, contentValues(message, serializer.serialize(message), now), SQLiteDatabase.CONFLICT_REPLACE);
+            }
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
+        }
+    }
+
+    /**
+     * Takes the oldest messages that are due for sending and marks them as {@link State#SENDING} in one transaction
+     *
+     * @param limit maximum number of messages
+     * @return claimed messages, oldest first
+     */
+    @NonNull
+    public List<Entry> claim(int limit) {
+        long now = Time.now();
+        SQLiteDatabase db = databaseProvider.getDatabase();
+        db.beginTransaction();
+        SQLiteStatement statement = db.compileStatement("UPDATE " + Tables.MO_MESSAGE_OUTBOX + " SET " +
+                MoMessageOutboxColumns.STATE + " = ?, " + MoMessageOutboxColumns.NEXT_ATTEMPT_TIMESTAMP + " = ? WHERE " +
+                MoMessageOutboxColumns.MESSAGE_ID + " = ?");
+        try {
+            List<Entry> entries = findDue(db, now, limit);
+            for (Entry entry : entries) {
+                statement.bindString(1, State.SENDING.name());
+                statement.bindLong(2, now + SEND_TIMEOUT_MILLIS);
+                statement.bindString(3, entry.getMessageId());
+                statement.executeUpdateDelete();
+            }
+            db.setTransactionSuccessful();
+            return entries;
+        } finally {
+            statement.close();
+            db.endTransaction();
+        }
+    }
+
+    /**
+     * Removes messages that were confirmed by the backend
+     *
+     * @param messageIds ids of sent messages
+     */
+    public void ack(Collection<String> messageIds) {
+        if (messageIds == null || messageIds.isEmpty()) {
+            return;
+        }
+
+        SQLiteDatabase db = databaseProvider.getDatabase();
+        db.beginTransaction();
+        SQLiteStatement statement = db.compileStatement("DELETE FROM " + Tables.MO_MESSAGE_OUTBOX + " WHERE " + MoMessageOutboxColumns.MESSAGE_ID + " = ?");
+        try {
+            for (String messageId : messageIds) {
+                if (messageId == null) {
+                    continue;
+                }
+                statement.bindString(1, messageId);
+                statement.executeUpdateDelete();
+            }
+            db.setTransactionSuccessful();
+        } finally {
+            statement.close();
+            db.endTransaction();
+        }
+    }
+
+    /**
+     * Returns claimed messages to the outbox after a failed attempt, next attempt is delayed exponentially with the number of attempts
+     *
+     * @param entries messages which were not sent
+     */
+    public void release(Collection<Entry> entries) {
+        if (entries == null || entries.isEmpty()) {
+            return;
+        }
+
+        long now = Time.now();
+        SQLiteDatabase db = databaseProvider.getDatabase();
+        db.beginTransaction();
+        SQLiteStatement statement = db.compileStatement("UPDATE " + Tables.MO_MESSAGE_OUTBOX + " SET " +
+                MoMessageOutboxColumns.STATE + " = ?, " + MoMessageOutboxColumns.ATTEMPTS + " = ?, " +
+                MoMessageOutboxColumns.NEXT_ATTEMPT_TIMESTAMP + " = ? WHERE " + MoMessageOutboxColumns.MESSAGE_ID + " = ?");
+        try {
+            for (Entry entry : entries) {
+                int attempts = entry.getAttempts() + 1;
+                statement.bindString(1, State.PENDING.name());
+                statement.bindLong(2, attempts);
+                statement.bindLong(3, now + retryDelayMillis(attempts));
+                statement.bindString(4, entry.getMessageId());
+                statement.executeUpdateDelete();
+            }
+            db.setTransactionSuccessful();
+        } finally {
+            statement.close();
+            db.endTransaction();
+        }
+    }
+
+    /**
+     * Removes messages created before the provided time
+     *
+     * @param timestamp time before which messages are outdated
+     */
+    public void removeCreatedBefore(long timestamp) {
+        databaseProvider.getDatabase().delete(Tables.MO_MESSAGE_OUTBOX, MoMessageOutboxColumns.CREATED_TIMESTAMP + " < ?",
+                new String[]{String.valueOf(timestamp)});
+    }
+
+    /**
+     * @return number of messages that are due for sending now
+     */
+    public long countDue() {
+        Cursor cursor = databaseProvider.getDatabase().rawQuery("SELECT COUNT(*) FROM " + Tables.MO_MESSAGE_OUTBOX +
+                " WHERE " + MoMessageOutboxColumns.NEXT_ATTEMPT_TIMESTAMP + " <= ?", new String[]{String.valueOf(Time.now())});
+        try {
+            return cursor.moveToFirst() ? cursor.getLong(0) : 0;
+        } finally {
+            cursor.close();
+        }
+    }
+
+    public long count() {
+        Cursor cursor = databaseProvider.getDatabase().rawQuery("SELECT COUNT(*) FROM " + Tables.MO_MESSAGE_OUTBOX, new String[0]);
+        try {
+            return cursor.moveToFirst() ? cursor.getLong(0) : 0;
+        } finally {
+            cursor.close();
+        }
+    }
+
+    /**
+     * Reads all messages without claiming them
+     *
+     * @return messages, oldest first
+     */
+    @NonNull
+    public List<Entry> findAll() {
+        return findDue(databaseProvider.getDatabase(), Long.MAX_VALUE, Integer.MAX_VALUE);
+    }
+
+    public void clear() {
+        databaseProvider.getDatabase().delete(Tables.MO_MESSAGE_OUTBOX, null, new String[0]);
+    }
+
+    static ContentValues contentValues(Message message, String json, long now) {
+        ContentValues values = new ContentValues(6);
+        values.put(MoMessageOutboxColumns.MESSAGE_ID, message.getMessageId());
+        values.put(MoMessageOutboxColumns.MESSAGE, json);
+        values.put(MoMessageOutboxColumns.STATE, State.PENDING.name());
+        values.put(MoMessageOutboxColumns.ATTEMPTS, 0);
+        values.put(MoMessageOutboxColumns.NEXT_ATTEMPT_TIMESTAMP, now);
+        values.put(MoMessageOutboxColumns.CREATED_TIMESTAMP, message.getReceivedTimestamp() > 0 ? message.getReceivedTimestamp() : now);
+        return values;
+    }
+
+    static long retryDelayMillis(int attempts) {
+        long delay = MIN_RETRY_DELAY_MILLIS << Math.min(Math.max(attempts - 1, 0), 16);
+        return Math.min(delay, MAX_RETRY_DELAY_MILLIS);
+    }
+
+    private List<Entry> findDue(SQLiteDatabase db, long now, int limit) {
+        Cursor cursor = db.query(Tables.MO_MESSAGE_OUTBOX,
+                new String[]{MoMessageOutboxColumns.MESSAGE, MoMessageOutboxColumns.ATTEMPTS},
+                MoMessageOutboxColumns.NEXT_ATTEMPT_TIMESTAMP + " <= ?", new String[]{String.valueOf(now)},
+                null, null, MoMessageOutboxColumns.CREATED_TIMESTAMP + ", rowid", String.valueOf(limit));
+        try {
+            List<Entry> entries = new ArrayList<>(cursor.getCount());
+            while (cursor.moveToNext()) {
+                try {
+                    Message message = serializer.deserialize(cursor.getString(0), Message.class);
+                    entries.add(new Entry(message, cursor.getInt(1)));
+                } catch (Exception e) {
+                    MobileMessagingLogger.e("Could not load MO message from outbox", e);
+                }
+            }
+            return entries;
+        } finally {
+            cursor.close();
+        }
+    }
+}
@@ -14,6 +14,9 @@ import android.database.sqlite.SQLiteDatabase;
 
 import org.infobip.mobile.messaging.api.support.http.serialization.JsonSerializer;
 import org.infobip.mobile.messaging.dal.sqlite.DatabaseContract.MessageColumns;
+import org.infobip.mobile.messaging.dal.sqlite.DatabaseContract.MoMessageOutboxColumns;
+import org.infobip.mobile.messaging.dal.sqlite.DatabaseContract.ReportOutboxColumns;
+import org.infobip.mobile.messaging.dal.sqlite.DatabaseContract.SyncMessageIdColumns;
 import org.infobip.mobile.messaging.dal.sqlite.DatabaseContract.Tables;
 import org.infobip.mobile.messaging.logging.MobileMessagingLogger;
 
@@ -34,7 +37,11 @@ public class PushDatabaseHelperImpl extends BaseDatabaseHelper {
     static final int VER_2017_MAY_15 = 3; // Added "content_url" column to messages/geo_messages table
     static final int VER_2017_AUG_25 = 4; // Added "sendDateTime" to internal data (must be present for all messages)
     static final int VER_2019_JAN_21 = 5; // Added "inAppStyle" to internal data
-    private static final int VER_CURRENT = VER_2019_JAN_21;
+    static final int VER_2026_OCT_18 = 6; // Added indexes on "received_timestamp", "seen_timestamp" and "category"
+    static final int VER_2026_OCT_19 = 7; // Added separate table for sync message ids (moved from shared preferences)
+    static final int VER_2026_OCT_20 = 8; // Added outbox table for unreported delivery, seen and click reports (moved from shared preferences)
+    static final int VER_2026_OCT_21 = 9; // Added outbox table for unsent MO messages (moved from shared preferences)
+    private static final int VER_CURRENT = VER_2026_OCT_21;
 
     @SuppressWarnings("WeakerAccess")
     static final String DATABASE_NAME = "mm_infobip_database.db";
@@ -63,6 +70,42 @@ public class PushDatabaseHelperImpl extends BaseDatabaseHelper {
     private static final String SQL_ALTER_TABLE_MESSAGES_WITH_IN_APP_STYLE = "ALTER TABLE "
             + Tables.MESSAGES + " ADD COLUMN " + MessageColumns.IN_APP_STYLE + " TEXT;";
 
+    private static final String[] SQL_CREATE_MESSAGES_INDEXES = {
+            "CREATE INDEX IF NOT EXISTS idx_messages_received_timestamp ON " + Tables.MESSAGES +
+                    " (" + MessageColumns.RECEIVED_TIMESTAMP + ", " + MessageColumns.MESSAGE_ID + ")",
+            "CREATE INDEX IF NOT EXISTS idx_messages_seen_timestamp ON " + Tables.MESSAGES +
+                    " (" + MessageColumns.SEEN_TIMESTAMP + ")",
+            "CREATE INDEX IF NOT EXISTS idx_messages_category ON " + Tables.MESSAGES +
+                    " (" + MessageColumns.CATEGORY + ", " + MessageColumns.RECEIVED_TIMESTAMP + ")"
+    };
+
+    private static final String SQL_CREATE_SYNC_MESSAGE_IDS_TABLE = "CREATE TABLE IF NOT EXISTS " + Tables.SYNC_MESSAGE_IDS + " (" +
+            SyncMessageIdColumns.MESSAGE_ID + " TEXT PRIMARY KEY NOT NULL, " +
+            SyncMessageIdColumns.EXPIRY_TIMESTAMP + " INTEGER NOT NULL)";
+
+    private static final String SQL_CREATE_SYNC_MESSAGE_IDS_INDEX = "CREATE INDEX IF NOT EXISTS idx_sync_message_ids_expiry_timestamp ON " +
+            Tables.SYNC_MESSAGE_IDS + " (" + SyncMessageIdColumns.EXPIRY_TIMESTAMP + ")";
+
+    private static final String SQL_CREATE_REPORT_OUTBOX_TABLE = "CREATE TABLE IF NOT EXISTS " + Tables.REPORT_OUTBOX + " (" +
+            ReportOutboxColumns.ID + " INTEGER PRIMARY KEY AUTOINCREMENT, " +
+            ReportOutboxColumns.TYPE + " TEXT NOT NULL, " +
+            ReportOutboxColumns.PAYLOAD + " TEXT NOT NULL, " +
+            ReportOutboxColumns.TIMESTAMP + " INTEGER NOT NULL)";
+
+    private static final String SQL_CREATE_REPORT_OUTBOX_INDEX = "CREATE INDEX IF NOT EXISTS idx_report_outbox_type ON " +
+            Tables.REPORT_OUTBOX + " (" + ReportOutboxColumns.TYPE + ", " + ReportOutboxColumns.ID + ")";
+
+    private static final String SQL_CREATE_MO_MESSAGE_OUTBOX_TABLE = "CREATE TABLE IF NOT EXISTS " + Tables.MO_MESSAGE_OUTBOX + " (" +
+            MoMessageOutboxColumns.MESSAGE_ID + " TEXT PRIMARY KEY NOT NULL, " +
+            MoMessageOutboxColumns.MESSAGE + " TEXT NOT NULL, " +
+            MoMessageOutboxColumns.STATE + " TEXT NOT NULL, " +
+            MoMessageOutboxColumns.ATTEMPTS + " INTEGER NOT NULL DEFAULT 0, " +
+            MoMessageOutboxColumns.NEXT_ATTEMPT_TIMESTAMP + " INTEGER NOT NULL, " +
+            MoMessageOutboxColumns.CREATED_TIMESTAMP + " INTEGER NOT NULL)";
+
+    private static final String SQL_CREATE_MO_MESSAGE_OUTBOX_INDEX = "CREATE INDEX IF NOT EXISTS idx_mo_message_outbox_next_attempt_timestamp ON " +
+            Tables.MO_MESSAGE_OUTBOX + " (" + MoMessageOutboxColumns.NEXT_ATTEMPT_TIMESTAMP + ")";
+
     public PushDatabaseHelperImpl(Context context) {
         super(context, DATABASE_NAME, VER_CURRENT);
     }
@@ -73,9 +116,19 @@ public class PushDatabaseHelperImpl extends BaseDatabaseHelper {
         db.execSQL(SQL_CREATE_MESSAGES_TABLE);
         db.execSQL(SQL_ALTER_TABLE_MESSAGES_WITH_CONTENT_URL);
         db.execSQL(SQL_ALTER_TABLE_MESSAGES_WITH_IN_APP_STYLE);
+        createMessagesIndexes(db);
+        db.execSQL(SQL_CREATE_SYNC_MESSAGE_IDS_TABLE);
+        db.execSQL(SQL_CREATE_SYNC_MESSAGE_IDS_INDEX);
+        db.execSQL(SQL_CREATE_REPORT_OUTBOX_TABLE);
+        db.execSQL(SQL_CREATE_REPORT_OUTBOX_INDEX);
+        db.execSQL(SQL_CREATE_MO_MESSAGE_OUTBOX_TABLE);
+        db.execSQL(SQL_CREATE_MO_MESSAGE_OUTBOX_INDEX);
         db.setTransactionSuccessful();
         db.endTransaction();
         SharedPreferencesMigrator.migrateMessages(context, db);
+        SharedPreferencesMigrator.migrateSyncMessageIds(context, db);
+        SharedPreferencesMigrator.migrateUnreportedReports(context, db);
+        SharedPreferencesMigrator.migrateUnsentMoMessages(context, db);
     }
 
     @Override
@@ -100,11 +153,43 @@ public class PushDatabaseHelperImpl extends BaseDatabaseHelper {
             version = VER_2019_JAN_21;
         }
 
+        if (version <= VER_2019_JAN_21) {
+            createMessagesIndexes(db);
+            version = VER_2026_OCT_18;
+        }
+
+        if (version <= VER_2026_OCT_18) {
+            db.execSQL(SQL_CREATE_SYNC_MESSAGE_IDS_TABLE);
+            db.execSQL(SQL_CREATE_SYNC_MESSAGE_IDS_INDEX);
+            SharedPreferencesMigrator.migrateSyncMessageIds(context, db);
+            version = VER_2026_OCT_19;
+        }
+
+        if (version <= VER_2026_OCT_19) {
+            db.execSQL(SQL_CREATE_REPORT_OUTBOX_TABLE);
+            db.execSQL(SQL_CREATE_REPORT_OUTBOX_INDEX);
+            SharedPreferencesMigrator.migrateUnreportedReports(context, db);
+            version = VER_2026_OCT_20;
+        }
+
+        if (version <= VER_2026_OCT_20) {
+            db.execSQL(SQL_CREATE_MO_MESSAGE_OUTBOX_TABLE);
+            db.execSQL(SQL_CREATE_MO_MESSAGE_OUTBOX_INDEX);
+            SharedPreferencesMigrator.migrateUnsentMoMessages(context, db);
+            version = VER_2026_OCT_21;
+        }
+
         if (version != VER_CURRENT) {
             MobileMessagingLogger.w("SQLite DB version is not what expected: " + VER_CURRENT);
         }
     }
 
+    private void createMessagesIndexes(SQLiteDatabase db) {
+        for (String sql : SQL_CREATE_MESSAGES_INDEXES) {
+            db.execSQL(sql);
+        }
+    }
+
     private void setSendDateTimeToReceivedTimeIfAbsent(SQLiteDatabase db) {
         // Read existing data from database
         class Message {
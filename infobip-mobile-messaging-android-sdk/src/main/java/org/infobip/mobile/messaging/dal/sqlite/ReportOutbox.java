@@ -0,0 +1,275 @@
+/*
+ * ReportOutbox.java
+ * Mobile Messaging SDK
+ *
+ * Copyright (c) 2016-2025 Infobip Limited
+ * Licensed under the Apache License, Version 2.0
+ */
+package org.infobip.mobile.messaging.dal.sqlite;
+
+import android.content.ContentValues;
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteStatement;
+
+import org.infobip.mobile.messaging.dal.sqlite.DatabaseContract.ReportOutboxColumns;
+import org.infobip.mobile.messaging.dal.sqlite.DatabaseContract.Tables;
+import org.infobip.mobile.messaging.platform.Time;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Append-only journal of reports that are waiting to be sent to the backend.
+ * <br>
+ * Each report is a row keyed by an auto-incremented id and its {@link Type}, so appending is a single insert
+ * and reporters drain the journal in bounded batches, oldest first, acknowledging only what was sent.
+ * The number of pending reports of each type is capped at {@link #MAX_ENTRIES_PER_TYPE}, oldest reports are dropped first.
+ */
+public class ReportOutbox {
+
+    public static final int MAX_ENTRIES_PER_TYPE = 1000;
+
+    public enum Type {
+        DELIVERY,
+        SEEN,
+        IN_APP_CLICK
+    }
+
+    public static class Entry {
+        private final long id;
+        private final String payload;
+        private final long timestamp;
+
+        Entry(long id, String payload, long timestamp) {
+            this.id = id;
+            this.payload = payload;
+            this.timestamp = timestamp;
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public String getPayload() {
+            return payload;
+        }
+
+        public long getTimestamp() {
+            return timestamp;
+        }
+    }
+
+    private final SqliteDatabaseProvider databaseProvider;
+
+    public ReportOutbox(SqliteDatabaseProvider databaseProvider) {
+        this.databaseProvider = databaseProvider;
+    }
+
+    /**
+     * Appends reports of the provided type, null payloads are ignored
+     *
+     * @param type     report type
+     * @param payloads report payloads
+     */
+    public void append(Type type, String... payloads) {
+        if (payloads == null || payloads.length == 0) {
+            return;
+        }
+
+        SQLiteDatabase db = databaseProvider.getDatabase();
+        db.beginTransaction();
+        try {
+            appendInTransaction(db, type, Time.now(), payloads);
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
+        }
+    }
+
+    /**
+     * Appends reports of the provided type with explicit timestamp, null payloads are ignored
+     *
+     * @param type      report type
+     * @param timestamp time when reports were created
+     * @param payloads  report payloads
+     */
+    public void append(Type type, long timestamp, String... payloads) {
+        if (payloads == null || payloads.length == 0) {
+            return;
+        }
+
+        SQLiteDatabase db = databaseProvider.getDatabase();
+        db.beginTransaction();
+        try {
+            appendInTransaction(db, type, timestamp, payloads);
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
+        }
+    }
+
+    /**
+     * Reads the oldest pending reports without removing them
+     *
+     * @param type  report type
+     * @param limit maximum number of reports
+     * @return reports, oldest first
+     */
+    @NonNull
+    public List<Entry> peek(Type type, int limit) {
+        Cursor cursor = databaseProvider.getDatabase().query(Tables.REPORT_OUTBOX,
+                new String[]{ReportOutboxColumns.ID, ReportOutboxColumns.PAYLOAD, ReportOutboxColumns.TIMESTAMP},
+                ReportOutboxColumns.TYPE + " = ?", new String[]{type.name()},
+                null, null, ReportOutboxColumns.ID, String.valueOf(limit));
+        try {
+            List<Entry> entries = new ArrayList<>(cursor.getCount());
+            while (cursor.moveToNext()) {
+                entries.add(new Entry(cursor.getLong(0), cursor.getString(1), cursor.getLong(2)));
+            }
+            return entries;
+        } finally {
+            cursor.close();
+        }
+    }
+
+    /**
+     * Reads and removes the oldest pending reports in one transaction
+     *
+     * @param type  report type
+     * @param limit maximum number of reports
+     * @return removed reports, oldest first
+     */
+    @NonNull
+    public List<Entry> take(Type type, int limit) {
+        SQLiteDatabase db = databaseProvider.getDatabase();
+        db.beginTransaction();
+        try {
+            List<Entry> entries = peek(type, limit);
+            ack(entries);
+            db.setTransactionSuccessful();
+            return entries;
+        } finally {
+            db.endTransaction();
+        }
+    }
+
+    /**
+     * Removes reports that were sent
+     *
+     * @param entries sent reports
+     */
+    public void ack(Collection<Entry> entries) {
+        if (entries == null || entries.isEmpty()) {
+            return;
+        }
+
+        SQLiteDatabase db = databaseProvider.getDatabase();
+        db.beginTransaction();
+        SQLiteStatement statement = db.compileStatement("DELETE FROM " + Tables.REPORT_OUTBOX + " WHERE " + ReportOutboxColumns.ID + " = ?");
+        try {
+            for (Entry entry : entries) {
+                statement.bindLong(1, entry.getId());
+                statement.executeUpdateDelete();
+            }
+            db.setTransactionSuccessful();
+        } finally {
+            statement.close();
+            db.endTransaction();
+        }
+    }
+
+    /**
+     * Removes reports with the provided payloads
+     *
+     * @param type     report type
+     * @param payloads payloads of sent reports
+     */
+    public void ack(Type type, String... payloads) {
+        if (payloads == null || payloads.length == 0) {
+            return;
+        }
+
+        SQLiteDatabase db = databaseProvider.getDatabase();
+        db.beginTransaction();
+        try {
+            for (String payload : payloads) {
+                db.delete(Tables.REPORT_OUTBOX, ReportOutboxColumns.TYPE + " = ? AND " + ReportOutboxColumns.PAYLOAD + " = ?",
+                        new String[]{type.name(), payload});
+            }
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
+        }
+    }
+
+    /**
+     * Replaces payloads of pending reports, used when message ids are updated after sending
+     *
+     * @param type         report type
+     * @param replacements map of old payload to new payload
+     */
+    public void replacePayloads(Type type, Map<String, String> replacements) {
+        if (replacements == null || replacements.isEmpty()) {
+            return;
+        }
+
+        SQLiteDatabase db = databaseProvider.getDatabase();
+        db.beginTransaction();
+        try {
+            ContentValues values = new ContentValues(1);
+            for (Map.Entry<String, String> replacement : replacements.entrySet()) {
+                if (replacement.getKey() == null || replacement.getValue() == null) {
+                    continue;
+                }
+                values.put(ReportOutboxColumns.PAYLOAD, replacement.getValue());
+                db.update(Tables.REPORT_OUTBOX, values, ReportOutboxColumns.TYPE + " = ? AND " + ReportOutboxColumns.PAYLOAD + " = ?",
+                        new String[]{type.name(), replacement.getKey()});
+            }
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
+        }
+    }
+
+    public long count(Type type) {
+        Cursor cursor = databaseProvider.getDatabase().rawQuery("SELECT COUNT(*) FROM " + Tables.REPORT_OUTBOX +
+                " WHERE " + ReportOutboxColumns.TYPE + " = ?", new String[]{type.name()});
+        try {
+            return cursor.moveToFirst() ? cursor.getLong(0) : 0;
+        } finally {
+            cursor.close();
+        }
+    }
+
+    public void clear(Type type) {
+        databaseProvider.getDatabase().delete(Tables.REPORT_OUTBOX, ReportOutboxColumns.TYPE + " = ?", new String[]{type.name()});
+    }
+
+    private void appendInTransaction(SQLiteDatabase db, Type type, long timestamp, String... payloads) {
+        SQLiteStatement statement = db.compileStatement("INSERT INTO " + Tables.REPORT_OUTBOX + " (" +
+                ReportOutboxColumns.TYPE + "," + ReportOutboxColumns.PAYLOAD + "," + ReportOutboxColumns.TIMESTAMP + ") VALUES (?,?,?)");
+        try {
+            for (String payload : payloads) {
+                if (payload == null) {
+                    continue;
+                }
+                statement.bindString(1, type.name());
+                statement.bindString(2, payload);
+                statement.bindLong(3, timestamp);
+                statement.executeInsert();
+            }
+        } finally {
+            statement.close();
+        }
+
+        db.delete(Tables.REPORT_OUTBOX, ReportOutboxColumns.TYPE + " = ? AND " + ReportOutboxColumns.ID + " <= (SELECT " + ReportOutboxColumns.ID +
+                        " FROM " + Tables.REPORT_OUTBOX + " WHERE " + ReportOutboxColumns.TYPE + " = ? ORDER BY " + ReportOutboxColumns.ID +
+                        " DESC LIMIT 1 OFFSET " + MAX_ENTRIES_PER_TYPE + ")",
+                new String[]{type.name(), type.name()});
+    }
+}
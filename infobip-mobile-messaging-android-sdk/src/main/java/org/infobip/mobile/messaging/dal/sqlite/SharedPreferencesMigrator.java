@@ -7,11 +7,21 @@
  */
 package org.infobip.mobile.messaging.dal.sqlite;
 
+import android.content.ContentValues;
 import android.content.Context;
 import android.database.sqlite.SQLiteDatabase;
 
 import org.infobip.mobile.messaging.Message;
+import org.infobip.mobile.messaging.MobileMessagingProperty;
+import org.infobip.mobile.messaging.api.support.http.serialization.JsonSerializer;
+import org.infobip.mobile.messaging.dal.sqlite.DatabaseContract.ReportOutboxColumns;
+import org.infobip.mobile.messaging.dal.sqlite.DatabaseContract.SyncMessageIdColumns;
+import org.infobip.mobile.messaging.dal.sqlite.DatabaseContract.Tables;
+import org.infobip.mobile.messaging.logging.MobileMessagingLogger;
+import org.infobip.mobile.messaging.platform.Time;
 import org.infobip.mobile.messaging.storage.SharedPreferencesMessageStore;
+import org.infobip.mobile.messaging.util.PreferenceHelper;
+import org.infobip.mobile.messaging.util.StringUtils;
 
 import java.util.List;
 
@@ -33,4 +43,93 @@ class SharedPreferencesMigrator {
             db.insert(SqliteMessage.getTable(), null, SqliteMessage.save(message));
         }
     }
+
+    /**
+     * Moves "messageId, timestamp" pairs from {@link MobileMessagingProperty#INFOBIP_SYNC_MESSAGES_IDS} to the sync message ids table
+     */
+    static void migrateSyncMessageIds(Context context, SQLiteDatabase db) {
+        String[] syncMessageIds = PreferenceHelper.findStringArray(context, MobileMessagingProperty.INFOBIP_SYNC_MESSAGES_IDS);
+        if (syncMessageIds.length == 0) {
+            return;
+        }
+
+        long now = Time.now();
+        ContentValues values = new ContentValues(2);
+        for (String syncMessageId : syncMessageIds) {
+            String[] messageIdWithTimestamp = syncMessageId.split(StringUtils.COMMA_WITH_SPACE);
+            if (messageIdWithTimestamp.length < 2) {
+                continue;
+            }
+            try {
+                long expiry = Long.parseLong(messageIdWithTimestamp[1]) + SyncMessageIdsStore.EXPIRY_TIME_MILLIS;
+                if (expiry <= now) {
+                    continue;
+                }
+                values.put(SyncMessageIdColumns.MESSAGE_ID, messageIdWithTimestamp[0]);
+                values.put(SyncMessageIdColumns.EXPIRY_TIMESTAMP, expiry);
+                db.insertWithOnConflict(Tables.SYNC_MESSAGE_IDS, null, values, SQLiteDatabase.CONFLICT_REPLACE);
+            } catch (NumberFormatException e) {
+                MobileMessagingLogger.w("Could not migrate sync message id: " + syncMessageId);
+            }
+        }
+        PreferenceHelper.remove(context, MobileMessagingProperty.INFOBIP_SYNC_MESSAGES_IDS);
+    }
+
+    /**
+     * Moves unreported delivery ids, seen reports and in-app click actions from shared preferences to the report outbox table
+     */
+    static void migrateUnreportedReports(Context context, SQLiteDatabase db) {
+        long now = Time.now();
+        for (String messageId : PreferenceHelper.findStringArray(context, MobileMessagingProperty.INFOBIP_UNREPORTED_MESSAGE_IDS)) {
+            insertReport(db, ReportOutbox.Type.DELIVERY, messageId, now);
+        }
+        for (String seenReport : PreferenceHelper.findStringArray(context, MobileMessagingProperty.INFOBIP_UNREPORTED_SEEN_MESSAGE_IDS)) {
+            String[] messageIdWithTimestamp = seenReport.split(StringUtils.COMMA_WITH_SPACE);
+            long seenTimestamp = now;
+            if (messageIdWithTimestamp.length > 1) {
+                try {
+                    seenTimestamp = Long.parseLong(messageIdWithTimestamp[1]);
+                } catch (NumberFormatException e) {
+                    MobileMessagingLogger.w("Could not parse seen timestamp: " + seenReport);
+                }
+            }
+            insertReport(db, ReportOutbox.Type.SEEN, messageIdWithTimestamp[0], seenTimestamp);
+        }
+        for (String clickAction : PreferenceHelper.findStringArray(context, MobileMessagingProperty.INFOBIP_UNREPORTED_IN_APP_CLICK_URLS)) {
+            insertReport(db, ReportOutbox.Type.IN_APP_CLICK, clickAction, now);
+        }
+        PreferenceHelper.remove(context, MobileMessagingProperty.INFOBIP_UNREPORTED_MESSAGE_IDS);
+        PreferenceHelper.remove(context, MobileMessagingProperty.INFOBIP_UNREPORTED_SEEN_MESSAGE_IDS);
+        PreferenceHelper.remove(context, MobileMessagingProperty.INFOBIP_UNREPORTED_IN_APP_CLICK_URLS);
+    }
+
+    /**
+     * Moves unsent MO messages from {@link MobileMessagingProperty#UNSENT_MO_MESSAGES} to the MO message outbox table
+     */
+    static void migrateUnsentMoMessages(Context context, SQLiteDatabase db) {
+        String[] jsons = PreferenceHelper.findStringArray(context, MobileMessagingProperty.UNSENT_MO_MESSAGES);
+        if (jsons.length == 0) {
+            return;
+        }
+
+        JsonSerializer serializer = new JsonSerializer(false);
+        long now = Time.now();
+        for (String json : jsons) {
+            try {
+                Message message = serializer.deserialize(json, Message.class);
+                db.insertWithOnConflict(Tables.MO_MESSAGE_OUTBOX, null, MoMessageOutbox.contentValues(message, json, now), SQLiteDatabase.CONFLICT_REPLACE);
+            } catch (Exception e) {
+                MobileMessagingLogger.w("Could not migrate unsent MO message: " + json);
+            }
+        }
+        PreferenceHelper.remove(context, MobileMessagingProperty.UNSENT_MO_MESSAGES);
+    }
+
+    private static void insertReport(SQLiteDatabase db, ReportOutbox.Type type, String payload, long timestamp) {
+        ContentValues values = new ContentValues(3);
+        values.put(ReportOutboxColumns.TYPE, type.name());
+        values.put(ReportOutboxColumns.PAYLOAD, payload);
+        values.put(ReportOutboxColumns.TIMESTAMP, timestamp);
+        db.insert(Tables.REPORT_OUTBOX, null, values);
+    }
 }
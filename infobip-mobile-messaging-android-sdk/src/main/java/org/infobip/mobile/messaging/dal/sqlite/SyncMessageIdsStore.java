@@ -0,0 +1,227 @@
+/*
+ * SyncMessageIdsStore.java
+ * Mobile Messaging SDK
+ *
+ * Copyright (c) 2016-2025 Infobip Limited
+ * Licensed under the Apache License, Version 2.0
+ */
+package org.infobip.mobile.messaging.dal.sqlite;
+
+import android.content.ContentValues;
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+
+import org.infobip.mobile.messaging.dal.sqlite.DatabaseContract.SyncMessageIdColumns;
+import org.infobip.mobile.messaging.dal.sqlite.DatabaseContract.Tables;
+import org.infobip.mobile.messaging.platform.Time;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Keeps ids of processed messages for deduplication of pushes and for message sync.
+ * <br>
+ * Ids are stored in SQLite keyed by message id and expire after {@link #EXPIRY_TIME_MILLIS}.
+ * Recently added ids are also kept in a bounded in-memory map, so checks during a burst of pushes
+ * do not touch the database at all. Expired rows are removed incrementally, at most once per {@link #PRUNE_INTERVAL_MILLIS}.
+ */
+public class SyncMessageIdsStore {
+
+    public static final long EXPIRY_TIME_MILLIS = TimeUnit.DAYS.toMillis(7);
+    static final long PRUNE_INTERVAL_MILLIS = TimeUnit.HOURS.toMillis(1);
+    static final int MAX_STORED_IDS = 1000;
+    static final int MAX_CACHED_IDS = 256;
+    private static final int MAX_QUERY_ARGS = 500;
+
+    private final SqliteDatabaseProvider databaseProvider;
+    private final Map<String, Long> recentIds = new LinkedHashMap<String, Long>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Entry<String, Long> eldest) {
+            return size() > MAX_CACHED_IDS;
+        }
+    };
+    private long lastPruneTime;
+
+    public SyncMessageIdsStore(SqliteDatabaseProvider databaseProvider) {
+        this.databaseProvider = databaseProvider;
+    }
+
+    /**
+     * Stores message ids, null ids are ignored
+     *
+     * @param messageIds ids of processed messages
+     */
+    public synchronized void add(String... messageIds) {
+        if (messageIds == null || messageIds.length == 0) {
+            return;
+        }
+
+        long now = Time.now();
+        long expiry = now + EXPIRY_TIME_MILLIS;
+        SQLiteDatabase db = databaseProvider.getDatabase();
+        db.beginTransaction();
+        try {
+            ContentValues values = new ContentValues(2);
+            for (String messageId : messageIds) {
+                if (messageId == null) {
+                    continue;
+                }
+                values.put(SyncMessageIdColumns.MESSAGE_ID, messageId);
+                values.put(SyncMessageIdColumns.EXPIRY_TIMESTAMP, expiry);
+                db.insertWithOnConflict(Tables.SYNC_MESSAGE_IDS, null, values, SQLiteDatabase.CONFLICT_REPLACE);
+                recentIds.put(messageId, expiry);
+            }
+            if (now - lastPruneTime >= PRUNE_INTERVAL_MILLIS) {
+                prune(db, now);
+                lastPruneTime = now;
+            }
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
+        }
+    }
+
+    /**
+     * Checks whether message id was already stored and is not yet expired
+     *
+     * @param messageId message id
+     * @return true if message was already processed
+     */
+    public synchronized boolean contains(String messageId) {
+        if (messageId == null) {
+            return false;
+        }
+
+        long now = Time.now();
+        Long expiry = recentIds.get(messageId);
+        if (expiry != null) {
+            if (expiry > now) {
+                return true;
+            }
+            recentIds.remove(messageId);
+            return false;
+        }
+
+        Cursor cursor = databaseProvider.getDatabase().query(Tables.SYNC_MESSAGE_IDS,
+                new String[]{SyncMessageIdColumns.EXPIRY_TIMESTAMP},
+                SyncMessageIdColumns.MESSAGE_ID + " = ? AND " + SyncMessageIdColumns.EXPIRY_TIMESTAMP + " > ?",
+                new String[]{messageId, String.valueOf(now)}, null, null, null);
+        try {
+            if (!cursor.moveToFirst()) {
+                return false;
+            }
+            recentIds.put(messageId, cursor.getLong(0));
+            return true;
+        } finally {
+            cursor.close();
+        }
+    }
+
+    /**
+     * Finds which of the provided ids were already stored and are not yet expired.
+     * Ids missing from memory are looked up with one query per chunk of ids instead of one query per id.
+     *
+     * @param messageIds message ids
+     * @return ids of already processed messages
+     */
+    @NonNull
+    public synchronized Set<String> findStored(Collection<String> messageIds) {
+        Set<String> stored = new HashSet<>();
+        if (messageIds == null || messageIds.isEmpty()) {
+            return stored;
+        }
+
+        long now = Time.now();
+        List<String> missing = new ArrayList<>();
+        for (String messageId : messageIds) {
+            if (messageId == null) {
+                continue;
+            }
+            Long expiry = recentIds.get(messageId);
+            if (expiry != null && expiry > now) {
+                stored.add(messageId);
+            } else {
+                missing.add(messageId);
+            }
+        }
+
+        for (int from = 0; from < missing.size(); from += MAX_QUERY_ARGS) {
+            List<String> chunk = missing.subList(from, Math.min(from + MAX_QUERY_ARGS, missing.size()));
+            String[] args = new String[chunk.size() + 1];
+            StringBuilder placeholders = new StringBuilder();
+            for (int i = 0; i < chunk.size(); i++) {
+                placeholders.append(i == 0 ? "?" : ",?");
+                args[i] = chunk.get(i);
+            }
+            args[chunk.size()] = String.valueOf(now);
+
+            Cursor cursor = databaseProvider.getDatabase().query(Tables.SYNC_MESSAGE_IDS,
+                    new String[]{SyncMessageIdColumns.MESSAGE_ID, SyncMessageIdColumns.EXPIRY_TIMESTAMP},
+                    SyncMessageIdColumns.MESSAGE_ID + " IN (" + placeholders + ") AND " + SyncMessageIdColumns.EXPIRY_TIMESTAMP + " > ?",
+                    args, null, null, null);
+            try {
+                while (cursor.moveToNext()) {
+                    stored.add(cursor.getString(0));
+                    recentIds.put(cursor.getString(0), cursor.getLong(1));
+                }
+            } finally {
+                cursor.close();
+            }
+        }
+        return stored;
+    }
+
+    /**
+     * Finds the most recently stored ids that are not yet expired
+     *
+     * @param limit maximum number of ids to return
+     * @return message ids, newest first
+     */
+    @NonNull
+    public synchronized String[] findRecent(int limit) {
+        Cursor cursor = databaseProvider.getDatabase().query(Tables.SYNC_MESSAGE_IDS,
+                new String[]{SyncMessageIdColumns.MESSAGE_ID},
+                SyncMessageIdColumns.EXPIRY_TIMESTAMP + " > ?", new String[]{String.valueOf(Time.now())},
+                null, null, SyncMessageIdColumns.EXPIRY_TIMESTAMP + " DESC", String.valueOf(limit));
+        try {
+            List<String> ids = new ArrayList<>(cursor.getCount());
+            while (cursor.moveToNext()) {
+                ids.add(cursor.getString(0));
+            }
+            return ids.toArray(new String[0]);
+        } finally {
+            cursor.close();
+        }
+    }
+
+    /**
+     * Removes all stored ids
+     */
+    public synchronized void clear() {
+        recentIds.clear();
+        databaseProvider.getDatabase().delete(Tables.SYNC_MESSAGE_IDS, null, null);
+    }
+
+    private void prune(SQLiteDatabase db, long now) {
+        String nowArg = String.valueOf(now);
+        db.delete(Tables.SYNC_MESSAGE_IDS, SyncMessageIdColumns.EXPIRY_TIMESTAMP + " <= ?", new String[]{nowArg});
+        db.delete(Tables.SYNC_MESSAGE_IDS, SyncMessageIdColumns.MESSAGE_ID + " IN (SELECT " + SyncMessageIdColumns.MESSAGE_ID +
+                " FROM " + Tables.SYNC_MESSAGE_IDS + " ORDER BY " + SyncMessageIdColumns.EXPIRY_TIMESTAMP + " DESC LIMIT -1 OFFSET " + MAX_STORED_IDS + ")", null);
+
+        Iterator<Map.Entry<String, Long>> iterator = recentIds.entrySet().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().getValue() <= now) {
+                iterator.remove();
+            }
+        }
+    }
+}
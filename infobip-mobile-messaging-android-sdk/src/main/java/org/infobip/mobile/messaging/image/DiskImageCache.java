@@ -0,0 +1,138 @@
+/*
+ * DiskImageCache.java
+ * Mobile Messaging SDK
+ *
+ * Copyright (c) 2016-2025 Infobip Limited
+ * Licensed under the Apache License, Version 2.0
+ */
+package org.infobip.mobile.messaging.image;
+
+import org.infobip.mobile.messaging.logging.MobileMessagingLogger;
+import org.infobip.mobile.messaging.platform.Time;
+import org.infobip.mobile.messaging.util.SHA256;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+
+import androidx.annotation.Nullable;
+
+/**
+ * Bounded least-recently-used cache of downloaded image files, keyed by image URL.
+ * <br>
+ * Files are written to a temporary file first and renamed into place, so a cached file is always complete.
+ * Last access is tracked with the file modification time, which survives process restarts.
+ */
+class DiskImageCache {
+
+    private static final String IMAGE_SUFFIX = ".img";
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final File directory;
+    private final long maxBytes;
+
+    DiskImageCache(File directory, long maxBytes) {
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Returns cached image file and marks it as recently used
+     *
+     * @param url image URL
+     * @return file or null if the image is not cached
+     */
+    @Nullable
+    synchronized File get(String url) {
+        File file = fileFor(url);
+        if (!file.isFile()) {
+            return null;
+        }
+
+        //noinspection ResultOfMethodCallIgnored
+        file.setLastModified(Time.now());
+        return file;
+    }
+
+    File createTempFile() throws IOException {
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new IOException("Cannot create image cache directory " + directory);
+        }
+        return File.createTempFile("image", TEMP_SUFFIX, directory);
+    }
+
+    /**
+     * Moves downloaded file into the cache and evicts least recently used images over the size limit
+     *
+     * @param url  image URL
+     * @param temp complete file created with {@link #createTempFile()}
+     * @return cached file or null if the file could not be moved into the cache
+     */
+    @Nullable
+    synchronized File commit(String url, File temp) {
+        File file = fileFor(url);
+        //noinspection ResultOfMethodCallIgnored
+        file.delete();
+        if (!temp.renameTo(file)) {
+            MobileMessagingLogger.w("Cannot move downloaded image into cache");
+            return null;
+        }
+
+        //noinspection ResultOfMethodCallIgnored
+        file.setLastModified(Time.now());
+        trim(file);
+        return file;
+    }
+
+    synchronized void remove(String url) {
+        //noinspection ResultOfMethodCallIgnored
+        fileFor(url).delete();
+    }
+
+    synchronized long size() {
+        long size = 0;
+        for (File file : listImages()) {
+            size += file.length();
+        }
+        return size;
+    }
+
+    private void trim(File keep) {
+        File[] files = listImages();
+        long size = 0;
+        for (File file : files) {
+            size += file.length();
+        }
+        if (size <= maxBytes) {
+            return;
+        }
+
+        long[] lastModified = new long[files.length];
+        Integer[] order = new Integer[files.length];
+        for (int i = 0; i < files.length; i++) {
+            lastModified[i] = files[i].lastModified();
+            order[i] = i;
+        }
+        Arrays.sort(order, (left, right) -> Long.compare(lastModified[left], lastModified[right]));
+
+        for (int i = 0; i < order.length && size > maxBytes; i++) {
+            File file = files[order[i]];
+            if (file.equals(keep)) {
+                continue;
+            }
+            long length = file.length();
+            if (file.delete()) {
+                size -= length;
+            }
+        }
+    }
+
+    private File[] listImages() {
+        File[] files = directory.listFiles((dir, name) -> name.endsWith(IMAGE_SUFFIX));
+        return files != null ? files : new File[0];
+    }
+
+    private File fileFor(String url) {
+        return new File(directory, SHA256.calc(url) + IMAGE_SUFFIX);
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * ImageDownloader.java
+ * Mobile Messaging SDK
+ *
+ * Copyright (c) 2016-2025 Infobip Limited
+ * Licensed under the Apache License, Version 2.0
+ */
+package org.infobip.mobile.messaging.image;
+
+import android.os.Build;
+import android.security.NetworkSecurityPolicy;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Downloads image bytes to a file
+ */
+interface ImageDownloader {
+
+    /**
+     * Failure which will not go away by retrying the same request
+     */
+    class PermanentFailureException extends IOException {
+        PermanentFailureException(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * @param url      image URL
+     * @param target   file to write image bytes to
+     * @param maxBytes largest image to download
+     * @throws PermanentFailureException if download should not be retried
+     * @throws IOException               if download failed
+     */
+    void download(String url, File target, long maxBytes) throws IOException;
+
+    class Http implements ImageDownloader {
+
+        static final int CONNECT_TIMEOUT_MILLIS = (int) TimeUnit.SECONDS.toMillis(10);
+        static final int READ_TIMEOUT_MILLIS = (int) TimeUnit.SECONDS.toMillis(20);
+
+        @Override
+        public void download(String url, File target, long maxBytes) throws IOException {
+            if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.M && url.regionMatches(true, 0, "http:", 0, 5)
+                    && !NetworkSecurityPolicy.getInstance().isCleartextTrafficPermitted()) {
+                throw new PermanentFailureException("HTTP not permitted, use https or override usesClearTextTraffic on the application level.");
+            }
+
+            HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
+            connection.setConnectTimeout(CONNECT_TIMEOUT_MILLIS);
+            connection.setReadTimeout(READ_TIMEOUT_MILLIS);
+            connection.setDoInput(true);
+            try {
+                int responseCode = connection.getResponseCode();
+                if (responseCode >= 400 && responseCode < 500) {
+                    throw new PermanentFailureException("Image request failed with HTTP " + responseCode);
+                }
+                if (responseCode >= 300) {
+                    throw new IOException("Image request failed with HTTP " + responseCode);
+                }
+                if (connection.getContentLength() > maxBytes) {
+                    throw new PermanentFailureException("Image is too large: " + connection.getContentLength() + " bytes");
+                }
+
+                InputStream input = connection.getInputStream();
+                OutputStream output = new BufferedOutputStream(new FileOutputStream(target));
+                try {
+                    byte[] buffer = new byte[8192];
+                    long total = 0;
+                    int read;
+                    while ((read = input.read(buffer)) != -1) {
+                        total += read;
+                        if (total > maxBytes) {
+                            throw new PermanentFailureException("Image is larger than " + maxBytes + " bytes");
+                        }
+                        output.write(buffer, 0, read);
+                    }
+                } finally {
+                    output.close();
+                    input.close();
+                }
+            } finally {
+                connection.disconnect();
+            }
+        }
+    }
+}
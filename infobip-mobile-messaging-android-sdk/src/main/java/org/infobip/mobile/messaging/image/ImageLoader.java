@@ -0,0 +1,280 @@
+/*
+ * ImageLoader.java
+ * Mobile Messaging SDK
+ *
+ * Copyright (c) 2016-2025 Infobip Limited
+ * Licensed under the Apache License, Version 2.0
+ */
+package org.infobip.mobile.messaging.image;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.util.LruCache;
+
+import org.infobip.mobile.messaging.logging.MobileMessagingLogger;
+import org.infobip.mobile.messaging.platform.SdkExecutor;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import androidx.annotation.WorkerThread;
+
+/**
+ * Loads notification and in-app images.
+ * <br>
+ * Downloaded images are kept in a bounded disk cache keyed by URL, so the same campaign image is downloaded only once,
+ * and concurrent loads of the same URL share one download. Images are decoded with a sample size matching the
+ * requested size and kept in a memory cache.
+ */
+public class ImageLoader {
+
+    private static final String CACHE_DIRECTORY = "mm_images";
+    private static final long DISK_CACHE_MAX_BYTES = 20 * 1024 * 1024;
+    private static final int MAX_DOWNLOAD_ATTEMPTS = 3;
+    private static final long MAX_IMAGE_BYTES = 10 * 1024 * 1024;
+
+    private static ImageLoader instance;
+
+    private final DiskImageCache diskCache;
+    private final ImageDownloader downloader;
+    private final LruCache<String, Bitmap> memoryCache;
+    private final ConcurrentHashMap<String, FutureTask<File>> downloadsInProgress = new ConcurrentHashMap<>();
+
+    public static synchronized ImageLoader getInstance(Context context) {
+        if (instance == null) {
+            File directory = new File(context.getApplicationContext().getCacheDir(), CACHE_DIRECTORY);
+            int memoryCacheKilobytes = (int) (Runtime.getRuntime().maxMemory() / 1024 / 16);
+            instance = new ImageLoader(new DiskImageCache(directory, DISK_CACHE_MAX_BYTES), new ImageDownloader.Http(), memoryCacheKilobytes);
+        }
+        return instance;
+    }
+
+    @VisibleForTesting
+    ImageLoader(DiskImageCache diskCache, ImageDownloader downloader, int memoryCacheKilobytes) {
+        this.diskCache = diskCache;
+        this.downloader = downloader;
+        this.memoryCache = new LruCache<String, Bitmap>(memoryCacheKilobytes) {
+            @Override
+            protected int sizeOf(String key, Bitmap bitmap) {
+                return Math.max(1, bitmap.getAllocationByteCount() / 1024);
+            }
+        };
+    }
+
+    /**
+     * Loads image from memory cache, disk cache or network, in that order, decoding it to approximately the requested size.
+     * Decoded image is never smaller than requested unless the original image is smaller.
+     *
+     * @param url       image URL
+     * @param reqWidth  width the image will be displayed with, in pixels
+     * @param reqHeight height the image will be displayed with, in pixels
+     * @return decoded image or null if it cannot be loaded
+     */
+    @Nullable
+    @WorkerThread
+    public Bitmap load(@Nullable String url, int reqWidth, int reqHeight) {
+        if (url == null) {
+            return null;
+        }
+
+        String key = url + "#" + reqWidth + "x" + reqHeight;
+        Bitmap bitmap = memoryCache.get(key);
+        if (bitmap != null) {
+            return bitmap;
+        }
+
+        File file = fetch(url, MAX_IMAGE_BYTES);
+        if (file == null) {
+            return null;
+        }
+
+        bitmap = validateBitmap(decodeSampled(file, reqWidth, reqHeight));
+        if (bitmap == null) {
+            diskCache.remove(url);
+            return null;
+        }
+
+        memoryCache.put(key, bitmap);
+        return bitmap;
+    }
+
+    /**
+     * Loads image like {@link #load(String, int, int)}, but waits for the download at most the given time.
+     * A download which doesn't finish in time continues in the background and stores the image in the disk cache.
+     *
+     * @param url           image URL
+     * @param reqWidth      width the image will be displayed with, in pixels
+     * @param reqHeight     height the image will be displayed with, in pixels
+     * @param timeoutMillis longest time to wait for the download
+     * @return decoded image or null if it cannot be loaded in time
+     */
+    @Nullable
+    @WorkerThread
+    public Bitmap load(@Nullable String url, int reqWidth, int reqHeight, long timeoutMillis) {
+        if (url == null) {
+            return null;
+        }
+
+        if (diskCache.get(url) == null) {
+            FutureTask<File> download = new FutureTask<>(() -> fetch(url, MAX_IMAGE_BYTES));
+            try {
+                SdkExecutor.getInstance().io().execute(new SdkExecutor.Task(download, SdkExecutor.Priority.USER_INITIATED, "ImageLoader"));
+                if (download.get(timeoutMillis, TimeUnit.MILLISECONDS) == null) {
+                    return null;
+                }
+            } catch (TimeoutException e) {
+                MobileMessagingLogger.w("Picture wasn't downloaded in " + timeoutMillis + " ms, continuing without it");
+                return null;
+            } catch (RejectedExecutionException | ExecutionException e) {
+                MobileMessagingLogger.w("Cannot download picture: " + e.getMessage());
+                return null;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+        }
+        return load(url, reqWidth, reqHeight);
+    }
+
+    /**
+     * Downloads image to the disk cache without decoding it
+     *
+     * @param url      image URL
+     * @param maxBytes largest image to download
+     * @return true if the image is cached
+     */
+    @WorkerThread
+    public boolean prefetch(@NonNull String url, long maxBytes) {
+        return fetch(url, maxBytes) != null;
+    }
+
+    /**
+     * Removes image from memory and disk caches
+     *
+     * @param url image URL
+     */
+    public void evict(@NonNull String url) {
+        String keyPrefix = url + "#";
+        for (String key : memoryCache.snapshot().keySet()) {
+            if (key.startsWith(keyPrefix)) {
+                memoryCache.remove(key);
+            }
+        }
+        diskCache.remove(url);
+    }
+
+    /**
+     * Returns the image from disk cache or downloads it. Concurrent calls for the same URL wait for one download,
+     * whose size limit is the one of the call which started it.
+     *
+     * @param url      image URL
+     * @param maxBytes largest image to download
+     * @return cached image file or null if the image cannot be downloaded
+     */
+    @Nullable
+    @WorkerThread
+    File fetch(@NonNull String url, long maxBytes) {
+        File file = diskCache.get(url);
+        if (file != null) {
+            return file;
+        }
+
+        FutureTask<File> download = new FutureTask<>(() -> downloadWithRetries(url, maxBytes));
+        FutureTask<File> inProgress = downloadsInProgress.putIfAbsent(url, download);
+        if (inProgress == null) {
+            try {
+                download.run();
+            } finally {
+                downloadsInProgress.remove(url, download);
+            }
+            inProgress = download;
+        }
+
+        try {
+            return inProgress.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            MobileMessagingLogger.e("Could not fetch image", e.getCause());
+            return null;
+        }
+    }
+
+    @Nullable
+    private File downloadWithRetries(String url, long maxBytes) throws IOException {
+        for (int attempt = 0; attempt < MAX_DOWNLOAD_ATTEMPTS; attempt++) {
+            File temp = diskCache.createTempFile();
+            try {
+                downloader.download(url, temp, maxBytes);
+                return diskCache.commit(url, temp);
+            } catch (ImageDownloader.PermanentFailureException e) {
+                MobileMessagingLogger.w("Cannot download picture: " + e.getMessage());
+                return null;
+            } catch (IOException e) {
+                MobileMessagingLogger.w("Cannot download picture, attempt " + (attempt + 1) + ": " + e.getMessage());
+            } finally {
+                //noinspection ResultOfMethodCallIgnored
+                temp.delete();
+            }
+        }
+        return null;
+    }
+
+    @Nullable
+    private static Bitmap decodeSampled(File file, int reqWidth, int reqHeight) {
+        BitmapFactory.Options options = new BitmapFactory.Options();
+        options.inJustDecodeBounds = true;
+        BitmapFactory.decodeFile(file.getPath(), options);
+        if (options.outWidth <= 0 || options.outHeight <= 0) {
+            MobileMessagingLogger.w("Cached image cannot be decoded, ignoring it");
+            return null;
+        }
+
+        options.inSampleSize = calculateInSampleSize(options.outWidth, options.outHeight, reqWidth, reqHeight);
+        options.inJustDecodeBounds = false;
+        return BitmapFactory.decodeFile(file.getPath(), options);
+    }
+
+    /**
+     * Largest power of two which keeps both dimensions at or above the requested ones
+     */
+    static int calculateInSampleSize(int width, int height, int reqWidth, int reqHeight) {
+        int inSampleSize = 1;
+        if (reqWidth <= 0 || reqHeight <= 0) {
+            return inSampleSize;
+        }
+
+        while (width / (inSampleSize * 2) >= reqWidth && height / (inSampleSize * 2) >= reqHeight) {
+            inSampleSize *= 2;
+        }
+        return inSampleSize;
+    }
+
+    @Nullable
+    private static Bitmap validateBitmap(@Nullable Bitmap bitmap) {
+        if (bitmap == null) {
+            return null;
+        }
+
+        if (bitmap.getWidth() == 0
+                || bitmap.getHeight() == 0
+                || bitmap.getAllocationByteCount() == 0) {
+
+            MobileMessagingLogger.w("Got empty or malformed Bitmap, ignoring it");
+            return null;
+        }
+
+        return bitmap;
+    }
+}
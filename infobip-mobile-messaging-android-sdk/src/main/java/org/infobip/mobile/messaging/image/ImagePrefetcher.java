@@ -0,0 +1,162 @@
+/*
+ * ImagePrefetcher.java
+ * Mobile Messaging SDK
+ *
+ * Copyright (c) 2016-2025 Infobip Limited
+ * Licensed under the Apache License, Version 2.0
+ */
+package org.infobip.mobile.messaging.image;
+
+import android.Manifest;
+import android.content.Context;
+import android.content.pm.PackageManager;
+import android.net.ConnectivityManager;
+import android.net.NetworkInfo;
+
+import org.infobip.mobile.messaging.Message;
+import org.infobip.mobile.messaging.MobileMessagingProperty;
+import org.infobip.mobile.messaging.logging.MobileMessagingLogger;
+import org.infobip.mobile.messaging.platform.MobileMessagingJobService;
+import org.infobip.mobile.messaging.platform.SdkExecutor;
+import org.infobip.mobile.messaging.platform.Time;
+import org.infobip.mobile.messaging.util.PreferenceHelper;
+import org.infobip.mobile.messaging.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import androidx.annotation.WorkerThread;
+import androidx.core.content.ContextCompat;
+
+/**
+ * Downloads images of in-app messages when the push arrives, so the in-app dialog can be shown without waiting for its image.
+ * <br>
+ * Images are downloaded right away on an unmetered network. Otherwise they are left pending until
+ * {@link MobileMessagingJobService} runs on an unmetered network, or not prefetched where the job cannot be scheduled. Images larger than {@link #MAX_PREFETCH_BYTES}
+ * are not prefetched, and images of expired in-app messages are removed from the cache.
+ */
+public class ImagePrefetcher {
+
+    static final long MAX_PREFETCH_BYTES = 2 * 1024 * 1024;
+    private static final String SEPARATOR = ",";
+    private static final Object LOCK = new Object();
+
+    private final Context context;
+    private final ImageLoader imageLoader;
+
+    public ImagePrefetcher(Context context) {
+        this(context, ImageLoader.getInstance(context));
+    }
+
+    @VisibleForTesting
+    ImagePrefetcher(Context context, ImageLoader imageLoader) {
+        this.context = context;
+        this.imageLoader = imageLoader;
+    }
+
+    /**
+     * Records images of in-app messages for prefetching and starts prefetching when network allows it
+     *
+     * @param messages received messages
+     */
+    public void prefetch(List<Message> messages) {
+        List<String> entries = new ArrayList<>();
+        for (Message message : messages) {
+            if (shouldPrefetch(message)) {
+                entries.add(message.getInAppExpiryTimestamp() + SEPARATOR + message.getContentUrl());
+            }
+        }
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        boolean unmetered = isOnUnmeteredNetwork();
+        if (!unmetered && !MobileMessagingJobService.canScheduleRichMediaPrefetch()) {
+            // nothing would download pending images later, in-app dialog will download the image when shown
+            return;
+        }
+
+        String[] pending = entries.toArray(new String[0]);
+        PreferenceHelper.appendToStringArray(context, MobileMessagingProperty.PENDING_RICH_MEDIA_PREFETCH, pending);
+        if (unmetered) {
+            try {
+                SdkExecutor.getInstance().io().execute(new SdkExecutor.Task(this::prefetchPending, SdkExecutor.Priority.BACKGROUND, "ImagePrefetcher"));
+                return;
+            } catch (RejectedExecutionException e) {
+                MobileMessagingLogger.w("Cannot prefetch in-app images now, will retry with job");
+            }
+        }
+        if (!MobileMessagingJobService.scheduleRichMediaPrefetch(context)) {
+            PreferenceHelper.deleteFromStringArray(context, MobileMessagingProperty.PENDING_RICH_MEDIA_PREFETCH, pending);
+        }
+    }
+
+    /**
+     * Downloads pending images and removes images of expired in-app messages from the cache.
+     * Runs one at a time across all instances, so concurrent runs don't download the same pending images twice.
+     */
+    @WorkerThread
+    public void prefetchPending() {
+        synchronized (LOCK) {
+            List<String> expired = new ArrayList<>();
+            for (String entry : PreferenceHelper.findStringArray(context, MobileMessagingProperty.PREFETCHED_RICH_MEDIA)) {
+                if (isExpired(expiryOf(entry))) {
+                    imageLoader.evict(urlOf(entry));
+                    expired.add(entry);
+                }
+            }
+            PreferenceHelper.deleteFromStringArray(context, MobileMessagingProperty.PREFETCHED_RICH_MEDIA, expired.toArray(new String[0]));
+
+            for (String entry : PreferenceHelper.findStringArray(context, MobileMessagingProperty.PENDING_RICH_MEDIA_PREFETCH)) {
+                String url = urlOf(entry);
+                long expiry = expiryOf(entry);
+                if (url != null && !isExpired(expiry) && imageLoader.prefetch(url, MAX_PREFETCH_BYTES)) {
+                    MobileMessagingLogger.v("Prefetched in-app image " + url);
+                    if (expiry > 0) {
+                        PreferenceHelper.appendToStringArray(context, MobileMessagingProperty.PREFETCHED_RICH_MEDIA, entry);
+                    }
+                }
+                // failed downloads are not retried here, in-app dialog will download the image when shown
+                PreferenceHelper.deleteFromStringArray(context, MobileMessagingProperty.PENDING_RICH_MEDIA_PREFETCH, entry);
+            }
+        }
+    }
+
+    static boolean shouldPrefetch(Message message) {
+        return message.getInAppStyle() != null
+                && StringUtils.isNotBlank(message.getContentUrl())
+                && !isExpired(message.getInAppExpiryTimestamp());
+    }
+
+    private static boolean isExpired(long expiryTimestamp) {
+        return expiryTimestamp > 0 && expiryTimestamp < Time.now();
+    }
+
+    private static long expiryOf(String entry) {
+        int separator = entry.indexOf(SEPARATOR);
+        try {
+            return separator > 0 ? Long.parseLong(entry.substring(0, separator)) : 0;
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    @Nullable
+    private static String urlOf(String entry) {
+        int separator = entry.indexOf(SEPARATOR);
+        return separator >= 0 ? entry.substring(separator + 1) : null;
+    }
+
+    private boolean isOnUnmeteredNetwork() {
+        ConnectivityManager manager = (ConnectivityManager) context.getSystemService(Context.CONNECTIVITY_SERVICE);
+        if (manager == null || ContextCompat.checkSelfPermission(context, Manifest.permission.ACCESS_NETWORK_STATE) != PackageManager.PERMISSION_GRANTED) {
+            return false;
+        }
+
+        NetworkInfo networkInfo = manager.getActiveNetworkInfo();
+        return networkInfo != null && networkInfo.isConnected() && !manager.isActiveNetworkMetered();
+    }
+}
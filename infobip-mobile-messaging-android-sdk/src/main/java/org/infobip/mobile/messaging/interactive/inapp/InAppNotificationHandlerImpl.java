@@ -89,7 +89,7 @@ public class InAppNotificationHandlerImpl implements InAppNotificationHandler, I
                         MobileMessagingCore.getInstance(context).getNotificationSettings()
                 ),
                 new OneMessagePreferenceCache(context),
-                new QueuedDialogStack(),
+                new QueuedDialogStack(context),
                 new AndroidInteractiveBroadcaster(context),
                 new ActivityStarterWrapper(context, MobileMessagingCore.getInstance(context)),
                 MobileMessagingCore.getInstance(context).findMessageHandlerModule(MobileMessagingCore.IN_APP_CHAT_MESSAGE_HANDLER_MODULE_NAME)
@@ -7,50 +7,32 @@
  */
 package org.infobip.mobile.messaging.interactive.inapp.image;
 
+import android.content.Context;
 import android.graphics.Bitmap;
-import android.graphics.BitmapFactory;
-import android.os.Build;
-import android.security.NetworkSecurityPolicy;
+import android.util.DisplayMetrics;
 
-import org.infobip.mobile.messaging.logging.MobileMessagingLogger;
-import org.infobip.mobile.messaging.mobileapi.common.MMAsyncTask;
-
-import java.io.InputStream;
-import java.net.URL;
+import org.infobip.mobile.messaging.image.ImageLoader;
+import org.infobip.mobile.messaging.mobileapi.common.MAsyncTask;
 
 /**
+ * Loads in-app image, decoded to fit the dialog on screen. Should be executed on {@link org.infobip.mobile.messaging.platform.SdkExecutor#io()}.
+ *
  * @author sslavin
  * @since 12/04/2018.
  */
-public abstract class DownloadImageTask extends MMAsyncTask<String, Void, Bitmap> {
+public abstract class DownloadImageTask extends MAsyncTask<String, Bitmap> {
 
-    private final static int MAX_DOWNLOAD_ATTEMPTS = 3;
+    private final Context context;
 
-    @Override
-    protected Bitmap doInBackground(String... URL) {
-        String imageUrl = URL[0];
-        return downloadWithRetries(imageUrl);
+    public DownloadImageTask(Context context) {
+        this.context = context;
     }
 
-    private Bitmap downloadWithRetries(String imageUrl) {
-        int attempt = 0;
-        do {
-            try {
-                InputStream input = new URL(imageUrl).openStream();
-                return BitmapFactory.decodeStream(input);
-            } catch (Exception e) {
-                MobileMessagingLogger.e("Cannot download picture: " + e.getMessage());
-                // If exception is caused by http, skip retries.
-                if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.M) {
-                    if (!NetworkSecurityPolicy.getInstance().isCleartextTrafficPermitted() && imageUrl.substring(0, 5).toLowerCase().startsWith("http:")) {
-                        MobileMessagingLogger.w("HTTP not permitted, use https or override usesClearTextTraffic on the application level.");
-                        break;
-                    }
-                }
-            } finally {
-                attempt++;
-            }
-        } while (attempt <= MAX_DOWNLOAD_ATTEMPTS);
-        return null;
+    @Override
+    public Bitmap run(String[] URL) {
+        String imageUrl = URL[0];
+        DisplayMetrics displayMetrics = context.getResources().getDisplayMetrics();
+        int width = Math.min(displayMetrics.widthPixels, displayMetrics.heightPixels);
+        return ImageLoader.getInstance(context).load(imageUrl, width, width / 2);
     }
-}
\ No newline at end of file
+}
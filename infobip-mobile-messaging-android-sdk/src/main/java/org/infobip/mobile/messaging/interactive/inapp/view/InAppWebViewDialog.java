@@ -38,9 +38,7 @@ import org.infobip.mobile.messaging.interactive.NotificationAction;
 import org.infobip.mobile.messaging.interactive.inapp.InAppWebViewMessage;
 import org.infobip.mobile.messaging.interactive.inapp.InAppWebViewMessage.InAppWebViewPosition;
 import org.infobip.mobile.messaging.logging.MobileMessagingLogger;
-import org.infobip.mobile.messaging.mobileapi.common.MMAsyncTask;
 import org.infobip.mobile.messaging.platform.AndroidBroadcaster;
-import org.infobip.mobile.messaging.platform.Time;
 import org.infobip.mobile.messaging.util.PreferenceHelper;
 import org.infobip.mobile.messaging.util.StringUtils;
 import org.infobip.mobile.messaging.util.UserAgentAdditions;
@@ -303,8 +301,11 @@ public class InAppWebViewDialog implements InAppWebView, ActivityLifecycleListen
 
             @Override
             public void onPageStarted(WebView view, String url, Bitmap favicon) {
+                if (timeoutHandler != null) {
+                    timeoutHandler.cancel();
+                }
                 timeoutHandler = new ConnectionTimeoutHandler();
-                timeoutHandler.execute();
+                timeoutHandler.start();
                 super.onPageStarted(view, url, favicon);
             }
 
@@ -312,7 +313,7 @@ public class InAppWebViewDialog implements InAppWebView, ActivityLifecycleListen
             public void onPageFinished(WebView view, String url) {
                 super.onPageFinished(view, url);
                 if (timeoutHandler != null) {
-                    timeoutHandler.cancel(true);
+                    timeoutHandler.cancel();
                     timeoutHandler = null;
                 }
             }
@@ -596,41 +597,34 @@ public class InAppWebViewDialog implements InAppWebView, ActivityLifecycleListen
         }
     }
 
-    @SuppressLint("StaticFieldLeak")
-    public class ConnectionTimeoutHandler extends MMAsyncTask<Void, Void, String> {
+    /**
+     * Clears the web view if the page doesn't load in time
+     */
+    public class ConnectionTimeoutHandler implements Runnable {
 
-        private static final String PAGE_LOADED = "PAGE_LOADED";
-        private static final String CONNECTION_TIMEOUT = "CONNECTION_TIMEOUT";
         private static final long CONNECTION_TIMEOUT_UNIT = 20000L; //20 seconds
         private static final int PAGE_LOAD_MAX_PROGRESS = 100;
 
-        private final long startTime;
-        private Boolean loaded = false;
+        private final Handler handler = new Handler(Looper.getMainLooper());
 
         public ConnectionTimeoutHandler() {
-            startTime = Time.now();
             InAppWebViewDialog.PAGE_LOAD_PROGRESS = 0;
         }
 
-        @Override
-        protected void onPostExecute(String result) {
-            if (CONNECTION_TIMEOUT.equalsIgnoreCase(result)) {
-                logWebViewError(WebViewClient.ERROR_TIMEOUT);
-                clearWebView();
-            }
+        public void start() {
+            handler.postDelayed(this, CONNECTION_TIMEOUT_UNIT);
+        }
+
+        public void cancel() {
+            handler.removeCallbacks(this);
         }
 
         @Override
-        protected String doInBackground(Void... params) {
-            while (!loaded) {
-                if (InAppWebViewDialog.PAGE_LOAD_PROGRESS != PAGE_LOAD_MAX_PROGRESS
-                        && (Time.now() - startTime) > CONNECTION_TIMEOUT_UNIT) {
-                    return CONNECTION_TIMEOUT;
-                } else if (InAppWebViewDialog.PAGE_LOAD_PROGRESS == PAGE_LOAD_MAX_PROGRESS) {
-                    loaded = true;
-                }
+        public void run() {
+            if (InAppWebViewDialog.PAGE_LOAD_PROGRESS != PAGE_LOAD_MAX_PROGRESS) {
+                logWebViewError(WebViewClient.ERROR_TIMEOUT);
+                clearWebView();
             }
-            return PAGE_LOADED;
         }
     }
 }
\ No newline at end of file
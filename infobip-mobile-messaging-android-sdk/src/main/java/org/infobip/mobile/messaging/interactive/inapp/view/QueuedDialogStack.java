@@ -7,7 +7,7 @@
  */
 package org.infobip.mobile.messaging.interactive.inapp.view;
 
-import android.annotation.SuppressLint;
+import android.content.Context;
 import android.graphics.Bitmap;
 import android.text.TextUtils;
 
@@ -18,6 +18,7 @@ import org.infobip.mobile.messaging.interactive.inapp.image.DownloadImageTask;
 import org.infobip.mobile.messaging.interactive.inapp.view.ctx.InAppCtx;
 import org.infobip.mobile.messaging.interactive.inapp.view.ctx.InAppNativeCtx;
 import org.infobip.mobile.messaging.interactive.inapp.view.ctx.InAppWebCtx;
+import org.infobip.mobile.messaging.platform.SdkExecutor;
 
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
@@ -25,6 +26,11 @@ import java.util.concurrent.ConcurrentLinkedQueue;
 public class QueuedDialogStack implements DialogStack, InAppCtxVisitor {
     public static final int MAX_IN_APP_QUEUE_SIZE = 1;
     private final Queue<InAppCtx> queue = new ConcurrentLinkedQueue<>();
+    private final Context context;
+
+    public QueuedDialogStack(Context context) {
+        this.context = context;
+    }
 
     @Override
     public void add(InAppCtx ctx) {
@@ -58,22 +64,26 @@ public class QueuedDialogStack implements DialogStack, InAppCtxVisitor {
         ctx.accept(this);
     }
 
-    @SuppressLint("StaticFieldLeak")
     private void downloadImageThenShowDialog(final Message message,
                                              final NotificationCategory category,
                                              final NotificationAction[] actions,
                                              String imageUrl,
                                              final InAppNativeView dialog) {
-        new DownloadImageTask() {
+        new DownloadImageTask(context) {
             @Override
-            protected void onPostExecute(Bitmap bitmap) {
+            public void after(Bitmap bitmap) {
                 if (bitmap == null) {
                     dialog.show(message, category, actions);
                 } else {
                     dialog.showWithImage(bitmap, message, category, actions);
                 }
             }
-        }.execute(imageUrl);
+
+            @Override
+            public void error(Throwable error) {
+                dialog.show(message, category, actions);
+            }
+        }.execute(SdkExecutor.getInstance().io(), imageUrl);
     }
 
     @Override
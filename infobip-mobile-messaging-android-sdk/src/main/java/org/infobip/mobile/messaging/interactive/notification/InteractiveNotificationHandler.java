@@ -22,6 +22,10 @@ import org.infobip.mobile.messaging.interactive.dal.bundle.NotificationCategoryB
 import org.infobip.mobile.messaging.notification.BaseNotificationHandler;
 import org.infobip.mobile.messaging.notification.NotificationHandler;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 import androidx.annotation.NonNull;
 import androidx.core.app.NotificationCompat;
 import androidx.core.app.RemoteInput;
@@ -55,6 +59,33 @@ public class InteractiveNotificationHandler implements NotificationHandler {
         return notificationId;
     }
 
+    @Override
+    public int[] displayNotifications(List<Message> messages) {
+        int[] notificationIds = new int[messages.size()];
+        Arrays.fill(notificationIds, NOTIFICATION_NOT_DISPLAYED_ID);
+        if (context == null) return notificationIds;
+
+        boolean group = baseNotificationHandler.shouldGroupNotifications(messages);
+        List<Message> displayedMessages = new ArrayList<>(messages.size());
+        for (int i = 0; i < messages.size(); i++) {
+            Message message = messages.get(i);
+            int notificationId = baseNotificationHandler.getNotificationId(message);
+            NotificationCompat.Builder builder = getNotificationBuilder(message, notificationId);
+            if (group) {
+                baseNotificationHandler.addToSummaryGroup(builder);
+            }
+            if (baseNotificationHandler.displayNotification(builder, message, notificationId)) {
+                notificationIds[i] = notificationId;
+                displayedMessages.add(message);
+            }
+        }
+
+        if (group) {
+            baseNotificationHandler.displaySummaryNotification(displayedMessages);
+        }
+        return notificationIds;
+    }
+
     @Override
     public void cancelAllNotifications() {
         baseNotificationHandler.cancelAllNotifications();
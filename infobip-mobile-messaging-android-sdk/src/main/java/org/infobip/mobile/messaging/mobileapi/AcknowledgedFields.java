@@ -0,0 +1,135 @@
+/*
+ * AcknowledgedFields.java
+ * Mobile Messaging SDK
+ *
+ * Copyright (c) 2016-2025 Infobip Limited
+ * Licensed under the Apache License, Version 2.0
+ */
+package org.infobip.mobile.messaging.mobileapi;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import org.infobip.mobile.messaging.api.support.MapModel;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Values of {@link MapModel} fields last acknowledged by the backend, used to patch only fields which changed since.
+ * <br>
+ * Values are compared as JSON. Fields with object values, such as custom attributes, are compared and acknowledged per member,
+ * since the backend merges them with the members it already has.
+ */
+public class AcknowledgedFields {
+
+    private static final Gson gson = new GsonBuilder().serializeNulls().create();
+
+    private final JsonObject fields;
+
+    public AcknowledgedFields() {
+        this(new JsonObject());
+    }
+
+    private AcknowledgedFields(JsonObject fields) {
+        this.fields = fields;
+    }
+
+    /**
+     * @param json fields serialized with {@link #toJson()}
+     * @return acknowledged fields, empty if json is missing or cannot be parsed
+     */
+    public static AcknowledgedFields fromJson(String json) {
+        if (json == null || json.isEmpty()) {
+            return new AcknowledgedFields();
+        }
+
+        try {
+            JsonElement element = JsonParser.parseString(json);
+            return element.isJsonObject() ? new AcknowledgedFields(element.getAsJsonObject()) : new AcknowledgedFields();
+        } catch (RuntimeException e) {
+            return new AcknowledgedFields();
+        }
+    }
+
+    public synchronized String toJson() {
+        return gson.toJson(fields);
+    }
+
+    public synchronized boolean isEmpty() {
+        return fields.size() == 0;
+    }
+
+    /**
+     * @param current fields to report, as in {@link MapModel#getMap()}
+     * @return fields which differ from the acknowledged ones, object fields contain only the members which differ
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized Map<String, Object> changes(Map<String, Object> current) {
+        Map<String, Object> changes = new HashMap<>();
+        if (current == null) {
+            return changes;
+        }
+
+        for (Map.Entry<String, Object> entry : current.entrySet()) {
+            JsonElement acknowledged = fields.get(entry.getKey());
+            if (acknowledged == null) {
+                changes.put(entry.getKey(), entry.getValue());
+                continue;
+            }
+
+            if (entry.getValue() instanceof Map && acknowledged.isJsonObject()) {
+                Map<String, Object> memberChanges = memberChanges((Map<String, Object>) entry.getValue(), acknowledged.getAsJsonObject());
+                if (!memberChanges.isEmpty()) {
+                    changes.put(entry.getKey(), memberChanges);
+                }
+            } else if (!acknowledged.equals(gson.toJsonTree(entry.getValue()))) {
+                changes.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * Records fields which were accepted by the backend
+     *
+     * @param reported fields sent to the backend
+     */
+    public synchronized void acknowledge(Map<String, Object> reported) {
+        if (reported == null) {
+            return;
+        }
+
+        for (Map.Entry<String, Object> entry : reported.entrySet()) {
+            JsonElement value = gson.toJsonTree(entry.getValue());
+            JsonElement acknowledged = fields.get(entry.getKey());
+            if (value.isJsonObject() && acknowledged != null && acknowledged.isJsonObject()) {
+                for (Map.Entry<String, JsonElement> member : value.getAsJsonObject().entrySet()) {
+                    acknowledged.getAsJsonObject().add(member.getKey(), member.getValue());
+                }
+            } else {
+                fields.add(entry.getKey(), value);
+            }
+        }
+    }
+
+    public synchronized void clear() {
+        for (String key : fields.keySet().toArray(new String[0])) {
+            fields.remove(key);
+        }
+    }
+
+    private static Map<String, Object> memberChanges(Map<String, Object> members, JsonObject acknowledged) {
+        Map<String, Object> changes = new HashMap<>();
+        for (Map.Entry<String, Object> member : members.entrySet()) {
+            JsonElement acknowledgedMember = acknowledged.get(member.getKey());
+            if (acknowledgedMember == null || !acknowledgedMember.equals(gson.toJsonTree(member.getValue()))) {
+                changes.put(member.getKey(), member.getValue());
+            }
+        }
+        return changes;
+    }
+}
@@ -10,58 +10,52 @@ package org.infobip.mobile.messaging.mobileapi;
 import org.infobip.mobile.messaging.platform.SystemTimeProvider;
 import org.infobip.mobile.messaging.platform.TimeProvider;
 
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.List;
 
 /**
+ * Runs reporting tasks at most once per reporting window.
+ * <br>
+ * The first task after a quiet period runs right away. Tasks put within the window are accumulated and run together
+ * at the end of the window, a task put several times runs once. Reporters should put the same task instance
+ * for the same kind of report, so that repeated reports are merged into one.
+ *
  * @author sslavin
  * @since 07/07/16.
  */
 public class BatchReporter {
 
-    private final long delay;
-    private final TimeProvider timeProvider;
-    private final Timer timer = new Timer();
-    private volatile TimerTask timerTask = null;
-    private volatile long lastSubmitted = 0;
+    private final Batcher<Runnable> batcher;
 
     public BatchReporter(Long batchReportingDelay, TimeProvider timeProvider) {
-        this.delay = batchReportingDelay;
-        this.timeProvider = timeProvider;
+        this(new Batcher<>(Integer.MAX_VALUE, batchReportingDelay, timeProvider, BatchReporter::runAll));
     }
 
     public BatchReporter(Long batchReportingDelay) {
         this(batchReportingDelay, new SystemTimeProvider());
     }
 
-    public synchronized void put(final Runnable task) {
-        if (timerTask != null) {
-            timerTask.cancel();
-            timer.purge();
-        }
+    BatchReporter(Long batchReportingDelay, TimeProvider timeProvider, Batcher.Scheduler scheduler) {
+        this(new Batcher<>(Integer.MAX_VALUE, batchReportingDelay, timeProvider, scheduler, BatchReporter::runAll));
+    }
 
-        long now = timeProvider.now();
-        if (now - lastSubmitted >= delay) {
-            runNow(task);
-            return;
-        }
+    private BatchReporter(Batcher<Runnable> batcher) {
+        this.batcher = batcher;
+    }
 
-        long after = lastSubmitted + delay - now;
-        scheduleWithDelay(task, after);
+    public void put(final Runnable task) {
+        batcher.add(task);
     }
 
-    private void runNow(Runnable task) {
-        lastSubmitted = timeProvider.now();
-        task.run();
+    /**
+     * Runs pending tasks right away
+     */
+    public void flush() {
+        batcher.flush();
     }
 
-    private void scheduleWithDelay(final Runnable task, long delay) {
-        timerTask = new TimerTask() {
-            @Override
-            public void run() {
-                runNow(task);
-            }
-        };
-        timer.schedule(timerTask, delay);
+    private static void runAll(List<Runnable> tasks) {
+        for (Runnable task : tasks) {
+            task.run();
+        }
     }
 }
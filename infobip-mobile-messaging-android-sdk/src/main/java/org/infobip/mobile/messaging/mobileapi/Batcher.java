@@ -0,0 +1,182 @@
+/*
+ * Batcher.java
+ * Mobile Messaging SDK
+ *
+ * Copyright (c) 2016-2025 Infobip Limited
+ * Licensed under the Apache License, Version 2.0
+ */
+package org.infobip.mobile.messaging.mobileapi;
+
+import org.infobip.mobile.messaging.platform.SdkExecutor;
+import org.infobip.mobile.messaging.platform.TimeProvider;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Accumulates items and flushes them together as one batch.
+ * <br>
+ * The first item after a quiet period is flushed right away. Items added within {@code maxDelayMillis} after a flush
+ * are accumulated and flushed together at the end of that window, or as soon as there are {@code maxBatchSize} of them.
+ * Equal items are accumulated once, in order of arrival. Delayed flushes of all batchers run on the shared timer thread
+ * of {@link SdkExecutor}, so flushers should only store the batch or hand it off to an executor.
+ * <br>
+ * {@link #flushAll()} flushes pending items of all batchers, i.e. when the application goes to background. It runs the flushers
+ * on the calling thread, so it shouldn't be called from the main thread.
+ *
+ * @param <T> type of items
+ */
+public class Batcher<T> {
+
+    public interface Flusher<T> {
+        /**
+         * Handles the batch, called under the lock of the batcher
+         *
+         * @param batch distinct items in order of arrival, at most {@code maxBatchSize} of them
+         */
+        void flush(@NonNull List<T> batch);
+    }
+
+    public interface Scheduler {
+        /**
+         * Runs the task after the delay
+         *
+         * @return future which is cancelled when the task is no longer needed
+         */
+        Future<?> schedule(@NonNull Runnable task, long delayMillis);
+    }
+
+    private static final Scheduler SHARED_SCHEDULER = (task, delayMillis) -> SdkExecutor.getInstance().schedule(task, delayMillis, TimeUnit.MILLISECONDS);
+    private static final Set<Batcher<?>> batchers = Collections.newSetFromMap(new WeakHashMap<Batcher<?>, Boolean>());
+
+    private final int maxBatchSize;
+    private final long maxDelayMillis;
+    private final TimeProvider timeProvider;
+    private final Scheduler scheduler;
+    private final Flusher<T> flusher;
+    private final Set<T> pending = new LinkedHashSet<>();
+    private Future<?> scheduledFlush;
+    private long scheduledFlushAt;
+    private long lastFlushed = Long.MIN_VALUE;
+
+    public Batcher(int maxBatchSize, long maxDelayMillis, @NonNull TimeProvider timeProvider, @NonNull Flusher<T> flusher) {
+        this(maxBatchSize, maxDelayMillis, timeProvider, SHARED_SCHEDULER, flusher);
+    }
+
+    public Batcher(int maxBatchSize, long maxDelayMillis, @NonNull TimeProvider timeProvider, @NonNull Scheduler scheduler, @NonNull Flusher<T> flusher) {
+        this.maxBatchSize = Math.max(maxBatchSize, 1);
+        this.maxDelayMillis = Math.max(maxDelayMillis, 0);
+        this.timeProvider = timeProvider;
+        this.scheduler = scheduler;
+        this.flusher = flusher;
+        synchronized (batchers) {
+            batchers.add(this);
+        }
+    }
+
+    /**
+     * Flushes pending items of all batchers right away
+     */
+    public static void flushAll() {
+        List<Batcher<?>> snapshot;
+        synchronized (batchers) {
+            snapshot = new ArrayList<>(batchers);
+        }
+
+        for (Batcher<?> batcher : snapshot) {
+            batcher.flush();
+        }
+    }
+
+    public void add(@NonNull T item) {
+        addAll(Collections.singletonList(item));
+    }
+
+    /**
+     * Adds items, they are flushed together with other items of the current window
+     *
+     * @param items items to add, null items are ignored
+     */
+    public synchronized void addAll(@NonNull Collection<? extends T> items) {
+        boolean added = false;
+        for (T item : items) {
+            if (item != null) {
+                added |= pending.add(item);
+            }
+        }
+        if (!added) {
+            return;
+        }
+
+        long flushAt = nextFlushAt();
+        if (pending.size() >= maxBatchSize || flushAt <= timeProvider.now()) {
+            flush();
+        } else if (scheduledFlush == null) {
+            scheduleFlush(flushAt);
+        }
+    }
+
+    /**
+     * Flushes all pending items right away, in batches of at most {@code maxBatchSize} items
+     */
+    public synchronized void flush() {
+        cancelScheduledFlush();
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        lastFlushed = timeProvider.now();
+        // items added by the flusher itself go to the next window
+        List<T> items = new ArrayList<>(pending);
+        pending.clear();
+        for (int from = 0; from < items.size(); from += maxBatchSize) {
+            flusher.flush(new ArrayList<>(items.subList(from, Math.min(from + maxBatchSize, items.size()))));
+        }
+    }
+
+    public synchronized boolean contains(T item) {
+        return pending.contains(item);
+    }
+
+    /**
+     * @return number of items waiting to be flushed
+     */
+    public synchronized int size() {
+        return pending.size();
+    }
+
+    private long nextFlushAt() {
+        return lastFlushed == Long.MIN_VALUE ? Long.MIN_VALUE : lastFlushed + maxDelayMillis;
+    }
+
+    private void scheduleFlush(final long flushAt) {
+        scheduledFlushAt = flushAt;
+        scheduledFlush = scheduler.schedule(() -> onScheduledFlush(flushAt), flushAt - timeProvider.now());
+    }
+
+    private synchronized void onScheduledFlush(long flushAt) {
+        if (scheduledFlush == null || scheduledFlushAt != flushAt) {
+            // cancelled or replaced while waiting for the lock
+            return;
+        }
+
+        scheduledFlush = null;
+        flush();
+    }
+
+    private void cancelScheduledFlush() {
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+    }
+}
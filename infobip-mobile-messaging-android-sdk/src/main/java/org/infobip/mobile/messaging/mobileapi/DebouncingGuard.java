@@ -101,7 +101,7 @@ public class DebouncingGuard {
     /**
      * Compute stable hash code for operation data.
      */
-    private int computeDataHash(Object data) {
+    static int computeDataHash(Object data) {
         if (data == null) {
             return 0;
         }
@@ -117,7 +117,7 @@ public class DebouncingGuard {
     /**
      * Deep hash computation for Maps
      */
-    private int deepHashMap(Map<?, ?> map) {
+    private static int deepHashMap(Map<?, ?> map) {
         if (map == null || map.isEmpty()) {
             return 0;
         }
@@ -0,0 +1,165 @@
+/*
+ * SingleFlight.java
+ * Mobile Messaging SDK
+ *
+ * Copyright (c) 2016-2025 Infobip Limited
+ * Licensed under the Apache License, Version 2.0
+ */
+package org.infobip.mobile.messaging.mobileapi;
+
+import org.infobip.mobile.messaging.MobileMessaging;
+import org.infobip.mobile.messaging.logging.MobileMessagingLogger;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * Makes sure only one call of an operation is in flight at a time.
+ * <br>
+ * Callers of an operation which is already in flight with the same payload join the call and receive its result.
+ * Callers with a different payload are queued for a single follow-up call which starts when the current one completes,
+ * with the payload of the latest caller.
+ */
+public class SingleFlight {
+
+    public enum Operation {
+        baseUrlCheck,
+        installationSync,
+        messagesSync,
+        userDataPatch,
+        userDataFetch,
+    }
+
+    /**
+     * Call of the operation. It has to report its result to the completion listener exactly once.
+     */
+    public interface Call<T> {
+        void run(MobileMessaging.ResultListener<T> completion);
+    }
+
+    private static class Flight {
+        int payloadHash;
+        Object payload;
+        Call call;
+        final List<MobileMessaging.ResultListener> listeners = new ArrayList<>();
+        Flight next;
+
+        Flight(int payloadHash, Object payload, Call call) {
+            this.payloadHash = payloadHash;
+            this.payload = payload;
+            this.call = call;
+        }
+
+        /**
+         * Hash is only a quick check, payloads with the same hash are compared to make sure they are really the same
+         */
+        boolean hasPayload(int payloadHash, Object payload) {
+            return this.payloadHash == payloadHash && Objects.equals(this.payload, payload);
+        }
+    }
+
+    private final Map<Operation, Flight> flights = new EnumMap<>(Operation.class);
+
+    /**
+     * Runs the call, joins the call in flight or queues a follow-up call, depending on the payload.
+     *
+     * @param operation operation to run
+     * @param payload   inputs of the call (can be null for operations without inputs)
+     * @param call      call to run
+     * @param listener  listener which receives result of the call it ends up joining
+     * @return true if the call was started, false if it joined or was queued after the call in flight
+     */
+    public <T> boolean execute(@NonNull Operation operation, @Nullable Object payload, @NonNull Call<T> call, @Nullable MobileMessaging.ResultListener<T> listener) {
+        int payloadHash = DebouncingGuard.computeDataHash(payload);
+        Flight flight;
+        synchronized (this) {
+            Flight current = flights.get(operation);
+            if (current != null) {
+                if (current.hasPayload(payloadHash, payload)) {
+                    MobileMessagingLogger.v("Joining " + operation + " in flight");
+                    addListener(current, listener);
+                } else {
+                    MobileMessagingLogger.v("Queueing " + operation + " after the one in flight");
+                    if (current.next == null) {
+                        current.next = new Flight(payloadHash, payload, call);
+                    } else if (!current.next.hasPayload(payloadHash, payload)) {
+                        current.next.payloadHash = payloadHash;
+                        current.next.payload = payload;
+                        current.next.call = call;
+                    }
+                    addListener(current.next, listener);
+                }
+                return false;
+            }
+
+            flight = new Flight(payloadHash, payload, call);
+            addListener(flight, listener);
+            flights.put(operation, flight);
+        }
+        start(operation, flight);
+        return true;
+    }
+
+    /**
+     * @return true if the operation is in flight
+     */
+    public synchronized boolean isInFlight(@NonNull Operation operation) {
+        return flights.containsKey(operation);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void start(final Operation operation, final Flight flight) {
+        MobileMessaging.ResultListener completion = new MobileMessaging.ResultListener() {
+            @Override
+            public void onResult(Result result) {
+                complete(operation, flight, result);
+            }
+        };
+
+        try {
+            flight.call.run(completion);
+        } catch (Exception e) {
+            MobileMessagingLogger.e("Failed to start " + operation, e);
+            completion.onResult(new Result<>(MobileMessagingError.createFrom(e)));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void complete(Operation operation, Flight flight, Result result) {
+        List<MobileMessaging.ResultListener> listeners;
+        Flight next;
+        synchronized (this) {
+            if (flights.get(operation) != flight) {
+                return;
+            }
+            listeners = new ArrayList<>(flight.listeners);
+            flight.listeners.clear();
+            next = flight.next;
+            if (next != null) {
+                flights.put(operation, next);
+            } else {
+                flights.remove(operation);
+            }
+        }
+
+        for (MobileMessaging.ResultListener listener : listeners) {
+            listener.onResult(result);
+        }
+
+        if (next != null) {
+            start(operation, next);
+        }
+    }
+
+    private static void addListener(Flight flight, MobileMessaging.ResultListener listener) {
+        if (listener != null) {
+            flight.listeners.add(listener);
+        }
+    }
+}
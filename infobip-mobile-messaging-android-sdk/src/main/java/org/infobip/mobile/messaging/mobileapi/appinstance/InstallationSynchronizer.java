@@ -20,11 +20,13 @@ import org.infobip.mobile.messaging.MobileMessagingCore;
 import org.infobip.mobile.messaging.MobileMessagingProperty;
 import org.infobip.mobile.messaging.SystemData;
 import org.infobip.mobile.messaging.api.appinstance.AppInstance;
+import org.infobip.mobile.messaging.api.appinstance.AppInstanceAtts;
 import org.infobip.mobile.messaging.api.appinstance.MobileApiAppInstance;
 import org.infobip.mobile.messaging.logging.MobileMessagingLogger;
 import org.infobip.mobile.messaging.mobileapi.InternalSdkError;
 import org.infobip.mobile.messaging.mobileapi.MobileMessagingError;
 import org.infobip.mobile.messaging.mobileapi.Result;
+import org.infobip.mobile.messaging.mobileapi.SingleFlight;
 import org.infobip.mobile.messaging.mobileapi.common.MRetryableTask;
 import org.infobip.mobile.messaging.mobileapi.common.RetryPolicyProvider;
 import org.infobip.mobile.messaging.mobileapi.common.exceptions.BackendInvalidParameterException;
@@ -35,6 +37,7 @@ import org.infobip.mobile.messaging.stats.MobileMessagingStatsError;
 import org.infobip.mobile.messaging.util.PreferenceHelper;
 import org.infobip.mobile.messaging.util.StringUtils;
 
+import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
@@ -51,6 +54,7 @@ public class InstallationSynchronizer {
     private final Broadcaster broadcaster;
     private final RetryPolicyProvider retryPolicyProvider;
     private final MobileApiAppInstance mobileApiAppInstance;
+    private final SingleFlight singleFlight;
     private volatile Long lastSyncTimeMillis;
     private volatile boolean isSyncStarting;
 
@@ -96,6 +100,18 @@ public class InstallationSynchronizer {
             Broadcaster broadcaster,
             RetryPolicyProvider retryPolicyProvider,
             MobileApiAppInstance mobileApiAppInstance) {
+        this(context, mobileMessagingCore, stats, executor, broadcaster, retryPolicyProvider, mobileApiAppInstance, new SingleFlight());
+    }
+
+    public InstallationSynchronizer(
+            Context context,
+            MobileMessagingCore mobileMessagingCore,
+            MobileMessagingStats stats,
+            Executor executor,
+            Broadcaster broadcaster,
+            RetryPolicyProvider retryPolicyProvider,
+            MobileApiAppInstance mobileApiAppInstance,
+            SingleFlight singleFlight) {
 
         this.context = context;
         this.mobileMessagingCore = mobileMessagingCore;
@@ -104,6 +120,7 @@ public class InstallationSynchronizer {
         this.broadcaster = broadcaster;
         this.retryPolicyProvider = retryPolicyProvider;
         this.mobileApiAppInstance = mobileApiAppInstance;
+        this.singleFlight = singleFlight;
     }
 
     public void sync() {
@@ -153,15 +170,22 @@ public class InstallationSynchronizer {
             installation.setPushRegistrationEnabled(mobileMessagingCore.isPushRegistrationEnabled());
         }
 
+        // syncs triggered while the same data is in flight join it, changed data is synced once the call in flight completes
+        final PushInstallation installationToReport = installation;
         if (!mobileMessagingCore.isRegistrationAvailable()) {
             if (cloudTokenPresentAndUnreported) {
-                createInstallation(installation, actionListener);
+                singleFlight.execute(SingleFlight.Operation.installationSync, installation.getMap(),
+                        completion -> createInstallation(installationToReport, completion), actionListener);
                 lastSyncTimeMillis = Time.now();
             }
         } else {
-            if (installation.hasDataToReport()) {
-                patchMyInstallation(installation, actionListener);
+            Map<String, Object> changedFields = mobileMessagingCore.getAcknowledgedInstallationFields().changes(installation.getMap());
+            if (!changedFields.isEmpty()) {
+                singleFlight.execute(SingleFlight.Operation.installationSync, changedFields,
+                        completion -> patchMyInstallation(installationToReport, completion), actionListener);
                 lastSyncTimeMillis = Time.now();
+            } else {
+                mobileMessagingCore.setSystemDataReported();
             }
         }
         isSyncStarting = false;
@@ -204,6 +228,7 @@ public class InstallationSynchronizer {
 
                 Installation installation = InstallationMapper.fromBackend(appInstance);
                 setPushRegistrationId(installation.getPushRegistrationId());
+                mobileMessagingCore.resetAcknowledgedInstallationFields(acknowledgeableFields(installation.getMap()));
                 updateInstallationReported(installation, true);
             }
 
@@ -287,7 +312,17 @@ public class InstallationSynchronizer {
         }
 
         final String pushRegIdToUpdate = pushRegId;
-        final Map<String, Object> installationMap = installation.getMap();
+        final Map<String, Object> installationMap = myInstallation ?
+                mobileMessagingCore.getAcknowledgedInstallationFields().changes(installation.getMap()) : installation.getMap();
+        if (installationMap.isEmpty()) {
+            MobileMessagingLogger.v("UPDATE INSTALLATION SKIPPED - no changes since last acknowledged");
+            updateInstallationReported(installation, true);
+            if (actionListener != null) {
+                actionListener.onResult(new Result<>(mobileMessagingCore.getInstallation(true)));
+            }
+            return;
+        }
+
         new MRetryableTask<Void, Void>() {
 
             @Override
@@ -301,6 +336,9 @@ public class InstallationSynchronizer {
             public void after(Void aVoid) {
                 MobileMessagingLogger.v("UPDATE INSTALLATION DONE <<<");
 
+                if (myInstallation) {
+                    mobileMessagingCore.acknowledgeInstallationFields(acknowledgeableFields(installationMap));
+                }
                 updateInstallationReported(installation, myInstallation);
                 Installation installationToReturn = installation;
                 if (myInstallation) {
@@ -383,6 +421,7 @@ public class InstallationSynchronizer {
             @Override
             public void after(AppInstance instance) {
                 Installation installation = InstallationMapper.fromBackend(instance);
+                mobileMessagingCore.resetAcknowledgedInstallationFields(acknowledgeableFields(installation.getMap()));
                 PushInstallation pushInstallation = new PushInstallation(installation);
                 if (installation.isPrimaryDevice() != null) {
                     mobileMessagingCore.savePrimarySetting(installation.isPrimaryDevice());
@@ -420,6 +459,17 @@ public class InstallationSynchronizer {
                 .execute(executor);
     }
 
+    /**
+     * Primary setting and push registration state can also be changed from other installations of the user,
+     * so they are patched whenever set instead of being compared with acknowledged values.
+     */
+    private static Map<String, Object> acknowledgeableFields(Map<String, Object> fields) {
+        Map<String, Object> acknowledgeable = new HashMap<>(fields);
+        acknowledgeable.remove(AppInstanceAtts.isPrimary);
+        acknowledgeable.remove(AppInstanceAtts.regEnabled);
+        return acknowledgeable;
+    }
+
     private boolean isCloudTokenPresentAndUnreported() {
         return !isCloudTokenReported() && StringUtils.isNotBlank(mobileMessagingCore.getCloudToken());
     }
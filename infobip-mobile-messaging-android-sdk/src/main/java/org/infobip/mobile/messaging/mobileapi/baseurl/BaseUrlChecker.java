@@ -9,11 +9,15 @@ package org.infobip.mobile.messaging.mobileapi.baseurl;
 
 import android.content.Context;
 
+import org.infobip.mobile.messaging.MobileMessaging;
 import org.infobip.mobile.messaging.MobileMessagingCore;
 import org.infobip.mobile.messaging.MobileMessagingProperty;
 import org.infobip.mobile.messaging.api.baseurl.BaseUrlResponse;
 import org.infobip.mobile.messaging.api.baseurl.MobileApiBaseUrl;
 import org.infobip.mobile.messaging.logging.MobileMessagingLogger;
+import org.infobip.mobile.messaging.mobileapi.MobileMessagingError;
+import org.infobip.mobile.messaging.mobileapi.Result;
+import org.infobip.mobile.messaging.mobileapi.SingleFlight;
 import org.infobip.mobile.messaging.mobileapi.common.MAsyncTask;
 import org.infobip.mobile.messaging.platform.Time;
 import org.infobip.mobile.messaging.util.PreferenceHelper;
@@ -21,33 +25,37 @@ import org.infobip.mobile.messaging.util.StringUtils;
 
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicBoolean;
 
 public class BaseUrlChecker {
 
     private final Context context;
     private final Executor executor;
     private final MobileApiBaseUrl mobileApiBaseUrl;
-
-    private final AtomicBoolean isSyncInProgress = new AtomicBoolean(false);
+    private final SingleFlight singleFlight;
 
     public BaseUrlChecker(Context context, Executor executor, MobileApiBaseUrl mobileApiBaseUrl) {
+        this(context, executor, mobileApiBaseUrl, new SingleFlight());
+    }
+
+    public BaseUrlChecker(Context context, Executor executor, MobileApiBaseUrl mobileApiBaseUrl, SingleFlight singleFlight) {
         this.context = context;
         this.executor = executor;
         this.mobileApiBaseUrl = mobileApiBaseUrl;
+        this.singleFlight = singleFlight;
     }
 
     public void sync() {
-        if (!isSyncInProgress.compareAndSet(false, true)) return;
-
         long lastCheckTimeMillis = PreferenceHelper.findLong(context, MobileMessagingProperty.BASEURL_CHECK_LAST_TIME);
         int minimumIntervalHours = PreferenceHelper.findInt(context, MobileMessagingProperty.BASEURL_CHECK_INTERVAL_HOURS);
         long lastBaseUrlCheckHours = TimeUnit.MILLISECONDS.toHours(Time.now() - lastCheckTimeMillis);
         if (lastBaseUrlCheckHours < minimumIntervalHours) {
-            isSyncInProgress.set(false);
             return;
         }
 
+        singleFlight.execute(SingleFlight.Operation.baseUrlCheck, null, this::checkBaseUrl, null);
+    }
+
+    private void checkBaseUrl(final MobileMessaging.ResultListener<String> completion) {
         new MAsyncTask<Void, BaseUrlResponse>() {
             @Override
             public BaseUrlResponse run(Void[] voids) {
@@ -59,20 +67,18 @@ public class BaseUrlChecker {
 
             @Override
             public void after(BaseUrlResponse baseUrlResponse) {
-                if (baseUrlResponse != null) {
-                    String baseUrl = baseUrlResponse.getBaseUrl();
-                    if (StringUtils.isNotBlank(baseUrl)) {
-                        MobileMessagingCore.setApiUri(context, baseUrl);
-                    }
+                String baseUrl = baseUrlResponse != null ? baseUrlResponse.getBaseUrl() : null;
+                if (StringUtils.isNotBlank(baseUrl)) {
+                    MobileMessagingCore.setApiUri(context, baseUrl);
                 }
                 PreferenceHelper.saveLong(context, MobileMessagingProperty.BASEURL_CHECK_LAST_TIME, Time.now());
-                isSyncInProgress.set(false);
+                completion.onResult(new Result<>(baseUrl));
             }
 
             @Override
             public void error(Throwable error) {
                 MobileMessagingLogger.e("Error while checking base URL!", error);
-                isSyncInProgress.set(false);
+                completion.onResult(new Result<>(MobileMessagingError.createFrom(error)));
             }
         }
                 .execute(executor);
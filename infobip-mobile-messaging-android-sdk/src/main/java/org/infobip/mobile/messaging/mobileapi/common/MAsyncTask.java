@@ -7,7 +7,8 @@
  */
 package org.infobip.mobile.messaging.mobileapi.common;
 
-import android.annotation.SuppressLint;
+import android.os.Handler;
+import android.os.Looper;
 
 import org.infobip.mobile.messaging.api.support.ApiBackendExceptionWithContent;
 import org.infobip.mobile.messaging.api.support.ApiErrorCode;
@@ -18,16 +19,19 @@ import org.infobip.mobile.messaging.mobileapi.common.exceptions.BackendCommunica
 import org.infobip.mobile.messaging.mobileapi.common.exceptions.BackendCommunicationExceptionWithContent;
 import org.infobip.mobile.messaging.mobileapi.common.exceptions.BackendInvalidParameterException;
 import org.infobip.mobile.messaging.mobileapi.common.exceptions.BackendInvalidParameterExceptionWithContent;
+import org.infobip.mobile.messaging.platform.SdkExecutor;
 
 import java.util.HashSet;
 import java.util.Set;
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import androidx.annotation.NonNull;
 
 /**
- * Wrapper object over native AsyncTask
- * for easier handling of background operations.
+ * Background operation executed on {@link SdkExecutor},
+ * with callbacks delivered on the main thread.
  *
  * @author sslavin
  * @since 23/07/2017.
@@ -46,46 +50,27 @@ public abstract class MAsyncTask<IN, OUT> extends IMAsyncTask<IN, OUT> {
         add(ApiErrorCode.NO_REGISTRATION);
     }};
 
-    @SuppressLint("StaticFieldLeak")
-    private final MMAsyncTask<IN, Void, ResultWrapper<IN, OUT>> MMAsyncTask = new MMAsyncTask<IN, Void, ResultWrapper<IN, OUT>>() {
-        @Override
-        protected void onPreExecute() {
-            before();
-        }
-
-        @Override
-        protected ResultWrapper<IN, OUT> doInBackground(IN[] ins) {
-            try {
-                if (shouldCancel()) {
-                    return new ResultWrapper<>(ins, true);
-                } else {
-                    OUT out = run(ins);
-                    afterBackground(out);
-                    return new ResultWrapper<>(out);
-                }
-            } catch (Throwable error) {
-                return new ResultWrapper<>(ins, error);
-            }
-        }
+    private static final Handler mainThreadHandler = new Handler(Looper.getMainLooper());
 
-        @Override
-        protected void onPostExecute(ResultWrapper<IN, OUT> resultWrapper) {
-            MobileMessagingLogger.v("Result wrapper: ", resultWrapper);
-            if (resultWrapper.cancelled) {
-                cancelled(resultWrapper.inputs);
-                return;
-            }
+    private final AtomicBoolean executed = new AtomicBoolean();
+    private SdkExecutor.Priority priority = SdkExecutor.Priority.BACKGROUND;
+    private String type = typeOf(getClass());
 
-            if (resultWrapper.error == null) {
-                after(resultWrapper.result);
-                return;
-            }
+    /**
+     * Specifies priority of the task on {@link SdkExecutor}, by default tasks run with {@link SdkExecutor.Priority#BACKGROUND}
+     *
+     * @param priority required priority
+     * @return self
+     */
+    public MAsyncTask<IN, OUT> withPriority(SdkExecutor.Priority priority) {
+        this.priority = priority;
+        return this;
+    }
 
-            Throwable error = backendErrorToTaskError(resultWrapper.error);
-            error(error);
-            error(resultWrapper.inputs, error);
-        }
-    };
+    MAsyncTask<IN, OUT> withType(String type) {
+        this.type = type;
+        return this;
+    }
 
     /**
      * Starts execution of background task
@@ -94,7 +79,7 @@ public abstract class MAsyncTask<IN, OUT> extends IMAsyncTask<IN, OUT> {
      */
     @SuppressWarnings({"unused", "unchecked"})
     public void execute(IN... ins) {
-        MMAsyncTask.execute(ins);
+        execute(SdkExecutor.getInstance(), ins);
     }
 
     /**
@@ -104,12 +89,61 @@ public abstract class MAsyncTask<IN, OUT> extends IMAsyncTask<IN, OUT> {
      * @param ins      input parameters.
      */
     @SuppressWarnings({"unused", "unchecked"})
-    public void execute(Executor executor, IN... ins) {
-        MMAsyncTask.executeOnExecutor(executor, ins);
+    public void execute(Executor executor, final IN... ins) {
+        if (!executed.compareAndSet(false, true)) {
+            throw new IllegalStateException("Cannot execute task: the task has already been executed (a task can be executed only once)");
+        }
+
+        before();
+        try {
+            executor.execute(new SdkExecutor.Task(() -> postResult(runInBackground(ins)), priority, type));
+        } catch (RejectedExecutionException e) {
+            postResult(new ResultWrapper<>(ins, e));
+        }
     }
 
     // region private methods
 
+    private ResultWrapper<IN, OUT> runInBackground(IN[] ins) {
+        try {
+            if (shouldCancel()) {
+                return new ResultWrapper<>(ins, true);
+            } else {
+                OUT out = run(ins);
+                afterBackground(out);
+                return new ResultWrapper<>(out);
+            }
+        } catch (Throwable error) {
+            return new ResultWrapper<>(ins, error);
+        }
+    }
+
+    private void postResult(final ResultWrapper<IN, OUT> resultWrapper) {
+        mainThreadHandler.post(() -> deliverResult(resultWrapper));
+    }
+
+    private void deliverResult(ResultWrapper<IN, OUT> resultWrapper) {
+        MobileMessagingLogger.v("Result wrapper: ", resultWrapper);
+        if (resultWrapper.cancelled) {
+            cancelled(resultWrapper.inputs);
+            return;
+        }
+
+        if (resultWrapper.error == null) {
+            after(resultWrapper.result);
+            return;
+        }
+
+        Throwable error = backendErrorToTaskError(resultWrapper.error);
+        error(error);
+        error(resultWrapper.inputs, error);
+    }
+
+    static String typeOf(Class<?> cls) {
+        String name = cls.getName();
+        return name.substring(name.lastIndexOf('.') + 1);
+    }
+
     private static Throwable backendErrorToTaskError(Throwable originalError) {
         if (isInvalidParameterErrorWithContent(originalError)) {
             return new BackendInvalidParameterExceptionWithContent(originalError.getMessage(), (ApiBackendExceptionWithContent) originalError);
@@ -1,327 +0,0 @@
-/*
- * MMAsyncTask.java
- * Mobile Messaging SDK
- *
- * Copyright (c) 2016-2025 Infobip Limited
- * Licensed under the Apache License, Version 2.0
- */
-package org.infobip.mobile.messaging.mobileapi.common;
-
-import android.os.Binder;
-import android.os.Handler;
-import android.os.Looper;
-import android.os.Message;
-import android.os.Process;
-
-import org.infobip.mobile.messaging.logging.MobileMessagingLogger;
-
-import java.util.ArrayDeque;
-import java.util.concurrent.Callable;
-import java.util.concurrent.CancellationException;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Executor;
-import java.util.concurrent.FutureTask;
-import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.RejectedExecutionHandler;
-import java.util.concurrent.SynchronousQueue;
-import java.util.concurrent.ThreadFactory;
-import java.util.concurrent.ThreadPoolExecutor;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicInteger;
-
-/**
- * This class is just a copy of deprecated Android's AsyncTask implementation with a few changes based on our needs.
- */
-
-public abstract class MMAsyncTask<Params, Progress, Result> {
-    private static final String LOG_TAG = "MMAsyncTask";
-
-    private static final int CORE_POOL_SIZE = 1;
-    private static final int MAXIMUM_POOL_SIZE = 20;
-    private static final int BACKUP_POOL_SIZE = 5;
-    private static final int KEEP_ALIVE_SECONDS = 3;
-
-    private static final ThreadFactory sThreadFactory = new ThreadFactory() {
-        private final AtomicInteger mCount = new AtomicInteger(1);
-
-        public Thread newThread(Runnable r) {
-            return new Thread(r, "MMAsyncTask #" + mCount.getAndIncrement());
-        }
-    };
-
-    private static ThreadPoolExecutor sBackupExecutor;
-    private static LinkedBlockingQueue<Runnable> sBackupExecutorQueue;
-
-    private static final RejectedExecutionHandler sRunOnSerialPolicy =
-            new RejectedExecutionHandler() {
-                public void rejectedExecution(Runnable r, ThreadPoolExecutor e) {
-                    MobileMessagingLogger.w(LOG_TAG, "Exceeded ThreadPoolExecutor maximum pool size");
-                    // As a last ditch fallback, run it on an executor with an unbounded queue.
-                    // Create this executor lazily, hopefully almost never.
-                    synchronized (this) {
-                        if (sBackupExecutor == null) {
-                            sBackupExecutorQueue = new LinkedBlockingQueue<Runnable>();
-                            sBackupExecutor = new ThreadPoolExecutor(
-                                    BACKUP_POOL_SIZE, BACKUP_POOL_SIZE, KEEP_ALIVE_SECONDS,
-                                    TimeUnit.SECONDS, sBackupExecutorQueue, sThreadFactory);
-                            sBackupExecutor.allowCoreThreadTimeOut(true);
-                        }
-                    }
-                    sBackupExecutor.execute(r);
-                }
-            };
-
-    public static final Executor THREAD_POOL_EXECUTOR;
-
-    static {
-        ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(
-                CORE_POOL_SIZE, MAXIMUM_POOL_SIZE, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
-                new SynchronousQueue<Runnable>(), sThreadFactory);
-        threadPoolExecutor.setRejectedExecutionHandler(sRunOnSerialPolicy);
-        THREAD_POOL_EXECUTOR = threadPoolExecutor;
-    }
-
-
-    public static final Executor SERIAL_EXECUTOR = new SerialExecutor();
-
-    private static final int MESSAGE_POST_RESULT = 0x1;
-    private static final int MESSAGE_POST_PROGRESS = 0x2;
-
-    private static volatile Executor sDefaultExecutor = SERIAL_EXECUTOR;
-    private static InternalHandler sHandler;
-
-    private final WorkerRunnable<Params, Result> mWorker;
-    private final FutureTask<Result> mFuture;
-
-    private volatile Status mStatus = Status.PENDING;
-
-    private final AtomicBoolean mCancelled = new AtomicBoolean();
-    private final AtomicBoolean mTaskInvoked = new AtomicBoolean();
-
-    private static class SerialExecutor implements Executor {
-        final ArrayDeque<Runnable> mTasks = new ArrayDeque<>();
-        Runnable mActive;
-
-        public synchronized void execute(final Runnable r) {
-            mTasks.offer(new Runnable() {
-                public void run() {
-                    try {
-                        r.run();
-                    } finally {
-                        scheduleNext();
-                    }
-                }
-            });
-            if (mActive == null) {
-                scheduleNext();
-            }
-        }
-
-        protected synchronized void scheduleNext() {
-            if ((mActive = mTasks.poll()) != null) {
-                THREAD_POOL_EXECUTOR.execute(mActive);
-            }
-        }
-    }
-
-    public enum Status {
-        /**
-         * Indicates that the task has not been executed yet.
-         */
-        PENDING,
-        /**
-         * Indicates that the task is running.
-         */
-        RUNNING,
-        /**
-         * Indicates that {@link MMAsyncTask#onPostExecute(Object)} has finished.
-         */
-        FINISHED,
-    }
-
-    private Handler getHandler() {
-        synchronized (MMAsyncTask.class) {
-            if (sHandler == null) {
-                sHandler = new InternalHandler();
-            }
-            return sHandler;
-        }
-    }
-
-    public MMAsyncTask() {
-        mWorker = new WorkerRunnable<Params, Result>() {
-            @Override
-            public Result call() throws Exception {
-                mTaskInvoked.set(true);
-                Result result = null;
-                try {
-                    Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
-                    result = doInBackground(mParams);
-                    Binder.flushPendingCommands();
-                } catch (Throwable tr) {
-                    mCancelled.set(true);
-                    throw tr;
-                } finally {
-                    postResult(result);
-                }
-                return result;
-            }
-        };
-
-        mFuture = new FutureTask<Result>(mWorker) {
-            @Override
-            protected void done() {
-                try {
-                    final Result result = get();
-                    postResultIfNotInvoked(result);
-                } catch (InterruptedException e) {
-                    android.util.Log.w(LOG_TAG, e);
-                } catch (ExecutionException e) {
-                    throw new RuntimeException("An error occurred while executing doInBackground()", e.getCause());
-                } catch (CancellationException e) {
-                    postResultIfNotInvoked(null);
-                } catch (Throwable t) {
-                    throw new RuntimeException(
-                            "An error occurred while executing doInBackground()", t);
-                }
-            }
-        };
-    }
-
-    void postResultIfNotInvoked(Result result) {
-        final boolean wasTaskInvoked = mTaskInvoked.get();
-        if (!wasTaskInvoked) {
-            postResult(result);
-        }
-    }
-
-    Result postResult(Result result) {
-        Message message = getHandler().obtainMessage(MESSAGE_POST_RESULT,
-                new AsyncTaskResult<>(this, result));
-        message.sendToTarget();
-        return result;
-    }
-
-    public final Status getStatus() {
-        return mStatus;
-    }
-
-    protected abstract Result doInBackground(Params... params);
-
-    protected void onPreExecute() {
-    }
-
-    protected void onPostExecute(Result result) {
-    }
-
-    protected void onProgressUpdate(Progress... values) {
-    }
-
-    protected void onCancelled(Result result) {
-        onCancelled();
-    }
-
-    protected void onCancelled() {
-    }
-
-    protected final boolean isCancelled() {
-        return mCancelled.get();
-    }
-
-    public final boolean cancel(boolean mayInterruptIfRunning) {
-        mCancelled.set(true);
-        return mFuture.cancel(mayInterruptIfRunning);
-    }
-
-    public final Result get() throws InterruptedException, ExecutionException {
-        return mFuture.get();
-    }
-
-    public final Result get(long timeout, TimeUnit unit) throws InterruptedException,
-            ExecutionException, TimeoutException {
-        return mFuture.get(timeout, unit);
-    }
-
-    public final MMAsyncTask<Params, Progress, Result> execute(Params... params) {
-        return executeOnExecutor(sDefaultExecutor, params);
-    }
-
-    public final MMAsyncTask<Params, Progress, Result> executeOnExecutor(Executor exec, Params... params) {
-        if (mStatus != Status.PENDING) {
-            switch (mStatus) {
-                case RUNNING:
-                    throw new IllegalStateException("Cannot execute task:"
-                            + " the task is already running.");
-                case FINISHED:
-                    throw new IllegalStateException("Cannot execute task:"
-                            + " the task has already been executed "
-                            + "(a task can be executed only once)");
-                default:
-                    throw new IllegalStateException("We should never reach this state");
-            }
-        }
-
-        mStatus = Status.RUNNING;
-
-        onPreExecute();
-
-        mWorker.mParams = params;
-        exec.execute(mFuture);
-
-        return this;
-    }
-
-    public static void execute(Runnable runnable) {
-        sDefaultExecutor.execute(runnable);
-    }
-
-    private void finish(Result result) {
-        if (isCancelled()) {
-            onCancelled(result);
-        } else {
-            onPostExecute(result);
-        }
-        mStatus = Status.FINISHED;
-    }
-
-    private static class InternalHandler extends Handler {
-        public InternalHandler() {
-            super(Looper.getMainLooper());
-        }
-
-        @SuppressWarnings({"unchecked", "RawUseOfParameterizedType"})
-        @Override
-        public void handleMessage(Message msg) {
-            AsyncTaskResult<?> result = (AsyncTaskResult<?>) msg.obj;
-            switch (msg.what) {
-                case MESSAGE_POST_RESULT:
-                    // There is only one result
-                    result.mTask.finish(result.mData[0]);
-                    break;
-                case MESSAGE_POST_PROGRESS:
-                    result.mTask.onProgressUpdate(result.mData);
-                    break;
-            }
-        }
-    }
-
-    private abstract static class WorkerRunnable<Params, Result> implements Callable<Result> {
-        Params[] mParams;
-
-        WorkerRunnable() {
-        }
-    }
-
-    @SuppressWarnings({"RawUseOfParameterizedType"})
-    private static class AsyncTaskResult<Data> {
-        final MMAsyncTask mTask;
-        final Data[] mData;
-
-        AsyncTaskResult(MMAsyncTask task, Data... data) {
-            mTask = task;
-            mData = data;
-        }
-    }
-}
@@ -7,8 +7,7 @@
  */
 package org.infobip.mobile.messaging.mobileapi.common;
 
-import android.os.Handler;
-import android.os.Looper;
+import org.infobip.mobile.messaging.platform.SdkExecutor;
 
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
@@ -22,10 +21,9 @@ import androidx.annotation.Nullable;
 
 public abstract class MRetryableTask<IN, OUT> extends IMAsyncTask<IN, OUT> {
 
-    private final Handler handler = new Handler(Looper.getMainLooper());
-
     private volatile ExecutionContext executionContext;
     private MRetryPolicy retryPolicy;
+    private SdkExecutor.Priority priority = SdkExecutor.Priority.BACKGROUND;
 
     private class ExecutionContext {
         final Executor executor;
@@ -56,6 +54,17 @@ public abstract class MRetryableTask<IN, OUT> extends IMAsyncTask<IN, OUT> {
         return this;
     }
 
+    /**
+     * Specifies priority of the task on {@link SdkExecutor}, by default tasks run with {@link SdkExecutor.Priority#BACKGROUND}
+     *
+     * @param priority required priority
+     * @return self
+     */
+    public MRetryableTask<IN, OUT> withPriority(SdkExecutor.Priority priority) {
+        this.priority = priority;
+        return this;
+    }
+
     @SafeVarargs
     public final void execute(IN... ins) {
         executionContext = new ExecutionContext(null, ins, retryPolicy);
@@ -110,12 +119,10 @@ public abstract class MRetryableTask<IN, OUT> extends IMAsyncTask<IN, OUT> {
                 }
 
                 executionContext.attempts++;
-                handler.postDelayed(new Runnable() {
-                    @Override
-                    public void run() {
-                        MRetryableTask.this.execute();
-                    }
-                }, TimeUnit.SECONDS.toMillis((long) executionContext.attempts * executionContext.attempts * executionContext.retryPolicy.getBackoffMultiplier()));
+                SdkExecutor.getInstance().schedule(
+                        () -> MRetryableTask.this.execute(),
+                        (long) executionContext.attempts * executionContext.attempts * executionContext.retryPolicy.getBackoffMultiplier(),
+                        TimeUnit.SECONDS);
             }
 
             @Override
@@ -123,6 +130,7 @@ public abstract class MRetryableTask<IN, OUT> extends IMAsyncTask<IN, OUT> {
                 MRetryableTask.this.cancelled(ins);
             }
         };
+        asyncTask.withPriority(priority).withType(MAsyncTask.typeOf(getClass()));
 
         if (executionContext.executor != null) {
             asyncTask.execute(executionContext.executor, executionContext.args);
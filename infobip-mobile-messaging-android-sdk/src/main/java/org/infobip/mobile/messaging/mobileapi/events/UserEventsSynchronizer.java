@@ -41,6 +41,7 @@ public class UserEventsSynchronizer {
     private final Executor executor;
     private final MRetryPolicy policy;
     private final BatchReporter batchReporter;
+    private final Runnable reportCustomEventsTask = this::reportCustomEventsNow;
     private final DebouncingGuard debouncingGuard;
 
     public UserEventsSynchronizer(
@@ -190,36 +191,35 @@ public class UserEventsSynchronizer {
             return;
         }
 
-        batchReporter.put(new Runnable() {
+        batchReporter.put(reportCustomEventsTask);
+    }
+
+    private void reportCustomEventsNow() {
+        new MAsyncTask<Void, Void>() {
+
             @Override
-            public void run() {
-                new MAsyncTask<Void, Void>() {
-
-                    @Override
-                    public Void run(Void[] voids) {
-                        final UserCustomEventBody userCustomEventBody = new UserCustomEventBody(mobileMessagingCore.getUnreportedUserCustomEvents());
-                        MobileMessagingLogger.v("CUSTOM EVENT REPORT >>>", userCustomEventBody);
-                        mobileApiAppInstance.sendUserCustomEvents(mobileMessagingCore.getPushRegistrationId(), false, userCustomEventBody);
-                        return null;
-                    }
-
-                    @Override
-                    public void after(Void aVoid) {
-                        MobileMessagingLogger.v("CUSTOM EVENT REPORT DONE <<<");
-                        mobileMessagingCore.setUserCustomEventsReported();
-                        broadcaster.customEventsReported();
-                    }
-
-                    @Override
-                    public void error(Throwable error) {
-                        MobileMessagingLogger.e("CUSTOM EVENT REPORT ERROR <<<", error);
-                        MobileMessagingError mobileMessagingError = MobileMessagingError.createFrom(error);
-                        mobileMessagingCore.handleNoRegistrationError(mobileMessagingError);
-                        broadcaster.error(mobileMessagingError);
-                    }
-
-                }.execute(executor);
+            public Void run(Void[] voids) {
+                final UserCustomEventBody userCustomEventBody = new UserCustomEventBody(mobileMessagingCore.getUnreportedUserCustomEvents());
+                MobileMessagingLogger.v("CUSTOM EVENT REPORT >>>", userCustomEventBody);
+                mobileApiAppInstance.sendUserCustomEvents(mobileMessagingCore.getPushRegistrationId(), false, userCustomEventBody);
+                return null;
             }
-        });
+
+            @Override
+            public void after(Void aVoid) {
+                MobileMessagingLogger.v("CUSTOM EVENT REPORT DONE <<<");
+                mobileMessagingCore.setUserCustomEventsReported();
+                broadcaster.customEventsReported();
+            }
+
+            @Override
+            public void error(Throwable error) {
+                MobileMessagingLogger.e("CUSTOM EVENT REPORT ERROR <<<", error);
+                MobileMessagingError mobileMessagingError = MobileMessagingError.createFrom(error);
+                mobileMessagingCore.handleNoRegistrationError(mobileMessagingError);
+                broadcaster.error(mobileMessagingError);
+            }
+
+        }.execute(executor);
     }
 }
@@ -10,7 +10,6 @@ package org.infobip.mobile.messaging.mobileapi.inapp;
 import android.content.Context;
 
 import org.infobip.mobile.messaging.MobileMessagingCore;
-import org.infobip.mobile.messaging.MobileMessagingProperty;
 import org.infobip.mobile.messaging.api.clickreporter.MobileApiClickReporter;
 import org.infobip.mobile.messaging.api.support.ApiException;
 import org.infobip.mobile.messaging.logging.MobileMessagingLogger;
@@ -21,7 +20,6 @@ import org.infobip.mobile.messaging.mobileapi.common.MRetryableTask;
 import org.infobip.mobile.messaging.platform.Broadcaster;
 import org.infobip.mobile.messaging.stats.MobileMessagingStats;
 import org.infobip.mobile.messaging.stats.MobileMessagingStatsError;
-import org.infobip.mobile.messaging.util.PreferenceHelper;
 import org.infobip.mobile.messaging.util.StringUtils;
 
 import java.util.concurrent.Executor;
@@ -33,6 +31,7 @@ public class InAppClickReporter {
     private final Executor executor;
     private final Broadcaster broadcaster;
     private final BatchReporter batchReporter;
+    private final Runnable reportTask = this::report;
     private final MRetryPolicy retryPolicy;
     private final MobileApiClickReporter mobileApiClickReporter;
 
@@ -61,8 +60,11 @@ public class InAppClickReporter {
             return;
         }
 
+        batchReporter.put(reportTask);
+    }
 
-        batchReporter.put(() -> new MRetryableTask<Void, String[]>() {
+    private void report() {
+        new MRetryableTask<Void, String[]>() {
             @Override
             public String[] run(Void[] voids) {
                 if (StringUtils.isBlank(mobileMessagingCore.getPushRegistrationId())) {
@@ -87,6 +89,10 @@ public class InAppClickReporter {
             public void after(String[] clickUrls) {
                 String[] clickActionUrlsFromReports = mobileMessagingCore.getInAppClickUrlsFromReports(clickUrls).toArray(new String[0]);
                 broadcaster.inAppClickReported(clickActionUrlsFromReports);
+                if (clickUrls.length == MobileMessagingCore.REPORT_BATCH_SIZE) {
+                    // batch was full, drain the next one
+                    sync();
+                }
             }
 
             @Override
@@ -97,7 +103,7 @@ public class InAppClickReporter {
             }
         }
                 .retryWith(retryPolicy)
-                .execute(executor));
+                .execute(executor);
     }
 
     private void makeHttpRequest(String clickAction) {
@@ -121,7 +127,7 @@ public class InAppClickReporter {
             MobileMessagingLogger.e("Failed to report InApp click: " + e.getMessage());
             mobileMessagingCore.removeReportedInAppClickActions(clickAction);
             payload[3] = String.valueOf(Integer.parseInt(payload[3]) + 1);
-            PreferenceHelper.appendToStringArray(context, MobileMessagingProperty.INFOBIP_UNREPORTED_IN_APP_CLICK_URLS, StringUtils.concat(payload, StringUtils.COMMA_WITH_SPACE));
+            mobileMessagingCore.addUnreportedInAppClicks(StringUtils.concat(payload, StringUtils.COMMA_WITH_SPACE));
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
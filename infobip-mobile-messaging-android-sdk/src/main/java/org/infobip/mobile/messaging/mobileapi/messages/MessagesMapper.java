@@ -49,6 +49,7 @@ class MessagesMapper {
         }
 
         final String internalData = response.getInternalData();
+        final InternalDataMapper.ParsedInternalData parsedInternalData = InternalDataMapper.parse(internalData);
         Message message = new Message(
                 response.getMessageId(),
                 response.getTitle(),
@@ -61,24 +62,25 @@ class MessagesMapper {
                 null,
                 Time.now(),
                 0,
-                InternalDataMapper.getInternalDataSendDateTime(internalData),
+                parsedInternalData.getSendDateTime(),
                 customPayload,
                 internalData,
                 null,
                 Message.Status.UNKNOWN,
                 null,
-                InternalDataMapper.getInternalDataContentUrl(internalData),
-                InternalDataMapper.getInternalDataInAppStyle(internalData),
-                InternalDataMapper.getInternalDataInAppExpiryDateTime(internalData),
-                InternalDataMapper.getInternalDataWebViewUrl(internalData),
-                InternalDataMapper.getInternalDataBrowserUrl(internalData),
-                InternalDataMapper.getInternalDataMessageType(internalData),
-                InternalDataMapper.getInternalDataDeeplinkUri(internalData),
-                InternalDataMapper.getInternalDataInAppOpenTitle(internalData),
-                InternalDataMapper.getInternalDataInAppDismissTitle(internalData)
+                parsedInternalData.getContentUrl(),
+                parsedInternalData.getInAppStyle(),
+                parsedInternalData.getInAppExpiryDateTime(),
+                parsedInternalData.getWebViewUrl(),
+                parsedInternalData.getBrowserUrl(),
+                parsedInternalData.getMessageType(),
+                parsedInternalData.getDeeplinkUri(),
+                parsedInternalData.getInAppOpenTitle(),
+                parsedInternalData.getInAppDismissTitle()
         );
 
-        InternalDataMapper.updateMessageWithInternalData(message, internalData);
+        message.setInternalData(internalData, parsedInternalData);
+        InternalDataMapper.updateMessageWithInternalData(message, parsedInternalData);
         return message;
     }
 }
@@ -8,6 +8,7 @@
 package org.infobip.mobile.messaging.mobileapi.messages;
 
 import org.infobip.mobile.messaging.Message;
+import org.infobip.mobile.messaging.MobileMessaging;
 import org.infobip.mobile.messaging.MobileMessagingCore;
 import org.infobip.mobile.messaging.api.messages.MobileApiMessages;
 import org.infobip.mobile.messaging.api.messages.SyncMessagesBody;
@@ -15,6 +16,8 @@ import org.infobip.mobile.messaging.api.messages.SyncMessagesResponse;
 import org.infobip.mobile.messaging.cloud.MobileMessageHandler;
 import org.infobip.mobile.messaging.logging.MobileMessagingLogger;
 import org.infobip.mobile.messaging.mobileapi.MobileMessagingError;
+import org.infobip.mobile.messaging.mobileapi.Result;
+import org.infobip.mobile.messaging.mobileapi.SingleFlight;
 import org.infobip.mobile.messaging.mobileapi.common.MRetryPolicy;
 import org.infobip.mobile.messaging.mobileapi.common.MRetryableTask;
 import org.infobip.mobile.messaging.platform.Broadcaster;
@@ -42,6 +45,7 @@ public class MessagesSynchronizer {
     private final MobileMessageHandler mobileMessageHandler;
     private final MRetryPolicy retryPolicy;
     private final MobileApiMessages mobileApiMessages;
+    private final SingleFlight singleFlight;
     private volatile Long lastSyncTimeMillis;
 
     public MessagesSynchronizer(
@@ -52,6 +56,18 @@ public class MessagesSynchronizer {
             MRetryPolicy retryPolicy,
             MobileMessageHandler mobileMessageHandler,
             MobileApiMessages mobileApiMessages) {
+        this(mobileMessagingCore, stats, executor, broadcaster, retryPolicy, mobileMessageHandler, mobileApiMessages, new SingleFlight());
+    }
+
+    public MessagesSynchronizer(
+            MobileMessagingCore mobileMessagingCore,
+            MobileMessagingStats stats,
+            Executor executor,
+            Broadcaster broadcaster,
+            MRetryPolicy retryPolicy,
+            MobileMessageHandler mobileMessageHandler,
+            MobileApiMessages mobileApiMessages,
+            SingleFlight singleFlight) {
 
         this.mobileMessagingCore = mobileMessagingCore;
         this.stats = stats;
@@ -60,6 +76,7 @@ public class MessagesSynchronizer {
         this.retryPolicy = retryPolicy;
         this.mobileApiMessages = mobileApiMessages;
         this.mobileMessageHandler = mobileMessageHandler;
+        this.singleFlight = singleFlight;
     }
 
     public void sync() {
@@ -68,13 +85,21 @@ public class MessagesSynchronizer {
             return;
         }
 
-        final String[] unreportedMessageIds = mobileMessagingCore.getAndRemoveUnreportedMessageIds();
-        if (unreportedMessageIds.length == 0 && lastSyncTimeMillis != null &&
+        boolean hasUnreportedMessageIds = mobileMessagingCore.hasUnreportedMessageIds();
+        if (!hasUnreportedMessageIds && lastSyncTimeMillis != null &&
                 Time.now() - lastSyncTimeMillis < SYNC_MSGS_THROTTLE_INTERVAL_MILLIS ||
                 !mobileMessagingCore.isPushRegistrationEnabled()) {
             return;
         }
+
+        // concurrent syncs join the one in flight, new delivery reports queue a single follow-up sync
+        singleFlight.execute(SingleFlight.Operation.messagesSync, hasUnreportedMessageIds, this::syncMessages, null);
+    }
+
+    private void syncMessages(final MobileMessaging.ResultListener<List<Message>> completion) {
         lastSyncTimeMillis = Time.now();
+        // delivery reports are removed from the outbox only once the sync succeeds
+        final String[] unreportedMessageIds = mobileMessagingCore.getUnreportedMessageIds();
 
         new MRetryableTask<Void, List<Message>>() {
             @Override
@@ -88,26 +113,36 @@ public class MessagesSynchronizer {
                 return MessagesMapper.mapResponseToMessages(syncMessagesResponse.getPayloads());
             }
 
+            @Override
+            public void afterBackground(List<Message> messages) {
+                // ingest on the background thread, a failure here must not fail and retry the whole sync
+                try {
+                    mobileMessageHandler.handleMessages(messages);
+                } catch (Exception e) {
+                    MobileMessagingLogger.e("Failed to handle synced messages", e);
+                }
+            }
+
             @Override
             public void after(List<Message> messages) {
+                mobileMessagingCore.removeUnreportedMessageIds(unreportedMessageIds);
                 broadcaster.deliveryReported(unreportedMessageIds);
-                if (messages == null || messages.isEmpty()) {
-                    return;
-                }
+                completion.onResult(new Result<>(messages));
 
-                for (Message message : messages) {
-                    mobileMessageHandler.handleMessage(message);
+                if (unreportedMessageIds.length > 0 && mobileMessagingCore.hasUnreportedMessageIds()) {
+                    // drain the next batch of delivery reports
+                    sync();
                 }
             }
 
             @Override
             public void error(Throwable error) {
-                mobileMessagingCore.addUnreportedMessageIds(unreportedMessageIds);
-
                 MobileMessagingLogger.e("SYNC MESSAGES ERROR <<<", error);
                 stats.reportError(MobileMessagingStatsError.SYNC_MESSAGES_ERROR);
 
-                broadcaster.error(MobileMessagingError.createFrom(error));
+                MobileMessagingError mobileMessagingError = MobileMessagingError.createFrom(error);
+                broadcaster.error(mobileMessagingError);
+                completion.onResult(new Result<>(mobileMessagingError));
             }
         }
                 .retryWith(retryPolicy)
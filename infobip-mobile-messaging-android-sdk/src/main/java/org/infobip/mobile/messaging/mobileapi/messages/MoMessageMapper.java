@@ -66,8 +66,8 @@ public class MoMessageMapper {
         for (Message message : messages) {
             String customPayloadString = message.getCustomPayload() != null ? message.getCustomPayload().toString() : null;
             Map customPayloadMap = serializer.deserialize(customPayloadString, Map.class);
-            String internalData = message.getInternalData();
-            moMessages.add(new MoMessage(message.getMessageId(), message.getDestination(), message.getBody(), InternalDataMapper.getInternalDataInitialMessageId(internalData), InternalDataMapper.getInternalDataBulkId(internalData), customPayloadMap));
+            InternalDataMapper.ParsedInternalData internalData = message.getParsedInternalData();
+            moMessages.add(new MoMessage(message.getMessageId(), message.getDestination(), message.getBody(), internalData.getInitialMessageId(), internalData.getBulkId(), customPayloadMap));
         }
 
         MoMessagesBody moMessagesBody = new MoMessagesBody();
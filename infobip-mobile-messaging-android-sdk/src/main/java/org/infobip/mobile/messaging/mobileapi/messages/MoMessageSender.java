@@ -12,11 +12,10 @@ import android.content.Context;
 import org.infobip.mobile.messaging.Message;
 import org.infobip.mobile.messaging.MobileMessaging;
 import org.infobip.mobile.messaging.MobileMessagingCore;
-import org.infobip.mobile.messaging.MobileMessagingProperty;
 import org.infobip.mobile.messaging.api.messages.MoMessagesBody;
 import org.infobip.mobile.messaging.api.messages.MoMessagesResponse;
 import org.infobip.mobile.messaging.api.messages.MobileApiMessages;
-import org.infobip.mobile.messaging.api.support.http.serialization.JsonSerializer;
+import org.infobip.mobile.messaging.dal.sqlite.MoMessageOutbox;
 import org.infobip.mobile.messaging.logging.MobileMessagingLogger;
 import org.infobip.mobile.messaging.mobileapi.InternalSdkError;
 import org.infobip.mobile.messaging.mobileapi.MobileMessagingError;
@@ -24,17 +23,19 @@ import org.infobip.mobile.messaging.mobileapi.Result;
 import org.infobip.mobile.messaging.mobileapi.common.MRetryPolicy;
 import org.infobip.mobile.messaging.mobileapi.common.MRetryableTask;
 import org.infobip.mobile.messaging.platform.Broadcaster;
+import org.infobip.mobile.messaging.platform.SdkExecutor;
 import org.infobip.mobile.messaging.platform.Time;
 import org.infobip.mobile.messaging.stats.MobileMessagingStats;
 import org.infobip.mobile.messaging.stats.MobileMessagingStatsError;
 import org.infobip.mobile.messaging.storage.MessageStoreWrapper;
-import org.infobip.mobile.messaging.util.PreferenceHelper;
 import org.infobip.mobile.messaging.util.StringUtils;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
@@ -44,9 +45,10 @@ import java.util.concurrent.TimeUnit;
  */
 public class MoMessageSender {
 
+    static final int MO_BATCH_SIZE = 100;
+
     private final long MESSAGE_MAX_RETRY_LIFETIME = TimeUnit.DAYS.toMillis(2);
 
-    private final Context context;
     private final MobileMessagingCore mobileMessagingCore;
     private final Broadcaster broadcaster;
     private final Executor executor;
@@ -55,36 +57,92 @@ public class MoMessageSender {
     private final MRetryPolicy noRetryPolicy;
     private final MobileApiMessages mobileApiMessages;
     private final MessageStoreWrapper messageStoreWrapper;
-    private final JsonSerializer jsonSerializer;
+    private final MoMessageOutbox outbox;
 
     abstract class Task extends MRetryableTask<Message, Message[]> {
         @Override
         public Message[] run(Message[] messages) {
-            if (StringUtils.isBlank(mobileMessagingCore.getPushRegistrationId())) {
-                MobileMessagingLogger.w("Can't send messages without valid registration");
-                throw InternalSdkError.NO_VALID_REGISTRATION.getException();
+            return sendMO(messages);
+        }
+    }
+
+    /**
+     * Sends one batch claimed from the outbox. The batch is claimed once, so retries resend the same messages.
+     */
+    class OutboxTask extends MRetryableTask<Void, Message[]> {
+        private List<MoMessageOutbox.Entry> batch;
+
+        @Override
+        public Message[] run(Void[] ignored) {
+            if (batch == null) {
+                outbox.removeCreatedBefore(Time.now() - MESSAGE_MAX_RETRY_LIFETIME);
+                batch = outbox.claim(MO_BATCH_SIZE);
+            }
+            if (batch.isEmpty()) {
+                return new Message[0];
+            }
+
+            List<Message> messages = new ArrayList<>(batch.size());
+            for (MoMessageOutbox.Entry entry : batch) {
+                messages.add(entry.getMessage());
+            }
+            return sendMO(messages.toArray(new Message[0]));
+        }
+
+        @Override
+        public void afterBackground(Message[] sentMessages) {
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            Set<String> confirmedIds = new HashSet<>(sentMessages.length);
+            for (Message message : sentMessages) {
+                confirmedIds.add(message.getMessageId());
+            }
+            List<MoMessageOutbox.Entry> unconfirmed = new ArrayList<>();
+            for (MoMessageOutbox.Entry entry : batch) {
+                if (!confirmedIds.contains(entry.getMessageId())) {
+                    unconfirmed.add(entry);
+                }
+            }
+            outbox.ack(confirmedIds);
+            outbox.release(unconfirmed);
+        }
+
+        @Override
+        public void after(Message[] sentMessages) {
+            if (batch.size() == MO_BATCH_SIZE) {
+                sync();
             }
+        }
 
-            MoMessagesBody moMessagesBody = MoMessageMapper.body(mobileMessagingCore.getPushRegistrationId(), messages);
+        @Override
+        public void error(Throwable error) {
+            MobileMessagingLogger.e("MobileMessaging API returned error (sending messages in retry)! ", error);
 
-            MobileMessagingLogger.v("SEND MO >>>", moMessagesBody);
-            MoMessagesResponse moMessagesResponse = mobileApiMessages.sendMO(moMessagesBody);
-            MobileMessagingLogger.v("SEND MO DONE <<<", moMessagesResponse);
+            stats.reportError(MobileMessagingStatsError.MESSAGE_SEND_ERROR);
+            broadcaster.error(MobileMessagingError.createFrom(error));
 
-            return MoMessageMapper.messages(moMessagesResponse);
+            if (batch != null) {
+                executor.execute(() -> outbox.release(batch));
+            }
         }
     }
 
     public MoMessageSender(Context context, MobileMessagingCore mobileMessagingCore, Broadcaster broadcaster, Executor executor, MobileMessagingStats stats, MRetryPolicy retryPolicy, MobileApiMessages mobileApiMessages, MessageStoreWrapper messageStoreWrapper) {
-        this.context = context;
+        this(context, mobileMessagingCore, broadcaster, executor, stats, retryPolicy, mobileApiMessages, messageStoreWrapper,
+                new MoMessageOutbox(MobileMessagingCore.getDatabaseProvider(context)));
+    }
+
+    public MoMessageSender(Context context, MobileMessagingCore mobileMessagingCore, Broadcaster broadcaster, Executor executor, MobileMessagingStats stats, MRetryPolicy retryPolicy, MobileApiMessages mobileApiMessages, MessageStoreWrapper messageStoreWrapper, MoMessageOutbox outbox) {
         this.mobileMessagingCore = mobileMessagingCore;
         this.broadcaster = broadcaster;
         this.executor = executor;
         this.stats = stats;
         this.retryPolicy = retryPolicy;
         this.mobileApiMessages = mobileApiMessages;
-        this.jsonSerializer = new JsonSerializer(false);
         this.messageStoreWrapper = messageStoreWrapper;
+        this.outbox = outbox;
         this.noRetryPolicy = new MRetryPolicy.Builder()
                 .withMaxRetries(0)
                 .build();
@@ -126,69 +184,37 @@ public class MoMessageSender {
             }
         }
         .retryWith(noRetryPolicy)
+        .withPriority(SdkExecutor.Priority.USER_INITIATED)
         .execute(executor, messages);
     }
 
-    public void sendWithRetry(Message... messages) {
-        saveMessages(messages);
-        sync();
-    }
-
-    public void sync() {
-        Message[] messages = getAndRemoveMessages();
-        if (messages.length == 0) {
-            return;
+    private Message[] sendMO(Message[] messages) {
+        if (StringUtils.isBlank(mobileMessagingCore.getPushRegistrationId())) {
+            MobileMessagingLogger.w("Can't send messages without valid registration");
+            throw InternalSdkError.NO_VALID_REGISTRATION.getException();
         }
 
-        new Task() {
-
-            @Override
-            public void error(Message[] messages, Throwable error) {
-                MobileMessagingLogger.e("MobileMessaging API returned error (sending messages in retry)! ", error);
-
-                stats.reportError(MobileMessagingStatsError.MESSAGE_SEND_ERROR);
-                broadcaster.error(MobileMessagingError.createFrom(error));
-
-                saveMessages(messages);
-            }
-        }
-        .retryWith(retryPolicy)
-        .execute(executor, messages);
-    }
+        MoMessagesBody moMessagesBody = MoMessageMapper.body(mobileMessagingCore.getPushRegistrationId(), messages);
 
-    private void saveMessages(Message... messages) {
-        String[] jsons = messagesToJson(excludeOutdatedMessages(messages));
-        PreferenceHelper.appendToStringArray(context, MobileMessagingProperty.UNSENT_MO_MESSAGES, jsons);
-    }
+        MobileMessagingLogger.v("SEND MO >>>", moMessagesBody);
+        MoMessagesResponse moMessagesResponse = mobileApiMessages.sendMO(moMessagesBody);
+        MobileMessagingLogger.v("SEND MO DONE <<<", moMessagesResponse);
 
-    private Message[] getAndRemoveMessages() {
-        String[] jsons = PreferenceHelper.findAndRemoveStringArray(context, MobileMessagingProperty.UNSENT_MO_MESSAGES);
-        Message[] messages = messagesFromJson(jsons);
-        return excludeOutdatedMessages(messages);
+        return MoMessageMapper.messages(moMessagesResponse);
     }
 
-    private String[] messagesToJson(Message... messages) {
-        if (messages == null || messages.length == 0) {
-            return new String[0];
-        }
-
-        List<String> jsons = new ArrayList<>(messages.length);
-        for (Message message : messages) {
-            jsons.add(jsonSerializer.serialize(message));
-        }
-        return jsons.toArray(new String[0]);
+    public void sendWithRetry(Message... messages) {
+        outbox.enqueue(excludeOutdatedMessages(messages));
+        sync();
     }
 
-    private Message[] messagesFromJson(String... jsons) {
-        if (jsons == null || jsons.length == 0) {
-            return new Message[0];
-        }
-
-        List<Message> messages = new ArrayList<>(jsons.length);
-        for (String json : jsons) {
-            messages.add(jsonSerializer.deserialize(json, Message.class));
-        }
-        return messages.toArray(new Message[0]);
+    /**
+     * Sends messages from the outbox in batches of {@link #MO_BATCH_SIZE}, until there are no more messages due for sending
+     */
+    public void sync() {
+        new OutboxTask()
+                .retryWith(retryPolicy)
+                .execute(executor);
     }
 
     private Message[] excludeOutdatedMessages(Message[] messages) {
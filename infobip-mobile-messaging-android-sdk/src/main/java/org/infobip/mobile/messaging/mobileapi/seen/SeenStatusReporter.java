@@ -34,6 +34,7 @@ public class SeenStatusReporter {
     private final Broadcaster broadcaster;
     private final MobileApiMessages mobileApiMessages;
     private final BatchReporter batchReporter;
+    private final Runnable reportTask = this::report;
 
     public SeenStatusReporter(
             MobileMessagingCore mobileMessagingCore,
@@ -57,46 +58,49 @@ public class SeenStatusReporter {
             return;
         }
 
-        batchReporter.put(new Runnable() {
-            @Override
-            public void run() {
-                new MAsyncTask<Void, String[]>() {
-                    @Override
-                    public String[] run(Void[] voids) {
+        batchReporter.put(reportTask);
+    }
 
-                        if (StringUtils.isBlank(mobileMessagingCore.getPushRegistrationId())) {
-                            MobileMessagingLogger.w("Can't report seen status without valid registration");
-                            throw InternalSdkError.NO_VALID_REGISTRATION.getException();
-                        }
+    private void report() {
+        new MAsyncTask<Void, String[]>() {
+            @Override
+            public String[] run(Void[] voids) {
 
-                        String[] messageIDs = mobileMessagingCore.getUnreportedSeenMessageIds();
-                        if (messageIDs.length == 0) {
-                            return messageIDs;
-                        }
+                if (StringUtils.isBlank(mobileMessagingCore.getPushRegistrationId())) {
+                    MobileMessagingLogger.w("Can't report seen status without valid registration");
+                    throw InternalSdkError.NO_VALID_REGISTRATION.getException();
+                }
 
-                        SeenMessages seenMessages = SeenMessagesMapper.fromMessageIds(messageIDs);
-                        MobileMessagingLogger.v("SEEN STATUS REPORT >>>", seenMessages);
-                        mobileApiMessages.reportSeen(seenMessages);
-                        MobileMessagingLogger.v("SEEN STATUS REPORT DONE <<<");
-                        mobileMessagingCore.removeUnreportedSeenMessageIds(messageIDs);
-                        return messageIDs;
-                    }
+                String[] messageIDs = mobileMessagingCore.getUnreportedSeenMessageIds();
+                if (messageIDs.length == 0) {
+                    return messageIDs;
+                }
 
-                    @Override
-                    public void after(String[] messageIdsWithTimestamp) {
-                        String[] seenMessageIdsFromReports = mobileMessagingCore.getSeenMessageIdsFromReports(messageIdsWithTimestamp).toArray(new String[0]);
-                        broadcaster.seenStatusReported(seenMessageIdsFromReports);
-                    }
+                SeenMessages seenMessages = SeenMessagesMapper.fromMessageIds(messageIDs);
+                MobileMessagingLogger.v("SEEN STATUS REPORT >>>", seenMessages);
+                mobileApiMessages.reportSeen(seenMessages);
+                MobileMessagingLogger.v("SEEN STATUS REPORT DONE <<<");
+                mobileMessagingCore.removeUnreportedSeenMessageIds(messageIDs);
+                return messageIDs;
+            }
 
-                    @Override
-                    public void error(Throwable error) {
-                        MobileMessagingLogger.e("SEEN STATUS REPORT ERROR <<<", error);
-                        stats.reportError(MobileMessagingStatsError.SEEN_REPORTING_ERROR);
-                        broadcaster.error(MobileMessagingError.createFrom(error));
-                    }
+            @Override
+            public void after(String[] messageIdsWithTimestamp) {
+                String[] seenMessageIdsFromReports = mobileMessagingCore.getSeenMessageIdsFromReports(messageIdsWithTimestamp).toArray(new String[0]);
+                broadcaster.seenStatusReported(seenMessageIdsFromReports);
+                if (messageIdsWithTimestamp.length == MobileMessagingCore.REPORT_BATCH_SIZE) {
+                    // batch was full, drain the next one
+                    sync();
                 }
-                .execute(executor);
             }
-        });
+
+            @Override
+            public void error(Throwable error) {
+                MobileMessagingLogger.e("SEEN STATUS REPORT ERROR <<<", error);
+                stats.reportError(MobileMessagingStatsError.SEEN_REPORTING_ERROR);
+                broadcaster.error(MobileMessagingError.createFrom(error));
+            }
+        }
+        .execute(executor);
     }
 }
@@ -32,6 +32,7 @@ import org.infobip.mobile.messaging.mobileapi.common.MRetryPolicy;
 import org.infobip.mobile.messaging.mobileapi.common.MRetryableTask;
 import org.infobip.mobile.messaging.mobileapi.common.exceptions.BackendInvalidParameterException;
 import org.infobip.mobile.messaging.platform.Broadcaster;
+import org.infobip.mobile.messaging.platform.SdkExecutor;
 import org.infobip.mobile.messaging.util.StringUtils;
 
 import java.util.concurrent.Executor;
@@ -44,6 +45,7 @@ public class PersonalizeSynchronizer {
     private final MobileApiUserData mobileApiUserData;
     private final Executor executor;
     private final BatchReporter batchReporter;
+    private final Runnable depersonalizeTask = this::depersonalizeNow;
     private final MRetryPolicy policy;
     private final DepersonalizeServerListener serverListener;
     private final DebouncingGuard debouncingGuard;
@@ -130,6 +132,7 @@ public class PersonalizeSynchronizer {
             public void after(UserBody userResponse) {
                 User user = UserMapper.fromBackend(userResponse);
                 MobileMessagingLogger.v("PERSONALIZE DONE <<<");
+                mobileMessagingCore.resetAcknowledgedUserFields(user.getMap());
                 mobileMessagingCore.setUserDataReported(user, true);
                 broadcaster.personalized(user);
 
@@ -156,47 +159,47 @@ public class PersonalizeSynchronizer {
             }
         }
                 .retryWith(policy)
+                .withPriority(SdkExecutor.Priority.USER_INITIATED)
                 .execute(executor, userPersonalizeBody);
     }
 
     public void depersonalize() {
-        batchReporter.put(new Runnable() {
+        batchReporter.put(depersonalizeTask);
+    }
+
+    private void depersonalizeNow() {
+        new MRetryableTask<String, Void>() {
+
             @Override
-            public void run() {
-                new MRetryableTask<String, Void>() {
-
-                    @Override
-                    public Void run(String[] pushRegIds) {
-                        MobileMessagingLogger.v("DEPERSONALIZE >>>");
-                        mobileApiAppInstance.depersonalize(pushRegIds[0]);
-                        return null;
-                    }
-
-                    @Override
-                    public void before() {
-                        serverListener.onServerDepersonalizeStarted();
-                    }
-
-                    @Override
-                    public void after(Void aVoid) {
-                        MobileMessagingLogger.v("DEPERSONALIZE DONE <<<");
-                        serverListener.onServerDepersonalizeCompleted();
-                        broadcaster.depersonalized();
-                    }
-
-                    @Override
-                    public void error(Throwable error) {
-                        MobileMessagingLogger.e("DEPERSONALIZE ERROR <<<", error);
-                        MobileMessagingError mobileMessagingError = MobileMessagingError.createFrom(error);
-                        serverListener.onServerDepersonalizeFailed(error);
-                        broadcaster.error(mobileMessagingError);
-                        mobileMessagingCore.handleNoRegistrationError(mobileMessagingError);
-                    }
-                }
-                        .retryWith(policy)
-                        .execute(executor, mobileMessagingCore.getPushRegistrationId());
+            public Void run(String[] pushRegIds) {
+                MobileMessagingLogger.v("DEPERSONALIZE >>>");
+                mobileApiAppInstance.depersonalize(pushRegIds[0]);
+                return null;
+            }
+
+            @Override
+            public void before() {
+                serverListener.onServerDepersonalizeStarted();
+            }
+
+            @Override
+            public void after(Void aVoid) {
+                MobileMessagingLogger.v("DEPERSONALIZE DONE <<<");
+                serverListener.onServerDepersonalizeCompleted();
+                broadcaster.depersonalized();
+            }
+
+            @Override
+            public void error(Throwable error) {
+                MobileMessagingLogger.e("DEPERSONALIZE ERROR <<<", error);
+                MobileMessagingError mobileMessagingError = MobileMessagingError.createFrom(error);
+                serverListener.onServerDepersonalizeFailed(error);
+                broadcaster.error(mobileMessagingError);
+                mobileMessagingCore.handleNoRegistrationError(mobileMessagingError);
             }
-        });
+        }
+                .retryWith(policy)
+                .execute(executor, mobileMessagingCore.getPushRegistrationId());
     }
 
     public void depersonalize(String unreportedDepersonalizedPushRegId, final DepersonalizeActionListener actionListener) {
@@ -312,6 +315,7 @@ public class PersonalizeSynchronizer {
             @Override
             public void after(Void aVoid) {
                 mobileMessagingCore.setShouldRepersonalize(false);
+                mobileMessagingCore.resetAcknowledgedUserFields(null);
                 mobileMessagingCore.setUserDataReported(new User(userIdentity, userAttributes), true);
 
                 User userToReturn = mobileMessagingCore.getUser();
@@ -24,12 +24,14 @@ import org.infobip.mobile.messaging.mobileapi.DebouncingGuard;
 import org.infobip.mobile.messaging.mobileapi.InternalSdkError;
 import org.infobip.mobile.messaging.mobileapi.MobileMessagingError;
 import org.infobip.mobile.messaging.mobileapi.Result;
+import org.infobip.mobile.messaging.mobileapi.SingleFlight;
 import org.infobip.mobile.messaging.mobileapi.common.MRetryPolicy;
 import org.infobip.mobile.messaging.mobileapi.common.MRetryableTask;
 import org.infobip.mobile.messaging.mobileapi.common.RetryPolicyProvider;
 import org.infobip.mobile.messaging.mobileapi.common.exceptions.BackendBaseExceptionWithContent;
 import org.infobip.mobile.messaging.mobileapi.common.exceptions.BackendInvalidParameterException;
 import org.infobip.mobile.messaging.platform.Broadcaster;
+import org.infobip.mobile.messaging.platform.SdkExecutor;
 import org.infobip.mobile.messaging.stats.MobileMessagingStats;
 import org.infobip.mobile.messaging.stats.MobileMessagingStatsError;
 import org.infobip.mobile.messaging.util.StringUtils;
@@ -49,8 +51,13 @@ public class UserDataReporter {
     private final MobileApiUserData mobileApiUserData;
     private final RetryPolicyProvider retryPolicyProvider;
     private final DebouncingGuard debouncingGuard;
+    private final SingleFlight singleFlight;
 
     public UserDataReporter(MobileMessagingCore mobileMessagingCore, Executor executor, Broadcaster broadcaster, RetryPolicyProvider retryPolicyProvider, MobileMessagingStats stats, MobileApiUserData mobileApiUserData, DebouncingGuard debouncingGuard) {
+        this(mobileMessagingCore, executor, broadcaster, retryPolicyProvider, stats, mobileApiUserData, debouncingGuard, new SingleFlight());
+    }
+
+    public UserDataReporter(MobileMessagingCore mobileMessagingCore, Executor executor, Broadcaster broadcaster, RetryPolicyProvider retryPolicyProvider, MobileMessagingStats stats, MobileApiUserData mobileApiUserData, DebouncingGuard debouncingGuard, SingleFlight singleFlight) {
         this.executor = executor;
         this.broadcaster = broadcaster;
         this.mobileMessagingCore = mobileMessagingCore;
@@ -58,6 +65,7 @@ public class UserDataReporter {
         this.retryPolicyProvider = retryPolicyProvider;
         this.mobileApiUserData = mobileApiUserData;
         this.debouncingGuard = debouncingGuard;
+        this.singleFlight = singleFlight;
     }
 
     public void patch(final MobileMessaging.ResultListener listener, final User user) {
@@ -75,7 +83,8 @@ public class UserDataReporter {
             return;
         }
 
-        if (!debouncingGuard.shouldAllow(patch, user.getMap())) {
+        // same data in flight is joined below, debouncing only drops repeats of completed patches
+        if (!singleFlight.isInFlight(SingleFlight.Operation.userDataPatch) && !debouncingGuard.shouldAllow(patch, user.getMap())) {
             MobileMessagingLogger.v("PATCH USER DROPPED - duplicate within debounce window");
             if (listener != null) {
                 listener.onResult(new Result(mobileMessagingCore.getUser()));
@@ -100,16 +109,40 @@ public class UserDataReporter {
             return;
         }
 
+        final Map<String, Object> changedFields = mobileMessagingCore.getAcknowledgedUserFields().changes(user.getMap());
+        if (changedFields.isEmpty()) {
+            MobileMessagingLogger.v("PATCH USER SKIPPED - no changes since last acknowledged");
+            mobileMessagingCore.setUserDataReported(user, true);
+            if (listener != null) {
+                listener.onResult(new Result(mobileMessagingCore.getUser()));
+            }
+            return;
+        }
+
         String header = getAuthorizationHeader(mobileMessagingCore, listener);
         if (header == null) {
             return;
         }
 
+        final MRetryPolicy retryPolicy = retryPolicy(listener);
+        final SdkExecutor.Priority priority = priority(listener);
+        singleFlight.execute(SingleFlight.Operation.userDataPatch, changedFields,
+                completion -> patchUser(user, pushRegistrationId, header, retryPolicy, priority, completion), listener);
+    }
+
+    private void patchUser(final User user, final String pushRegistrationId, final String header, MRetryPolicy retryPolicy, SdkExecutor.Priority priority, final MobileMessaging.ResultListener completion) {
         new MRetryableTask<User, Void>() {
 
+            private Map<String, Object> request = new HashMap<>();
+
             @Override
             public Void run(User[] userData) {
-                final Map<String, Object> request = new HashMap<>(userData[0].getMap());
+                // compared when sent, a patch queued behind the one in flight sends only what that one did not
+                request = new HashMap<>(mobileMessagingCore.getAcknowledgedUserFields().changes(userData[0].getMap()));
+                if (request.isEmpty()) {
+                    MobileMessagingLogger.v("USER DATA SKIPPED - no changes since last acknowledged");
+                    return null;
+                }
                 MobileMessagingLogger.v("USER DATA >>>", request);
                 mobileApiUserData.patchUser(pushRegistrationId, header, request);
                 MobileMessagingLogger.v("USER DATA DONE <<<");
@@ -118,17 +151,21 @@ public class UserDataReporter {
 
             @Override
             public void after(Void aVoid) {
+                mobileMessagingCore.acknowledgeUserFields(request);
+
+                // changes saved while the request was in flight are kept to be patched next
+                User pendingUser = mobileMessagingCore.getUnreportedUserData();
                 mobileMessagingCore.setUserDataReported(user, true);
+                if (pendingUser != null && !mobileMessagingCore.getAcknowledgedUserFields().changes(pendingUser.getMap()).isEmpty()) {
+                    mobileMessagingCore.saveUnreportedUserData(pendingUser);
+                }
 
                 User userToReturn = filterOutDeletedData(user);
                 if (mobileMessagingCore.shouldSaveUserData()) {
                     userToReturn = mobileMessagingCore.getUser();
                 }
                 broadcaster.userUpdated(userToReturn);
-
-                if (listener != null) {
-                    listener.onResult(new Result(userToReturn));
-                }
+                completion.onResult(new Result(userToReturn));
             }
 
             @Override
@@ -136,13 +173,11 @@ public class UserDataReporter {
                 MobileMessagingLogger.e("USER DATA ERROR <<<", error);
                 stats.reportError(MobileMessagingStatsError.USER_DATA_SYNC_ERROR);
                 MobileMessagingError mobileMessagingError = MobileMessagingError.createFrom(error);
-
-                if (listener != null) {
-                    listener.onResult(new Result(mobileMessagingCore.getUser(), mobileMessagingError));
-                }
+                completion.onResult(new Result(mobileMessagingCore.getUser(), mobileMessagingError));
 
                 if (error instanceof BackendBaseExceptionWithContent) {
                     BackendBaseExceptionWithContent errorWithContent = (BackendBaseExceptionWithContent) error;
+                    mobileMessagingCore.resetAcknowledgedUserFields(null);
                     mobileMessagingCore.setUserDataReported(errorWithContent.getContent(User.class), true);
                 } else if (error instanceof BackendInvalidParameterException) {
                     mobileMessagingCore.handleNoRegistrationError(mobileMessagingError);
@@ -154,7 +189,8 @@ public class UserDataReporter {
                 broadcaster.error(mobileMessagingError);
             }
         }
-                .retryWith(retryPolicy(listener))
+                .retryWith(retryPolicy)
+                .withPriority(priority)
                 .execute(executor, user);
     }
 
@@ -168,7 +204,7 @@ public class UserDataReporter {
             return;
         }
 
-        if (!debouncingGuard.shouldAllow(fetch, null)) {
+        if (!singleFlight.isInFlight(SingleFlight.Operation.userDataFetch) && !debouncingGuard.shouldAllow(fetch, null)) {
             MobileMessagingLogger.v("FETCH USER DROPPED - within debounce window");
             if (listener != null) {
                 listener.onResult(new Result(mobileMessagingCore.getUser()));
@@ -181,6 +217,13 @@ public class UserDataReporter {
             return;
         }
 
+        final MRetryPolicy retryPolicy = retryPolicy(listener);
+        final SdkExecutor.Priority priority = priority(listener);
+        singleFlight.execute(SingleFlight.Operation.userDataFetch, null,
+                completion -> fetchUser(header, retryPolicy, priority, completion), listener);
+    }
+
+    private void fetchUser(final String header, MRetryPolicy retryPolicy, SdkExecutor.Priority priority, final MobileMessaging.ResultListener completion) {
         new MRetryableTask<Void, UserBody>() {
             @Override
             public UserBody run(Void[] aVoid) {
@@ -193,14 +236,12 @@ public class UserDataReporter {
             @Override
             public void after(UserBody userResponse) {
                 User user = UserMapper.fromBackend(userResponse);
+                mobileMessagingCore.resetAcknowledgedUserFields(user.getMap());
                 mobileMessagingCore.setUserDataReported(user, false);
                 mobileMessagingCore.setShouldRepersonalize(false);
 
                 saveLatestPrimaryToMyInstallation(user);
-
-                if (listener != null) {
-                    listener.onResult(new Result(user));
-                }
+                completion.onResult(new Result(user));
             }
 
             @Override
@@ -210,13 +251,11 @@ public class UserDataReporter {
 
                 MobileMessagingError mobileMessagingError = MobileMessagingError.createFrom(error);
                 mobileMessagingCore.handleNoRegistrationError(mobileMessagingError);
-
-                if (listener != null) {
-                    listener.onResult(new Result(mobileMessagingCore.getUser(), mobileMessagingError));
-                }
+                completion.onResult(new Result(mobileMessagingCore.getUser(), mobileMessagingError));
             }
         }
-                .retryWith(retryPolicy(listener))
+                .retryWith(retryPolicy)
+                .withPriority(priority)
                 .execute(executor);
     }
 
@@ -236,4 +275,8 @@ public class UserDataReporter {
         return listener == null && mobileMessagingCore.shouldSaveUserData() ?
                 retryPolicyProvider.DEFAULT() : retryPolicyProvider.NO_RETRY();
     }
+
+    private SdkExecutor.Priority priority(MobileMessaging.ResultListener listener) {
+        return listener != null ? SdkExecutor.Priority.USER_INITIATED : SdkExecutor.Priority.BACKGROUND;
+    }
 }
@@ -15,9 +15,9 @@ import android.content.Context;
 import android.content.Intent;
 import android.content.pm.PackageManager;
 import android.graphics.Bitmap;
-import android.graphics.BitmapFactory;
 import android.net.Uri;
 import android.os.Build;
+import android.util.DisplayMetrics;
 
 import org.infobip.mobile.messaging.ConfigurationException;
 import org.infobip.mobile.messaging.Message;
@@ -29,16 +29,15 @@ import org.infobip.mobile.messaging.OpenLivechatAction;
 import org.infobip.mobile.messaging.app.ActivityLifecycleMonitor;
 import org.infobip.mobile.messaging.app.ContentIntentWrapper;
 import org.infobip.mobile.messaging.dal.bundle.MessageBundleMapper;
+import org.infobip.mobile.messaging.image.ImageLoader;
 import org.infobip.mobile.messaging.logging.MobileMessagingLogger;
 import org.infobip.mobile.messaging.util.DomainHelper;
 import org.infobip.mobile.messaging.util.PreferenceHelper;
 import org.infobip.mobile.messaging.util.ResourceLoader;
 import org.infobip.mobile.messaging.util.StringUtils;
 
-import java.io.InputStream;
-import java.net.HttpURLConnection;
-import java.net.URL;
 import java.util.ArrayList;
+import java.util.List;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
@@ -46,7 +45,6 @@ import androidx.annotation.VisibleForTesting;
 import androidx.arch.core.util.Function;
 import androidx.core.app.NotificationCompat;
 import androidx.core.content.ContextCompat;
-import androidx.core.graphics.BitmapCompat;
 
 import static org.infobip.mobile.messaging.BroadcastParameter.EXTRA_MESSAGE;
 
@@ -57,6 +55,16 @@ import static org.infobip.mobile.messaging.BroadcastParameter.EXTRA_MESSAGE;
 public class BaseNotificationHandler {
 
     private static final int DEFAULT_NOTIFICATION_ID = 0;
+    private static final String SUMMARY_GROUP_KEY = "org.infobip.mobile.messaging.SYNCED_MESSAGES";
+    private static final int SUMMARY_NOTIFICATION_ID = SUMMARY_GROUP_KEY.hashCode();
+    private static final int MAX_SUMMARY_LINES = 5;
+    // pushes are displayed from the FCM callback, which has only a few seconds before the process may be stopped
+    private static final long NOTIFICATION_PICTURE_TIMEOUT_MILLIS = 3000;
+
+    /**
+     * Minimal number of messages received together for which notifications are grouped under a summary
+     */
+    public static final int MIN_MESSAGES_FOR_SUMMARY = 3;
 
     private final Context context;
 
@@ -109,6 +117,76 @@ public class BaseNotificationHandler {
         }
     }
 
+    /**
+     * Checks whether notifications for messages received together should be grouped under a summary notification.
+     * Grouping is only used when multiple notifications are enabled, otherwise each notification replaces the previous one anyway.
+     *
+     * @param messages messages received together
+     * @return true if notifications should be grouped
+     * @see #addToSummaryGroup(NotificationCompat.Builder)
+     * @see #displaySummaryNotification(List)
+     */
+    public boolean shouldGroupNotifications(List<Message> messages) {
+        if (messages == null || messages.size() < MIN_MESSAGES_FOR_SUMMARY) {
+            return false;
+        }
+
+        NotificationSettings notificationSettings = MobileMessagingCore.getInstance(context).getNotificationSettings();
+        return notificationSettings != null && notificationSettings.areMultipleNotificationsEnabled();
+    }
+
+    /**
+     * Adds notification to the group of the summary notification. Grouped notifications do not alert on their own,
+     * only the summary does.
+     *
+     * @param builder builder of notification to group
+     */
+    public void addToSummaryGroup(NotificationCompat.Builder builder) {
+        if (builder == null) return;
+
+        builder.setGroup(SUMMARY_GROUP_KEY)
+                .setGroupAlertBehavior(NotificationCompat.GROUP_ALERT_SUMMARY);
+    }
+
+    /**
+     * Displays single summary notification for messages which notifications were grouped.
+     *
+     * @param messages messages with displayed notifications, the last one is the most recent
+     * @return true if summary was displayed
+     * @see #addToSummaryGroup(NotificationCompat.Builder)
+     */
+    public boolean displaySummaryNotification(List<Message> messages) {
+        if (messages == null || messages.isEmpty()) return false;
+
+        Message latest = messages.get(messages.size() - 1);
+        NotificationSettings notificationSettings = notificationSettings(latest);
+        if (notificationSettings == null) return false;
+
+        NotificationCompat.InboxStyle style = new NotificationCompat.InboxStyle();
+        for (int i = messages.size() - 1; i >= Math.max(0, messages.size() - MAX_SUMMARY_LINES); i--) {
+            style.addLine(messages.get(i).getBody());
+        }
+
+        NotificationCompat.Builder builder = new NotificationCompat.Builder(context, getChannelIdForNotification(notificationSettings, latest))
+                .setContentTitle(notificationSettings.getDefaultTitle())
+                .setContentText(latest.getBody())
+                .setColor(notificationSettings.getColor())
+                .setAutoCancel(notificationSettings.isNotificationAutoCancel())
+                .setContentIntent(createTapPendingIntent(notificationSettings, latest))
+                .setWhen(latest.getReceivedTimestamp())
+                .setNumber(messages.size())
+                .setStyle(style)
+                .setGroup(SUMMARY_GROUP_KEY)
+                .setGroupSummary(true)
+                .setGroupAlertBehavior(NotificationCompat.GROUP_ALERT_SUMMARY);
+
+        setNotificationSoundAndVibrate(builder, latest);
+        setNotificationIcon(builder, latest);
+        setNotificationPriority(builder, notificationSettings, latest);
+
+        return displayNotification(builder, latest, SUMMARY_NOTIFICATION_ID);
+    }
+
     /**
      * Gets notification builder for Message.
      *
@@ -169,62 +247,15 @@ public class BaseNotificationHandler {
                         .setSummaryText(body));
     }
 
-    @Nullable
-    private static Bitmap downloadBitmap(@NonNull String contentUrl) {
-        try {
-            URL url = new URL(contentUrl);
-            HttpURLConnection connection = (HttpURLConnection) url.openConnection();
-            connection.setDoInput(true);
-            connection.connect();
-            InputStream input = connection.getInputStream();
-            Bitmap bitmap = BitmapFactory.decodeStream(input);
-            input.close();
-            return validateBitmap(bitmap);
-
-        } catch (Exception e) {
-            MobileMessagingLogger.e("Could not fetch image", e);
-            return null;
-        }
-    }
-
-    private static @Nullable
-    Bitmap validateBitmap(@Nullable Bitmap bitmap) {
-        if (bitmap == null) {
-            return null;
-        }
-
-        if (bitmap.getWidth() == 0
-                || bitmap.getHeight() == 0
-                || isBitmapEmpty(bitmap)) {
-
-            MobileMessagingLogger.w("Got empty or malformed Bitmap, ignoring it");
-            return null;
-        }
-
-        return bitmap;
-    }
-
-    /**
-     * Same code as in {@link BitmapCompat#getAllocationByteCount(Bitmap)} to avoid compat dependencies
-     */
-    private static boolean isBitmapEmpty(@NonNull Bitmap bitmap) {
-        return bitmap.getAllocationByteCount() == 0;
-    }
-
     @Nullable
     @VisibleForTesting
     Bitmap fetchNotificationPicture(String contentUrl) {
         if (contentUrl == null) return null;
 
-        int maxRetries = PreferenceHelper.findInt(context, MobileMessagingProperty.DEFAULT_MAX_RETRY_COUNT);
-        for (int i = 0; i < maxRetries; i++) {
-            Bitmap bitmap = downloadBitmap(contentUrl);
-            if (bitmap != null) {
-                return bitmap;
-            }
-        }
-
-        return null;
+        // big picture style shows the picture in full width, cropped to 2:1
+        DisplayMetrics displayMetrics = context.getResources().getDisplayMetrics();
+        int width = Math.min(displayMetrics.widthPixels, displayMetrics.heightPixels);
+        return ImageLoader.getInstance(context).load(contentUrl, width, width / 2, NOTIFICATION_PICTURE_TIMEOUT_MILLIS);
     }
 
     @SuppressWarnings("WrongConstant")
@@ -9,6 +9,8 @@ package org.infobip.mobile.messaging.notification;
 
 import org.infobip.mobile.messaging.Message;
 
+import java.util.List;
+
 /**
  * @author sslavin
  * @since 30/05/2017.
@@ -24,6 +26,21 @@ public interface NotificationHandler {
      */
     int displayNotification(Message message);
 
+    /**
+     * Displays native android notifications for messages received together.
+     * Default implementation displays each message with {@link #displayNotification(Message)}.
+     * @param messages messages to display notifications for, ordered from the oldest to the newest.
+     *
+     * @return notification IDs in the same order as messages. -1 for notifications that weren't displayed
+     */
+    default int[] displayNotifications(List<Message> messages) {
+        int[] notificationIds = new int[messages.size()];
+        for (int i = 0; i < notificationIds.length; i++) {
+            notificationIds[i] = displayNotification(messages.get(i));
+        }
+        return notificationIds;
+    }
+
     /**
      * Cancels all outstanding notifications.
      */
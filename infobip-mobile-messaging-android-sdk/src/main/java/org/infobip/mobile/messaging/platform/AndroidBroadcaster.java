@@ -16,15 +16,23 @@ import org.infobip.mobile.messaging.Event;
 import org.infobip.mobile.messaging.Installation;
 import org.infobip.mobile.messaging.InstallationMapper;
 import org.infobip.mobile.messaging.Message;
+import org.infobip.mobile.messaging.MobileMessagingEventListener;
+import org.infobip.mobile.messaging.MobileMessagingProperty;
 import org.infobip.mobile.messaging.User;
 import org.infobip.mobile.messaging.UserMapper;
 import org.infobip.mobile.messaging.dal.bundle.MessageBundleMapper;
 import org.infobip.mobile.messaging.logging.MobileMessagingLogger;
 import org.infobip.mobile.messaging.mobileapi.MobileMessagingError;
+import org.infobip.mobile.messaging.util.PreferenceHelper;
 
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.localbroadcastmanager.content.LocalBroadcastManager;
 
 /**
@@ -34,40 +42,65 @@ import androidx.localbroadcastmanager.content.LocalBroadcastManager;
 
 public class AndroidBroadcaster implements Broadcaster {
 
+    /**
+     * Puts event data into the broadcast intent, called only when the event is broadcast at all
+     */
+    private interface Extras {
+        void putInto(Intent intent);
+    }
+
+    private static final AtomicInteger broadcastEventsVersion = new AtomicInteger();
+
     private final Context context;
+    private Set<String> globalBroadcastEvents;
+    private Set<String> localBroadcastEvents;
+    private int loadedBroadcastEventsVersion = -1;
 
     public AndroidBroadcaster(@NonNull Context context) {
         this.context = context;
     }
 
+    /**
+     * Makes all broadcasters read the changed {@link MobileMessagingProperty#GLOBAL_BROADCAST_EVENTS}
+     * and {@link MobileMessagingProperty#LOCAL_BROADCAST_EVENTS} settings before their next broadcast
+     */
+    public static void broadcastEventsChanged() {
+        broadcastEventsVersion.incrementAndGet();
+    }
+
     @Override
     public void messageReceived(@NonNull Message message) {
-        send(prepare(Event.MESSAGE_RECEIVED)
+        EventListeners.deliver(listener -> listener.onMessageReceived(message));
+        send(Event.MESSAGE_RECEIVED, intent -> intent
                 .putExtras(MessageBundleMapper.messageToBundle(message)));
     }
 
     @Override
     public void notificationDisplayed(Message message, int notificationId) {
-        send(prepare(Event.NOTIFICATION_DISPLAYED)
+        EventListeners.deliver(listener -> listener.onNotificationDisplayed(message, notificationId));
+        send(Event.NOTIFICATION_DISPLAYED, intent -> intent
                 .putExtras(MessageBundleMapper.messageToBundle(message))
                 .putExtra(BroadcastParameter.EXTRA_NOTIFICATION_ID, notificationId));
     }
 
     @Override
     public void notificationTapped(Message message) {
-        send(prepare(Event.NOTIFICATION_TAPPED)
+        EventListeners.deliver(listener -> listener.onNotificationTapped(message));
+        send(Event.NOTIFICATION_TAPPED, intent -> intent
                 .putExtras(MessageBundleMapper.messageToBundle(message)));
     }
 
     @Override
     public void error(@NonNull MobileMessagingError error) {
-        send(prepare(Event.API_COMMUNICATION_ERROR)
+        EventListeners.deliver(listener -> listener.onError(error));
+        send(Event.API_COMMUNICATION_ERROR, intent -> intent
                 .putExtra(BroadcastParameter.EXTRA_EXCEPTION, error));
     }
 
     @Override
     public void tokenReceived(String cloudToken) {
-        send(prepare(Event.TOKEN_RECEIVED)
+        EventListeners.deliver(listener -> listener.onTokenReceived(cloudToken));
+        send(Event.TOKEN_RECEIVED, intent -> intent
                 .putExtra(BroadcastParameter.EXTRA_CLOUD_TOKEN, cloudToken));
     }
 
@@ -77,11 +110,12 @@ public class AndroidBroadcaster implements Broadcaster {
             return;
         }
 
-        Intent deliveryReportsSent = prepare(Event.DELIVERY_REPORTS_SENT);
-        Bundle extras = new Bundle();
-        extras.putStringArray(BroadcastParameter.EXTRA_MESSAGE_IDS, messageIds);
-        deliveryReportsSent.putExtras(extras);
-        send(deliveryReportsSent);
+        EventListeners.deliver(listener -> listener.onDeliveryReported(messageIds));
+        send(Event.DELIVERY_REPORTS_SENT, intent -> {
+            Bundle extras = new Bundle();
+            extras.putStringArray(BroadcastParameter.EXTRA_MESSAGE_IDS, messageIds);
+            intent.putExtras(extras);
+        });
     }
 
     @Override
@@ -90,57 +124,66 @@ public class AndroidBroadcaster implements Broadcaster {
             return;
         }
 
-        Intent seenReportsSent = prepare(Event.SEEN_REPORTS_SENT);
-        Bundle extras = new Bundle();
-        extras.putStringArray(BroadcastParameter.EXTRA_MESSAGE_IDS, messageIds);
-        seenReportsSent.putExtras(extras);
-        send(seenReportsSent);
+        EventListeners.deliver(listener -> listener.onSeenReported(messageIds));
+        send(Event.SEEN_REPORTS_SENT, intent -> {
+            Bundle extras = new Bundle();
+            extras.putStringArray(BroadcastParameter.EXTRA_MESSAGE_IDS, messageIds);
+            intent.putExtras(extras);
+        });
     }
 
     @Override
     public void messagesSent(List<Message> messages) {
-        send(prepare(Event.MESSAGES_SENT)
+        EventListeners.deliver(listener -> listener.onMessagesSent(messages));
+        send(Event.MESSAGES_SENT, intent -> intent
                 .putParcelableArrayListExtra(BroadcastParameter.EXTRA_MESSAGES, MessageBundleMapper.messagesToBundles(messages)));
     }
 
     @Override
     public void userUpdated(User user) {
-        send(prepare(Event.USER_UPDATED)
+        EventListeners.deliver(listener -> listener.onUserUpdated(user));
+        send(Event.USER_UPDATED, intent -> intent
                 .putExtras(UserMapper.toBundle(BroadcastParameter.EXTRA_USER, user)));
     }
 
     @Override
     public void installationUpdated(Installation installation) {
-        send(prepare(Event.INSTALLATION_UPDATED)
+        EventListeners.deliver(listener -> listener.onInstallationUpdated(installation));
+        send(Event.INSTALLATION_UPDATED, intent -> intent
                 .putExtras(InstallationMapper.toBundle(BroadcastParameter.EXTRA_INSTALLATION, installation)));
     }
 
     @Override
     public void registrationCreated(String cloudToken, String pushRegistrationId) {
-        send(prepare(Event.REGISTRATION_CREATED)
+        EventListeners.deliver(listener -> listener.onRegistrationCreated(cloudToken, pushRegistrationId));
+        send(Event.REGISTRATION_CREATED, intent -> intent
                 .putExtra(BroadcastParameter.EXTRA_CLOUD_TOKEN, cloudToken)
                 .putExtra(BroadcastParameter.EXTRA_INFOBIP_ID, pushRegistrationId));
     }
 
     @Override
     public void depersonalized() {
-        send(prepare(Event.DEPERSONALIZED));
+        EventListeners.deliver(MobileMessagingEventListener::onDepersonalized);
+        send(Event.DEPERSONALIZED, null);
     }
 
     @Override
     public void personalized(User user) {
-        send(prepare(Event.PERSONALIZED)
+        EventListeners.deliver(listener -> listener.onPersonalized(user));
+        send(Event.PERSONALIZED, intent -> intent
                 .putExtras(UserMapper.toBundle(BroadcastParameter.EXTRA_USER, user)));
     }
 
     @Override
     public void userSessionsReported() {
-        send(prepare(Event.USER_SESSIONS_SENT));
+        EventListeners.deliver(MobileMessagingEventListener::onUserSessionsReported);
+        send(Event.USER_SESSIONS_SENT, null);
     }
 
     @Override
     public void customEventsReported() {
-        send(prepare(Event.CUSTOM_EVENTS_SENT));
+        EventListeners.deliver(MobileMessagingEventListener::onCustomEventsReported);
+        send(Event.CUSTOM_EVENTS_SENT, null);
     }
 
     @Override
@@ -149,28 +192,68 @@ public class AndroidBroadcaster implements Broadcaster {
             return;
         }
 
-        Intent inAppClickReported = prepare(Event.IN_APP_CLICKS_REPORTED);
-        Bundle extras = new Bundle();
-        extras.putStringArray(BroadcastParameter.EXTRA_MESSAGE_IDS, clickUrls);
-        inAppClickReported.putExtras(extras);
-        send(inAppClickReported);
+        EventListeners.deliver(listener -> listener.onInAppClicksReported(clickUrls));
+        send(Event.IN_APP_CLICKS_REPORTED, intent -> {
+            Bundle extras = new Bundle();
+            extras.putStringArray(BroadcastParameter.EXTRA_MESSAGE_IDS, clickUrls);
+            intent.putExtras(extras);
+        });
     }
 
-    private void send(Intent intent) {
+    /**
+     * Broadcasts the event globally and locally, as enabled for the event. Intent is not created if the event is not broadcast at all.
+     */
+    private void send(Event event, @Nullable Extras extras) {
+        String action = event.getKey();
+        boolean global;
+        boolean local;
+        synchronized (this) {
+            loadBroadcastEvents();
+            global = isEnabled(globalBroadcastEvents, action);
+            local = isEnabled(localBroadcastEvents, action);
+        }
+        if (!global && !local) {
+            return;
+        }
+
         try {
-            context.sendBroadcast(intent);
-            LocalBroadcastManager.getInstance(context).sendBroadcast(intent);
+            Intent intent = new Intent(action)
+                    .setPackage(context.getPackageName());
+            if (extras != null) {
+                extras.putInto(intent);
+            }
+            if (global) {
+                context.sendBroadcast(intent);
+            }
+            if (local) {
+                LocalBroadcastManager.getInstance(context).sendBroadcast(intent);
+            }
         } catch (Exception ex) {
-            MobileMessagingLogger.e("Failed to send broadcast for action " + intent.getAction() + " due to exception " + ex.getMessage());
+            MobileMessagingLogger.e("Failed to send broadcast for action " + action + " due to exception " + ex.getMessage());
         }
     }
 
-    private Intent prepare(Event event) {
-        return prepare(event.getKey());
+    /**
+     * All events are broadcast unless the application limited broadcasts to specific events
+     */
+    private static boolean isEnabled(Set<String> enabledEvents, String action) {
+        return enabledEvents == null || enabledEvents.contains(action);
+    }
+
+    /**
+     * Reads events enabled for global and local broadcasts, null if all are enabled. Settings are read once and again only after they change.
+     */
+    private void loadBroadcastEvents() {
+        int version = broadcastEventsVersion.get();
+        if (version != loadedBroadcastEventsVersion) {
+            globalBroadcastEvents = findEvents(MobileMessagingProperty.GLOBAL_BROADCAST_EVENTS);
+            localBroadcastEvents = findEvents(MobileMessagingProperty.LOCAL_BROADCAST_EVENTS);
+            loadedBroadcastEventsVersion = version;
+        }
     }
 
-    private Intent prepare(String event) {
-        return new Intent(event)
-                .setPackage(context.getPackageName());
+    private Set<String> findEvents(MobileMessagingProperty property) {
+        String[] events = PreferenceHelper.findStringArray(context, property.getKey(), null);
+        return events != null ? new HashSet<>(Arrays.asList(events)) : null;
     }
 }
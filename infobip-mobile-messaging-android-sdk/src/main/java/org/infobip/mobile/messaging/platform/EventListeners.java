@@ -0,0 +1,67 @@
+/*
+ * EventListeners.java
+ * Mobile Messaging SDK
+ *
+ * Copyright (c) 2016-2025 Infobip Limited
+ * Licensed under the Apache License, Version 2.0
+ */
+package org.infobip.mobile.messaging.platform;
+
+import org.infobip.mobile.messaging.MobileMessagingEventListener;
+import org.infobip.mobile.messaging.logging.MobileMessagingLogger;
+
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Process-wide registry of {@link MobileMessagingEventListener}s, each delivered to on its own executor
+ */
+public class EventListeners {
+
+    interface Notification {
+        void deliverTo(MobileMessagingEventListener listener);
+    }
+
+    private static class Registration {
+        final MobileMessagingEventListener listener;
+        final Executor executor;
+
+        Registration(MobileMessagingEventListener listener, Executor executor) {
+            this.listener = listener;
+            this.executor = executor;
+        }
+    }
+
+    private static final CopyOnWriteArrayList<Registration> registrations = new CopyOnWriteArrayList<>();
+
+    public static void add(@NonNull MobileMessagingEventListener listener, @NonNull Executor executor) {
+        remove(listener);
+        registrations.add(new Registration(listener, executor));
+    }
+
+    public static void remove(@NonNull MobileMessagingEventListener listener) {
+        for (Registration registration : registrations) {
+            if (registration.listener == listener) {
+                registrations.remove(registration);
+            }
+        }
+    }
+
+    static void deliver(final Notification notification) {
+        for (final Registration registration : registrations) {
+            try {
+                registration.executor.execute(() -> {
+                    try {
+                        notification.deliverTo(registration.listener);
+                    } catch (Exception e) {
+                        MobileMessagingLogger.e("Event listener failed", e);
+                    }
+                });
+            } catch (Exception e) {
+                MobileMessagingLogger.e("Cannot deliver event to listener", e);
+            }
+        }
+    }
+}
@@ -27,6 +27,7 @@ public class MobileMessagingJob {
 
     public static final int ON_NETWORK_AVAILABLE_JOB_ID = 1;
     public static final int CLOUD_INTENT_JOB_ID = 2;
+    public static final int RICH_MEDIA_PREFETCH_JOB_ID = 3;
 
     /**
      * Gets schedule ID that's used as job ID for scheduling jobs with {@link JobScheduler}.
@@ -19,12 +19,14 @@ import android.os.Build;
 import android.text.TextUtils;
 
 import org.infobip.mobile.messaging.MobileMessagingCore;
+import org.infobip.mobile.messaging.image.ImagePrefetcher;
 import org.infobip.mobile.messaging.logging.MobileMessagingLogger;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.VisibleForTesting;
 
 import static org.infobip.mobile.messaging.platform.MobileMessagingJob.ON_NETWORK_AVAILABLE_JOB_ID;
+import static org.infobip.mobile.messaging.platform.MobileMessagingJob.RICH_MEDIA_PREFETCH_JOB_ID;
 import static org.infobip.mobile.messaging.platform.MobileMessagingJob.getScheduleId;
 
 /**
@@ -63,6 +65,15 @@ public class MobileMessagingJobService extends JobService {
             return false;
         }
 
+        if (params.getJobId() == getScheduleId(this, RICH_MEDIA_PREFETCH_JOB_ID)) {
+            MobileMessagingLogger.d(TAG, "Prefetching rich media");
+            Platform.executeInBackground(() -> {
+                new ImagePrefetcher(getApplicationContext()).prefetchPending();
+                jobFinished(params, false);
+            });
+            return true;
+        }
+
         return false;
     }
 
@@ -81,6 +92,47 @@ public class MobileMessagingJobService extends JobService {
         registerForNetworkAvailability(context);
     }
 
+    /**
+     * Schedules prefetch of pending in-app images for the time when device is on an unmetered network and battery is not low
+     *
+     * @param context android context object
+     * @return true if prefetch is scheduled
+     */
+    public static boolean scheduleRichMediaPrefetch(Context context) {
+        if (!canScheduleRichMediaPrefetch()) {
+            return false;
+        }
+
+        JobScheduler jobScheduler = (JobScheduler) context.getSystemService(JOB_SCHEDULER_SERVICE);
+        if (jobScheduler == null) {
+            return false;
+        }
+
+        JobInfo.Builder builder = new JobInfo.Builder(getScheduleId(context, RICH_MEDIA_PREFETCH_JOB_ID), new ComponentName(context, MobileMessagingJobService.class))
+                .setRequiredNetworkType(JobInfo.NETWORK_TYPE_UNMETERED);
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.O) {
+            builder.setRequiresBatteryNotLow(true);
+        }
+
+        try {
+            if (jobScheduler.schedule(builder.build()) == JobScheduler.RESULT_SUCCESS) {
+                return true;
+            }
+            MobileMessagingLogger.w(TAG, "Failed to schedule rich media prefetch");
+        } catch (IllegalArgumentException e) {
+            // job service is disabled until connectivity components are enabled
+            MobileMessagingLogger.w(TAG, "Cannot schedule rich media prefetch: " + e.getMessage());
+        }
+        return false;
+    }
+
+    /**
+     * @return true if prefetch of in-app images can be scheduled on this API level
+     */
+    public static boolean canScheduleRichMediaPrefetch() {
+        return Build.VERSION.SDK_INT >= Build.VERSION_CODES.N;
+    }
+
     //region Private methods
     @NonNull
     @SuppressLint("SpecifyJobSchedulerIdRange")
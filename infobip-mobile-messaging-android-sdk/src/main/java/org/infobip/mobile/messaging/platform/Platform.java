@@ -17,6 +17,7 @@ import org.infobip.mobile.messaging.cloud.MobileMessagingCloudHandler;
 import org.infobip.mobile.messaging.cloud.RegistrationTokenHandler;
 import org.infobip.mobile.messaging.cloud.firebase.FirebaseManifestHelper;
 import org.infobip.mobile.messaging.cloud.firebase.FirebaseRegistrationTokenHandler;
+import org.infobip.mobile.messaging.image.ImagePrefetcher;
 import org.infobip.mobile.messaging.logging.MobileMessagingLogger;
 import org.infobip.mobile.messaging.util.ComponentUtil;
 
@@ -34,7 +35,7 @@ public class Platform {
 
     public static final String os = "Android";
     public static volatile int sdkInt = Build.VERSION.SDK_INT;
-    private static volatile Executor backgroundExecutor = new AsyncTaskExecutor();
+    private static volatile Executor backgroundExecutor = SdkExecutor.getInstance();
 
     public static volatile Lazy<MobileMessagingCore, Context> mobileMessagingCore = createForConstructorAcceptingContext(MobileMessagingCore.class);
     public static volatile Lazy<AndroidBroadcaster, Context> broadcaster = createForConstructorAcceptingContext(AndroidBroadcaster.class);
@@ -117,7 +118,8 @@ public class Platform {
                 mobileMessagingCore,
                 broadcaster.get(context),
                 mobileMessagingCore.getNotificationHandler(),
-                mobileMessagingCore.getMessageStoreWrapper());
+                mobileMessagingCore.getMessageStoreWrapper(),
+                new ImagePrefetcher(context));
     }
 
     public static MobileMessagingCloudHandler initializeMobileMessagingCloudHandler(Context context) {
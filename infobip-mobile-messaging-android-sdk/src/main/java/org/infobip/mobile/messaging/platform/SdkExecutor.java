@@ -0,0 +1,359 @@
+/*
+ * SdkExecutor.java
+ * Mobile Messaging SDK
+ *
+ * Copyright (c) 2016-2025 Infobip Limited
+ * Licensed under the Apache License, Version 2.0
+ */
+package org.infobip.mobile.messaging.platform;
+
+import android.os.Process;
+
+import org.infobip.mobile.messaging.logging.MobileMessagingLogger;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
+
+/**
+ * Executor for all background work of the library.
+ * <br>
+ * Tasks run on a small worker pool, {@link Priority#USER_INITIATED} tasks ahead of {@link Priority#BACKGROUND} ones.
+ * Blocking IO, such as image downloads, runs on a separate {@link #io()} pool so it doesn't delay API calls, and delayed
+ * work is {@link #schedule(Runnable, long, TimeUnit) scheduled} on a timer thread instead of the main looper.
+ * <br>
+ * Queues are bounded, {@link #execute(Runnable)} throws {@link RejectedExecutionException} when a queue is full.
+ * Queue depth, wait and execution time of each task type are available with {@link #getStats()}.
+ */
+public class SdkExecutor implements Executor {
+
+    public enum Priority {
+        USER_INITIATED,
+        BACKGROUND
+    }
+
+    /**
+     * Runnable with priority and type, so the executor can order and measure it
+     */
+    public static class Task implements Runnable {
+        private final Runnable command;
+        private final Priority priority;
+        private final String type;
+
+        public Task(@NonNull Runnable command, @NonNull Priority priority, @NonNull String type) {
+            this.command = command;
+            this.priority = priority;
+            this.type = type;
+        }
+
+        @Override
+        public void run() {
+            command.run();
+        }
+    }
+
+    /**
+     * Statistics of tasks of a single type
+     */
+    public static class TaskStats {
+        private final AtomicInteger queueDepth = new AtomicInteger();
+        private final AtomicLong submitted = new AtomicLong();
+        private final AtomicLong rejected = new AtomicLong();
+        private final AtomicLong completed = new AtomicLong();
+        private final AtomicLong totalWaitNanos = new AtomicLong();
+        private final AtomicLong maxWaitNanos = new AtomicLong();
+        private final AtomicLong totalExecutionNanos = new AtomicLong();
+
+        void record(long waitNanos, long executionNanos) {
+            completed.incrementAndGet();
+            totalWaitNanos.addAndGet(waitNanos);
+            totalExecutionNanos.addAndGet(executionNanos);
+            long max;
+            do {
+                max = maxWaitNanos.get();
+            } while (waitNanos > max && !maxWaitNanos.compareAndSet(max, waitNanos));
+        }
+
+        public int getQueueDepth() {
+            return queueDepth.get();
+        }
+
+        public long getSubmitted() {
+            return submitted.get();
+        }
+
+        public long getRejected() {
+            return rejected.get();
+        }
+
+        public long getCompleted() {
+            return completed.get();
+        }
+
+        public long getAverageWaitMillis() {
+            long count = completed.get();
+            return count > 0 ? TimeUnit.NANOSECONDS.toMillis(totalWaitNanos.get() / count) : 0;
+        }
+
+        public long getMaxWaitMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(maxWaitNanos.get());
+        }
+
+        public long getAverageExecutionMillis() {
+            long count = completed.get();
+            return count > 0 ? TimeUnit.NANOSECONDS.toMillis(totalExecutionNanos.get() / count) : 0;
+        }
+
+        @Override
+        public String toString() {
+            return "queued=" + getQueueDepth() + ", submitted=" + getSubmitted() + ", rejected=" + getRejected() + ", completed=" + getCompleted()
+                    + ", avgWait=" + getAverageWaitMillis() + "ms, maxWait=" + getMaxWaitMillis() + "ms, avgExecution=" + getAverageExecutionMillis() + "ms";
+        }
+    }
+
+    static final int WORKER_POOL_SIZE = 3;
+    static final int IO_POOL_SIZE = 2;
+    static final int MAX_QUEUED_TASKS = 256;
+    static final int MAX_QUEUED_BACKGROUND_TASKS = 192;
+    static final int MAX_QUEUED_IO_TASKS = 64;
+    private static final int KEEP_ALIVE_SECONDS = 30;
+    private static final String DEFAULT_TASK_TYPE = "background";
+
+    private static volatile SdkExecutor instance;
+
+    private final ThreadPoolExecutor workers;
+    private final ThreadPoolExecutor ioWorkers;
+    private final ScheduledExecutorService timer;
+    private final Executor io = this::executeIo;
+    private final AtomicLong sequence = new AtomicLong();
+    private final ConcurrentHashMap<String, TaskStats> stats = new ConcurrentHashMap<>();
+    private final int maxQueuedTasks;
+    private final int maxQueuedBackgroundTasks;
+
+    public static SdkExecutor getInstance() {
+        if (instance == null) {
+            synchronized (SdkExecutor.class) {
+                if (instance == null) {
+                    instance = new SdkExecutor(WORKER_POOL_SIZE, MAX_QUEUED_TASKS, MAX_QUEUED_BACKGROUND_TASKS);
+                }
+            }
+        }
+        return instance;
+    }
+
+    @VisibleForTesting
+    SdkExecutor(int poolSize, int maxQueuedTasks, int maxQueuedBackgroundTasks) {
+        this.maxQueuedTasks = maxQueuedTasks;
+        this.maxQueuedBackgroundTasks = maxQueuedBackgroundTasks;
+        this.workers = new ThreadPoolExecutor(poolSize, poolSize, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new PriorityBlockingQueue<Runnable>(), threadFactory("MMWorker"));
+        this.workers.allowCoreThreadTimeOut(true);
+        this.ioWorkers = new ThreadPoolExecutor(IO_POOL_SIZE, IO_POOL_SIZE, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<Runnable>(MAX_QUEUED_IO_TASKS), threadFactory("MMIO"));
+        this.ioWorkers.allowCoreThreadTimeOut(true);
+        ScheduledThreadPoolExecutor scheduledExecutor = new ScheduledThreadPoolExecutor(1, threadFactory("MMTimer"));
+        scheduledExecutor.setRemoveOnCancelPolicy(true);
+        this.timer = scheduledExecutor;
+    }
+
+    /**
+     * Runs the command on the worker pool. Commands wrapped in {@link Task} are ordered by their priority,
+     * other commands are treated as {@link Priority#BACKGROUND}.
+     *
+     * @throws RejectedExecutionException when the queue is full
+     */
+    @Override
+    public void execute(@NonNull Runnable command) {
+        QueuedTask task = new QueuedTask(command, null);
+        int limit = task.priority == Priority.USER_INITIATED ? maxQueuedTasks : maxQueuedBackgroundTasks;
+        if (workers.getQueue().size() >= limit) {
+            reject(task, "worker queue is full");
+        }
+        workers.execute(task);
+    }
+
+    /**
+     * @return executor for blocking IO work, such as file and image downloads
+     */
+    public Executor io() {
+        return io;
+    }
+
+    /**
+     * Creates executor which runs its commands one at a time, in submission order, on the worker pool
+     *
+     * @param name name of the executor, used as task type of plain commands
+     * @return serial executor
+     */
+    public Executor serial(@NonNull String name) {
+        return new SerialExecutor(name);
+    }
+
+    /**
+     * Runs the command on the timer thread after the delay. Command should only hand off work to one of the pools.
+     *
+     * @param command command to run
+     * @param delay   delay
+     * @param unit    unit of the delay
+     * @return future which can be used to cancel the command
+     */
+    public ScheduledFuture<?> schedule(@NonNull final Runnable command, long delay, @NonNull TimeUnit unit) {
+        return timer.schedule(() -> {
+            try {
+                command.run();
+            } catch (Exception e) {
+                MobileMessagingLogger.e("Scheduled command failed", e);
+            }
+        }, delay, unit);
+    }
+
+    /**
+     * @return number of tasks currently waiting in all queues
+     */
+    public int getQueueDepth() {
+        int depth = 0;
+        for (TaskStats taskStats : stats.values()) {
+            depth += taskStats.getQueueDepth();
+        }
+        return depth;
+    }
+
+    /**
+     * @return statistics per task type
+     */
+    public Map<String, TaskStats> getStats() {
+        return Collections.unmodifiableMap(new HashMap<>(stats));
+    }
+
+    private void executeIo(@NonNull Runnable command) {
+        QueuedTask task = new QueuedTask(command, null);
+        try {
+            ioWorkers.execute(task);
+        } catch (RejectedExecutionException e) {
+            reject(task, "IO queue is full");
+        }
+    }
+
+    private void reject(QueuedTask task, String reason) {
+        task.stats.queueDepth.decrementAndGet();
+        task.stats.rejected.incrementAndGet();
+        MobileMessagingLogger.w("Rejected " + task.type + " task, " + reason);
+        throw new RejectedExecutionException(reason);
+    }
+
+    private TaskStats statsFor(String type) {
+        TaskStats taskStats = stats.get(type);
+        if (taskStats == null) {
+            TaskStats newStats = new TaskStats();
+            taskStats = stats.putIfAbsent(type, newStats);
+            if (taskStats == null) {
+                taskStats = newStats;
+            }
+        }
+        return taskStats;
+    }
+
+    private static ThreadFactory threadFactory(final String name) {
+        final AtomicInteger count = new AtomicInteger(1);
+        return runnable -> new Thread(() -> {
+            Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
+            runnable.run();
+        }, name + " #" + count.getAndIncrement());
+    }
+
+    private class QueuedTask implements Runnable, Comparable<QueuedTask> {
+        final Runnable command;
+        final Priority priority;
+        final String type;
+        final TaskStats stats;
+        final SerialExecutor serialExecutor;
+        final long sequenceNumber = sequence.getAndIncrement();
+        final long enqueuedAt = System.nanoTime();
+
+        QueuedTask(Runnable command, SerialExecutor serialExecutor) {
+            this.command = command;
+            this.serialExecutor = serialExecutor;
+            if (command instanceof Task) {
+                this.priority = ((Task) command).priority;
+                this.type = ((Task) command).type;
+            } else {
+                this.priority = Priority.BACKGROUND;
+                this.type = serialExecutor != null ? serialExecutor.name : DEFAULT_TASK_TYPE;
+            }
+            this.stats = statsFor(type);
+            this.stats.submitted.incrementAndGet();
+            this.stats.queueDepth.incrementAndGet();
+        }
+
+        @Override
+        public void run() {
+            long startedAt = System.nanoTime();
+            stats.queueDepth.decrementAndGet();
+            try {
+                command.run();
+            } catch (Exception e) {
+                MobileMessagingLogger.e("Task " + type + " failed", e);
+            } finally {
+                stats.record(startedAt - enqueuedAt, System.nanoTime() - startedAt);
+                if (serialExecutor != null) {
+                    serialExecutor.scheduleNext();
+                }
+            }
+        }
+
+        @Override
+        public int compareTo(@NonNull QueuedTask other) {
+            if (priority != other.priority) {
+                return priority.compareTo(other.priority);
+            }
+            return Long.compare(sequenceNumber, other.sequenceNumber);
+        }
+    }
+
+    private class SerialExecutor implements Executor {
+        final String name;
+        final ArrayDeque<QueuedTask> tasks = new ArrayDeque<>();
+        boolean active;
+
+        SerialExecutor(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public synchronized void execute(@NonNull Runnable command) {
+            QueuedTask task = new QueuedTask(command, this);
+            if (tasks.size() >= maxQueuedTasks) {
+                reject(task, name + " queue is full");
+            }
+            tasks.offer(task);
+            if (!active) {
+                scheduleNext();
+            }
+        }
+
+        synchronized void scheduleNext() {
+            QueuedTask next = tasks.poll();
+            active = next != null;
+            if (next != null) {
+                workers.execute(next);
+            }
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * StagedStartup.java
+ * Mobile Messaging SDK
+ *
+ * Copyright (c) 2016-2025 Infobip Limited
+ * Licensed under the Apache License, Version 2.0
+ */
+package org.infobip.mobile.messaging.platform;
+
+import org.infobip.mobile.messaging.logging.MobileMessagingLogger;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Part of library startup which is not needed to receive pushes and can run after the library instance is returned.
+ * <br>
+ * The stage runs once, either on the calling thread with {@link #run(Runnable)} or in background with {@link #start(Executor, Runnable)}.
+ * Code which depends on the stage calls {@link #await()}, which returns immediately once the stage completed
+ * or when called from the stage itself. Otherwise it waits for the stage to complete, or runs the stage itself
+ * if the executor did not pick it up yet, so callers never continue with the stage half done.
+ */
+public class StagedStartup {
+
+    private static final String TASK_TYPE = "startup";
+
+    private final Object lock = new Object();
+    private volatile boolean completed;
+    private volatile Thread stageThread;
+    private volatile long durationMillis = -1;
+    private Runnable pendingStage;
+
+    /**
+     * Runs the stage on the calling thread
+     *
+     * @param stage startup work
+     */
+    public void run(@NonNull Runnable stage) {
+        synchronized (lock) {
+            pendingStage = stage;
+            runPending();
+        }
+    }
+
+    /**
+     * Runs the stage on the executor, ahead of background tasks. The stage runs on the calling thread if the executor rejects it.
+     *
+     * @param executor executor to run the stage on
+     * @param stage    startup work
+     */
+    public void start(@NonNull Executor executor, @NonNull Runnable stage) {
+        synchronized (lock) {
+            pendingStage = stage;
+        }
+        try {
+            executor.execute(new SdkExecutor.Task(this::runPending, SdkExecutor.Priority.USER_INITIATED, TASK_TYPE));
+        } catch (RejectedExecutionException e) {
+            MobileMessagingLogger.w("Cannot start startup stage in background, running it now");
+            runPending();
+        }
+    }
+
+    /**
+     * Waits until the stage completes, runs the stage on the calling thread if it did not start yet
+     */
+    public void await() {
+        if (completed || Thread.currentThread() == stageThread) {
+            return;
+        }
+        runPending();
+    }
+
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    /**
+     * @return duration of the stage in milliseconds, -1 if the stage did not complete yet
+     */
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    private void runPending() {
+        synchronized (lock) {
+            if (completed || pendingStage == null) {
+                return;
+            }
+
+            stageThread = Thread.currentThread();
+            long start = System.nanoTime();
+            try {
+                pendingStage.run();
+            } finally {
+                durationMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                stageThread = null;
+                pendingStage = null;
+                completed = true;
+            }
+        }
+    }
+}
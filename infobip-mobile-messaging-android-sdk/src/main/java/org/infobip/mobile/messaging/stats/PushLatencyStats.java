@@ -0,0 +1,57 @@
+/*
+ * PushLatencyStats.java
+ * Mobile Messaging SDK
+ *
+ * Copyright (c) 2016-2025 Infobip Limited
+ * Licensed under the Apache License, Version 2.0
+ */
+package org.infobip.mobile.messaging.stats;
+
+import java.util.Arrays;
+
+/**
+ * Latency from receiving a push to posting its notification, over the last {@link #SAMPLE_COUNT} notifications.
+ * <br>
+ * Kept in memory only, times are measured with {@link android.os.SystemClock#elapsedRealtime()}.
+ */
+public class PushLatencyStats {
+
+    static final int SAMPLE_COUNT = 100;
+
+    private final long[] samples = new long[SAMPLE_COUNT];
+    private int count;
+    private int next;
+
+    public synchronized void record(long latencyMillis) {
+        samples[next] = Math.max(latencyMillis, 0);
+        next = (next + 1) % SAMPLE_COUNT;
+        count = Math.min(count + 1, SAMPLE_COUNT);
+    }
+
+    /**
+     * @return number of recorded samples, at most {@link #SAMPLE_COUNT}
+     */
+    public synchronized int getSampleCount() {
+        return count;
+    }
+
+    /**
+     * @param percentile percentile between 0 and 100
+     * @return latency in milliseconds at the percentile of recorded samples, -1 if there are no samples
+     */
+    public synchronized long getPercentileMillis(int percentile) {
+        if (count == 0) {
+            return -1;
+        }
+
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(Math.min(Math.max(percentile, 0), 100) / 100.0 * count) - 1;
+        return sorted[Math.max(index, 0)];
+    }
+
+    public synchronized void reset() {
+        count = 0;
+        next = 0;
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * MessageCursor.java
+ * Mobile Messaging SDK
+ *
+ * Copyright (c) 2016-2025 Infobip Limited
+ * Licensed under the Apache License, Version 2.0
+ */
+package org.infobip.mobile.messaging.storage;
+
+import android.database.Cursor;
+
+import org.infobip.mobile.messaging.Message;
+import org.infobip.mobile.messaging.dal.sqlite.DatabaseContract.MessageColumns;
+import org.infobip.mobile.messaging.dal.sqlite.SqliteMessage;
+import org.infobip.mobile.messaging.logging.MobileMessagingLogger;
+
+import java.io.Closeable;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import androidx.annotation.Nullable;
+
+/**
+ * Lazy, cursor-backed page of stored messages.
+ * <br>
+ * Messages are read from the database row by row when requested, so only the rows that are actually displayed
+ * are converted to {@link Message} objects. The cursor must be closed when no longer needed.
+ *
+ * @see SQLiteMessageStore#query(android.content.Context, MessageQuery)
+ */
+public class MessageCursor implements Closeable, Iterable<Message> {
+
+    private final Cursor cursor;
+    private final MessageQuery query;
+
+    MessageCursor(Cursor cursor, MessageQuery query) {
+        this.cursor = cursor;
+        this.query = query;
+    }
+
+    /**
+     * @return number of messages on this page
+     */
+    public int getCount() {
+        return cursor.getCount();
+    }
+
+    /**
+     * Reads message at the provided position
+     *
+     * @param position position on this page
+     * @return message or null if message cannot be read
+     */
+    @Nullable
+    public Message get(int position) {
+        if (!cursor.moveToPosition(position)) {
+            throw new IndexOutOfBoundsException("Position " + position + " is out of range, count: " + cursor.getCount());
+        }
+        try {
+            return SqliteMessage.load(cursor);
+        } catch (Exception e) {
+            MobileMessagingLogger.e("Could not load message from cursor", e);
+            return null;
+        }
+    }
+
+    /**
+     * Creates query for the next page, reading only the keys of the last row on this page
+     *
+     * @return query for the next page or null if this is the last page
+     */
+    @Nullable
+    public MessageQuery getNextPageQuery() {
+        if (cursor.getCount() < query.getLimit() || !cursor.moveToLast()) {
+            return null;
+        }
+        long receivedTimestamp = cursor.getLong(cursor.getColumnIndexOrThrow(MessageColumns.RECEIVED_TIMESTAMP));
+        String messageId = cursor.getString(cursor.getColumnIndexOrThrow(MessageColumns.MESSAGE_ID));
+        return query.after(receivedTimestamp, messageId);
+    }
+
+    @Override
+    public Iterator<Message> iterator() {
+        return new Iterator<Message>() {
+            private int position = 0;
+
+            @Override
+            public boolean hasNext() {
+                return position < cursor.getCount();
+            }
+
+            @Override
+            public Message next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return get(position++);
+            }
+        };
+    }
+
+    public boolean isClosed() {
+        return cursor.isClosed();
+    }
+
+    @Override
+    public void close() {
+        cursor.close();
+    }
+}
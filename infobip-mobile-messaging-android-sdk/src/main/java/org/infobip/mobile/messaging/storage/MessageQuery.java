@@ -0,0 +1,241 @@
+/*
+ * MessageQuery.java
+ * Mobile Messaging SDK
+ *
+ * Copyright (c) 2016-2025 Infobip Limited
+ * Licensed under the Apache License, Version 2.0
+ */
+package org.infobip.mobile.messaging.storage;
+
+import org.infobip.mobile.messaging.Message;
+import org.infobip.mobile.messaging.dal.sqlite.DatabaseContract.MessageColumns;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * Query for a single page of stored messages, newest first.
+ * <br>
+ * Pages are addressed by the last message of the previous page (keyset pagination)
+ * instead of by offset, so fetching a page deep in the history costs the same as fetching the first one.
+ * <pre>
+ * {@code
+ * MessageQuery query = new MessageQuery.Builder()
+ *         .withUnseenOnly()
+ *         .withCategory("news")
+ *         .withLimit(50)
+ *         .build();
+ * MessageCursor page = messageStore.query(context, query);
+ * ...
+ * MessageQuery next = page.getNextPageQuery();
+ * page.close();
+ * }
+ * </pre>
+ *
+ * @see SQLiteMessageStore#query(android.content.Context, MessageQuery)
+ */
+public class MessageQuery {
+
+    public static final int DEFAULT_LIMIT = 50;
+
+    private final boolean unseenOnly;
+    private final String category;
+    private final Long receivedFrom;
+    private final Long receivedTo;
+    private final Long beforeReceivedTimestamp;
+    private final String beforeMessageId;
+    private final int limit;
+
+    private MessageQuery(Builder builder) {
+        this.unseenOnly = builder.unseenOnly;
+        this.category = builder.category;
+        this.receivedFrom = builder.receivedFrom;
+        this.receivedTo = builder.receivedTo;
+        this.beforeReceivedTimestamp = builder.beforeReceivedTimestamp;
+        this.beforeMessageId = builder.beforeMessageId;
+        this.limit = builder.limit;
+    }
+
+    public boolean isUnseenOnly() {
+        return unseenOnly;
+    }
+
+    @Nullable
+    public String getCategory() {
+        return category;
+    }
+
+    @Nullable
+    public Long getReceivedFrom() {
+        return receivedFrom;
+    }
+
+    @Nullable
+    public Long getReceivedTo() {
+        return receivedTo;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Creates query for the page that follows the provided message, keeping all filters of this query
+     *
+     * @param receivedTimestamp received timestamp of the last message on the current page
+     * @param messageId         id of the last message on the current page
+     * @return query for the next page
+     */
+    @NonNull
+    public MessageQuery after(long receivedTimestamp, @NonNull String messageId) {
+        Builder builder = new Builder(this);
+        builder.beforeReceivedTimestamp = receivedTimestamp;
+        builder.beforeMessageId = messageId;
+        return builder.build();
+    }
+
+    /**
+     * Creates query for the page that follows the provided message, keeping all filters of this query
+     *
+     * @param lastMessage last message on the current page
+     * @return query for the next page
+     */
+    @NonNull
+    public MessageQuery after(@NonNull Message lastMessage) {
+        return after(lastMessage.getReceivedTimestamp(), lastMessage.getMessageId());
+    }
+
+    String selection() {
+        List<String> conditions = new ArrayList<>();
+        if (unseenOnly) {
+            conditions.add("(" + MessageColumns.SEEN_TIMESTAMP + " IS NULL OR " + MessageColumns.SEEN_TIMESTAMP + " = 0)");
+        }
+        if (category != null) {
+            conditions.add(MessageColumns.CATEGORY + " = ?");
+        }
+        if (receivedFrom != null) {
+            conditions.add(MessageColumns.RECEIVED_TIMESTAMP + " >= ?");
+        }
+        if (receivedTo != null) {
+            conditions.add(MessageColumns.RECEIVED_TIMESTAMP + " < ?");
+        }
+        if (beforeMessageId != null) {
+            conditions.add("(" + MessageColumns.RECEIVED_TIMESTAMP + " < ? OR (" +
+                    MessageColumns.RECEIVED_TIMESTAMP + " = ? AND " + MessageColumns.MESSAGE_ID + " < ?))");
+        }
+        return conditions.isEmpty() ? null : join(" AND ", conditions);
+    }
+
+    String[] selectionArgs() {
+        List<String> args = new ArrayList<>();
+        if (category != null) {
+            args.add(category);
+        }
+        if (receivedFrom != null) {
+            args.add(String.valueOf(receivedFrom));
+        }
+        if (receivedTo != null) {
+            args.add(String.valueOf(receivedTo));
+        }
+        if (beforeMessageId != null) {
+            args.add(String.valueOf(beforeReceivedTimestamp));
+            args.add(String.valueOf(beforeReceivedTimestamp));
+            args.add(beforeMessageId);
+        }
+        return args.toArray(new String[0]);
+    }
+
+    static String orderBy() {
+        return MessageColumns.RECEIVED_TIMESTAMP + " DESC, " + MessageColumns.MESSAGE_ID + " DESC";
+    }
+
+    private static String join(String separator, List<String> parts) {
+        StringBuilder sb = new StringBuilder();
+        for (String part : parts) {
+            if (sb.length() > 0) {
+                sb.append(separator);
+            }
+            sb.append(part);
+        }
+        return sb.toString();
+    }
+
+    public static final class Builder {
+
+        private boolean unseenOnly;
+        private String category;
+        private Long receivedFrom;
+        private Long receivedTo;
+        private Long beforeReceivedTimestamp;
+        private String beforeMessageId;
+        private int limit = DEFAULT_LIMIT;
+
+        public Builder() {
+        }
+
+        private Builder(MessageQuery query) {
+            this.unseenOnly = query.unseenOnly;
+            this.category = query.category;
+            this.receivedFrom = query.receivedFrom;
+            this.receivedTo = query.receivedTo;
+            this.beforeReceivedTimestamp = query.beforeReceivedTimestamp;
+            this.beforeMessageId = query.beforeMessageId;
+            this.limit = query.limit;
+        }
+
+        /**
+         * Returns only messages that were not marked as seen
+         *
+         * @return {@link Builder}
+         */
+        public Builder withUnseenOnly() {
+            this.unseenOnly = true;
+            return this;
+        }
+
+        /**
+         * Returns only messages of the provided category
+         *
+         * @param category message category
+         * @return {@link Builder}
+         */
+        public Builder withCategory(String category) {
+            this.category = category;
+            return this;
+        }
+
+        /**
+         * Returns only messages received within the provided time range
+         *
+         * @param fromMillis start of the range in milliseconds, inclusive
+         * @param toMillis   end of the range in milliseconds, exclusive
+         * @return {@link Builder}
+         */
+        public Builder withReceivedBetween(long fromMillis, long toMillis) {
+            this.receivedFrom = fromMillis;
+            this.receivedTo = toMillis;
+            return this;
+        }
+
+        /**
+         * Sets maximum number of messages on a page
+         *
+         * @param limit page size, {@link MessageQuery#DEFAULT_LIMIT} by default
+         * @return {@link Builder}
+         */
+        public Builder withLimit(int limit) {
+            if (limit <= 0) {
+                throw new IllegalArgumentException("Limit must be positive: " + limit);
+            }
+            this.limit = limit;
+            return this;
+        }
+
+        public MessageQuery build() {
+            return new MessageQuery(this);
+        }
+    }
+}
@@ -8,6 +8,7 @@
 package org.infobip.mobile.messaging.storage;
 
 import android.content.Context;
+import android.database.Cursor;
 
 import org.infobip.mobile.messaging.Message;
 import org.infobip.mobile.messaging.MobileMessagingCore;
@@ -39,15 +40,53 @@ public class SQLiteMessageStore implements MessageStore {
 
     public void save(Context context, Message... messages) {
         DatabaseHelper helper = MobileMessagingCore.getDatabaseHelper(context);
+        List<SqliteMessage> sqliteMessages = new ArrayList<>(messages.length);
         for (Message message : messages) {
-            helper.save(new SqliteMessage(message));
+            sqliteMessages.add(new SqliteMessage(message));
         }
+        helper.saveAll(sqliteMessages);
     }
 
     public List<Message> findAll(Context context) {
         return new ArrayList<Message>(MobileMessagingCore.getDatabaseHelper(context).findAll(SqliteMessage.class));
     }
 
+    /**
+     * Queries one page of stored messages, newest first.
+     * Rows are read lazily, the returned cursor must be closed by the caller.
+     *
+     * @param context current context
+     * @param query   filters and page position
+     * @return cursor-backed page of messages
+     */
+    public MessageCursor query(Context context, MessageQuery query) {
+        Cursor cursor = MobileMessagingCore.getDatabaseHelper(context).query(SqliteMessage.class,
+                query.selection(), query.selectionArgs(), MessageQuery.orderBy(), query.getLimit());
+        return new MessageCursor(cursor, query);
+    }
+
+    /**
+     * Finds one page of stored messages, newest first
+     *
+     * @param context current context
+     * @param query   filters and page position
+     * @return messages on the requested page
+     */
+    public List<Message> find(Context context, MessageQuery query) {
+        MessageCursor messageCursor = query(context, query);
+        try {
+            List<Message> messages = new ArrayList<>(messageCursor.getCount());
+            for (Message message : messageCursor) {
+                if (message != null) {
+                    messages.add(message);
+                }
+            }
+            return messages;
+        } finally {
+            messageCursor.close();
+        }
+    }
+
     public Message findById(Context context, String messageId) {
         return MobileMessagingCore.getDatabaseHelper(context).find(SqliteMessage.class, messageId);
     }
@@ -11,20 +11,15 @@ import android.app.Service;
 import android.content.BroadcastReceiver;
 import android.content.ComponentName;
 import android.content.Context;
-import android.content.IntentFilter;
 import android.content.pm.PackageManager;
 import android.os.Build;
 
 import org.infobip.mobile.messaging.ConfigurationException;
-import org.infobip.mobile.messaging.LocalEvent;
 import org.infobip.mobile.messaging.MobileMessagingConnectivityReceiver;
-import org.infobip.mobile.messaging.MobileMessagingSynchronizationReceiver;
 import org.infobip.mobile.messaging.cloud.firebase.MobileMessagingFirebaseService;
 import org.infobip.mobile.messaging.logging.MobileMessagingLogger;
 import org.infobip.mobile.messaging.platform.MobileMessagingJobService;
 
-import androidx.localbroadcastmanager.content.LocalBroadcastManager;
-
 /**
  * Utility class for component state management
  *
@@ -52,14 +47,6 @@ public class ComponentUtil {
         }
     }
 
-    public static void setSynchronizationReceiverStateEnabled(Context context, MobileMessagingSynchronizationReceiver syncReceiver, boolean enabled) {
-        if (enabled) {
-            LocalBroadcastManager.getInstance(context).registerReceiver(syncReceiver, new IntentFilter(LocalEvent.APPLICATION_FOREGROUND.getKey()));
-        } else {
-            LocalBroadcastManager.getInstance(context).unregisterReceiver(syncReceiver);
-        }
-    }
-
     public static void setConnectivityComponentsStateEnabled(Context context, boolean enabled) {
         if (Build.VERSION.SDK_INT < Build.VERSION_CODES.N) {
             ComponentUtil.setState(context, enabled, MobileMessagingConnectivityReceiver.class);
@@ -11,6 +11,7 @@ import android.util.Base64;
 
 import org.infobip.mobile.messaging.logging.MobileMessagingLogger;
 
+import java.security.GeneralSecurityException;
 import java.security.Key;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
@@ -29,6 +30,8 @@ public class CryptorImpl extends Cryptor {
     private static final String AES_ALGO = "AES/CBC/PKCS7PADDING";
     private Key key = null;
     private IvParameterSpec ivSpec = null;
+    private final ThreadLocal<Cipher> encryptCipher = new ThreadLocal<>();
+    private final ThreadLocal<Cipher> decryptCipher = new ThreadLocal<>();
 
     public CryptorImpl(@NonNull String keySecret) {
         byte[] keyBytes = keySecret.getBytes();
@@ -79,10 +82,9 @@ public class CryptorImpl extends Cryptor {
 
     private byte[] encodeAES128(byte[] data) {
         try {
-            Cipher cipher = Cipher.getInstance(AES_ALGO);
-            cipher.init(Cipher.ENCRYPT_MODE, key, ivSpec);
-            return cipher.doFinal(data);
+            return cipher(encryptCipher, Cipher.ENCRYPT_MODE).doFinal(data);
         } catch (Exception e) {
+            encryptCipher.remove();
             MobileMessagingLogger.e("Data encryption failed.", e);
             return null;
         }
@@ -90,12 +92,25 @@ public class CryptorImpl extends Cryptor {
 
     private byte[] decodeAES128(byte[] data) {
         try {
-            Cipher cipher = Cipher.getInstance(AES_ALGO);
-            cipher.init(Cipher.DECRYPT_MODE, key, ivSpec);
-            return cipher.doFinal(data);
+            return cipher(decryptCipher, Cipher.DECRYPT_MODE).doFinal(data);
         } catch (Exception e) {
+            decryptCipher.remove();
             MobileMessagingLogger.e("Data decryption failed.", e);
             return null;
         }
     }
+
+    /**
+     * Returns cipher initialized for this thread. Key and IV never change, and doFinal() resets
+     * the cipher to its initialized state, so the same instance can be reused for every call on the thread.
+     */
+    private Cipher cipher(ThreadLocal<Cipher> pool, int mode) throws GeneralSecurityException {
+        Cipher cipher = pool.get();
+        if (cipher == null) {
+            cipher = Cipher.getInstance(AES_ALGO);
+            cipher.init(mode, key, ivSpec);
+            pool.set(cipher);
+        }
+        return cipher;
+    }
 }
@@ -0,0 +1,116 @@
+/*
+ * EncryptedPreferenceCache.java
+ * Mobile Messaging SDK
+ *
+ * Copyright (c) 2016-2025 Infobip Limited
+ * Licensed under the Apache License, Version 2.0
+ */
+package org.infobip.mobile.messaging.util;
+
+import org.infobip.mobile.messaging.MobileMessagingProperty;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import androidx.annotation.Nullable;
+
+/**
+ * Caches encrypted key names and decrypted values of encrypted preferences for one {@link Cryptor}.
+ * <br>
+ * Key encryption is deterministic, so encrypted names are computed once per key.
+ * Decrypted values are remembered together with the encrypted value they were read from, and a cached value is only
+ * returned if the preference still holds exactly that encrypted value, so edits made directly on
+ * {@link android.content.SharedPreferences} can never be hidden by the cache.
+ */
+class EncryptedPreferenceCache {
+
+    private static class DecryptedValue {
+        final String encrypted;
+        final String decrypted;
+
+        DecryptedValue(String encrypted, String decrypted) {
+            this.encrypted = encrypted;
+            this.decrypted = decrypted;
+        }
+    }
+
+    private final Cryptor cryptor;
+    private final ConcurrentHashMap<String, String> encryptedKeys = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, DecryptedValue> decryptedValues = new ConcurrentHashMap<>();
+
+    EncryptedPreferenceCache(Cryptor cryptor) {
+        this.cryptor = cryptor;
+    }
+
+    /**
+     * Computes encrypted names of all encrypted {@link MobileMessagingProperty} keys upfront
+     */
+    void precomputeEncryptedKeys() {
+        for (MobileMessagingProperty property : MobileMessagingProperty.values()) {
+            if (property.isEncrypted()) {
+                encryptedKey(property.getKey());
+            }
+        }
+    }
+
+    boolean isFor(Cryptor cryptor) {
+        return this.cryptor == cryptor;
+    }
+
+    String encryptedKey(String key) {
+        String encryptedKey = encryptedKeys.get(key);
+        if (encryptedKey != null) {
+            return encryptedKey;
+        }
+
+        encryptedKey = cryptor.encrypt(key);
+        if (encryptedKey != null) {
+            encryptedKeys.putIfAbsent(key, encryptedKey);
+        }
+        return encryptedKey;
+    }
+
+    /**
+     * Decrypts the value or returns the cached result for the same encrypted value
+     *
+     * @param key            plain preference key
+     * @param encryptedValue value currently stored in preferences
+     * @return decrypted value or null if value cannot be decrypted
+     */
+    @Nullable
+    String decrypt(String key, String encryptedValue) {
+        DecryptedValue cached = decryptedValues.get(key);
+        if (cached != null && cached.encrypted.equals(encryptedValue)) {
+            return cached.decrypted;
+        }
+
+        String decrypted = cryptor.decrypt(encryptedValue);
+        if (decrypted != null) {
+            decryptedValues.put(key, new DecryptedValue(encryptedValue, decrypted));
+        } else {
+            decryptedValues.remove(key);
+        }
+        return decrypted;
+    }
+
+    /**
+     * Encrypts the value and remembers the plain value for subsequent reads
+     *
+     * @param key   plain preference key
+     * @param value plain value
+     * @return encrypted value or null if value is blank or cannot be encrypted
+     */
+    @Nullable
+    String encrypt(String key, String value) {
+        String encryptedValue = cryptor.encrypt(value);
+        if (encryptedValue != null) {
+            decryptedValues.put(key, new DecryptedValue(encryptedValue, value));
+        } else {
+            decryptedValues.remove(key);
+        }
+        return encryptedValue;
+    }
+
+    void invalidate(String key) {
+        decryptedValues.remove(key);
+    }
+}
@@ -31,6 +31,7 @@ public abstract class PreferenceHelper {
     private static final String MM_PREFS_PREFIX = "org.infobip.mobile.messaging";
     private static final Object LOCK = new Object();
     protected static Cryptor cryptor = null;
+    private static volatile EncryptedPreferenceCache encryptedPreferenceCache = null;
     private static Boolean usePrivateSharedPrefs = null;
 
     protected PreferenceHelper() {
@@ -49,6 +50,25 @@ public abstract class PreferenceHelper {
         return DeviceInformation.getDeviceID(context);
     }
 
+    private static EncryptedPreferenceCache encryptedPreferenceCache(Cryptor cryptor) {
+        EncryptedPreferenceCache cache = encryptedPreferenceCache;
+        if (cache != null && cache.isFor(cryptor)) {
+            return cache;
+        }
+
+        cache = new EncryptedPreferenceCache(cryptor);
+        // caches for cryptors used only for migration are not kept
+        if (cryptor == PreferenceHelper.cryptor) {
+            cache.precomputeEncryptedKeys();
+            encryptedPreferenceCache = cache;
+        }
+        return cache;
+    }
+
+    private static String encryptedKey(Cryptor cryptor, String key) {
+        return encryptedPreferenceCache(cryptor).encryptedKey(key);
+    }
+
     public static SharedPreferences getDefaultMMSharedPreferences(Context context) {
         if (usePrivateSharedPrefs == null) {
             usePrivateSharedPrefs = shouldUsePrivateSharedPrefs(context);
@@ -86,7 +106,8 @@ public abstract class PreferenceHelper {
             return sharedPreferences.getString(key, defaultValue);
         }
 
-        String encryptedKey = cryptor.encrypt(key);
+        EncryptedPreferenceCache cache = encryptedPreferenceCache(cryptor);
+        String encryptedKey = cache.encryptedKey(key);
         String encryptedValue = sharedPreferences.getString(encryptedKey, null);
         if (encryptedValue == null) {
             // Intentionally null, not defaultValue: the old code path passed defaultValue
@@ -94,7 +115,7 @@ public abstract class PreferenceHelper {
             // encrypted properties expect null when the key is absent.
             return null;
         }
-        String decrypted = cryptor.decrypt(encryptedValue);
+        String decrypted = cache.decrypt(key, encryptedValue);
         if (decrypted == null) {
             MobileMessagingLogger.w("Removing unreadable encrypted preference for key: " + key);
             sharedPreferences.edit().remove(encryptedKey).apply();
@@ -107,7 +128,7 @@ public abstract class PreferenceHelper {
         saveString(context, property.getKey(), value, property.isEncrypted());
     }
 
-    protected static void saveString(Context context, String key, String value, boolean encrypted) {
+    public static void saveString(Context context, String key, String value, boolean encrypted) {
         saveString(context, key, value, encrypted, getCryptor(context));
     }
 
@@ -117,8 +138,9 @@ public abstract class PreferenceHelper {
             return;
         }
 
-        String encryptedKey = cryptor.encrypt(key);
-        String encryptedValue = cryptor.encrypt(value);
+        EncryptedPreferenceCache cache = encryptedPreferenceCache(cryptor);
+        String encryptedKey = cache.encryptedKey(key);
+        String encryptedValue = cache.encrypt(key, value);
         saveString(context, encryptedKey, encryptedValue);
     }
 
@@ -379,7 +401,9 @@ public abstract class PreferenceHelper {
     private static void remove(Context context, MobileMessagingProperty property, Cryptor cryptor) {
         String key = property.getKey();
         if (property.isEncrypted()) {
-            key = cryptor.encrypt(key);
+            EncryptedPreferenceCache cache = encryptedPreferenceCache(cryptor);
+            cache.invalidate(key);
+            key = cache.encryptedKey(key);
         }
         remove(context, key);
     }
@@ -394,7 +418,7 @@ public abstract class PreferenceHelper {
     public static boolean contains(Context context, MobileMessagingProperty property) {
         String key = property.getKey();
         if (property.isEncrypted()) {
-            key = getCryptor(context).encrypt(key);
+            key = encryptedKey(getCryptor(context), key);
         }
         return contains(context, key);
     }
@@ -406,7 +430,7 @@ public abstract class PreferenceHelper {
     static boolean publicPrefsContains(Context context, MobileMessagingProperty property) {
         String key = property.getKey();
         if (property.isEncrypted()) {
-            key = getCryptor(context).encrypt(key);
+            key = encryptedKey(getCryptor(context), key);
         }
         return getPublicSharedPreferences(context).contains(key);
     }
@@ -414,7 +438,7 @@ public abstract class PreferenceHelper {
     static boolean privatePrefsContains(Context context, MobileMessagingProperty property) {
         String key = property.getKey();
         if (property.isEncrypted()) {
-            key = getCryptor(context).encrypt(key);
+            key = encryptedKey(getCryptor(context), key);
         }
         return getPrivateMMSharedPreferences(context).contains(key);
     }
@@ -462,7 +486,7 @@ public abstract class PreferenceHelper {
     protected static Boolean shouldMigrateFromCryptor(Cryptor fromCryptor, Context context) {
         MobileMessagingProperty[] cryptedProperties = cryptedProperties();
         for (MobileMessagingProperty property : cryptedProperties) {
-            String oldEncryptedKey = fromCryptor.encrypt(property.getKey());
+            String oldEncryptedKey = encryptedKey(fromCryptor, property.getKey());
             if (contains(context, oldEncryptedKey)) return true;
         }
         return false;
@@ -471,7 +495,7 @@ public abstract class PreferenceHelper {
     private static void migrate(Cryptor fromCryptor, Cryptor toCryptor, MobileMessagingProperty[] cryptedProperties, Context context) {
         MobileMessagingLogger.d("Migrating preferences from deprecated Cryptor");
         for (MobileMessagingProperty property : cryptedProperties) {
-            String oldEncryptedKey = fromCryptor.encrypt(property.getKey());
+            String oldEncryptedKey = encryptedKey(fromCryptor, property.getKey());
             if (!contains(context, oldEncryptedKey)) continue;
 
             String value = findString(context, property.getKey(), (String) property.getDefaultValue(), property.isEncrypted(), fromCryptor);
@@ -493,7 +517,7 @@ public abstract class PreferenceHelper {
     private static void migrateCryptedEntriesFromPublicToPrivatePrefs(Context context, MobileMessagingProperty[] properties) {
         MobileMessagingLogger.d("Migrating preferences from public to private");
         for (MobileMessagingProperty property : properties) {
-            String encryptedKey = getCryptor(context).encrypt(property.getKey());
+            String encryptedKey = encryptedKey(getCryptor(context), property.getKey());
             String encryptedValue = getPublicSharedPreferences(context).getString(encryptedKey, (String) property.getDefaultValue());
             saveString(context, encryptedKey, encryptedValue);
             // don't remove required properties to keep backwards compatibility over push reg ID
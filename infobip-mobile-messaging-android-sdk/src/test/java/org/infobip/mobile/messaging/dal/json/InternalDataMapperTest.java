@@ -10,6 +10,12 @@ package org.infobip.mobile.messaging.dal.json;
 import org.infobip.mobile.messaging.Message;
 import org.junit.Test;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
 /**
  * @author sslavin
  * @since 05/07/2017.
@@ -27,4 +33,62 @@ public class InternalDataMapperTest {
         // When
         InternalDataMapper.updateMessageWithInternalData(givenMessage, givenInternalData);
     }
+
+    @Test
+    public void should_read_all_fields_from_single_parse() {
+
+        // Given
+        String givenInternalData = "{\"sendDateTime\":1500000000000,\"bulkId\":\"bulk\",\"inApp\":true,\"inAppExpiryDateTime\":1500000600000," +
+                "\"webViewUrl\":\"webViewUrl\",\"deeplink\":\"deeplink\",\"atts\":[{\"url\":\"contentUrl\"}]," +
+                "\"silent\":{\"title\":\"title\",\"body\":\"body\",\"vibrate\":\"false\"}}";
+
+        // When
+        InternalDataMapper.ParsedInternalData internalData = InternalDataMapper.parse(givenInternalData);
+
+        // Then
+        assertEquals(1500000000000L, internalData.getSendDateTime());
+        assertEquals(1500000600000L, internalData.getInAppExpiryDateTime());
+        assertEquals("bulk", internalData.getBulkId());
+        assertEquals(Message.InAppStyle.MODAL, internalData.getInAppStyle());
+        assertEquals("webViewUrl", internalData.getWebViewUrl());
+        assertEquals("deeplink", internalData.getDeeplinkUri());
+        assertEquals("contentUrl", internalData.getContentUrl());
+        assertEquals("title", internalData.getTitle());
+        assertEquals("body", internalData.getBody());
+        assertFalse(internalData.isVibrate(true));
+        assertNull(internalData.getBrowserUrl());
+    }
+
+    @Test
+    public void should_return_defaults_for_missing_or_malformed_internal_data() {
+
+        // When
+        InternalDataMapper.ParsedInternalData missing = InternalDataMapper.parse(null);
+        InternalDataMapper.ParsedInternalData malformed = InternalDataMapper.parse("{ not json");
+
+        // Then
+        assertNull(missing.getContentUrl());
+        assertEquals(0, missing.getSendDateTime());
+        assertTrue(missing.isVibrate(true));
+        assertNull(malformed.getInAppStyle());
+        assertFalse(malformed.hasSilent());
+    }
+
+    @Test
+    public void should_keep_parsed_internal_data_until_it_changes() {
+
+        // Given
+        Message givenMessage = new Message();
+        givenMessage.setInternalData("{\"bulkId\":\"bulk1\"}");
+
+        // When
+        InternalDataMapper.ParsedInternalData first = givenMessage.getParsedInternalData();
+        InternalDataMapper.ParsedInternalData second = givenMessage.getParsedInternalData();
+        givenMessage.setInternalData("{\"bulkId\":\"bulk2\"}");
+
+        // Then
+        assertSame(first, second);
+        assertEquals("bulk1", first.getBulkId());
+        assertEquals("bulk2", givenMessage.getParsedInternalData().getBulkId());
+    }
 }
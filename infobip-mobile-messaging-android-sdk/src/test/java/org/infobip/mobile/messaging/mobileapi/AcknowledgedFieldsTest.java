@@ -0,0 +1,142 @@
+/*
+ * AcknowledgedFieldsTest.java
+ * Mobile Messaging SDK
+ *
+ * Copyright (c) 2016-2025 Infobip Limited
+ * Licensed under the Apache License, Version 2.0
+ */
+package org.infobip.mobile.messaging.mobileapi;
+
+import org.infobip.mobile.messaging.api.appinstance.AppInstanceAtts;
+import org.infobip.mobile.messaging.api.appinstance.UserAtts;
+import org.infobip.mobile.messaging.api.support.util.CollectionUtils;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class AcknowledgedFieldsTest {
+
+    private AcknowledgedFields acknowledgedFields;
+
+    @Before
+    public void setUp() {
+        acknowledgedFields = new AcknowledgedFields();
+    }
+
+    @Test
+    public void shouldReportAllFieldsWhenNothingIsAcknowledged() {
+        Map<String, Object> installation = installation("1.0.0", true);
+
+        assertEquals(installation, acknowledgedFields.changes(installation));
+    }
+
+    @Test
+    public void shouldReportOnlyChangedFields() {
+        acknowledgedFields.acknowledge(installation("1.0.0", true));
+
+        Map<String, Object> changes = acknowledgedFields.changes(installation("1.0.1", false));
+
+        assertEquals(2, changes.size());
+        assertEquals("1.0.1", changes.get(AppInstanceAtts.appVersion));
+        assertEquals(false, changes.get(AppInstanceAtts.notificationsEnabled));
+    }
+
+    @Test
+    public void shouldReportFieldsResetToNull() {
+        acknowledgedFields.acknowledge(Collections.singletonMap(UserAtts.firstName, "John"));
+
+        Map<String, Object> changes = acknowledgedFields.changes(Collections.singletonMap(UserAtts.firstName, null));
+
+        assertTrue(changes.containsKey(UserAtts.firstName));
+        assertEquals(null, changes.get(UserAtts.firstName));
+
+        acknowledgedFields.acknowledge(changes);
+
+        assertTrue(acknowledgedFields.changes(Collections.singletonMap(UserAtts.firstName, null)).isEmpty());
+        assertTrue(acknowledgedFields.changes(Collections.singletonMap(UserAtts.firstName, "John")).containsKey(UserAtts.firstName));
+    }
+
+    @Test
+    public void shouldReportOnlyChangedCustomAttributes() {
+        acknowledgedFields.acknowledge(user("john@infobip.com", customAttributes("level", 1, "plan", "free")));
+
+        Map<String, Object> changes = acknowledgedFields.changes(user("john@infobip.com", customAttributes("level", 2, "plan", "free")));
+
+        assertEquals(Collections.singletonMap(UserAtts.customAttributes, customAttributes("level", 2)), changes);
+    }
+
+    @Test
+    public void shouldMergeAcknowledgedCustomAttributes() {
+        acknowledgedFields.acknowledge(Collections.singletonMap(UserAtts.customAttributes, customAttributes("level", 1)));
+        acknowledgedFields.acknowledge(Collections.singletonMap(UserAtts.customAttributes, customAttributes("plan", "free")));
+
+        Map<String, Object> changes = acknowledgedFields.changes(Collections.singletonMap(UserAtts.customAttributes, customAttributes("level", 1, "plan", "free")));
+
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void shouldCompareNumbersRegardlessOfType() {
+        acknowledgedFields.acknowledge(Collections.singletonMap(AppInstanceAtts.deviceTimezoneOffset, 60));
+
+        AcknowledgedFields restored = AcknowledgedFields.fromJson(acknowledgedFields.toJson());
+
+        assertTrue(restored.changes(Collections.singletonMap(AppInstanceAtts.deviceTimezoneOffset, 60)).isEmpty());
+        assertEquals(1, restored.changes(Collections.singletonMap(AppInstanceAtts.deviceTimezoneOffset, 120)).size());
+    }
+
+    @Test
+    public void shouldRestoreFromJson() {
+        acknowledgedFields.acknowledge(user("john@infobip.com", customAttributes("level", 1)));
+
+        AcknowledgedFields restored = AcknowledgedFields.fromJson(acknowledgedFields.toJson());
+
+        assertTrue(restored.changes(user("john@infobip.com", customAttributes("level", 1))).isEmpty());
+        assertTrue(AcknowledgedFields.fromJson("not json").isEmpty());
+        assertTrue(AcknowledgedFields.fromJson(null).isEmpty());
+    }
+
+    private static Map<String, Object> installation(String appVersion, boolean notificationsEnabled) {
+        Map<String, Object> installation = new HashMap<>();
+        installation.put(AppInstanceAtts.pushServiceToken, "cTvSW0Ffp8c:APA91bFgsK4h3wqL2vQ8dXyZ0aBcDeFgHiJkLmNoPqRsTuVwXyZ");
+        installation.put(AppInstanceAtts.pushServiceType, "Firebase");
+        installation.put(AppInstanceAtts.regEnabled, true);
+        installation.put(AppInstanceAtts.sdkVersion, "14.0.0");
+        installation.put(AppInstanceAtts.appVersion, appVersion);
+        installation.put(AppInstanceAtts.os, "Android");
+        installation.put(AppInstanceAtts.osVersion, "14");
+        installation.put(AppInstanceAtts.deviceManufacturer, "Google");
+        installation.put(AppInstanceAtts.deviceModel, "Pixel 8");
+        installation.put(AppInstanceAtts.deviceSecure, true);
+        installation.put(AppInstanceAtts.language, "en");
+        installation.put(AppInstanceAtts.deviceTimezoneOffset, "GMT+01:00");
+        installation.put(AppInstanceAtts.notificationsEnabled, notificationsEnabled);
+        installation.put(AppInstanceAtts.isPrimary, false);
+        return installation;
+    }
+
+    private static Map<String, Object> user(String email, Map<String, Object> customAttributes) {
+        Map<String, Object> user = new HashMap<>();
+        user.put(UserAtts.externalUserId, "user-1");
+        user.put(UserAtts.firstName, "John");
+        user.put(UserAtts.lastName, "Doe");
+        user.put(UserAtts.emails, Collections.singletonList(Collections.singletonMap(UserAtts.emailAddress, email)));
+        user.put(UserAtts.tags, CollectionUtils.setOf("sports", "music"));
+        user.put(UserAtts.customAttributes, customAttributes);
+        return user;
+    }
+
+    private static Map<String, Object> customAttributes(Object... keysAndValues) {
+        Map<String, Object> customAttributes = new HashMap<>();
+        for (int i = 0; i < keysAndValues.length; i += 2) {
+            customAttributes.put((String) keysAndValues[i], keysAndValues[i + 1]);
+        }
+        return customAttributes;
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * BatcherTest.java
+ * Mobile Messaging SDK
+ *
+ * Copyright (c) 2016-2025 Infobip Limited
+ * Licensed under the Apache License, Version 2.0
+ */
+package org.infobip.mobile.messaging.mobileapi;
+
+import org.infobip.mobile.messaging.platform.TimeProvider;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+
+public class BatcherTest {
+
+    private static final long MAX_DELAY_MILLIS = TimeUnit.SECONDS.toMillis(10);
+
+    private static class StubTimeProvider implements TimeProvider {
+
+        private long time = TimeUnit.DAYS.toMillis(1);
+
+        @Override
+        public long now() {
+            return time;
+        }
+    }
+
+    private class StubScheduler implements Batcher.Scheduler {
+
+        private final List<FutureTask<?>> tasks = new ArrayList<>();
+        private final List<Long> runAt = new ArrayList<>();
+
+        @Override
+        public Future<?> schedule(Runnable task, long delayMillis) {
+            FutureTask<?> futureTask = new FutureTask<>(task, null);
+            tasks.add(futureTask);
+            runAt.add(timeProvider.now() + delayMillis);
+            return futureTask;
+        }
+
+        private void forward(long millis) {
+            timeProvider.time += millis;
+            for (int i = 0; i < tasks.size(); i++) {
+                if (runAt.get(i) <= timeProvider.time) {
+                    tasks.get(i).run();
+                }
+            }
+        }
+
+        private int pendingCount() {
+            int count = 0;
+            for (FutureTask<?> task : tasks) {
+                if (!task.isDone()) {
+                    count++;
+                }
+            }
+            return count;
+        }
+    }
+
+    private StubTimeProvider timeProvider;
+    private StubScheduler scheduler;
+    private List<List<String>> flushes;
+    private Batcher<String> batcher;
+
+    @Before
+    public void setUp() {
+        timeProvider = new StubTimeProvider();
+        scheduler = new StubScheduler();
+        flushes = new ArrayList<>();
+        batcher = new Batcher<>(3, MAX_DELAY_MILLIS, timeProvider, scheduler, batch -> flushes.add(batch));
+    }
+
+    @Test
+    public void test_shouldFlushFirstItemRightAway() {
+        batcher.add("a");
+
+        assertEquals(1, flushes.size());
+        assertEquals(Arrays.asList("a"), flushes.get(0));
+        assertEquals(0, scheduler.pendingCount());
+    }
+
+    @Test
+    public void test_shouldMergeItemsOfOneWindowIntoOneFlush() {
+        batcher.add("a");
+        batcher.add("b");
+        scheduler.forward(MAX_DELAY_MILLIS / 2);
+        batcher.add("c");
+        batcher.add("b");
+
+        assertEquals(1, flushes.size());
+        assertEquals(1, scheduler.pendingCount());
+        assertTrue(batcher.contains("b"));
+
+        scheduler.forward(MAX_DELAY_MILLIS / 2);
+
+        assertEquals(2, flushes.size());
+        assertEquals(Arrays.asList("b", "c"), flushes.get(1));
+        assertFalse(batcher.contains("b"));
+    }
+
+    @Test
+    public void test_shouldFlushWhenBatchIsFull() {
+        batcher.add("a");
+        batcher.addAll(Arrays.asList("b", "c"));
+        batcher.add("d");
+
+        assertEquals(2, flushes.size());
+        assertEquals(Arrays.asList("b", "c", "d"), flushes.get(1));
+        assertEquals(0, scheduler.pendingCount());
+    }
+
+    @Test
+    public void test_shouldSplitLargeAdditionIntoBatches() {
+        batcher.add("a");
+        batcher.addAll(Arrays.asList("b", "c", "d", "e"));
+
+        assertEquals(3, flushes.size());
+        assertEquals(Arrays.asList("b", "c", "d"), flushes.get(1));
+        assertEquals(Arrays.asList("e"), flushes.get(2));
+    }
+
+    @Test
+    public void test_shouldFlushRightAwayAfterQuietPeriod() {
+        batcher.add("a");
+        scheduler.forward(MAX_DELAY_MILLIS);
+        batcher.add("b");
+
+        assertEquals(2, flushes.size());
+        assertEquals(Arrays.asList("b"), flushes.get(1));
+        assertEquals(0, scheduler.pendingCount());
+    }
+
+    @Test
+    public void test_shouldFlushPendingItemsOnDemand() {
+        batcher.add("a");
+        batcher.add("b");
+
+        batcher.flush();
+        batcher.flush();
+        scheduler.forward(MAX_DELAY_MILLIS);
+
+        assertEquals(2, flushes.size());
+        assertEquals(Arrays.asList("b"), flushes.get(1));
+        assertEquals(0, scheduler.pendingCount());
+    }
+
+    @Test
+    public void test_shouldFlushAllBatchers() {
+        List<List<String>> otherFlushes = new ArrayList<>();
+        Batcher<String> other = new Batcher<>(3, MAX_DELAY_MILLIS, timeProvider, scheduler, batch -> otherFlushes.add(batch));
+        batcher.add("a");
+        batcher.add("b");
+        other.add("x");
+        other.add("y");
+
+        Batcher.flushAll();
+
+        assertEquals(Arrays.asList("b"), flushes.get(1));
+        assertEquals(Arrays.asList("y"), otherFlushes.get(1));
+    }
+
+    @Test
+    public void test_shouldRunRepeatedReportingTaskOnce() {
+        final int[] runs = new int[2];
+        Runnable first = () -> runs[0]++;
+        Runnable second = () -> runs[1]++;
+        BatchReporter batchReporter = new BatchReporter(MAX_DELAY_MILLIS, timeProvider, scheduler);
+
+        for (int i = 0; i < 5; i++) {
+            batchReporter.put(first);
+        }
+        batchReporter.put(second);
+
+        assertEquals(1, runs[0]);
+        assertEquals(0, runs[1]);
+
+        scheduler.forward(MAX_DELAY_MILLIS);
+
+        assertEquals(2, runs[0]);
+        assertEquals(1, runs[1]);
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * PushLatencyStatsTest.java
+ * Mobile Messaging SDK
+ *
+ * Copyright (c) 2016-2025 Infobip Limited
+ * Licensed under the Apache License, Version 2.0
+ */
+package org.infobip.mobile.messaging.stats;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static junit.framework.Assert.assertEquals;
+
+public class PushLatencyStatsTest {
+
+    private PushLatencyStats stats;
+
+    @Before
+    public void setUp() {
+        stats = new PushLatencyStats();
+    }
+
+    @Test
+    public void test_shouldReturnPercentilesOfRecordedSamples() {
+        for (int i = 100; i >= 1; i--) {
+            stats.record(i * 10);
+        }
+
+        assertEquals(100, stats.getSampleCount());
+        assertEquals(500, stats.getPercentileMillis(50));
+        assertEquals(900, stats.getPercentileMillis(90));
+        assertEquals(1000, stats.getPercentileMillis(100));
+        assertEquals(10, stats.getPercentileMillis(0));
+    }
+
+    @Test
+    public void test_shouldKeepOnlyLatestSamples() {
+        for (int i = 0; i < PushLatencyStats.SAMPLE_COUNT; i++) {
+            stats.record(5000);
+        }
+        for (int i = 0; i < PushLatencyStats.SAMPLE_COUNT; i++) {
+            stats.record(50);
+        }
+
+        assertEquals(PushLatencyStats.SAMPLE_COUNT, stats.getSampleCount());
+        assertEquals(50, stats.getPercentileMillis(100));
+    }
+
+    @Test
+    public void test_shouldReturnNoLatencyWithoutSamples() {
+        stats.record(100);
+        stats.reset();
+
+        assertEquals(0, stats.getSampleCount());
+        assertEquals(-1, stats.getPercentileMillis(50));
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * ProxyInvocationBenchmark.java
+ * Mobile Messaging SDK
+ *
+ * Copyright (c) 2016-2025 Infobip Limited
+ * Licensed under the Apache License, Version 2.0
+ */
+package org.infobip.mobile.messaging.api.support;
+
+import org.infobip.mobile.messaging.api.appinstance.MobileApiAppInstance;
+import org.infobip.mobile.messaging.api.appinstance.UserCustomEventBody;
+import org.infobip.mobile.messaging.api.inbox.MobileApiInbox;
+import org.infobip.mobile.messaging.api.messages.MobileApiMessages;
+import org.infobip.mobile.messaging.api.messages.SyncMessagesBody;
+import org.infobip.mobile.messaging.api.support.http.client.DefaultApiClient;
+import org.infobip.mobile.messaging.api.support.http.client.HttpMethod;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures overhead of {@link Generator} proxies: everything from the interface call up to {@link DefaultApiClient#execute},
+ * which is replaced with a no-op.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProxyInvocationBenchmark {
+
+    private MobileApiMessages mobileApiMessages;
+    private MobileApiAppInstance mobileApiAppInstance;
+    private MobileApiInbox mobileApiInbox;
+    private SyncMessagesBody syncMessagesBody;
+    private UserCustomEventBody userCustomEventBody;
+
+    @Setup
+    public void setUp() {
+        Properties properties = new Properties();
+        properties.put("api.key", "appCode");
+        Generator generator = new Generator.Builder()
+                .withBaseUrl("https://mobile.infobip.com/")
+                .withProperties(properties)
+                .build();
+        generator.setApiClient(new NoOpApiClient());
+
+        mobileApiMessages = generator.create(MobileApiMessages.class);
+        mobileApiAppInstance = generator.create(MobileApiAppInstance.class);
+        mobileApiInbox = generator.create(MobileApiInbox.class);
+        syncMessagesBody = new SyncMessagesBody(new String[]{"id1", "id2"}, new String[]{"id3"});
+        userCustomEventBody = new UserCustomEventBody();
+    }
+
+    @Benchmark
+    public void syncMessages(Blackhole blackhole) {
+        blackhole.consume(mobileApiMessages.sync(syncMessagesBody));
+    }
+
+    @Benchmark
+    public void sendUserCustomEvents() {
+        mobileApiAppInstance.sendUserCustomEvents("pushRegistrationId", false, userCustomEventBody);
+    }
+
+    @Benchmark
+    public void getInstance(Blackhole blackhole) {
+        blackhole.consume(mobileApiAppInstance.getInstance("pushRegistrationId"));
+    }
+
+    @Benchmark
+    public void fetchInbox(Blackhole blackhole) {
+        blackhole.consume(mobileApiInbox.fetchInbox("externalUserId", "Bearer token", "2025-01-01T00:00:00+01:00", "2025-02-01T00:00:00+01:00", "topic", 20, "gcm"));
+    }
+
+    private static class NoOpApiClient extends DefaultApiClient {
+        private Object sink;
+
+        @Override
+        public <B, R> R execute(HttpMethod method, String uri, String apiKey, Tuple<String, String> credentials, Map<String, Collection<Object>> queryParams, Map<String, Collection<Object>> headers, B body, Class<R> responseType) {
+            sink = uri;
+            return null;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * ExecuteBenchmark.java
+ * Mobile Messaging SDK
+ *
+ * Copyright (c) 2016-2025 Infobip Limited
+ * Licensed under the Apache License, Version 2.0
+ */
+package org.infobip.mobile.messaging.api.support.http.client;
+
+import org.infobip.mobile.messaging.api.inbox.FetchInboxResponse;
+import org.infobip.mobile.messaging.api.inbox.MobileApiInbox;
+import org.infobip.mobile.messaging.api.messages.MessageResponse;
+import org.infobip.mobile.messaging.api.messages.MobileApiMessages;
+import org.infobip.mobile.messaging.api.messages.SyncMessagesBody;
+import org.infobip.mobile.messaging.api.messages.SyncMessagesResponse;
+import org.infobip.mobile.messaging.api.support.Generator;
+import org.infobip.mobile.messaging.api.tools.ConnectionCountingServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end cost of API calls made through {@link Generator} proxies: binding, serialization, HTTP exchange
+ * over a kept-alive loopback connection and decoding, against the in-process {@link ConnectionCountingServer}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ExecuteBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class SyncServer {
+
+        @Param({"1", "50"})
+        public int messageCount;
+
+        ConnectionCountingServer server;
+        MobileApiMessages mobileApiMessages;
+        SyncMessagesBody body;
+
+        @Setup
+        public void setUp() throws IOException {
+            server = startServer(DefaultApiClient.JSON_SERIALIZER.serialize(new SyncMessagesResponse(messages(messageCount))));
+            mobileApiMessages = generator(server).create(MobileApiMessages.class);
+            body = new SyncMessagesBody(new String[]{"id1", "id2"}, new String[]{"id3"});
+        }
+
+        @TearDown
+        public void tearDown() {
+            server.stop();
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class InboxServer {
+
+        @Param({"1", "50"})
+        public int messageCount;
+
+        ConnectionCountingServer server;
+        MobileApiInbox mobileApiInbox;
+
+        @Setup
+        public void setUp() throws IOException {
+            List<MessageResponse> messages = messages(messageCount);
+            server = startServer(DefaultApiClient.JSON_SERIALIZER.serialize(new FetchInboxResponse(messageCount, messageCount / 2, null, null, messages)));
+            mobileApiInbox = generator(server).create(MobileApiInbox.class);
+        }
+
+        @TearDown
+        public void tearDown() {
+            server.stop();
+        }
+    }
+
+    @Benchmark
+    public SyncMessagesResponse syncMessages(SyncServer state) {
+        return state.mobileApiMessages.sync(state.body);
+    }
+
+    @Benchmark
+    public FetchInboxResponse fetchInbox(InboxServer state) {
+        return state.mobileApiInbox.fetchInbox("externalUserId", "Bearer token", "2025-01-01T00:00:00+01:00", "2025-02-01T00:00:00+01:00", "topic", 20, "gcm");
+    }
+
+    private static ConnectionCountingServer startServer(String response) throws IOException {
+        ConnectionCountingServer server = new ConnectionCountingServer();
+        server.start();
+        server.respondWith(200, response);
+        return server;
+    }
+
+    private static Generator generator(ConnectionCountingServer server) {
+        Properties properties = new Properties();
+        properties.put("api.key", "appCode");
+        return new Generator.Builder()
+                .withBaseUrl(server.getUrl())
+                .withProperties(properties)
+                .build();
+    }
+
+    private static List<MessageResponse> messages(int count) {
+        List<MessageResponse> messages = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            messages.add(new MessageResponse("messageId" + i, "Title " + i, "Body of the message number " + i, "default", "true", "false", "category",
+                    "{\"key\":\"value\",\"number\":" + i + "}",
+                    "{\"sendDateTime\":1500000000000,\"bulkId\":\"bulk\",\"inApp\":false,\"atts\":[{\"url\":\"https://www.infobip.com/image.png\"}]}"));
+        }
+        return messages;
+    }
+}
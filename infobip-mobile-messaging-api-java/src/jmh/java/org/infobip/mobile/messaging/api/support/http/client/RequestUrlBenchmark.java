@@ -0,0 +1,65 @@
+/*
+ * RequestUrlBenchmark.java
+ * Mobile Messaging SDK
+ *
+ * Copyright (c) 2016-2025 Infobip Limited
+ * Licensed under the Apache License, Version 2.0
+ */
+package org.infobip.mobile.messaging.api.support.http.client;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.UnsupportedEncodingException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building of the request url from the bound uri and query parameters in {@link DefaultApiClient#buildUrl(Request)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RequestUrlBenchmark {
+
+    private DefaultApiClient apiClient;
+    private Request singleQuery;
+    private Request inboxQuery;
+
+    @Setup
+    public void setUp() {
+        apiClient = new DefaultApiClient();
+
+        Map<String, Collection<Object>> platformType = new HashMap<>();
+        platformType.put("platformType", Collections.<Object>singleton("GCM"));
+        singleQuery = new Request(HttpMethod.POST, "https://mobile.infobip.com/mobile/5/messages", "appCode", null,
+                new HashMap<String, Collection<Object>>(), platformType, null);
+
+        Map<String, Collection<Object>> inbox = new LinkedHashMap<>();
+        inbox.put("dateTimeFrom", Collections.<Object>singleton("2025-01-01T00:00:00+01:00"));
+        inbox.put("dateTimeTo", Collections.<Object>singleton("2025-02-01T00:00:00+01:00"));
+        inbox.put("messageTopic", Collections.<Object>singleton("promotions & offers"));
+        inbox.put("limit", Collections.<Object>singleton(20));
+        inboxQuery = new Request(HttpMethod.GET, "https://mobile.infobip.com/mobile/1/user/externalUserId/inbox/gcm/messages", null, null,
+                new HashMap<String, Collection<Object>>(), inbox, null);
+    }
+
+    @Benchmark
+    public String singleQueryParam() throws UnsupportedEncodingException {
+        return apiClient.buildUrl(singleQuery);
+    }
+
+    @Benchmark
+    public String encodedQueryParams() throws UnsupportedEncodingException {
+        return apiClient.buildUrl(inboxQuery);
+    }
+}
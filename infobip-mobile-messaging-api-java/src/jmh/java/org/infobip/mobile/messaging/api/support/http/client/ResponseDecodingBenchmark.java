@@ -0,0 +1,65 @@
+/*
+ * ResponseDecodingBenchmark.java
+ * Mobile Messaging SDK
+ *
+ * Copyright (c) 2016-2025 Infobip Limited
+ * Licensed under the Apache License, Version 2.0
+ */
+package org.infobip.mobile.messaging.api.support.http.client;
+
+import org.infobip.mobile.messaging.api.messages.MessageResponse;
+import org.infobip.mobile.messaging.api.messages.SyncMessagesResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares buffered (String + two parses) and streaming (single pass) decoding of successful responses
+ * for sync payloads of different sizes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResponseDecodingBenchmark {
+
+    @Param({"1", "50", "500"})
+    public int messageCount;
+
+    private DefaultApiClient apiClient;
+    private byte[] body;
+
+    @Setup
+    public void setUp() {
+        apiClient = new DefaultApiClient();
+
+        List<MessageResponse> payloads = new ArrayList<>(messageCount);
+        for (int i = 0; i < messageCount; i++) {
+            payloads.add(new MessageResponse("messageId" + i, "Title " + i, "Body of the message number " + i, "default", "true", "false", "category",
+                    "{\"key\":\"value\",\"number\":" + i + "}",
+                    "{\"sendDateTime\":1500000000000,\"bulkId\":\"bulk\",\"inApp\":false,\"atts\":[{\"url\":\"https://www.infobip.com/image.png\"}]}"));
+        }
+        body = DefaultApiClient.JSON_SERIALIZER.serialize(new SyncMessagesResponse(payloads)).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public SyncMessagesResponse buffered() throws IOException {
+        return apiClient.decodeBuffered(new ByteArrayInputStream(body), HttpMethod.POST, SyncMessagesResponse.class, body.length);
+    }
+
+    @Benchmark
+    public SyncMessagesResponse streaming() throws IOException {
+        return apiClient.decodeStreaming(new ByteArrayInputStream(body), HttpMethod.POST, SyncMessagesResponse.class);
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * ModelSerializationBenchmark.java
+ * Mobile Messaging SDK
+ *
+ * Copyright (c) 2016-2025 Infobip Limited
+ * Licensed under the Apache License, Version 2.0
+ */
+package org.infobip.mobile.messaging.api.support.http.serialization;
+
+import org.infobip.mobile.messaging.api.appinstance.UserBody;
+import org.infobip.mobile.messaging.api.inbox.FetchInboxResponse;
+import org.infobip.mobile.messaging.api.messages.MessageResponse;
+import org.infobip.mobile.messaging.api.messages.MoMessage;
+import org.infobip.mobile.messaging.api.messages.MoMessagesBody;
+import org.infobip.mobile.messaging.api.messages.SeenMessages;
+import org.infobip.mobile.messaging.api.messages.SyncMessagesResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Gson serialization of request bodies and deserialization of response bodies, with the serializer used by
+ * {@link org.infobip.mobile.messaging.api.support.http.client.DefaultApiClient}. {@link #itemCount} is the number
+ * of messages in bodies and responses, and of emails, phones, tags and custom attributes in {@link UserBody}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ModelSerializationBenchmark {
+
+    @Param({"1", "50", "500"})
+    public int itemCount;
+
+    private final JsonSerializer serializer = new JsonSerializer();
+
+    private MoMessagesBody moMessagesBody;
+    private UserBody userBody;
+    private SeenMessages seenMessages;
+    private String syncMessagesResponse;
+    private String fetchInboxResponse;
+
+    @Setup
+    public void setUp() {
+        MoMessage[] moMessages = new MoMessage[itemCount];
+        SeenMessages.Message[] seen = new SeenMessages.Message[itemCount];
+        List<MessageResponse> messages = new ArrayList<>(itemCount);
+        Set<UserBody.Email> emails = new HashSet<>();
+        Set<UserBody.Phone> phones = new HashSet<>();
+        Set<String> tags = new HashSet<>();
+        Map<String, Object> customAttributes = new HashMap<>();
+        for (int i = 0; i < itemCount; i++) {
+            Map<String, Object> customPayload = new HashMap<>();
+            customPayload.put("key", "value");
+            customPayload.put("number", i);
+            moMessages[i] = new MoMessage("messageId" + i, "destination", "Text of the message number " + i, null, "bulk", customPayload);
+            seen[i] = new SeenMessages.Message("messageId" + i, i);
+            messages.add(new MessageResponse("messageId" + i, "Title " + i, "Body of the message number " + i, "default", "true", "false", "category",
+                    "{\"key\":\"value\",\"number\":" + i + "}",
+                    "{\"sendDateTime\":1500000000000,\"bulkId\":\"bulk\",\"inApp\":false,\"atts\":[{\"url\":\"https://www.infobip.com/image.png\"}]," +
+                            "\"inbox\":{\"topic\":\"topic" + (i % 5) + "\",\"seen\":" + (i % 2 == 0) + "}}"));
+            emails.add(new UserBody.Email("user" + i + "@infobip.com"));
+            phones.add(new UserBody.Phone("38516" + i));
+            tags.add("tag" + i);
+            customAttributes.put("attribute" + i, i % 2 == 0 ? "value" + i : i);
+        }
+
+        moMessagesBody = new MoMessagesBody("pushRegistrationId", moMessages);
+        seenMessages = new SeenMessages(seen);
+        userBody = new UserBody();
+        userBody.setExternalUserId("externalUserId");
+        userBody.setFirstName("John");
+        userBody.setLastName("Smith");
+        userBody.setBirthday("1990-01-01");
+        userBody.setGender("Male");
+        userBody.setEmails(emails);
+        userBody.setPhones(phones);
+        userBody.setTags(tags);
+        userBody.setCustomAttributes(customAttributes);
+
+        syncMessagesResponse = serializer.serialize(new SyncMessagesResponse(messages));
+        fetchInboxResponse = serializer.serialize(new FetchInboxResponse(itemCount, itemCount / 2, null, null, messages));
+    }
+
+    @Benchmark
+    public String serializeMoMessagesBody() {
+        return serializer.serialize(moMessagesBody);
+    }
+
+    @Benchmark
+    public String serializeUserBody() {
+        return serializer.serialize(userBody);
+    }
+
+    @Benchmark
+    public String serializeSeenMessages() {
+        return serializer.serialize(seenMessages);
+    }
+
+    @Benchmark
+    public SyncMessagesResponse deserializeSyncMessagesResponse() {
+        return serializer.deserialize(syncMessagesResponse, SyncMessagesResponse.class);
+    }
+
+    @Benchmark
+    public FetchInboxResponse deserializeFetchInboxResponse() {
+        return serializer.deserialize(fetchInboxResponse, FetchInboxResponse.class);
+    }
+}
@@ -21,8 +21,11 @@ import org.infobip.mobile.messaging.api.support.http.Paths;
 import org.infobip.mobile.messaging.api.support.http.Queries;
 import org.infobip.mobile.messaging.api.support.http.Query;
 import org.infobip.mobile.messaging.api.support.http.Version;
+import org.infobip.mobile.messaging.api.support.http.client.CompressionMetrics;
 import org.infobip.mobile.messaging.api.support.http.client.DefaultApiClient;
 import org.infobip.mobile.messaging.api.support.http.client.HttpMethod;
+import org.infobip.mobile.messaging.api.support.http.client.HttpTransport;
+import org.infobip.mobile.messaging.api.support.http.client.KeepAliveHttpTransport;
 import org.infobip.mobile.messaging.api.support.http.client.Logger;
 import org.infobip.mobile.messaging.api.support.http.client.RequestInterceptor;
 import org.infobip.mobile.messaging.api.support.http.client.ResponsePreProcessor;
@@ -37,6 +40,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.ConcurrentHashMap;
@@ -68,13 +72,17 @@ public class Generator {
     private ResponsePreProcessor[] responsePreProcessors = new ResponsePreProcessor[0];
     private Logger logger = new Logger();
     private boolean allowUntrustedSSLOnError = false;
+    private boolean streamingResponseDecoding = true;
+    private HttpTransport httpTransport = new KeepAliveHttpTransport();
+    private int gzipRequestThreshold = DefaultApiClient.GZIP_DISABLED;
+    private CompressionMetrics compressionMetrics = new CompressionMetrics();
 
     private DefaultApiClient getApiClient() {
         if (null != apiClient) {
             return apiClient;
         }
         String libraryVersion = properties.getProperty("library.version");
-        apiClient = new DefaultApiClient(connectTimeout, readTimeout, libraryVersion, requestInterceptors, responsePreProcessors, logger, allowUntrustedSSLOnError, userAgentAdditions);
+        apiClient = new DefaultApiClient(connectTimeout, readTimeout, libraryVersion, requestInterceptors, responsePreProcessors, logger, allowUntrustedSSLOnError, streamingResponseDecoding, httpTransport, gzipRequestThreshold, compressionMetrics, userAgentAdditions);
         return apiClient;
     }
 
@@ -82,8 +90,11 @@ public class Generator {
     public <T> T create(@NonNull Class<T> type) {
         CachingInvocationHandler<?> cachingInvocationHandler = proxyCacheMap.get(type);
         if (null == cachingInvocationHandler) {
-            cachingInvocationHandler = new CachingInvocationHandler<>(type);
-            proxyCacheMap.put(type, cachingInvocationHandler);
+            CachingInvocationHandler<?> newHandler = new CachingInvocationHandler<>(type);
+            cachingInvocationHandler = proxyCacheMap.putIfAbsent(type, newHandler);
+            if (null == cachingInvocationHandler) {
+                cachingInvocationHandler = newHandler;
+            }
         }
         return (T) cachingInvocationHandler.getProxy();
     }
@@ -308,6 +319,41 @@ public class Generator {
             return this;
         }
 
+        /**
+         * Will decode successful responses in one pass straight from the connection stream if `true` supplied. Default is: true
+         * @param streamingResponseDecoding setting
+         * @return {@link Builder}
+         */
+        public Builder withStreamingResponseDecoding(boolean streamingResponseDecoding) {
+            generator.streamingResponseDecoding = streamingResponseDecoding;
+            return this;
+        }
+
+        /**
+         * Will set transport which opens and releases http connections. By default connections are kept alive and reused,
+         * see {@link KeepAliveHttpTransport}
+         * @param httpTransport transport
+         * @return {@link Builder}
+         */
+        public Builder withHttpTransport(@NonNull HttpTransport httpTransport) {
+            generator.httpTransport = httpTransport;
+            return this;
+        }
+
+        /**
+         * Will enable gzip compression: gzipped responses are accepted and request bodies of at least given size are sent gzipped.
+         * Saved bytes are available in {@link Generator#getCompressionMetrics()}. Disabled by default.
+         * @param requestThresholdBytes minimum size of request body to compress
+         * @return {@link Builder}
+         */
+        public Builder withGzipCompression(int requestThresholdBytes) {
+            if (requestThresholdBytes < 0) {
+                throw new IllegalArgumentException("requestThresholdBytes must not be negative");
+            }
+            generator.gzipRequestThreshold = requestThresholdBytes;
+            return this;
+        }
+
         public Generator build() {
             if (StringUtils.isBlank(generator.getBaseUrl())) {
                 throw new IllegalArgumentException("baseUrl is mandatory");
@@ -320,7 +366,7 @@ public class Generator {
     @Data
     private class CachingInvocationHandler<T> implements InvocationHandler {
         private final Class<T> type;
-        private ConcurrentHashMap<Method, ProxyCache> proxyCacheMap = new ConcurrentHashMap<>();
+        private ConcurrentHashMap<Method, RequestTemplate> requestTemplateMap = new ConcurrentHashMap<>();
 
         @SuppressWarnings("unchecked")
         public T getProxy() {
@@ -329,75 +375,183 @@ public class Generator {
 
         @Override
         public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
-            ProxyCache proxyCache = getProxyCache(method);
-            String uri;
+            RequestTemplate template = getRequestTemplate(method);
 
-            Map<String, Collection<Object>> queryParams = new HashMap<>(proxyCache.getDefaultQueryParams());
-            Map<String, Collection<Object>> headerMap = new HashMap<>(proxyCache.getDefaultHeaderMap());
-            String apiKey = proxyCache.getApiKey();
-            Tuple<String, String> credentials = proxyCache.getCredentials();
+            Map<String, Collection<Object>> queryParams = template.bindQueryParams(args);
+            Map<String, Collection<Object>> headerMap = template.bindHeaderMap(args);
+            Object body = template.bodyIndex < 0 ? null : args[template.bodyIndex];
 
-            Parameter[] parameters = proxyCache.getParameters();
-            Object body = null;
+            return getApiClient().execute(template.httpMethod, template.bindUri(args), template.apiKey, template.credentials, queryParams, headerMap, body, template.returnType);
+        }
 
-            boolean hasFullUrl = false;
-            boolean hasUriAnnotations = false;
+        private RequestTemplate getRequestTemplate(Method method) {
+            RequestTemplate template = requestTemplateMap.get(method);
+            if (null != template) {
+                return template;
+            }
 
-            uri = StringUtils.join("/", baseUrl, proxyCache.getUri());
+            template = new RequestTemplate(method);
+            RequestTemplate existing = requestTemplateMap.putIfAbsent(method, template);
+            return existing != null ? existing : template;
+        }
+    }
 
-            for (int i = 0, parametersLength = parameters.length; i < parametersLength; i++) {
-                Parameter parameter = parameters[i];
-                Object arg = args[i];
+    /**
+     * Immutable description of a request made by one proxy method, compiled once from its annotations.
+     * Invocations only bind the arguments: {@code @Path}/{@code @Version} arguments are inserted between pre-split
+     * uri parts, {@code @Query}/{@code @Header}/{@code @Body} arguments are looked up by their position.
+     */
+    private class RequestTemplate {
+        private final HttpRequest[] httpRequests;
+        private final HttpMethod httpMethod;
+        private final Class<?> returnType;
+        private final String uri;
+        private final String[] uriParts;
+        private final int[] uriArgIndexes;
+        private final int fullUrlIndex;
+        private final int bodyIndex;
+        private final String[] queryNames;
+        private final int[] queryIndexes;
+        private final String[] headerNames;
+        private final int[] headerIndexes;
+        private final Map<String, Collection<Object>> defaultQueryParams;
+        private final Map<String, Collection<Object>> defaultHeaderMap;
+        private final String apiKey;
+        private final Tuple<String, String> credentials;
+        private volatile Tuple<String, String> baseUrlWithFirstPart;
 
-                if (null != parameter.getBody()) {
-                    body = arg;
-                }
+        RequestTemplate(Method method) {
+            this.httpRequests = createHttpRequest(method);
+            this.httpMethod = getHttpRequestMethod(httpRequests);
+            this.returnType = method.getReturnType();
+            this.uri = createUri(method);
+            this.defaultQueryParams = Collections.unmodifiableMap(createDefaultQueryParams(method));
+            this.defaultHeaderMap = Collections.unmodifiableMap(createDefaultHeaderMap(method));
+            this.apiKey = findApiKey(method);
+            this.credentials = findCredentials(method);
 
-                FullUrl fullUrl = parameter.getFullUrl();
-                if (null != fullUrl) {
-                    uri = arg.toString();
-                    hasFullUrl = true;
+            Annotation[][] parameterAnnotations = method.getParameterAnnotations();
+            Map<String, Integer> placeholderIndexes = new HashMap<>();
+            List<String> queryNames = new ArrayList<>();
+            List<Integer> queryIndexes = new ArrayList<>();
+            List<String> headerNames = new ArrayList<>();
+            List<Integer> headerIndexes = new ArrayList<>();
+            int fullUrlIndex = -1;
+            int bodyIndex = -1;
+            boolean hasUriAnnotations = false;
+            for (int i = 0; i < parameterAnnotations.length; i++) {
+                Annotation[] annotations = parameterAnnotations[i];
+                if (null != getAnnotation(annotations, Body.class)) {
+                    bodyIndex = i;
                 }
-
-                Version version = parameter.getVersion();
-                if (null != version) {
-                    uri = uri.replace("{version}", arg.toString());
+                if (null != getAnnotation(annotations, FullUrl.class)) {
+                    fullUrlIndex = i;
+                }
+                if (null != getAnnotation(annotations, Version.class)) {
+                    putIfAbsent(placeholderIndexes, "{version}", i);
                     hasUriAnnotations = true;
                 }
-
-                Path path = parameter.getPath();
+                Path path = getAnnotation(annotations, Path.class);
                 if (null != path) {
-                    uri = uri.replace("{" + path.name() + "}", arg.toString());
+                    putIfAbsent(placeholderIndexes, "{" + path.name() + "}", i);
                     hasUriAnnotations = true;
                 }
-
-                Query q = parameter.getQuery();
-                if (null != q) {
-                    String name = q.name();
-                    Collection<Object> value = toCollection(arg);
-                    if (value != null) {
-                        queryParams.put(name, value);
-                    }
+                Query query = getAnnotation(annotations, Query.class);
+                if (null != query) {
+                    queryNames.add(query.name());
+                    queryIndexes.add(i);
                     hasUriAnnotations = true;
                 }
-
-                Header h = parameter.getHeader();
-                if (null != h) {
-                    String name = h.name();
-                    headerMap.put(name, toCollection(arg));
+                Header header = getAnnotation(annotations, Header.class);
+                if (null != header) {
+                    headerNames.add(header.name());
+                    headerIndexes.add(i);
                 }
             }
 
-            // Validate after processing that @FullUrl wasn't mixed with URI-building annotations
-            if (hasFullUrl && hasUriAnnotations) {
+            if (fullUrlIndex >= 0 && hasUriAnnotations) {
                 throw new IllegalArgumentException("@FullUrl cannot be combined with @Version, @Path, or @Query annotations");
             }
 
-            if (uri != null && uri.endsWith("/")) {
+            this.fullUrlIndex = fullUrlIndex;
+            this.bodyIndex = bodyIndex;
+            this.queryNames = queryNames.toArray(new String[0]);
+            this.queryIndexes = toIntArray(queryIndexes);
+            this.headerNames = headerNames.toArray(new String[0]);
+            this.headerIndexes = toIntArray(headerIndexes);
+
+            List<String> uriParts = new ArrayList<>();
+            List<Integer> uriArgIndexes = new ArrayList<>();
+            int partStart = 0;
+            int open = uri.indexOf('{');
+            while (open >= 0) {
+                int close = uri.indexOf('}', open);
+                if (close < 0) {
+                    break;
+                }
+                Integer argIndex = placeholderIndexes.get(uri.substring(open, close + 1));
+                if (null != argIndex) {
+                    uriParts.add(uri.substring(partStart, open));
+                    uriArgIndexes.add(argIndex);
+                    partStart = close + 1;
+                }
+                open = uri.indexOf('{', close);
+            }
+            uriParts.add(uri.substring(partStart));
+            this.uriParts = uriParts.toArray(new String[0]);
+            this.uriArgIndexes = toIntArray(uriArgIndexes);
+        }
+
+        String bindUri(Object[] args) {
+            String uri;
+            if (fullUrlIndex >= 0) {
+                uri = args[fullUrlIndex].toString();
+            } else {
+                StringBuilder sb = new StringBuilder(joinBaseUrlWithFirstPart());
+                for (int i = 0; i < uriArgIndexes.length; i++) {
+                    sb.append(args[uriArgIndexes[i]].toString()).append(uriParts[i + 1]);
+                }
+                uri = sb.toString();
+            }
+
+            if (uri.endsWith("/")) {
                 uri = uri.substring(0, uri.length() - 1);
             }
+            return uri;
+        }
+
+        Map<String, Collection<Object>> bindQueryParams(Object[] args) {
+            Map<String, Collection<Object>> queryParams = new HashMap<>(defaultQueryParams.size() + queryNames.length + 2);
+            queryParams.putAll(defaultQueryParams);
+            for (int i = 0; i < queryIndexes.length; i++) {
+                Collection<Object> value = toCollection(args[queryIndexes[i]]);
+                if (value != null) {
+                    queryParams.put(queryNames[i], value);
+                }
+            }
+            return queryParams;
+        }
+
+        Map<String, Collection<Object>> bindHeaderMap(Object[] args) {
+            // mutable on purpose, request interceptors add headers to it
+            Map<String, Collection<Object>> headerMap = new HashMap<>(defaultHeaderMap.size() + headerNames.length + 8);
+            headerMap.putAll(defaultHeaderMap);
+            for (int i = 0; i < headerIndexes.length; i++) {
+                headerMap.put(headerNames[i], toCollection(args[headerIndexes[i]]));
+            }
+            return headerMap;
+        }
+
+        private String joinBaseUrlWithFirstPart() {
+            String currentBaseUrl = baseUrl;
+            Tuple<String, String> cached = baseUrlWithFirstPart;
+            if (cached != null && cached.getLeft().equals(currentBaseUrl)) {
+                return cached.getRight();
+            }
 
-            return getApiClient().execute(getHttpRequestMethod(proxyCache.httpRequests), uri, apiKey, credentials, queryParams, headerMap, body, method.getReturnType());
+            String joined = StringUtils.join("/", currentBaseUrl, uriParts[0]);
+            baseUrlWithFirstPart = new Tuple<>(currentBaseUrl, joined);
+            return joined;
         }
 
         private HttpMethod getHttpRequestMethod(HttpRequest[] httpRequests) {
@@ -408,46 +562,18 @@ public class Generator {
             return method;
         }
 
-        private ProxyCache getProxyCache(Method method) {
-            ProxyCache proxyCache = proxyCacheMap.get(method);
-            if (null != proxyCache) {
-                return proxyCache;
+        private void putIfAbsent(Map<String, Integer> map, String key, int value) {
+            if (!map.containsKey(key)) {
+                map.put(key, value);
             }
-
-            proxyCache = new ProxyCache(method);
-            proxyCacheMap.put(method, proxyCache);
-            return proxyCache;
         }
-    }
 
-    @Data
-    private class Parameter {
-        private final Body body;
-        private final Path path;
-        private final Query query;
-        private final Header header;
-        private final Version version;
-        private final FullUrl fullUrl;
-    }
-
-    @Data
-    private class ProxyCache {
-        private final HttpRequest[] httpRequests;
-        private final String uri;
-        private final HashMap<String, Collection<Object>> defaultQueryParams;
-        private final HashMap<String, Collection<Object>> defaultHeaderMap;
-        private final Parameter[] parameters;
-        private final String apiKey;
-        private final Tuple<String, String> credentials;
-
-        public ProxyCache(Method method) {
-            this.httpRequests = createHttpRequest(method);
-            this.uri = createUri(method);
-            this.defaultQueryParams = createDefaultQueryParams(method);
-            this.defaultHeaderMap = createDefaultHeaderMap(method);
-            this.parameters = createParameters(method);
-            this.apiKey = findApiKey(method);
-            this.credentials = findCredentials(method);
+        private int[] toIntArray(List<Integer> list) {
+            int[] array = new int[list.size()];
+            for (int i = 0; i < array.length; i++) {
+                array[i] = list.get(i);
+            }
+            return array;
         }
 
         private String findApiKey(Method method) {
@@ -466,24 +592,6 @@ public class Generator {
             return new Tuple<>(injectProperty(credentialsAnnotation.user()), injectProperty(credentialsAnnotation.password()));
         }
 
-        private Parameter[] createParameters(Method method) {
-            Annotation[][] parameterAnnotations = method.getParameterAnnotations();
-            Parameter[] parameters = new Parameter[parameterAnnotations.length];
-            int i = 0;
-            for (Annotation[] annotations : parameterAnnotations) {
-                Parameter parameter = new Parameter(
-                        getAnnotation(annotations, Body.class)
-                        , getAnnotation(annotations, Path.class)
-                        , getAnnotation(annotations, Query.class)
-                        , getAnnotation(annotations, Header.class)
-                        , getAnnotation(annotations, Version.class)
-                        , getAnnotation(annotations, FullUrl.class)
-                );
-                parameters[i++] = parameter;
-            }
-            return parameters;
-        }
-
         private HttpRequest[] createHttpRequest(Method method) {
             HttpRequest httpRequestOnClass = method.getDeclaringClass().getAnnotation(HttpRequest.class);
             HttpRequest httpRequest = method.getAnnotation(HttpRequest.class);
@@ -0,0 +1,71 @@
+/*
+ * CompressionMetrics.java
+ * Mobile Messaging SDK
+ *
+ * Copyright (c) 2016-2025 Infobip Limited
+ * Licensed under the Apache License, Version 2.0
+ */
+package org.infobip.mobile.messaging.api.support.http.client;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts bytes which went over the wire with gzip compression and how many bytes they represent uncompressed.
+ */
+public class CompressionMetrics {
+
+    private final AtomicLong compressedRequests = new AtomicLong(0);
+    private final AtomicLong requestBytesBeforeCompression = new AtomicLong(0);
+    private final AtomicLong requestBytesAfterCompression = new AtomicLong(0);
+    private final AtomicLong compressedResponses = new AtomicLong(0);
+    private final AtomicLong responseBytesBeforeDecompression = new AtomicLong(0);
+    private final AtomicLong responseBytesAfterDecompression = new AtomicLong(0);
+
+    void onRequestCompressed(long originalBytes, long compressedBytes) {
+        compressedRequests.incrementAndGet();
+        requestBytesBeforeCompression.addAndGet(originalBytes);
+        requestBytesAfterCompression.addAndGet(compressedBytes);
+    }
+
+    void onResponseDecompressed(long compressedBytes, long decompressedBytes) {
+        compressedResponses.incrementAndGet();
+        responseBytesBeforeDecompression.addAndGet(compressedBytes);
+        responseBytesAfterDecompression.addAndGet(decompressedBytes);
+    }
+
+    public long getCompressedRequests() {
+        return compressedRequests.get();
+    }
+
+    public long getCompressedResponses() {
+        return compressedResponses.get();
+    }
+
+    /**
+     * @return bytes not sent thanks to request body compression
+     */
+    public long getRequestBytesSaved() {
+        return requestBytesBeforeCompression.get() - requestBytesAfterCompression.get();
+    }
+
+    /**
+     * @return bytes not received thanks to response body compression
+     */
+    public long getResponseBytesSaved() {
+        return responseBytesAfterDecompression.get() - responseBytesBeforeDecompression.get();
+    }
+
+    public long getBytesSaved() {
+        return getRequestBytesSaved() + getResponseBytesSaved();
+    }
+
+    @Override
+    public String toString() {
+        return "CompressionMetrics{" +
+                "compressedRequests=" + getCompressedRequests() +
+                ", requestBytesSaved=" + getRequestBytesSaved() +
+                ", compressedResponses=" + getCompressedResponses() +
+                ", responseBytesSaved=" + getResponseBytesSaved() +
+                '}';
+    }
+}
@@ -7,11 +7,14 @@
  */
 package org.infobip.mobile.messaging.api.support.http.client;
 
+import com.google.gson.stream.JsonReader;
+
 import org.infobip.mobile.messaging.api.support.ApiBackendException;
 import org.infobip.mobile.messaging.api.support.ApiBackendExceptionWithContent;
 import org.infobip.mobile.messaging.api.support.ApiException;
 import org.infobip.mobile.messaging.api.support.ApiIOException;
 import org.infobip.mobile.messaging.api.support.Tuple;
+import org.infobip.mobile.messaging.api.support.http.client.model.ApiError;
 import org.infobip.mobile.messaging.api.support.http.client.model.ApiResponse;
 import org.infobip.mobile.messaging.api.support.http.serialization.JsonSerializer;
 import org.infobip.mobile.messaging.api.support.util.Base64Encoder;
@@ -20,9 +23,14 @@ import org.infobip.mobile.messaging.api.support.util.StringUtils;
 import org.infobip.mobile.messaging.api.support.util.UserAgentUtil;
 
 import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.OutputStream;
+import java.io.Reader;
 import java.io.UnsupportedEncodingException;
 import java.net.HttpURLConnection;
 import java.net.URL;
@@ -30,6 +38,8 @@ import java.net.URLEncoder;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 import javax.net.ssl.HttpsURLConnection;
 import javax.net.ssl.SSLHandshakeException;
@@ -43,6 +53,8 @@ public class DefaultApiClient implements ApiClient {
 
     public static final int DEFAULT_READ_TIMEOUT = 60000;
 
+    public static final int GZIP_DISABLED = -1;
+
     public static final JsonSerializer JSON_SERIALIZER = new JsonSerializer();
     private static final JsonSerializer JSON_SERIALIZER_WITH_NULLS = new JsonSerializer(true);
 
@@ -54,6 +66,10 @@ public class DefaultApiClient implements ApiClient {
     private final ResponsePreProcessor[] responsePreProcessors;
     private final Logger logger;
     private final boolean allowUntrustedSSLOnError;
+    private final boolean streamingResponseDecoding;
+    private final HttpTransport transport;
+    private final int gzipRequestThreshold;
+    private final CompressionMetrics compressionMetrics;
     private UserAgentUtil userAgentUtil = new UserAgentUtil();
 
     public DefaultApiClient() {
@@ -61,6 +77,30 @@ public class DefaultApiClient implements ApiClient {
     }
 
     public DefaultApiClient(int connectTimeout, int readTimeout, String libraryVersion, RequestInterceptor[] interceptors, ResponsePreProcessor[] responsePreProcessors, Logger logger, boolean allowUntrustedSSLOnError, String... userAgentAdditions) {
+        this(connectTimeout, readTimeout, libraryVersion, interceptors, responsePreProcessors, logger, allowUntrustedSSLOnError, true, userAgentAdditions);
+    }
+
+    /**
+     * @param streamingResponseDecoding if true, successful responses are decoded straight from the connection stream in one pass,
+     *                                  otherwise body is first read into a String and parsed separately for the payload and for request error
+     */
+    public DefaultApiClient(int connectTimeout, int readTimeout, String libraryVersion, RequestInterceptor[] interceptors, ResponsePreProcessor[] responsePreProcessors, Logger logger, boolean allowUntrustedSSLOnError, boolean streamingResponseDecoding, String... userAgentAdditions) {
+        this(connectTimeout, readTimeout, libraryVersion, interceptors, responsePreProcessors, logger, allowUntrustedSSLOnError, streamingResponseDecoding, new KeepAliveHttpTransport(), userAgentAdditions);
+    }
+
+    /**
+     * @param transport opens and releases connections, see {@link KeepAliveHttpTransport}
+     */
+    public DefaultApiClient(int connectTimeout, int readTimeout, String libraryVersion, RequestInterceptor[] interceptors, ResponsePreProcessor[] responsePreProcessors, Logger logger, boolean allowUntrustedSSLOnError, boolean streamingResponseDecoding, HttpTransport transport, String... userAgentAdditions) {
+        this(connectTimeout, readTimeout, libraryVersion, interceptors, responsePreProcessors, logger, allowUntrustedSSLOnError, streamingResponseDecoding, transport, GZIP_DISABLED, new CompressionMetrics(), userAgentAdditions);
+    }
+
+    /**
+     * @param gzipRequestThreshold request bodies of at least this many bytes are sent gzipped and gzipped responses are accepted,
+     *                             {@link #GZIP_DISABLED} turns compression off
+     * @param compressionMetrics   collects bytes saved by compression
+     */
+    public DefaultApiClient(int connectTimeout, int readTimeout, String libraryVersion, RequestInterceptor[] interceptors, ResponsePreProcessor[] responsePreProcessors, Logger logger, boolean allowUntrustedSSLOnError, boolean streamingResponseDecoding, HttpTransport transport, int gzipRequestThreshold, CompressionMetrics compressionMetrics, String... userAgentAdditions) {
         this.connectTimeout = connectTimeout;
         this.readTimeout = readTimeout;
         this.libraryVersion = libraryVersion;
@@ -69,6 +109,14 @@ public class DefaultApiClient implements ApiClient {
         this.userAgentAdditions = userAgentAdditions;
         this.logger = logger;
         this.allowUntrustedSSLOnError = allowUntrustedSSLOnError;
+        this.streamingResponseDecoding = streamingResponseDecoding;
+        this.transport = transport;
+        this.gzipRequestThreshold = gzipRequestThreshold;
+        this.compressionMetrics = compressionMetrics;
+    }
+
+    public CompressionMetrics getCompressionMetrics() {
+        return compressionMetrics;
     }
 
     @Override
@@ -85,11 +133,6 @@ public class DefaultApiClient implements ApiClient {
         logger.d("REQUEST: " + request);
 
         try {
-            StringBuilder sb = new StringBuilder();
-            for (Map.Entry<String, Collection<Object>> entry : request.queryParams.entrySet()) {
-                appendValue(sb, entry);
-            }
-
             try {
                 return executeHTTP(request, responseType, false);
             } catch (SSLHandshakeException ex) {
@@ -112,13 +155,9 @@ public class DefaultApiClient implements ApiClient {
 
     private <R> R executeHTTP(Request request, Class<R> responseType, boolean tryUntrustedSSL) throws IOException {
         HttpURLConnection urlConnection = null;
+        boolean responseReceived = false;
         try {
-            StringBuilder sb = new StringBuilder();
-            for (Map.Entry<String, Collection<Object>> entry : request.queryParams.entrySet()) {
-                appendValue(sb, entry);
-            }
-
-            urlConnection = (HttpURLConnection) new URL(request.uri + sb.toString()).openConnection();
+            urlConnection = transport.open(new URL(buildUrl(request)));
 
             if (request.httpMethod == HttpMethod.PATCH) {
                 urlConnection.setRequestProperty("X-HTTP-Method-Override", HttpMethod.PATCH.name());
@@ -164,6 +203,9 @@ public class DefaultApiClient implements ApiClient {
                 urlConnection.setRequestProperty("Authorization", "Basic " + basicApiKey);
             }
             urlConnection.setRequestProperty("Accept", "application/json");
+            if (gzipRequestThreshold != GZIP_DISABLED) {
+                urlConnection.setRequestProperty("Accept-Encoding", "gzip");
+            }
             String userAgent = urlConnection.getRequestProperty("User-Agent");
             if (null == userAgent) {
                 urlConnection.setRequestProperty("User-Agent", userAgentUtil.getUserAgent(libraryVersion, userAgentAdditions));
@@ -171,6 +213,12 @@ public class DefaultApiClient implements ApiClient {
 
             if (null != request.body) {
                 byte[] bytes = jsonSerializer(request.httpMethod).serialize(request.body).getBytes("UTF-8");
+                if (gzipRequestThreshold != GZIP_DISABLED && bytes.length >= gzipRequestThreshold) {
+                    int originalLength = bytes.length;
+                    bytes = gzip(bytes);
+                    compressionMetrics.onRequestCompressed(originalLength, bytes.length);
+                    urlConnection.setRequestProperty("Content-Encoding", "gzip");
+                }
                 urlConnection.setRequestProperty("Content-Length", "" + bytes.length);
                 urlConnection.setRequestProperty("Content-Type", "application/json");
                 OutputStream outputStream = null;
@@ -184,13 +232,15 @@ public class DefaultApiClient implements ApiClient {
             }
 
             int responseCode = urlConnection.getResponseCode();
+            responseReceived = true;
             interceptResponse(responseCode, urlConnection.getHeaderFields());
             int contentLength = urlConnection.getContentLength();
+            boolean gzipped = "gzip".equalsIgnoreCase(urlConnection.getContentEncoding());
             if (responseCode >= 400) {
                 ApiResponse apiResponse = new ApiResponse(ErrorCode.UNKNOWN_ERROR.value, ErrorCode.UNKNOWN_ERROR.description);
                 if (contentLength > 0) {
-                    InputStream inputStream = urlConnection.getErrorStream();
-                    String s = StreamUtils.readToString(inputStream, "UTF-8", contentLength);
+                    InputStream inputStream = responseStream(urlConnection.getErrorStream(), gzipped);
+                    String s = StreamUtils.readToString(inputStream, "UTF-8", gzipped ? -1 : contentLength);
                     apiResponse = jsonSerializer(request.httpMethod).deserialize(s, ApiResponse.class);
                     inputStream.close();
                 }
@@ -208,31 +258,145 @@ public class DefaultApiClient implements ApiClient {
                 return null;
             }
 
-            InputStream inputStream = urlConnection.getInputStream();
-            String s = StreamUtils.readToString(inputStream, "UTF-8", contentLength);
-            inputStream.close();
-
-            R response = jsonSerializer(request.httpMethod).deserialize(s, responseType);
-            ApiResponse apiResponse = null;
+            InputStream inputStream = responseStream(urlConnection.getInputStream(), gzipped);
+            if (streamingResponseDecoding) {
+                return decodeStreaming(inputStream, request.httpMethod, responseType);
+            }
+            return decodeBuffered(inputStream, request.httpMethod, responseType, gzipped ? -1 : contentLength);
+        } finally {
             try {
-                apiResponse = jsonSerializer(request.httpMethod).deserialize(s, ApiResponse.class);
+                if (urlConnection != null) {
+                    transport.release(urlConnection, responseReceived);
+                }
             } catch (Exception ignored) {
+
             }
+        }
+    }
+
+    /**
+     * Reads the whole body into a String and parses it twice: into the response type and into {@link ApiResponse}.
+     */
+    <R> R decodeBuffered(InputStream inputStream, HttpMethod httpMethod, Class<R> responseType, long contentLength) throws IOException {
+        String s = StreamUtils.readToString(inputStream, "UTF-8", contentLength);
+        inputStream.close();
 
-            if (apiResponse != null && apiResponse.getRequestError() != null) {
-                Tuple<String, String> tuple = safeGetErrorInfo(apiResponse, ErrorCode.UNKNOWN_API_BACKEND_ERROR.value, ErrorCode.UNKNOWN_API_BACKEND_ERROR.description);
-                throw new ApiBackendExceptionWithContent(tuple.getLeft(), tuple.getRight(), response);
+        R response = jsonSerializer(httpMethod).deserialize(s, responseType);
+        ApiResponse apiResponse = null;
+        try {
+            apiResponse = jsonSerializer(httpMethod).deserialize(s, ApiResponse.class);
+        } catch (Exception ignored) {
+        }
+
+        throwIfRequestError(apiResponse, response);
+        return response;
+    }
+
+    /**
+     * Binds the response type straight from the stream in one pass. Request error is picked up during the same pass,
+     * either bound by the response type itself or by {@link RequestErrorReader} when the response type does not declare it.
+     */
+    <R> R decodeStreaming(InputStream inputStream, HttpMethod httpMethod, Class<R> responseType) throws IOException {
+        JsonSerializer serializer = jsonSerializer(httpMethod);
+        RequestErrorReader reader = new RequestErrorReader(new BufferedReader(new InputStreamReader(inputStream, "UTF-8")), serializer);
+        R response;
+        try {
+            response = serializer.deserialize(reader, responseType);
+        } finally {
+            reader.close();
+        }
+
+        ApiResponse apiResponse = null;
+        if (response instanceof ApiResponse) {
+            apiResponse = (ApiResponse) response;
+        } else if (reader.requestError != null) {
+            apiResponse = new ApiResponse(reader.requestError);
+        }
+
+        throwIfRequestError(apiResponse, response);
+        return response;
+    }
+
+    /**
+     * Reader which binds top-level {@code requestError} to {@link ApiError} when the response type skips it as an unknown field
+     */
+    private static class RequestErrorReader extends JsonReader {
+
+        private static final String REQUEST_ERROR_PATH = "$.requestError";
+
+        private final JsonSerializer serializer;
+        ApiError requestError;
+
+        RequestErrorReader(Reader in, JsonSerializer serializer) {
+            super(in);
+            this.serializer = serializer;
+        }
+
+        @Override
+        public void skipValue() throws IOException {
+            if (REQUEST_ERROR_PATH.equals(getPath())) {
+                requestError = serializer.deserialize(this, ApiError.class);
+            } else {
+                super.skipValue();
             }
+        }
+    }
+
+    private InputStream responseStream(InputStream inputStream, boolean gzipped) throws IOException {
+        if (!gzipped) {
+            return inputStream;
+        }
+        final CountingInputStream compressed = new CountingInputStream(inputStream);
+        return new CountingInputStream(new GZIPInputStream(compressed)) {
+            @Override
+            public void close() throws IOException {
+                compressionMetrics.onResponseDecompressed(compressed.count, count);
+                super.close();
+            }
+        };
+    }
 
-            return response;
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(bytes.length / 4 + 64);
+        GZIPOutputStream gzipOutputStream = new GZIPOutputStream(buffer);
+        try {
+            gzipOutputStream.write(bytes);
         } finally {
-            try {
-                if (urlConnection != null) {
-                    urlConnection.disconnect();
-                }
-            } catch (Exception ignored) {
+            gzipOutputStream.close();
+        }
+        return buffer.toByteArray();
+    }
 
+    private static class CountingInputStream extends FilterInputStream {
+        long count = 0;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                count++;
             }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = super.read(b, off, len);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+    }
+
+    private void throwIfRequestError(ApiResponse apiResponse, Object response) {
+        if (apiResponse != null && apiResponse.getRequestError() != null) {
+            Tuple<String, String> tuple = safeGetErrorInfo(apiResponse, ErrorCode.UNKNOWN_API_BACKEND_ERROR.value, ErrorCode.UNKNOWN_API_BACKEND_ERROR.description);
+            throw new ApiBackendExceptionWithContent(tuple.getLeft(), tuple.getRight(), response);
         }
     }
 
@@ -272,6 +436,14 @@ public class DefaultApiClient implements ApiClient {
         return new Tuple<>(apiResponse.getRequestError().getServiceException().getMessageId(), apiResponse.getRequestError().getServiceException().getText());
     }
 
+    String buildUrl(Request request) throws UnsupportedEncodingException {
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<String, Collection<Object>> entry : request.queryParams.entrySet()) {
+            appendValue(sb, entry);
+        }
+        return request.uri + sb;
+    }
+
     private void appendValue(StringBuilder sb, Map.Entry<String, Collection<Object>> entry) throws UnsupportedEncodingException {
         if (null == entry) {
             return;
@@ -0,0 +1,33 @@
+/*
+ * HttpTransport.java
+ * Mobile Messaging SDK
+ *
+ * Copyright (c) 2016-2025 Infobip Limited
+ * Licensed under the Apache License, Version 2.0
+ */
+package org.infobip.mobile.messaging.api.support.http.client;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+
+/**
+ * Opens and releases connections used by {@link DefaultApiClient}.
+ *
+ * @see KeepAliveHttpTransport
+ */
+public interface HttpTransport {
+
+    /**
+     * Opens connection to the given url. Connection is not yet connected.
+     */
+    HttpURLConnection open(URL url) throws IOException;
+
+    /**
+     * Releases connection after the request is done.
+     *
+     * @param connection       connection returned by {@link #open(URL)}
+     * @param responseReceived true if response status was received, false if request failed before that
+     */
+    void release(HttpURLConnection connection, boolean responseReceived);
+}
@@ -0,0 +1,132 @@
+/*
+ * KeepAliveHttpTransport.java
+ * Mobile Messaging SDK
+ *
+ * Copyright (c) 2016-2025 Infobip Limited
+ * Licensed under the Apache License, Version 2.0
+ */
+package org.infobip.mobile.messaging.api.support.http.client;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Transport which keeps connections alive so that subsequent requests to the same host reuse the socket
+ * instead of doing a new TCP and TLS handshake.
+ * <p>
+ * Sockets are pooled by the platform {@link HttpURLConnection} implementation. A socket can only go back to the pool
+ * if the connection is not disconnected and its response body is read to the end, so this transport drains the remaining
+ * body on release. If more than {@code maxIdleConnectionsPerHost} requests to the same host run in parallel, surplus
+ * connections are opened with {@code Connection: close} since they would not fit into the pool anyway.
+ * Idle sockets are closed by the platform pool after its keep-alive duration, 5 minutes by default.
+ * <p>
+ * Setting {@code maxIdleConnectionsPerHost} to 0 disables reuse and disconnects every connection.
+ */
+public class KeepAliveHttpTransport implements HttpTransport {
+
+    public static final int DEFAULT_MAX_IDLE_CONNECTIONS_PER_HOST = 5;
+
+    private static final int MAX_DRAIN_BYTES = 64 * 1024;
+
+    private final int maxIdleConnectionsPerHost;
+    private final ConcurrentHashMap<String, AtomicInteger> activeConnections = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<HttpURLConnection, String> connectionHosts = new ConcurrentHashMap<>();
+    private final Set<HttpURLConnection> nonReusableConnections = Collections.newSetFromMap(new ConcurrentHashMap<HttpURLConnection, Boolean>());
+
+    public KeepAliveHttpTransport() {
+        this(DEFAULT_MAX_IDLE_CONNECTIONS_PER_HOST);
+    }
+
+    public KeepAliveHttpTransport(int maxIdleConnectionsPerHost) {
+        if (maxIdleConnectionsPerHost < 0) {
+            throw new IllegalArgumentException("maxIdleConnectionsPerHost must not be negative");
+        }
+        this.maxIdleConnectionsPerHost = maxIdleConnectionsPerHost;
+    }
+
+    public int getMaxIdleConnectionsPerHost() {
+        return maxIdleConnectionsPerHost;
+    }
+
+    @Override
+    public HttpURLConnection open(URL url) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        // connection URL changes when a redirect is followed, so the count is kept for the host which was opened
+        String host = host(url);
+        connectionHosts.put(connection, host);
+        if (counter(host).incrementAndGet() > maxIdleConnectionsPerHost) {
+            connection.setRequestProperty("Connection", "close");
+            nonReusableConnections.add(connection);
+        }
+        return connection;
+    }
+
+    @Override
+    public void release(HttpURLConnection connection, boolean responseReceived) {
+        String host = connectionHosts.remove(connection);
+        if (host != null) {
+            counter(host).decrementAndGet();
+        }
+        boolean reusable = !nonReusableConnections.remove(connection);
+        if (!responseReceived || !reusable) {
+            disconnect(connection);
+            return;
+        }
+
+        try {
+            InputStream inputStream = connection.getResponseCode() >= 400 ? connection.getErrorStream() : connection.getInputStream();
+            drain(inputStream);
+        } catch (Exception e) {
+            disconnect(connection);
+        }
+    }
+
+    private static String host(URL url) {
+        return url.getProtocol() + "://" + url.getAuthority();
+    }
+
+    private AtomicInteger counter(String host) {
+        AtomicInteger counter = activeConnections.get(host);
+        if (counter == null) {
+            AtomicInteger newCounter = new AtomicInteger();
+            counter = activeConnections.putIfAbsent(host, newCounter);
+            if (counter == null) {
+                counter = newCounter;
+            }
+        }
+        return counter;
+    }
+
+    private static void drain(InputStream inputStream) throws IOException {
+        if (inputStream == null) {
+            return;
+        }
+
+        try {
+            byte[] buffer = new byte[1024];
+            int total = 0;
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                total += read;
+                if (total > MAX_DRAIN_BYTES) {
+                    throw new IOException("Response body is too large to drain");
+                }
+            }
+        } finally {
+            inputStream.close();
+        }
+    }
+
+    private static void disconnect(HttpURLConnection connection) {
+        try {
+            connection.disconnect();
+        } catch (Exception ignored) {
+        }
+    }
+}
@@ -76,6 +76,17 @@ public class JsonSerializer {
         return gson.fromJson(s, type);
     }
 
+    /**
+     * Binds JSON straight from the reader in one pass, without buffering it into a String or a tree first.
+     *
+     * @param reader source of JSON, read up to the end of the next value
+     * @param type   type to bind to
+     * @return bound value, null for an empty document
+     */
+    public <T> T deserialize(JsonReader reader, Type type) {
+        return gson.fromJson(reader, type);
+    }
+
     public <T> String serialize(T t) {
         return gson.toJson(t);
     }
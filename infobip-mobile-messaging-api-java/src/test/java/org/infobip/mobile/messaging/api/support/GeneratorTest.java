@@ -7,11 +7,27 @@
  */
 package org.infobip.mobile.messaging.api.support;
 
+import org.infobip.mobile.messaging.api.support.http.Body;
+import org.infobip.mobile.messaging.api.support.http.FullUrl;
+import org.infobip.mobile.messaging.api.support.http.Header;
 import org.infobip.mobile.messaging.api.support.http.HttpRequest;
+import org.infobip.mobile.messaging.api.support.http.Path;
+import org.infobip.mobile.messaging.api.support.http.Query;
+import org.infobip.mobile.messaging.api.support.http.Version;
+import org.infobip.mobile.messaging.api.support.http.client.DefaultApiClient;
+import org.infobip.mobile.messaging.api.support.http.client.HttpMethod;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 
 /**
  * @author mstipanov
@@ -52,6 +68,113 @@ public class GeneratorTest {
         generator.create(WrongClass.class).bar();
     }
 
+    @Test
+    public void invoke_shouldBindPathQueryHeaderAndBodyArguments() throws Exception {
+        CapturingApiClient apiClient = new CapturingApiClient();
+        generator.setApiClient(apiClient);
+        Object body = new Object();
+
+        generator.create(SomeApi.class).post("reg/Id", "q1", Arrays.asList("a", "b"), "h1", body);
+
+        assertEquals(HttpMethod.POST, apiClient.method);
+        assertEquals("X/mobile/1/instances/reg/Id/events/reg/Id", apiClient.uri);
+        assertEquals(Collections.<Object>singletonList("default"), apiClient.queryParams.get("platformType"));
+        assertEquals(Collections.<Object>singleton("q1"), apiClient.queryParams.get("single"));
+        assertEquals(Arrays.<Object>asList("a", "b"), apiClient.queryParams.get("multi"));
+        assertEquals(Collections.<Object>singleton("h1"), apiClient.headers.get("X-Custom"));
+        assertSame(body, apiClient.body);
+    }
+
+    @Test
+    public void invoke_nullQueryArgument_shouldKeepDefaultAndNotFail() throws Exception {
+        CapturingApiClient apiClient = new CapturingApiClient();
+        generator.setApiClient(apiClient);
+
+        generator.create(SomeApi.class).post("regId", null, null, null, null);
+
+        assertFalse(apiClient.queryParams.containsKey("single"));
+        assertNull(apiClient.headers.get("X-Custom"));
+        assertNull(apiClient.body);
+    }
+
+    @Test
+    public void invoke_afterBaseUrlChange_shouldUseNewBaseUrl() throws Exception {
+        CapturingApiClient apiClient = new CapturingApiClient();
+        generator.setApiClient(apiClient);
+        SomeApi someApi = generator.create(SomeApi.class);
+
+        someApi.get("regId");
+        assertEquals("X/mobile/1/instances/regId", apiClient.uri);
+
+        generator.setBaseUrl("https://other.infobip.com/");
+        someApi.get("regId");
+        assertEquals("https://other.infobip.com/mobile/1/instances/regId", apiClient.uri);
+    }
+
+    @Test
+    public void invoke_withFullUrl_shouldUseItAsIs() throws Exception {
+        CapturingApiClient apiClient = new CapturingApiClient();
+        generator.setApiClient(apiClient);
+
+        generator.create(SomeApi.class).full("https://some.url/path/");
+
+        assertEquals("https://some.url/path", apiClient.uri);
+        assertEquals(HttpMethod.GET, apiClient.method);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invoke_fullUrlWithPath_shouldThrow() throws Exception {
+        generator.setApiClient(new CapturingApiClient());
+        generator.create(SomeApi.class).wrongFull("https://some.url", "regId");
+    }
+
+    @Test
+    public void create_sameType_shouldShareInvocationHandler() throws Exception {
+        generator.create(SomeApi.class);
+        generator.create(SomeApi.class);
+
+        assertEquals(1, generator.getProxyCacheMap().size());
+    }
+
+    @HttpRequest("/mobile/{version}/instances")
+    @Version("1")
+    private interface SomeApi {
+        @HttpRequest(method = HttpMethod.POST, value = "{regId}/events/{regId}")
+        @Query(name = "platformType", value = "default")
+        void post(@Path(name = "regId") String regId,
+                  @Query(name = "single") String single,
+                  @Query(name = "multi") Collection<String> multi,
+                  @Header(name = "X-Custom") String header,
+                  @Body Object body);
+
+        @HttpRequest(method = HttpMethod.GET, value = "{regId}")
+        Map get(@Path(name = "regId") String regId);
+
+        @HttpRequest
+        void full(@FullUrl String url);
+
+        @HttpRequest("{regId}")
+        void wrongFull(@FullUrl String url, @Path(name = "regId") String regId);
+    }
+
+    private static class CapturingApiClient extends DefaultApiClient {
+        HttpMethod method;
+        String uri;
+        Map<String, Collection<Object>> queryParams;
+        Map<String, Collection<Object>> headers;
+        Object body;
+
+        @Override
+        public <B, R> R execute(HttpMethod method, String uri, String apiKey, Tuple<String, String> credentials, Map<String, Collection<Object>> queryParams, Map<String, Collection<Object>> headers, B body, Class<R> responseType) {
+            this.method = method;
+            this.uri = uri;
+            this.queryParams = queryParams;
+            this.headers = headers;
+            this.body = body;
+            return null;
+        }
+    }
+
     private interface WrongClass {
         @HttpRequest
         String foo();
@@ -7,15 +7,29 @@
  */
 package org.infobip.mobile.messaging.api.support.http.client;
 
+import org.infobip.mobile.messaging.api.support.ApiBackendExceptionWithContent;
 import org.infobip.mobile.messaging.api.support.http.client.model.ApiResponse;
+import org.infobip.mobile.messaging.api.support.util.MapUtils;
+import org.infobip.mobile.messaging.api.tools.ConnectionCountingServer;
 import org.junit.After;
+import org.junit.Assert;
 import org.junit.Before;
+import org.junit.Test;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.stubbing.Answer;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -255,6 +269,128 @@ public class DefaultApiClientTest {
 //        }}));
 //    }
 
+    @Test
+    public void decodeStreaming_receivesOK_shouldMatchBufferedDecoding() throws Exception {
+        String json = DefaultApiClient.JSON_SERIALIZER.serialize(new SomeApiResponse(11));
+
+        SomeApiResponse streamed = apiClient.decodeStreaming(stream(json), HttpMethod.POST, SomeApiResponse.class);
+        SomeApiResponse buffered = apiClient.decodeBuffered(stream(json), HttpMethod.POST, SomeApiResponse.class, json.length());
+
+        Assert.assertEquals(11, streamed.getInternalRegistrationId());
+        Assert.assertEquals(buffered, streamed);
+    }
+
+    @Test
+    public void decodeStreaming_emptyBody_shouldReturnNull() throws Exception {
+        Assert.assertNull(apiClient.decodeStreaming(stream(""), HttpMethod.GET, SomeApiResponse.class));
+    }
+
+    @Test
+    public void decodeStreaming_receivesOK_withRequestErrorAndResponseBody() throws Exception {
+        String json = DefaultApiClient.JSON_SERIALIZER.serialize(new SomeApiResponse("1", "Invalid Application ID", 123));
+
+        try {
+            apiClient.decodeStreaming(stream(json), HttpMethod.POST, SomeApiResponse.class);
+            Assert.fail("Expected exception ApiBackendExceptionWithContent is not thrown");
+        } catch (ApiBackendExceptionWithContent error) {
+            Assert.assertEquals("1", error.getCode());
+            Assert.assertEquals("Invalid Application ID", error.getMessage());
+            Assert.assertEquals(123, ((SomeApiResponse) error.getContent()).getInternalRegistrationId());
+        }
+    }
+
+    @Test
+    public void decodeStreaming_responseTypeWithoutRequestError_shouldStillDetectRequestError() throws Exception {
+        String json = "{\"name\":\"Test\",\"requestError\":{\"serviceException\":{\"messageId\":\"2\",\"text\":\"Error\"}}}";
+
+        try {
+            apiClient.decodeStreaming(stream(json), HttpMethod.GET, SomeApiRequest.class);
+            Assert.fail("Expected exception ApiBackendExceptionWithContent is not thrown");
+        } catch (ApiBackendExceptionWithContent error) {
+            Assert.assertEquals("2", error.getCode());
+            Assert.assertEquals("Test", ((SomeApiRequest) error.getContent()).getName());
+        }
+    }
+
+    @Test
+    public void decodeStreaming_nestedRequestError_shouldNotBeTreatedAsRequestError() throws Exception {
+        String json = "{\"name\":\"Test\",\"nested\":{\"requestError\":{\"serviceException\":{\"messageId\":\"2\",\"text\":\"Error\"}}}}";
+
+        SomeApiRequest response = apiClient.decodeStreaming(stream(json), HttpMethod.GET, SomeApiRequest.class);
+
+        Assert.assertEquals("Test", response.getName());
+    }
+
+    @Test
+    public void execute_withGzipEnabled_shouldCompressLargeBodiesAndDecompressResponse() throws Exception {
+        ConnectionCountingServer server = new ConnectionCountingServer();
+        server.start();
+        try {
+            DefaultApiClient gzipClient = new DefaultApiClient(DEFAULT_CONNECT_TIMEOUT, DEFAULT_READ_TIMEOUT, null, new RequestInterceptor[0], new ResponsePreProcessor[0],
+                    new Logger(), false, true, new KeepAliveHttpTransport(), 100, new CompressionMetrics());
+            String responseJson = DefaultApiClient.JSON_SERIALIZER.serialize(new SomeApiResponse(11));
+            server.respondWith(200, gzip(responseJson), Collections.singletonMap("Content-Encoding", "gzip"));
+            List<SomeApiRequest> body = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                body.add(new SomeApiRequest("Test"));
+            }
+
+            SomeApiResponse result = gzipClient.execute(HttpMethod.POST, server.getUrl(), null, null, MapUtils.map(), new HashMap<String, Collection<Object>>(), body, SomeApiResponse.class);
+
+            Assert.assertEquals(11, result.getInternalRegistrationId());
+            Assert.assertEquals("gzip", server.getLastRequestHeader("Content-Encoding"));
+            Assert.assertEquals("gzip", server.getLastRequestHeader("Accept-Encoding"));
+            Assert.assertEquals(DefaultApiClient.JSON_SERIALIZER.serialize(body), gunzip(server.getLastRequestBody()));
+            Assert.assertEquals(1, gzipClient.getCompressionMetrics().getCompressedRequests());
+            Assert.assertEquals(1, gzipClient.getCompressionMetrics().getCompressedResponses());
+            Assert.assertTrue(gzipClient.getCompressionMetrics().getRequestBytesSaved() > 0);
+        } finally {
+            server.stop();
+        }
+    }
+
+    @Test
+    public void execute_withGzipEnabled_shouldNotCompressBodiesBelowThreshold() throws Exception {
+        ConnectionCountingServer server = new ConnectionCountingServer();
+        server.start();
+        try {
+            DefaultApiClient gzipClient = new DefaultApiClient(DEFAULT_CONNECT_TIMEOUT, DEFAULT_READ_TIMEOUT, null, new RequestInterceptor[0], new ResponsePreProcessor[0],
+                    new Logger(), false, true, new KeepAliveHttpTransport(), 1024, new CompressionMetrics());
+            server.respondWith(200, "{}");
+
+            gzipClient.execute(HttpMethod.POST, server.getUrl(), null, null, MapUtils.map(), new HashMap<String, Collection<Object>>(), new SomeApiRequest("Test"), Void.class);
+
+            Assert.assertNull(server.getLastRequestHeader("Content-Encoding"));
+            Assert.assertEquals("{\"name\":\"Test\"}", new String(server.getLastRequestBody(), StandardCharsets.UTF_8));
+            Assert.assertEquals(0, gzipClient.getCompressionMetrics().getCompressedRequests());
+        } finally {
+            server.stop();
+        }
+    }
+
+    private static byte[] gzip(String s) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        GZIPOutputStream gzipOutputStream = new GZIPOutputStream(buffer);
+        gzipOutputStream.write(s.getBytes(StandardCharsets.UTF_8));
+        gzipOutputStream.close();
+        return buffer.toByteArray();
+    }
+
+    private static String gunzip(byte[] bytes) throws IOException {
+        GZIPInputStream gzipInputStream = new GZIPInputStream(new ByteArrayInputStream(bytes));
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        byte[] chunk = new byte[1024];
+        int read;
+        while ((read = gzipInputStream.read(chunk)) != -1) {
+            buffer.write(chunk, 0, read);
+        }
+        return new String(buffer.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private static ByteArrayInputStream stream(String s) {
+        return new ByteArrayInputStream(s.getBytes(StandardCharsets.UTF_8));
+    }
+
     @Data
     @NoArgsConstructor
     @AllArgsConstructor
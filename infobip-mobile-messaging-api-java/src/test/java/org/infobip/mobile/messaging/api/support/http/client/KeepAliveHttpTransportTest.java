@@ -0,0 +1,137 @@
+/*
+ * KeepAliveHttpTransportTest.java
+ * Mobile Messaging SDK
+ *
+ * Copyright (c) 2016-2025 Infobip Limited
+ * Licensed under the Apache License, Version 2.0
+ */
+package org.infobip.mobile.messaging.api.support.http.client;
+
+import org.infobip.mobile.messaging.api.support.ApiException;
+import org.infobip.mobile.messaging.api.support.util.MapUtils;
+import org.infobip.mobile.messaging.api.tools.ConnectionCountingServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.net.HttpURLConnection;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.net.URLStreamHandler;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.infobip.mobile.messaging.api.support.http.client.DefaultApiClient.DEFAULT_CONNECT_TIMEOUT;
+import static org.infobip.mobile.messaging.api.support.http.client.DefaultApiClient.DEFAULT_READ_TIMEOUT;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+public class KeepAliveHttpTransportTest {
+
+    private ConnectionCountingServer server;
+
+    @Before
+    public void setUp() throws Exception {
+        server = new ConnectionCountingServer();
+        server.start();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        server.stop();
+    }
+
+    @Test
+    public void sequentialRequests_shouldReuseOneConnection() {
+        server.respondWith(200, "{\"name\":\"value\"}");
+        DefaultApiClient apiClient = apiClient(new KeepAliveHttpTransport());
+
+        for (int i = 0; i < 5; i++) {
+            apiClient.execute(HttpMethod.POST, server.getUrl(), "key", null, MapUtils.map(), MapUtils.map(), Collections.singletonMap("i", i), Map.class);
+        }
+
+        assertEquals(5, server.getRequestCount());
+        assertEquals(1, server.getAcceptedConnections());
+    }
+
+    @Test
+    public void voidAndErrorResponses_shouldBeDrainedAndReuseConnection() {
+        DefaultApiClient apiClient = apiClient(new KeepAliveHttpTransport());
+
+        server.respondWith(200, "{\"unread\":\"body\"}");
+        apiClient.execute(HttpMethod.POST, server.getUrl(), "key", null, MapUtils.map(), MapUtils.map(), null, Void.class);
+        server.respondWith(400, "{\"requestError\":{\"serviceException\":{\"messageId\":\"1\",\"text\":\"Bad\"}}}");
+        try {
+            apiClient.execute(HttpMethod.GET, server.getUrl(), "key", null, MapUtils.map(), MapUtils.map(), null, Map.class);
+            fail("Expected ApiException");
+        } catch (ApiException ignored) {
+        }
+        server.respondWith(200, "{}");
+        apiClient.execute(HttpMethod.GET, server.getUrl(), "key", null, MapUtils.map(), MapUtils.map(), null, Map.class);
+
+        assertEquals(3, server.getRequestCount());
+        assertEquals(1, server.getAcceptedConnections());
+    }
+
+    @Test
+    public void noIdleConnections_shouldOpenNewConnectionForEachRequest() {
+        server.respondWith(200, "{}");
+        DefaultApiClient apiClient = apiClient(new KeepAliveHttpTransport(0));
+
+        for (int i = 0; i < 3; i++) {
+            apiClient.execute(HttpMethod.GET, server.getUrl(), "key", null, MapUtils.map(), MapUtils.map(), null, Map.class);
+        }
+
+        assertEquals(3, server.getRequestCount());
+        assertEquals(3, server.getAcceptedConnections());
+    }
+
+    @Test
+    public void redirectedConnections_shouldBeCountedOnOpenedHost() throws Exception {
+        KeepAliveHttpTransport transport = new KeepAliveHttpTransport(1);
+        URL url = redirectingUrl("http://origin.infobip.com/path", "http://redirect.infobip.com/path");
+
+        for (int i = 0; i < 3; i++) {
+            HttpURLConnection connection = transport.open(url);
+            assertNull(connection.getRequestProperty("Connection"));
+            transport.release(connection, false);
+        }
+    }
+
+    private static URL redirectingUrl(String spec, final String redirectedSpec) throws MalformedURLException {
+        return new URL(null, spec, new URLStreamHandler() {
+            @Override
+            protected URLConnection openConnection(final URL url) {
+                return new HttpURLConnection(url) {
+                    @Override
+                    public URL getURL() {
+                        try {
+                            return new URL(redirectedSpec);
+                        } catch (MalformedURLException e) {
+                            throw new IllegalStateException(e);
+                        }
+                    }
+
+                    @Override
+                    public void disconnect() {
+                    }
+
+                    @Override
+                    public boolean usingProxy() {
+                        return false;
+                    }
+
+                    @Override
+                    public void connect() {
+                    }
+                };
+            }
+        });
+    }
+
+    private static DefaultApiClient apiClient(HttpTransport transport) {
+        return new DefaultApiClient(DEFAULT_CONNECT_TIMEOUT, DEFAULT_READ_TIMEOUT, null, new RequestInterceptor[0], new ResponsePreProcessor[0], new Logger(), false, true, transport);
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * ConnectionCountingServer.java
+ * Mobile Messaging SDK
+ *
+ * Copyright (c) 2016-2025 Infobip Limited
+ * Licensed under the Apache License, Version 2.0
+ */
+package org.infobip.mobile.messaging.api.tools;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Minimal HTTP/1.1 server with keep-alive support which counts accepted TCP connections and served requests.
+ */
+public class ConnectionCountingServer {
+
+    private final AtomicInteger acceptedConnections = new AtomicInteger(0);
+    private final AtomicInteger requestCount = new AtomicInteger(0);
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private volatile Map<String, String> lastRequestHeaders = new HashMap<>();
+    private volatile byte[] lastRequestBody = new byte[0];
+    private volatile int status = 200;
+    private volatile Map<String, String> responseHeaders = new HashMap<>();
+    private volatile byte[] responseBody = new byte[0];
+    private ServerSocket serverSocket;
+
+    public void start() throws IOException {
+        serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                while (!serverSocket.isClosed()) {
+                    try {
+                        final Socket socket = serverSocket.accept();
+                        acceptedConnections.incrementAndGet();
+                        executor.execute(new Runnable() {
+                            @Override
+                            public void run() {
+                                serve(socket);
+                            }
+                        });
+                    } catch (IOException ignored) {
+                    }
+                }
+            }
+        });
+    }
+
+    public void stop() {
+        try {
+            serverSocket.close();
+        } catch (IOException ignored) {
+        }
+        executor.shutdownNow();
+    }
+
+    public String getUrl() {
+        return "http://127.0.0.1:" + serverSocket.getLocalPort() + "/";
+    }
+
+    public void respondWith(int status, String json) {
+        respondWith(status, json == null ? new byte[0] : json.getBytes(StandardCharsets.UTF_8), new HashMap<String, String>());
+    }
+
+    public void respondWith(int status, byte[] body, Map<String, String> headers) {
+        this.status = status;
+        this.responseBody = body;
+        this.responseHeaders = headers;
+    }
+
+    public int getAcceptedConnections() {
+        return acceptedConnections.get();
+    }
+
+    public int getRequestCount() {
+        return requestCount.get();
+    }
+
+    public String getLastRequestHeader(String name) {
+        return lastRequestHeaders.get(name.toLowerCase(Locale.ROOT));
+    }
+
+    public byte[] getLastRequestBody() {
+        return lastRequestBody;
+    }
+
+    private void serve(Socket socket) {
+        try {
+            socket.setTcpNoDelay(true);
+            InputStream in = new BufferedInputStream(socket.getInputStream());
+            OutputStream out = socket.getOutputStream();
+            while (true) {
+                String requestLine = readLine(in);
+                if (requestLine == null || requestLine.isEmpty()) {
+                    break;
+                }
+
+                Map<String, String> headers = new HashMap<>();
+                String line;
+                while ((line = readLine(in)) != null && !line.isEmpty()) {
+                    int idx = line.indexOf(':');
+                    if (idx > 0) {
+                        headers.put(line.substring(0, idx).trim().toLowerCase(Locale.ROOT), line.substring(idx + 1).trim());
+                    }
+                }
+
+                int contentLength = headers.containsKey("content-length") ? Integer.parseInt(headers.get("content-length")) : 0;
+                byte[] body = new byte[contentLength];
+                int read = 0;
+                while (read < contentLength) {
+                    int r = in.read(body, read, contentLength - read);
+                    if (r == -1) {
+                        break;
+                    }
+                    read += r;
+                }
+                lastRequestHeaders = headers;
+                lastRequestBody = body;
+                requestCount.incrementAndGet();
+
+                byte[] responseBody = this.responseBody;
+                StringBuilder sb = new StringBuilder();
+                sb.append("HTTP/1.1 ").append(status).append(" Status\r\n");
+                sb.append("Content-Type: application/json\r\n");
+                sb.append("Content-Length: ").append(responseBody.length).append("\r\n");
+                for (Map.Entry<String, String> header : responseHeaders.entrySet()) {
+                    sb.append(header.getKey()).append(": ").append(header.getValue()).append("\r\n");
+                }
+                sb.append("\r\n");
+                out.write(sb.toString().getBytes(StandardCharsets.US_ASCII));
+                out.write(responseBody);
+                out.flush();
+
+                if ("close".equalsIgnoreCase(headers.get("connection"))) {
+                    break;
+                }
+            }
+        } catch (IOException ignored) {
+        } finally {
+            try {
+                socket.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        ByteArrayOutputStream buf = new ByteArrayOutputStream();
+        int b;
+        while ((b = in.read()) != -1) {
+            if (b == '\n') {
+                break;
+            }
+            if (b != '\r') {
+                buf.write(b);
+            }
+        }
+        if (b == -1 && buf.size() == 0) {
+            return null;
+        }
+        return buf.toString("US-ASCII");
+    }
+}
@@ -35,7 +35,7 @@ internal object Injector {
     private val callsScope = CoroutineScope(Dispatchers.IO + SupervisorJob())
     private val rtcInstance = InfobipRTC.getInstance()
     private val rtcService: MobileApiRtc by lazy { MobileApiResourceProvider().getMobileApiRtc(appContext) }
-    private val tokenProvider: TokenProvider by lazy { TokenProviderImpl(rtcService) }
+    private val tokenProvider: TokenProvider by lazy { TokenProviderImpl(rtcService, PreferenceTokenStore(appContext)) }
     private val pushIdDelegate: PushIdDelegate by lazy { PushIdDelegateImpl(appContext) }
     private val notificationPermissionDelegate: NotificationPermissionDelegate by lazy { NotificationPermissionDelegateImpl(appContext) }
 
@@ -7,48 +7,170 @@
  */
 package com.infobip.webrtc.ui.internal.core
 
+import com.infobip.webrtc.ui.logging.RtcUiLogger
 import kotlinx.coroutines.CoroutineDispatcher
+import kotlinx.coroutines.CoroutineScope
+import kotlinx.coroutines.Deferred
 import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.SupervisorJob
+import kotlinx.coroutines.async
 import kotlinx.coroutines.withContext
 import org.infobip.mobile.messaging.api.rtc.MobileApiRtc
 import org.infobip.mobile.messaging.api.rtc.TokenBody
-import org.infobip.mobile.messaging.api.rtc.TokenResponse
 import java.time.OffsetDateTime
 import java.time.format.DateTimeFormatter
+import java.util.concurrent.TimeUnit
 
 internal interface TokenProvider {
     suspend fun getToken(identity: String): String?
 }
 
+/**
+ * Caches WebRTC tokens per identity in memory and in [TokenStore], so they survive process restarts.
+ *
+ * A cached token is returned as long as it is valid for at least [MIN_VALIDITY_MILLIS]. Once it is valid for less than
+ * [REFRESH_BEFORE_EXPIRY_MILLIS], new token is requested in background and the cached one is returned in the meantime.
+ * Concurrent callers for the same identity share one in-flight request.
+ */
 internal class TokenProviderImpl(
     private val rtcService: MobileApiRtc,
-    private val dispatcher: CoroutineDispatcher = Dispatchers.IO
+    private val tokenStore: TokenStore,
+    private val dispatcher: CoroutineDispatcher = Dispatchers.IO,
+    private val clock: () -> Long = System::currentTimeMillis
 ) : TokenProvider {
-    private var tokenResponse: TokenResponse? = null
-    private val tokenLifespan = 43200L
-    private var lastUsedIdentity: String? = null
 
-    override suspend fun getToken(identity: String): String? {
-        val response = if (isNewTokenNeeded(identity)) {
-            createToken(identity)
+    companion object {
+        const val TOKEN_LIFESPAN_SECONDS = 43200L
+        val REFRESH_BEFORE_EXPIRY_MILLIS = TimeUnit.HOURS.toMillis(1)
+        val MIN_VALIDITY_MILLIS = TimeUnit.MINUTES.toMillis(1)
+        const val MAX_CACHED_IDENTITIES = 5
+    }
+
+    private val lock = Any()
+    private val scope = CoroutineScope(dispatcher + SupervisorJob())
+    private val inFlight = mutableMapOf<String, Deferred<CachedToken?>>()
+    private var tokens: MutableMap<String, CachedToken>? = null
+
+    val metrics = TokenMetrics()
+
+    override suspend fun getToken(identity: String): String? = withContext(dispatcher) {
+        val start = clock()
+        val cached = synchronized(lock) { cachedTokens()[identity] }
+        val validity = cached?.let { it.expiresAt - clock() } ?: 0L
+        if (cached != null && validity > MIN_VALIDITY_MILLIS) {
+            if (validity <= REFRESH_BEFORE_EXPIRY_MILLIS) {
+                RtcUiLogger.d("WebRTC token expires in ${TimeUnit.MILLISECONDS.toMinutes(validity)} min, refreshing it.")
+                refresh(identity)
+            }
+            metrics.recordHit(clock() - start)
+            cached.token
         } else {
-            tokenResponse?.takeIf { offsetDateTimeFromString(it.expirationTime)?.isBefore(OffsetDateTime.now()) == true }
-                    ?: createToken(identity)
+            val token = refresh(identity).await()?.token
+            metrics.recordMiss(clock() - start)
+            token
         }
+    }
 
-        return response.token
+    private fun refresh(identity: String): Deferred<CachedToken?> = synchronized(lock) {
+        inFlight[identity] ?: scope.async { requestToken(identity) }.also { request ->
+            inFlight[identity] = request
+            request.invokeOnCompletion { error ->
+                synchronized(lock) {
+                    if (inFlight[identity] === request) {
+                        inFlight.remove(identity)
+                    }
+                }
+                if (error != null) {
+                    metrics.recordFailure()
+                    RtcUiLogger.e("Failed to obtain WebRTC token.", throwable = error)
+                }
+            }
+        }
     }
 
-    private suspend fun createToken(identity: String): TokenResponse = withContext(dispatcher) {
-        rtcService.getToken(TokenBody(identity, tokenLifespan))
-                .also { tokenResponse = it }
+    private fun requestToken(identity: String): CachedToken? {
+        val requestedAt = clock()
+        metrics.recordRequest()
+        val response = rtcService.getToken(TokenBody(identity, TOKEN_LIFESPAN_SECONDS))
+        val token = response?.token?.takeIf { it.isNotBlank() } ?: return null
+        val expiresAt = expirationMillis(response.expirationTime) ?: (requestedAt + TimeUnit.SECONDS.toMillis(TOKEN_LIFESPAN_SECONDS))
+        return CachedToken(token, expiresAt).also { cachedToken ->
+            synchronized(lock) {
+                val cache = cachedTokens()
+                cache[identity] = cachedToken
+                val now = clock()
+                cache.entries.removeAll { it.value.expiresAt <= now }
+                cache.entries
+                    .sortedBy { it.value.expiresAt }
+                    .take((cache.size - MAX_CACHED_IDENTITIES).coerceAtLeast(0))
+                    .forEach { cache.remove(it.key) }
+                tokenStore.save(cache.toMap())
+            }
+        }
     }
 
-    private fun isNewTokenNeeded(identity: String): Boolean = identity != lastUsedIdentity
+    private fun cachedTokens(): MutableMap<String, CachedToken> {
+        return tokens ?: runCatching { tokenStore.load() }
+            .onFailure { RtcUiLogger.e("Failed to load cached WebRTC tokens.", throwable = it) }
+            .getOrNull()
+            .orEmpty()
+            .toMutableMap()
+            .also { tokens = it }
+    }
 
-    private fun offsetDateTimeFromString(isoString: String): OffsetDateTime? {
+    private fun expirationMillis(isoString: String?): Long? {
         return runCatching {
-            OffsetDateTime.parse(isoString, DateTimeFormatter.ISO_OFFSET_DATE_TIME)
+            OffsetDateTime.parse(isoString, DateTimeFormatter.ISO_OFFSET_DATE_TIME).toInstant().toEpochMilli()
         }.getOrNull()
     }
-}
\ No newline at end of file
+}
+
+internal data class CachedToken(
+    val token: String,
+    val expiresAt: Long
+)
+
+/**
+ * Cache hits and time it takes callers of [TokenProvider.getToken] to get a token.
+ */
+internal class TokenMetrics {
+    var hits: Int = 0
+        private set
+    var misses: Int = 0
+        private set
+    var requests: Int = 0
+        private set
+    var failures: Int = 0
+        private set
+    private var totalHitMillis: Long = 0
+    private var totalMissMillis: Long = 0
+
+    val averageHitMillis: Long
+        @Synchronized get() = if (hits == 0) 0 else totalHitMillis / hits
+
+    val averageMissMillis: Long
+        @Synchronized get() = if (misses == 0) 0 else totalMissMillis / misses
+
+    @Synchronized
+    fun recordHit(timeToTokenMillis: Long) {
+        hits++
+        totalHitMillis += timeToTokenMillis
+    }
+
+    @Synchronized
+    fun recordMiss(timeToTokenMillis: Long) {
+        misses++
+        totalMissMillis += timeToTokenMillis
+        RtcUiLogger.d("WebRTC token obtained in $timeToTokenMillis ms, cache hits: $hits, misses: $misses.")
+    }
+
+    @Synchronized
+    fun recordRequest() {
+        requests++
+    }
+
+    @Synchronized
+    fun recordFailure() {
+        failures++
+    }
+}
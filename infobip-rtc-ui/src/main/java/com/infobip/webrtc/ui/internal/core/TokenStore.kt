@@ -0,0 +1,50 @@
+/*
+ * TokenStore.kt
+ * Infobip RTC UI
+ *
+ * Copyright (c) 2016-2025 Infobip Limited
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.infobip.webrtc.ui.internal.core
+
+import android.content.Context
+import org.infobip.mobile.messaging.util.PreferenceHelper
+import org.json.JSONObject
+
+/**
+ * Persists WebRTC tokens per identity, see [TokenProviderImpl].
+ */
+internal interface TokenStore {
+    fun load(): Map<String, CachedToken>
+    fun save(tokens: Map<String, CachedToken>)
+}
+
+/**
+ * Keeps tokens encrypted in shared preferences of Mobile Messaging SDK.
+ */
+internal class PreferenceTokenStore(private val context: Context) : TokenStore {
+
+    companion object {
+        private const val KEY_TOKENS = "com.infobip.webrtc.ui.TOKENS"
+        private const val FIELD_TOKEN = "token"
+        private const val FIELD_EXPIRES_AT = "expiresAt"
+    }
+
+    override fun load(): Map<String, CachedToken> {
+        val json = PreferenceHelper.findString(context, KEY_TOKENS, null, true) ?: return emptyMap()
+        val tokens = JSONObject(json)
+        return tokens.keys().asSequence().associateWith { identity ->
+            tokens.getJSONObject(identity).let {
+                CachedToken(it.getString(FIELD_TOKEN), it.getLong(FIELD_EXPIRES_AT))
+            }
+        }
+    }
+
+    override fun save(tokens: Map<String, CachedToken>) {
+        val json = JSONObject()
+        tokens.forEach { (identity, token) ->
+            json.put(identity, JSONObject().put(FIELD_TOKEN, token.token).put(FIELD_EXPIRES_AT, token.expiresAt))
+        }
+        PreferenceHelper.saveString(context, KEY_TOKENS, json.toString(), true)
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * TokenProviderImplTest.kt
+ * Infobip RTC UI
+ *
+ * Copyright (c) 2016-2025 Infobip Limited
+ * Licensed under the Apache License, Version 2.0
+ */
+package com.infobip.webrtc.ui.internal.core
+
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.async
+import kotlinx.coroutines.awaitAll
+import kotlinx.coroutines.runBlocking
+import org.infobip.mobile.messaging.api.rtc.MobileApiRtc
+import org.infobip.mobile.messaging.api.rtc.TokenBody
+import org.infobip.mobile.messaging.api.rtc.TokenResponse
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertTrue
+import org.junit.Before
+import org.junit.Test
+import java.time.Instant
+import java.time.OffsetDateTime
+import java.time.ZoneOffset
+import java.time.format.DateTimeFormatter
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+class TokenProviderImplTest {
+
+    private class FakeMobileApiRtc(private val clock: () -> Long) : MobileApiRtc {
+        val requests = AtomicInteger()
+        val requestStarted = CountDownLatch(1)
+        var gate: CountDownLatch? = null
+
+        override fun getToken(body: TokenBody): TokenResponse {
+            val count = requests.incrementAndGet()
+            requestStarted.countDown()
+            gate?.await(5, TimeUnit.SECONDS)
+            val expiresAt = OffsetDateTime.ofInstant(Instant.ofEpochMilli(clock() + TimeUnit.SECONDS.toMillis(body.timeToLive)), ZoneOffset.UTC)
+            return TokenResponse("${body.identity}-$count", expiresAt.format(DateTimeFormatter.ISO_OFFSET_DATE_TIME))
+        }
+    }
+
+    private class InMemoryTokenStore : TokenStore {
+        var tokens: Map<String, CachedToken> = emptyMap()
+
+        override fun load(): Map<String, CachedToken> = tokens
+
+        override fun save(tokens: Map<String, CachedToken>) {
+            this.tokens = tokens
+        }
+    }
+
+    private var now = TimeUnit.DAYS.toMillis(1)
+    private val clock: () -> Long = { now }
+    private lateinit var rtcService: FakeMobileApiRtc
+    private lateinit var tokenStore: InMemoryTokenStore
+    private lateinit var tokenProvider: TokenProviderImpl
+
+    @Before
+    fun setUp() {
+        rtcService = FakeMobileApiRtc(clock)
+        tokenStore = InMemoryTokenStore()
+        tokenProvider = TokenProviderImpl(rtcService, tokenStore, Dispatchers.Unconfined, clock)
+    }
+
+    @Test
+    fun `same identity - reuses cached token`() = runBlocking {
+        val first = tokenProvider.getToken("identity")
+        val second = tokenProvider.getToken("identity")
+
+        assertEquals("identity-1", first)
+        assertEquals(first, second)
+        assertEquals(1, rtcService.requests.get())
+        assertEquals(1, tokenProvider.metrics.hits)
+        assertEquals(1, tokenProvider.metrics.misses)
+    }
+
+    @Test
+    fun `different identities - caches token per identity`() = runBlocking {
+        assertEquals("identity-1", tokenProvider.getToken("identity"))
+        assertEquals("other-2", tokenProvider.getToken("other"))
+        assertEquals("identity-1", tokenProvider.getToken("identity"))
+
+        assertEquals(2, rtcService.requests.get())
+    }
+
+    @Test
+    fun `new process - uses persisted token`() = runBlocking {
+        tokenProvider.getToken("identity")
+
+        val restarted = TokenProviderImpl(rtcService, tokenStore, Dispatchers.Unconfined, clock)
+
+        assertEquals("identity-1", restarted.getToken("identity"))
+        assertEquals(1, rtcService.requests.get())
+        assertEquals(1, restarted.metrics.hits)
+    }
+
+    @Test
+    fun `token close to expiration - returns it and refreshes it in background`() = runBlocking {
+        tokenProvider.getToken("identity")
+        now += TimeUnit.SECONDS.toMillis(TokenProviderImpl.TOKEN_LIFESPAN_SECONDS) - TokenProviderImpl.REFRESH_BEFORE_EXPIRY_MILLIS / 2
+
+        assertEquals("identity-1", tokenProvider.getToken("identity"))
+        assertEquals(2, rtcService.requests.get())
+        assertEquals("identity-2", tokenProvider.getToken("identity"))
+        assertEquals(2, rtcService.requests.get())
+    }
+
+    @Test
+    fun `expired token - requests new token`() = runBlocking {
+        tokenProvider.getToken("identity")
+        now += TimeUnit.SECONDS.toMillis(TokenProviderImpl.TOKEN_LIFESPAN_SECONDS)
+
+        assertEquals("identity-2", tokenProvider.getToken("identity"))
+        assertEquals(2, tokenProvider.metrics.misses)
+    }
+
+    @Test
+    fun `concurrent callers - share one request`() = runBlocking {
+        val gate = CountDownLatch(1)
+        rtcService.gate = gate
+        tokenProvider = TokenProviderImpl(rtcService, tokenStore, Dispatchers.IO, clock)
+
+        val callers = (1..5).map { async(Dispatchers.IO) { tokenProvider.getToken("identity") } }
+        assertTrue(rtcService.requestStarted.await(5, TimeUnit.SECONDS))
+        Thread.sleep(100)
+        gate.countDown()
+
+        assertEquals(List(5) { "identity-1" }, callers.awaitAll())
+        assertEquals(1, rtcService.requests.get())
+    }
+}